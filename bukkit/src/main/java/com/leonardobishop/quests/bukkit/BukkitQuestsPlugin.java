@@ -53,6 +53,7 @@ import com.leonardobishop.quests.bukkit.item.QuestItem;
 import com.leonardobishop.quests.bukkit.item.QuestItemRegistry;
 import com.leonardobishop.quests.bukkit.listener.PlayerJoinListener;
 import com.leonardobishop.quests.bukkit.listener.PlayerLeaveListener;
+import com.leonardobishop.quests.bukkit.listener.PlayerPermissionListener;
 import com.leonardobishop.quests.bukkit.menu.MenuController;
 import com.leonardobishop.quests.bukkit.menu.itemstack.QItemStackRegistry;
 import com.leonardobishop.quests.bukkit.questcompleter.BukkitQuestCompleter;
@@ -62,9 +63,12 @@ import com.leonardobishop.quests.bukkit.scheduler.ServerScheduler;
 import com.leonardobishop.quests.bukkit.scheduler.WrappedTask;
 import com.leonardobishop.quests.bukkit.scheduler.bukkit.BukkitServerSchedulerAdapter;
 import com.leonardobishop.quests.bukkit.scheduler.folia.FoliaServerScheduler;
+import com.leonardobishop.quests.bukkit.storage.ModernBinaryStorageProvider;
 import com.leonardobishop.quests.bukkit.storage.ModernMySQLStorageProvider;
+import com.leonardobishop.quests.bukkit.storage.ModernSQLiteStorageProvider;
 import com.leonardobishop.quests.bukkit.storage.ModernYAMLStorageProvider;
 import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskTypeManager;
+import com.leonardobishop.quests.bukkit.tasktype.TaskTypePoller;
 import com.leonardobishop.quests.bukkit.tasktype.type.BarteringTaskType;
 import com.leonardobishop.quests.bukkit.tasktype.type.BlockItemdroppingTaskType;
 import com.leonardobishop.quests.bukkit.tasktype.type.BlockfertilizingTaskType;
@@ -147,6 +151,8 @@ import com.leonardobishop.quests.bukkit.tasktype.type.dependent.uSkyBlockLevelTa
 import com.leonardobishop.quests.bukkit.util.CompatUtils;
 import com.leonardobishop.quests.bukkit.util.FormatUtils;
 import com.leonardobishop.quests.bukkit.util.LogHistory;
+import com.leonardobishop.quests.bukkit.util.TaskProgressFeedback;
+import com.leonardobishop.quests.bukkit.util.matcher.MatcherCache;
 import com.leonardobishop.quests.common.config.ConfigProblem;
 import com.leonardobishop.quests.common.config.ConfigProblemDescriptions;
 import com.leonardobishop.quests.common.config.QuestsConfig;
@@ -202,6 +208,8 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
     private QPlayerManager qPlayerManager;
     private QuestController questController;
     private BukkitQuestCompleter questCompleter;
+    private TaskProgressFeedback taskProgressFeedback;
+    private TaskTypePoller taskTypePoller;
     private BukkitQuestsConfig questsConfig;
     private Updater updater;
     private ServerScheduler serverScheduler;
@@ -262,6 +270,14 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
         return questCompleter;
     }
 
+    public @NotNull TaskProgressFeedback getTaskProgressFeedback() {
+        return taskProgressFeedback;
+    }
+
+    public @NotNull TaskTypePoller getTaskTypePoller() {
+        return taskTypePoller;
+    }
+
     @Override
     public @NotNull QuestsConfig getQuestsConfig() {
         return questsConfig;
@@ -309,6 +325,12 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
             case "yaml":
                 this.storageProvider = new ModernYAMLStorageProvider(this);
                 break;
+            case "binary":
+                this.storageProvider = new ModernBinaryStorageProvider(this, this.getConfig().getConfigurationSection("options.storage.binary-settings"));
+                break;
+            case "sqlite":
+                this.storageProvider = new ModernSQLiteStorageProvider(this, this.getConfig().getConfigurationSection("options.storage.sqlite-settings"));
+                break;
             case "mysql":
                 ConfigurationSection section = this.getConfig().getConfigurationSection("options.storage.database-settings");
                 if (section == null) {
@@ -380,6 +402,8 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
         this.questItemRegistry = new QuestItemRegistry();
         this.qItemStackRegistry = new QItemStackRegistry();
         this.questCompleter = new BukkitQuestCompleter(this);
+        this.taskProgressFeedback = new TaskProgressFeedback(this);
+        this.taskTypePoller = new TaskTypePoller(this);
 
         // Start metrics
         MetricsLite metrics = new MetricsLite(this, 3443);
@@ -409,6 +433,8 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
         super.getServer().getPluginManager().registerEvents(new PlayerJoinListener(this), this);
         super.getServer().getPluginManager().registerEvents(menuController, this);
         super.getServer().getPluginManager().registerEvents(new PlayerLeaveListener(this), this);
+        super.getServer().getPluginManager().registerEvents(new PlayerPermissionListener(this), this);
+        super.getServer().getPluginManager().registerEvents(taskTypePoller, this);
 
         // Register task types after the server has fully started
         getScheduler().doSync(() -> {
@@ -562,7 +588,11 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
 
             // Load players who were present during startup (i.e some idiot reloaded the server instead of restarted)
             for (Player player : Bukkit.getOnlinePlayers()) {
-                qPlayerManager.loadPlayer(player.getUniqueId());
+                qPlayerManager.loadPlayer(player.getUniqueId()).thenAccept(qPlayer -> {
+                    if (qPlayer == null) return;
+                    // schedules the expiry checks of their time-limited quests
+                    serverScheduler.doSync(() -> questCompleter.queueFullCheck(qPlayer.getQuestProgressFile()));
+                });
             }
         });
     }
@@ -635,9 +665,12 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
         }
         for (QPlayer qPlayer : qPlayerManager.getQPlayers()) {
             try {
-                qPlayerManager.savePlayerSync(qPlayer.getPlayerUUID());
+                qPlayerManager.savePlayer(qPlayer.getPlayerUUID());
             } catch (Exception ignored) { }
         }
+        try {
+            qPlayerManager.getSaveQueue().shutdown();
+        } catch (Exception ignored) { }
         if (placeholderAPIHook != null) {
             try {
                 placeholderAPIHook.unregisterExpansion();
@@ -670,6 +703,31 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
                     questsLoader.registerQuestItems(questItemParsingResult);
                     configProblems = questsLoader.applyParsedQuests(parsingResult);
 
+                    // quest and task instances have been replaced
+                    for (QPlayer qPlayer : qPlayerManager.getQPlayers()) {
+                        qPlayer.getActiveTaskIndex().invalidate();
+                        qPlayer.getQuestProgressFile().getStatistics().rebuild();
+
+                        // time limits may have changed, so the expiry checks need to be rescheduled
+                        questCompleter.queueFullCheck(qPlayer.getQuestProgressFile());
+                    }
+                    qPlayerManager.getActiveQuestController().invalidateCaches();
+                    if (questController != qPlayerManager.getActiveQuestController()) {
+                        questController.invalidateCaches();
+                    }
+
+                    // compiled placeholders hold references to the replaced quests and categories
+                    if (placeholderAPIHook != null) {
+                        placeholderAPIHook.invalidateCompiledPlaceholders();
+                    }
+
+                    // rendered quest items are keyed by the replaced quests
+                    menuController.getQuestItemCache().invalidateAll();
+                    menuController.updateQuestMenuOrder();
+
+                    // matchers compiled on demand are keyed by the replaced tasks
+                    MatcherCache.invalidateAll();
+
                     for (TaskType taskType : taskTypeManager.getTaskTypes()) {
                         try {
                             taskType.onReady();
@@ -751,6 +809,11 @@ public class BukkitQuestsPlugin extends JavaPlugin implements Quests {
                 }
 
                 final long queueExecuteInterval = this.getConfig().getLong("options.performance-tweaking.quest-queue-executor-interval", 1);
+                final double queueTimeBudget = this.getConfig().getDouble("options.performance-tweaking.quest-queue-executor-time-budget", 2.0);
+                this.questCompleter.setTimeBudget((long) (queueTimeBudget * 1_000_000));
+                this.taskProgressFeedback.reload();
+                final double pollingTimeBudget = this.getConfig().getDouble("options.performance-tweaking.task-polling-time-budget", 1.0);
+                this.taskTypePoller.setTimeBudget((long) (pollingTimeBudget * 1_000_000));
                 try {
                     if (this.questQueuePollTask != null && !this.questQueuePollTask.isCancelled()) {
                         this.questQueuePollTask.cancel();
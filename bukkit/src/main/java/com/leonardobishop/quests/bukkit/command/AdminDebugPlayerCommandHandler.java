@@ -15,8 +15,6 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.List;
 
@@ -75,16 +73,8 @@ public class AdminDebugPlayerCommandHandler implements CommandHandler {
 
                         String progressString;
                         if (tp != null) {
-                            Object progress = tp.getProgress();
-                            if (progress instanceof Float || progress instanceof Double || progress instanceof BigDecimal) {
-                                progressString = FormatUtils.floating((Number) progress);
-                            } else if (progress instanceof Integer || progress instanceof Long || progress instanceof BigInteger) {
-                                progressString = FormatUtils.integral((Number) progress);
-                            } else if (progress != null) {
-                                progressString = String.valueOf(progress);
-                            } else {
-                                progressString = "null";
-                            }
+                            String progress = FormatUtils.progress(tp);
+                            progressString = progress != null ? progress : "null";
                         } else {
                             progressString = "init";
                         }
@@ -1,9 +1,13 @@
 package com.leonardobishop.quests.bukkit.command;
 
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.bukkit.hook.papi.PlaceholderCache;
 import com.leonardobishop.quests.bukkit.item.QuestItem;
+import com.leonardobishop.quests.bukkit.menu.QuestItemCache;
 import com.leonardobishop.quests.bukkit.questcompleter.BukkitQuestCompleter;
+import com.leonardobishop.quests.bukkit.tasktype.TaskTypePoller;
 import com.leonardobishop.quests.bukkit.util.LogHistory;
+import com.leonardobishop.quests.bukkit.util.TaskProgressFeedback;
 import com.leonardobishop.quests.common.config.ConfigProblem;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.QPlayerPreferences;
@@ -13,6 +17,7 @@ import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Category;
 import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.Task;
+import com.leonardobishop.quests.common.storage.SaveQueue;
 import com.leonardobishop.quests.common.tasktype.TaskType;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -125,7 +130,12 @@ public class AdminDebugReportCommandHandler implements CommandHandler {
             lines.add("");
             printList(lines, 0, "Full check queue", completer.getFullCheckQueue(), questProgressFile -> questProgressFile.getPlayerUUID().toString());
             lines.add("");
-            printList(lines, 0, "Expired check queue", completer.getExpiredCheckQueue(), UUID::toString);
+            printList(lines, 0, "Expiry check queue", completer.getExpiryCheckQueue(), UUID::toString);
+            lines.add("");
+            lines.add("Processed checks: " + completer.getProcessedCount());
+            lines.add("Average queue latency: " + String.format("%.2fms", completer.getAverageLatency() / 1_000_000.0));
+            lines.add("Max queue latency: " + String.format("%.2fms", completer.getMaxLatency() / 1_000_000.0));
+            lines.add("Last run: " + completer.getLastRunProcessedCount() + " checks in " + String.format("%.3fms", completer.getLastRunTime() / 1_000_000.0));
             lines.add("");
 
             lines.add("################################");
@@ -167,6 +177,103 @@ public class AdminDebugReportCommandHandler implements CommandHandler {
             }
             lines.add("");
 
+            lines.add("################################");
+            lines.add("#          Save queue          #");
+            lines.add("################################");
+            lines.add("");
+            SaveQueue saveQueue = plugin.getPlayerManager().getSaveQueue();
+            lines.add("Pending saves: " + saveQueue.getPendingCount() + " (peak " + saveQueue.getPeakPendingCount() + " of " + saveQueue.getCapacity() + ")");
+            lines.add("In-flight saves: " + saveQueue.getInFlightCount());
+            lines.add("Written saves: " + saveQueue.getSavedCount() + " in " + saveQueue.getBatchCount() + " batches");
+            lines.add("Failed saves: " + saveQueue.getFailedCount());
+            lines.add("Coalesced saves: " + saveQueue.getCoalescedCount());
+            lines.add("Overflowed saves: " + saveQueue.getOverflowCount());
+            lines.add("");
+
+            lines.add("################################");
+            lines.add("#      Placeholder cache       #");
+            lines.add("################################");
+            lines.add("");
+            PlaceholderCache placeholderCache = plugin.getPlaceholderAPIHook() != null ? plugin.getPlaceholderAPIHook().getPlaceholderCache() : null;
+            if (placeholderCache != null) {
+                lines.add("Cached players: " + placeholderCache.getPlayerCount());
+                lines.add("Hits: " + placeholderCache.getHitCount());
+                lines.add("Misses: " + placeholderCache.getMissCount());
+                lines.add("Compiled placeholders: " + plugin.getPlaceholderAPIHook().getCompiledPlaceholderCount());
+            } else {
+                lines.add("Placeholder cache unavailable.");
+            }
+            lines.add("");
+
+            lines.add("################################");
+            lines.add("#       Progress feedback      #");
+            lines.add("################################");
+            lines.add("");
+            TaskProgressFeedback taskProgressFeedback = plugin.getTaskProgressFeedback();
+            lines.add("Players with pending feedback: " + taskProgressFeedback.getPendingPlayerCount());
+            lines.add("Sent updates: " + taskProgressFeedback.getSentCount());
+            lines.add("Suppressed updates: " + taskProgressFeedback.getSuppressedCount());
+            lines.add("");
+
+            lines.add("################################");
+            lines.add("#      Task type polling       #");
+            lines.add("################################");
+            lines.add("");
+            TaskTypePoller taskTypePoller = plugin.getTaskTypePoller();
+            for (Map.Entry<String, Integer> entry : taskTypePoller.getPendingPlayerCounts().entrySet()) {
+                lines.add("Players pending for " + entry.getKey() + ": " + entry.getValue());
+            }
+            lines.add("Polled players: " + taskTypePoller.getPolledCount());
+            lines.add("Skipped players: " + taskTypePoller.getSkippedCount());
+            lines.add("Ticks over time budget: " + taskTypePoller.getBudgetExceededCount());
+            lines.add("");
+
+            lines.add("################################");
+            lines.add("#       GUI render cache       #");
+            lines.add("################################");
+            lines.add("");
+            QuestItemCache questItemCache = plugin.getMenuController().getQuestItemCache();
+            long renderHits = questItemCache.getHitCount();
+            long renderMisses = questItemCache.getMissCount();
+            lines.add("Cached players: " + questItemCache.getPlayerCount());
+            lines.add("Cached items: " + questItemCache.getItemCount());
+            lines.add("Hits: " + renderHits);
+            lines.add("Misses: " + renderMisses);
+            if (renderHits + renderMisses > 0) {
+                lines.add("Hit rate: " + String.format("%.1f%%", 100.0 * renderHits / (renderHits + renderMisses)));
+            }
+            lines.add("");
+
+            lines.add("################################");
+            lines.add("#    Quest progress footprint  #");
+            lines.add("################################");
+            lines.add("");
+            int onlinePlayers = 0;
+            int questProgressCount = 0;
+            int nonDefaultQuestProgressCount = 0;
+            int taskProgressCount = 0;
+            for (QPlayer qPlayer : plugin.getPlayerManager().getQPlayers()) {
+                if (Bukkit.getPlayer(qPlayer.getPlayerUUID()) == null) {
+                    continue;
+                }
+                onlinePlayers++;
+                for (QuestProgress questProgress : qPlayer.getQuestProgressFile().getAllQuestProgress()) {
+                    questProgressCount++;
+                    taskProgressCount += questProgress.getTaskProgresses().size();
+                    if (questProgress.hasNonDefaultValues()) {
+                        nonDefaultQuestProgressCount++;
+                    }
+                }
+            }
+            lines.add("Online players: " + onlinePlayers);
+            lines.add("Quest progress objects: " + questProgressCount + " (" + nonDefaultQuestProgressCount + " with non-default values)");
+            lines.add("Task progress objects: " + taskProgressCount);
+            if (onlinePlayers > 0) {
+                lines.add("Quest progress objects per online player: " + String.format("%.1f", (double) questProgressCount / onlinePlayers));
+                lines.add("Task progress objects per online player: " + String.format("%.1f", (double) taskProgressCount / onlinePlayers));
+            }
+            lines.add("");
+
             lines.add("################################");
             lines.add("#            Items             #");
             lines.add("################################");
@@ -1,7 +1,9 @@
 package com.leonardobishop.quests.bukkit.command;
 
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.bukkit.storage.ModernBinaryStorageProvider;
 import com.leonardobishop.quests.bukkit.storage.ModernMySQLStorageProvider;
+import com.leonardobishop.quests.bukkit.storage.ModernSQLiteStorageProvider;
 import com.leonardobishop.quests.bukkit.storage.ModernYAMLStorageProvider;
 import com.leonardobishop.quests.common.player.QPlayerData;
 import com.leonardobishop.quests.common.storage.StorageProvider;
@@ -95,8 +97,11 @@ public class AdminMigrateCommandHandler implements CommandHandler {
                 }
 
                 sender.sendMessage(ChatColor.GRAY + "Writing quest progress files to '" + toProvider.getName() + "'...");
-                toProvider.saveAllPlayerData(files);
-                sender.sendMessage(ChatColor.GRAY + "Done.");
+                if (toProvider.saveAllPlayerData(files)) {
+                    sender.sendMessage(ChatColor.GRAY + "Done.");
+                } else {
+                    sender.sendMessage(ChatColor.RED + "Some quest progress files could not be written. See server console for more details.");
+                }
 
                 shutdownProvider(sender, fromProvider);
                 shutdownProvider(sender, toProvider);
@@ -153,6 +158,12 @@ public class AdminMigrateCommandHandler implements CommandHandler {
             case "yaml":
                 storageProvider = new ModernYAMLStorageProvider(plugin);
                 break;
+            case "binary":
+                storageProvider = new ModernBinaryStorageProvider(plugin, configurationSection.getConfigurationSection("binary-settings"));
+                break;
+            case "sqlite":
+                storageProvider = new ModernSQLiteStorageProvider(plugin, configurationSection.getConfigurationSection("sqlite-settings"));
+                break;
             case "mysql":
                 ConfigurationSection section = configurationSection.getConfigurationSection("database-settings");
                 storageProvider = new ModernMySQLStorageProvider(plugin, section);
@@ -16,8 +16,10 @@ import com.leonardobishop.quests.bukkit.item.QuestItemRegistry;
 import com.leonardobishop.quests.bukkit.item.SlimefunQuestItem;
 import com.leonardobishop.quests.bukkit.menu.itemstack.QItemStack;
 import com.leonardobishop.quests.bukkit.menu.itemstack.QItemStackRegistry;
+import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskType;
 import com.leonardobishop.quests.bukkit.util.chat.Chat;
 import com.leonardobishop.quests.bukkit.util.lang3.StringUtils;
+import com.leonardobishop.quests.bukkit.util.placeholder.QuestPlaceholderTemplates;
 import com.leonardobishop.quests.common.config.ConfigProblem;
 import com.leonardobishop.quests.common.config.ConfigProblemDescriptions;
 import com.leonardobishop.quests.common.config.QuestsLoader;
@@ -25,6 +27,7 @@ import com.leonardobishop.quests.common.logger.QuestsLogger;
 import com.leonardobishop.quests.common.quest.Category;
 import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.QuestManager;
+import com.leonardobishop.quests.common.quest.QuestRequirementGraph;
 import com.leonardobishop.quests.common.quest.Task;
 import com.leonardobishop.quests.common.questcontroller.QuestController;
 import com.leonardobishop.quests.common.tasktype.TaskType;
@@ -53,6 +56,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -547,6 +551,10 @@ public class BukkitQuestsLoader implements QuestsLoader {
                         }
                     }
 
+                    if (taskTypeManager.getTaskType(resolvedTaskTypeName) instanceof BukkitTaskType bukkitTaskType) {
+                        task.setCompiledConfig(bukkitTaskType.compileTask(task));
+                    }
+
                     quest.registerTask(task);
                 }
 
@@ -569,6 +577,8 @@ public class BukkitQuestsLoader implements QuestsLoader {
                         findInvalidTaskReferences(quest, config.getString("progress-placeholders." + p), problems, "placeholders." + p, true);
                     }
                 }
+                QuestPlaceholderTemplates.compile(plugin, quest);
+                displayItem.compileTemplates(quest);
                 questManager.registerQuest(quest);
                 taskTypeManager.registerQuestTasksWithTaskTypes(quest);
                 qItemStackRegistry.register(quest, displayItem);
@@ -614,6 +624,32 @@ public class BukkitQuestsLoader implements QuestsLoader {
             }
         }
 
+        // build the requirement graph once, so requirement checks do not need to look up quests by id
+        QuestRequirementGraph requirementGraph = questManager.getRequirementGraph();
+        if (!requirementGraph.getCycles().isEmpty()) {
+            Map<Quest, String> questToPath = new HashMap<>();
+            for (Map.Entry<String, Quest> loadedQuest : pathToQuest.entrySet()) {
+                questToPath.put(loadedQuest.getValue(), loadedQuest.getKey());
+            }
+
+            for (List<Quest> cycle : requirementGraph.getCycles()) {
+                StringJoiner cycleJoiner = new StringJoiner(" -> ");
+                for (Quest quest : cycle) {
+                    cycleJoiner.add(quest.getId());
+                }
+                cycleJoiner.add(cycle.getFirst().getId());
+                String cycleString = cycleJoiner.toString();
+
+                String path = questToPath.get(cycle.getFirst());
+                if (path != null) {
+                    configProblems.computeIfAbsent(path, key -> new ArrayList<>()).add(new ConfigProblem(ConfigProblem.ConfigProblemType.WARNING,
+                            ConfigProblemDescriptions.CIRCULAR_REQUIREMENT.getDescription(cycleString),
+                            ConfigProblemDescriptions.CIRCULAR_REQUIREMENT.getExtendedDescription(cycleString),
+                            "options.requires"));
+                }
+            }
+        }
+
         return configProblems;
     }
 
@@ -1,8 +1,5 @@
 package com.leonardobishop.quests.bukkit.hook.bossbar;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import org.bukkit.Bukkit;
 import org.bukkit.boss.BarColor;
@@ -12,29 +9,39 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
+/**
+ * Boss bars are created, updated and removed on the thread owning the player they are shown to. Each player has an
+ * array of boss bar slots, and slots are expired by a timing wheel advanced once per tick.
+ */
 public class BossBar_Bukkit implements QuestsBossBar {
 
+    // must be a power of two, bars expiring further in the future are moved around the wheel until they are due
+    private static final int WHEEL_SIZE = 128;
+
     private final BukkitQuestsPlugin plugin;
-    private final RemovalListener<String, BossBar> removalListener;
     private final Map<Float, BarColor> barColorMap;
     private final Map<Float, BarStyle> barStyleMap;
     private final int limit;
     private final boolean replaceOnLimit;
 
-    // use cache because of its concurrency and automatic player on quit removal
-    private final Cache<Player, Cache<String, BossBar>> playerQuestBarCache = CacheBuilder.newBuilder().weakKeys().build();
+    private final Map<UUID, PlayerBossBars> playerBossBars = new ConcurrentHashMap<>();
+    private final List<Slot>[] wheel;
+    private volatile long currentTick;
 
+    @SuppressWarnings("unchecked")
     public BossBar_Bukkit(BukkitQuestsPlugin plugin) {
         this.plugin = plugin;
-        this.removalListener = removal -> plugin.getScheduler().runTask(() -> removal.getValue().removeAll());
 
         // Load bossbar color config
         this.barColorMap = loadConfig(BarColor.class, "color", BarColor.BLUE);
@@ -48,12 +55,12 @@ public class BossBar_Bukkit implements QuestsBossBar {
         // Set whether boss bars should be replaced
         this.replaceOnLimit = plugin.getConfig().getBoolean("options.bossbar.replace-on-limit", true);
 
-        //noinspection CodeBlock2Expr (for readability)
-        plugin.getScheduler().runTaskTimerAsynchronously(() -> {
-            playerQuestBarCache.asMap()
-                    .values()
-                    .forEach(Cache::cleanUp);
-        }, 0L, 2L);
+        this.wheel = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            this.wheel[i] = new ArrayList<>();
+        }
+
+        plugin.getScheduler().runTaskTimer(this::tick, 1L, 1L);
     }
 
     @Override
@@ -63,74 +70,125 @@ public class BossBar_Bukkit implements QuestsBossBar {
 
     @Override
     public void sendBossBar(Player player, String questId, String title, int time, float progress) {
-        plugin.getScheduler().runTaskAsynchronously(() -> {
-            Cache<String, BossBar> questBarCache = playerQuestBarCache.asMap()
-                    .computeIfAbsent(player, k -> {
-                        //noinspection CodeBlock2Expr (for readability)
-                        return CacheBuilder.newBuilder()
-                                .expireAfterAccess(time, TimeUnit.SECONDS)
-                                .removalListener(removalListener)
-                                .build();
-                    });
-
-            limitCheck:
-            if (this.limit >= 0 && questBarCache.size() >= this.limit && !questBarCache.asMap().containsKey(questId)) {
-                if (!this.replaceOnLimit) {
-                    return;
-                }
-
-                final Set<Map.Entry<String, BossBar>> cacheEntries = questBarCache.asMap().entrySet();
-                Map.Entry<String, BossBar> toRemove = null;
-                double minProgress = -1.0d;
-
-                // search for boss bar with the lowest progress
-                for (final Map.Entry<String, BossBar> cacheEntry : cacheEntries) {
-                    final double bossBarProgress = cacheEntry.getValue().getProgress();
-
-                    if (bossBarProgress > minProgress) {
-                        toRemove = cacheEntry;
-                        minProgress = bossBarProgress;
-                    }
-                }
+        PlayerBossBars bossBars = playerBossBars.computeIfAbsent(player.getUniqueId(), k -> new PlayerBossBars());
+        long expiresAt = currentTick + Math.max(1L, time * 20L);
 
-                // no boss bars found
-                if (toRemove == null) {
-                    break limitCheck;
+        Slot slot = bossBars.get(questId);
+        if (slot == null) {
+            if (this.limit >= 0 && bossBars.size >= this.limit) {
+                if (!this.replaceOnLimit || bossBars.size == 0) {
+                    return;
                 }
 
-                // we don't want to replace higher progress boss bar with the requested if it has lower progress
-                final double toRemoveProgress = toRemove.getValue().getProgress();
-                if (toRemoveProgress > progress) {
+                // we don't want to replace a boss bar with the requested one if it has lower progress
+                Slot leastProgressSlot = bossBars.getLeastProgressSlot();
+                if (leastProgressSlot.progress > progress) {
                     return;
                 }
 
-                // Remove it from the cache and schedule removal from player's boss bars
-                questBarCache.invalidate(toRemove.getKey());
-                this.plugin.getScheduler().runTask(toRemove.getValue()::removeAll);
+                bossBars.remove(leastProgressSlot);
+                leastProgressSlot.removed = true;
+                leastProgressSlot.bar.removeAll();
             }
 
             BarColor color = getBest(barColorMap, progress);
             BarStyle style = getBest(barStyleMap, progress);
 
-            BossBar bar = questBarCache.asMap()
-                    .computeIfAbsent(questId, k -> {
-                        //noinspection CodeBlock2Expr (for readability)
-                        return Bukkit.createBossBar(null, color, style);
-                    });
+            slot = new Slot(player.getUniqueId(), questId, Bukkit.createBossBar(title, color, style));
+            slot.expiresAt = expiresAt;
+            bossBars.add(slot);
+            schedule(slot, expiresAt);
+        } else {
+            slot.bar.setTitle(title);
+            slot.expiresAt = expiresAt;
+
+            BarColor color = getBest(barColorMap, progress);
+            if (slot.bar.getColor() != color) {
+                slot.bar.setColor(color);
+            }
+
+            BarStyle style = getBest(barStyleMap, progress);
+            if (slot.bar.getStyle() != style) {
+                slot.bar.setStyle(style);
+            }
+        }
+
+        slot.bar.setProgress(progress);
+        bossBars.setProgress(slot, progress);
+        slot.bar.addPlayer(player);
+    }
+
+    @Override
+    public void removePlayer(Player player) {
+        PlayerBossBars bossBars = playerBossBars.remove(player.getUniqueId());
+        if (bossBars == null) {
+            return;
+        }
+
+        for (int i = 0; i < bossBars.size; i++) {
+            Slot slot = bossBars.slots[i];
+            slot.removed = true;
+            slot.bar.removeAll();
+        }
+    }
+
+    private void schedule(Slot slot, long expiresAt) {
+        synchronized (wheel) {
+            wheel[(int) (expiresAt & (WHEEL_SIZE - 1))].add(slot);
+        }
+    }
+
+    private void tick() {
+        long tick = ++currentTick;
 
-            bar.setTitle(title);
-            bar.setProgress(progress);
+        List<Slot> bucket;
+        synchronized (wheel) {
+            int index = (int) (tick & (WHEEL_SIZE - 1));
+            bucket = wheel[index];
+            if (bucket.isEmpty()) {
+                return;
+            }
+            wheel[index] = new ArrayList<>();
+        }
 
-            if (bar.getColor() != color) {
-                bar.setColor(color);
+        for (Slot slot : bucket) {
+            if (slot.removed) {
+                continue;
             }
 
-            if (bar.getStyle() != style) {
-                bar.setStyle(style);
+            // the bar has been shown again since it has been scheduled, or it is not due in this round
+            long expiresAt = slot.expiresAt;
+            if (expiresAt > tick) {
+                schedule(slot, expiresAt);
+                continue;
             }
 
-            plugin.getScheduler().runTask(() -> bar.addPlayer(player));
-        });
+            Player player = Bukkit.getPlayer(slot.playerUUID);
+            if (player == null) {
+                continue;
+            }
+
+            plugin.getScheduler().runTaskAtEntity(player, () -> expire(slot));
+        }
+    }
+
+    private void expire(Slot slot) {
+        if (slot.removed) {
+            return;
+        }
+
+        long expiresAt = slot.expiresAt;
+        if (expiresAt > currentTick) {
+            schedule(slot, expiresAt);
+            return;
+        }
+
+        PlayerBossBars bossBars = playerBossBars.get(slot.playerUUID);
+        if (bossBars != null) {
+            bossBars.remove(slot);
+        }
+        slot.removed = true;
+        slot.bar.removeAll();
     }
 
     private <T extends Enum<T>> @NotNull Map<Float, T> loadConfig(Class<T> clazz, String type, T def) {
@@ -190,4 +248,93 @@ public class BossBar_Bukkit implements QuestsBossBar {
 
         return map.get(best);
     }
+
+    /**
+     * The boss bars shown to a single player, along with the one with the least progress. Only accessed from the
+     * thread owning the player.
+     */
+    private final class PlayerBossBars {
+
+        private Slot[] slots = new Slot[limit > 0 ? limit : 4];
+        private int size;
+        // -1 if it has to be looked up again
+        private int leastProgressIndex = -1;
+
+        private Slot get(String questId) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i].questId.equals(questId)) {
+                    return slots[i];
+                }
+            }
+            return null;
+        }
+
+        private void add(Slot slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slot.index = size;
+            slots[size++] = slot;
+        }
+
+        private void remove(Slot slot) {
+            int index = slot.index;
+            if (index >= size || slots[index] != slot) {
+                return;
+            }
+
+            // fill the gap with the last slot
+            Slot last = slots[--size];
+            slots[index] = last;
+            last.index = index;
+            slots[size] = null;
+            leastProgressIndex = -1;
+        }
+
+        private void setProgress(Slot slot, float progress) {
+            float previousProgress = slot.progress;
+            slot.progress = progress;
+
+            if (leastProgressIndex == -1) {
+                return;
+            }
+
+            if (leastProgressIndex == slot.index) {
+                if (progress > previousProgress) {
+                    leastProgressIndex = -1;
+                }
+            } else if (progress < slots[leastProgressIndex].progress) {
+                leastProgressIndex = slot.index;
+            }
+        }
+
+        private Slot getLeastProgressSlot() {
+            if (leastProgressIndex == -1) {
+                leastProgressIndex = 0;
+                for (int i = 1; i < size; i++) {
+                    if (slots[i].progress < slots[leastProgressIndex].progress) {
+                        leastProgressIndex = i;
+                    }
+                }
+            }
+            return slots[leastProgressIndex];
+        }
+    }
+
+    private static final class Slot {
+
+        private final UUID playerUUID;
+        private final String questId;
+        private final BossBar bar;
+        private volatile long expiresAt;
+        private volatile boolean removed;
+        private float progress;
+        private int index;
+
+        private Slot(UUID playerUUID, String questId, BossBar bar) {
+            this.playerUUID = playerUUID;
+            this.questId = questId;
+            this.bar = bar;
+        }
+    }
 }
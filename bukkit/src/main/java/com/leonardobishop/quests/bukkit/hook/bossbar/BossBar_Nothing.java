@@ -13,4 +13,9 @@ public class BossBar_Nothing implements QuestsBossBar {
     public void sendBossBar(Player player, String questId, String title, int time, float progress) {
         // no compatible boss bar impl found
     }
+
+    @Override
+    public void removePlayer(Player player) {
+        // no compatible boss bar impl found
+    }
 }
@@ -2,10 +2,15 @@ package com.leonardobishop.quests.bukkit.hook.bossbar;
 
 import org.bukkit.entity.Player;
 
+/**
+ * Shows boss bars with the progress of quests. All methods must be called from the thread owning the player.
+ */
 public interface QuestsBossBar {
 
     void sendBossBar(Player player, String questId, String title, int time);
 
     void sendBossBar(Player player, String questId, String title, int time, float progress);
 
+    void removePlayer(Player player);
+
 }
@@ -17,4 +17,10 @@ public interface AbstractPlaceholderAPIHook {
     void registerExpansion(BukkitQuestsPlugin plugin);
 
     void unregisterExpansion();
+
+    void invalidateCompiledPlaceholders();
+
+    @Nullable PlaceholderCache getPlaceholderCache();
+
+    int getCompiledPlaceholderCount();
 }
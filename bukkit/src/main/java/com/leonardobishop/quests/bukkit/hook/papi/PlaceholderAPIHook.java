@@ -4,6 +4,7 @@ import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import com.leonardobishop.quests.common.util.Modern;
 import me.clip.placeholderapi.PlaceholderAPI;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -42,12 +43,32 @@ public final class PlaceholderAPIHook implements AbstractPlaceholderAPIHook {
     public void registerExpansion(final BukkitQuestsPlugin plugin) {
         this.expansion = new QuestsPlaceholders(plugin);
         this.expansion.register();
+
+        plugin.getServer().getPluginManager().registerEvents(this.expansion.getCache(), plugin);
     }
 
     @Override
     public void unregisterExpansion() {
         if (this.expansion != null) {
+            HandlerList.unregisterAll(this.expansion.getCache());
             this.expansion.unregister();
         }
     }
+
+    @Override
+    public void invalidateCompiledPlaceholders() {
+        if (this.expansion != null) {
+            this.expansion.invalidateCompiledPlaceholders();
+        }
+    }
+
+    @Override
+    public @Nullable PlaceholderCache getPlaceholderCache() {
+        return this.expansion != null ? this.expansion.getCache() : null;
+    }
+
+    @Override
+    public int getCompiledPlaceholderCount() {
+        return this.expansion != null ? this.expansion.getCompiledPlaceholderCount() : 0;
+    }
 }
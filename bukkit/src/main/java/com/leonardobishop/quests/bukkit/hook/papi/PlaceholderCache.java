@@ -0,0 +1,239 @@
+package com.leonardobishop.quests.bukkit.hook.papi;
+
+import com.leonardobishop.quests.bukkit.api.event.PlayerCancelQuestEvent;
+import com.leonardobishop.quests.bukkit.api.event.PlayerExpireQuestEvent;
+import com.leonardobishop.quests.bukkit.api.event.PlayerFinishQuestEvent;
+import com.leonardobishop.quests.bukkit.api.event.PlayerStartQuestEvent;
+import com.leonardobishop.quests.bukkit.api.event.PlayerStartTrackQuestEvent;
+import com.leonardobishop.quests.bukkit.api.event.PlayerStopTrackQuestEvent;
+import com.leonardobishop.quests.common.util.Modern;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cache of resolved placeholder values, keyed by player UUID and placeholder parameters. Every entry
+ * expires after its own time to live, and is additionally discarded as soon as the quest progress of the player
+ * changes or any quest event is called for the player. The cache is bounded both in the number of players and in
+ * the number of entries per player; values which do not fit are simply not cached.
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+public final class PlaceholderCache implements Listener {
+
+    private final Map<UUID, PlayerEntries> playerEntriesMap;
+    private final int maximumPlayers;
+    private final int maximumEntriesPerPlayer;
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    /**
+     * Constructs a PlaceholderCache.
+     *
+     * @param maximumPlayers          the maximum number of players with cached values
+     * @param maximumEntriesPerPlayer the maximum number of cached values per player
+     */
+    public PlaceholderCache(final int maximumPlayers, final int maximumEntriesPerPlayer) {
+        this.playerEntriesMap = new ConcurrentHashMap<>();
+        this.maximumPlayers = Math.max(0, maximumPlayers);
+        this.maximumEntriesPerPlayer = Math.max(0, maximumEntriesPerPlayer);
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    /**
+     * Gets the cached values of a player. The returned object stays valid for storing values only until the player
+     * is invalidated, so values computed from outdated progress can never be stored after an invalidation.
+     *
+     * @param playerUUID the player UUID
+     * @return the cached values of the player
+     */
+    public PlayerEntries getEntries(final UUID playerUUID) {
+        final PlayerEntries playerEntries = this.playerEntriesMap.get(playerUUID);
+        if (playerEntries != null) {
+            return playerEntries;
+        }
+
+        if (this.playerEntriesMap.size() >= this.maximumPlayers) {
+            this.removeExpired();
+
+            // a detached instance never holds anything, so the player is just not cached
+            if (this.playerEntriesMap.size() >= this.maximumPlayers) {
+                return new PlayerEntries(0);
+            }
+        }
+
+        return this.playerEntriesMap.computeIfAbsent(playerUUID, uuid -> new PlayerEntries(this.maximumEntriesPerPlayer));
+    }
+
+    /**
+     * Discards all cached values of a player.
+     *
+     * @param playerUUID the player UUID
+     */
+    public void invalidate(final UUID playerUUID) {
+        this.playerEntriesMap.remove(playerUUID);
+    }
+
+    /**
+     * Discards all cached values.
+     */
+    public void invalidateAll() {
+        this.playerEntriesMap.clear();
+    }
+
+    private void removeExpired() {
+        final long now = System.nanoTime();
+        final Iterator<PlayerEntries> iterator = this.playerEntriesMap.values().iterator();
+
+        while (iterator.hasNext()) {
+            final PlayerEntries playerEntries = iterator.next();
+            playerEntries.removeExpired(now);
+
+            if (playerEntries.entries.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of players with cached values
+     */
+    @Contract(pure = true)
+    public int getPlayerCount() {
+        return this.playerEntriesMap.size();
+    }
+
+    /**
+     * @return the number of lookups which have returned a cached value
+     */
+    @Contract(pure = true)
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups which have not returned a cached value
+     */
+    @Contract(pure = true)
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerStartQuest(final PlayerStartQuestEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerFinishQuest(final PlayerFinishQuestEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerCancelQuest(final PlayerCancelQuestEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerExpireQuest(final PlayerExpireQuestEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerStartTrackQuest(final PlayerStartTrackQuestEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerStopTrackQuest(final PlayerStopTrackQuestEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        this.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Cached values of a single player.
+     */
+    public final class PlayerEntries {
+
+        private final Map<String, Entry> entries;
+        private final int maximumEntries;
+
+        private PlayerEntries(final int maximumEntries) {
+            this.entries = new ConcurrentHashMap<>();
+            this.maximumEntries = maximumEntries;
+        }
+
+        /**
+         * Gets a cached value which has neither expired nor been computed from a different progress state.
+         *
+         * @param params            the placeholder parameters
+         * @param modificationCount the current modification count of the player quest progress file
+         * @return the cached value, or null if there is none
+         */
+        public @Nullable String get(final String params, final int modificationCount) {
+            final Entry entry = this.entries.get(params);
+
+            if (entry != null) {
+                if (entry.modificationCount == modificationCount && entry.expiresAt - System.nanoTime() > 0L) {
+                    PlaceholderCache.this.hitCount.increment();
+                    return entry.value;
+                }
+
+                this.entries.remove(params, entry);
+            }
+
+            PlaceholderCache.this.missCount.increment();
+            return null;
+        }
+
+        /**
+         * Caches a value.
+         *
+         * @param params            the placeholder parameters
+         * @param value             the value
+         * @param modificationCount the modification count of the player quest progress file read before the value
+         *                          has been computed
+         * @param ttlNanos          the time to live of the value in nanoseconds
+         */
+        public void put(final String params, final String value, final int modificationCount, final long ttlNanos) {
+            if (ttlNanos <= 0L) {
+                return;
+            }
+
+            final long now = System.nanoTime();
+
+            if (this.entries.size() >= this.maximumEntries && !this.entries.containsKey(params)) {
+                this.removeExpired(now);
+
+                if (this.entries.size() >= this.maximumEntries) {
+                    return;
+                }
+            }
+
+            this.entries.put(params, new Entry(value, modificationCount, now + ttlNanos));
+        }
+
+        private void removeExpired(final long now) {
+            this.entries.values().removeIf(entry -> entry.expiresAt - now <= 0L);
+        }
+    }
+
+    private record Entry(String value, int modificationCount, long expiresAt) {
+    }
+}
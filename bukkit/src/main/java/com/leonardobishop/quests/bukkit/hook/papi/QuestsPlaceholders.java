@@ -5,6 +5,8 @@ import com.leonardobishop.quests.bukkit.menu.itemstack.QItemStack;
 import com.leonardobishop.quests.bukkit.util.FormatUtils;
 import com.leonardobishop.quests.bukkit.util.Messages;
 import com.leonardobishop.quests.bukkit.util.chat.Chat;
+import com.leonardobishop.quests.bukkit.util.placeholder.PlaceholderTemplate;
+import com.leonardobishop.quests.bukkit.util.placeholder.QuestPlaceholderTemplates;
 import com.leonardobishop.quests.common.enums.QuestStartResult;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
@@ -12,6 +14,7 @@ import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFi
 import com.leonardobishop.quests.common.quest.Category;
 import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.Task;
+import com.leonardobishop.quests.common.tasktype.TaskType;
 import me.clip.placeholderapi.expansion.Cacheable;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
@@ -20,25 +23,52 @@ import org.bukkit.inventory.ItemStack;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public class QuestsPlaceholders extends PlaceholderExpansion implements Cacheable {
 
+    private static final int MAXIMUM_COMPILED_PLACEHOLDERS = 4096;
+
     private final BukkitQuestsPlugin plugin;
-    private final Map<String, Map<String, String>> cache = new HashMap<>();
-    private final Map<String, SimpleDateFormat> formats = new HashMap<>();
+    private final PlaceholderCache cache;
+    private final long cacheTimeNanos;
+    private final long timeToLiveNanos;
+    private final Map<String, CompiledPlaceholder> compiledPlaceholders = new ConcurrentHashMap<>();
 
     public QuestsPlaceholders(BukkitQuestsPlugin plugin) {
         this.plugin = plugin;
+        this.cache = new PlaceholderCache(
+                plugin.getConfig().getInt("options.placeholder-cache.maximum-players", 1000),
+                plugin.getConfig().getInt("options.placeholder-cache.maximum-entries-per-player", 256)
+        );
+        this.cacheTimeNanos = TimeUnit.SECONDS.toNanos(plugin.getConfig().getInt("options.placeholder-cache-time", 10));
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(plugin.getConfig().getInt("options.placeholder-cache.time-to-live", 1000));
     }
 
     @Override
     public void clear() {
-        cache.clear();
-        formats.clear();
+        cache.invalidateAll();
+        compiledPlaceholders.clear();
+    }
+
+    /**
+     * Discards all compiled placeholders and cached values, which refer to quests and categories that have been
+     * replaced on reload.
+     */
+    public void invalidateCompiledPlaceholders() {
+        compiledPlaceholders.clear();
+        cache.invalidateAll();
+    }
+
+    public int getCompiledPlaceholderCount() {
+        return compiledPlaceholders.size();
+    }
+
+    public PlaceholderCache getCache() {
+        return cache;
     }
 
     @Override
@@ -64,50 +94,92 @@ public class QuestsPlaceholders extends PlaceholderExpansion implements Cacheabl
     @Override
     public String onPlaceholderRequest(Player p, String params) {
         if (p == null || !p.isOnline()) return null;
-        if (cache.containsKey(p.getName()) && cache.get(p.getName()).containsKey(params))
-            return cache.get(p.getName()).get(params);
 
+        final QPlayer qPlayer = plugin.getPlayerManager().getPlayer(p.getUniqueId());
+        if (qPlayer == null) return Messages.PLACEHOLDERAPI_DATA_NOT_LOADED.getMessageLegacyColor();
+
+        final CompiledPlaceholder placeholder = getCompiledPlaceholder(params);
+        if (placeholder.timeToLiveNanos() <= 0L) return placeholder.resolver().resolve(qPlayer);
+
+        // read it before resolving, so any progress change in between makes the cached value outdated
+        final int modificationCount = qPlayer.getQuestProgressFile().getModificationCount();
+        final PlaceholderCache.PlayerEntries cacheEntries = cache.getEntries(p.getUniqueId());
+        final String cached = cacheEntries.get(params, modificationCount);
+        if (cached != null) return cached;
+
+        final String result = placeholder.resolver().resolve(qPlayer);
+        if (result != null) cacheEntries.put(params, result, modificationCount, placeholder.timeToLiveNanos());
+        return result;
+    }
+
+    private CompiledPlaceholder getCompiledPlaceholder(String params) {
+        CompiledPlaceholder placeholder = compiledPlaceholders.get(params);
+        if (placeholder != null) return placeholder;
+
+        placeholder = compile(params);
+
+        // params come from configs of other plugins, but don't let anything feeding arbitrary strings grow the map forever
+        if (compiledPlaceholders.size() < MAXIMUM_COMPILED_PLACEHOLDERS) {
+            final CompiledPlaceholder existing = compiledPlaceholders.putIfAbsent(params, placeholder);
+            if (existing != null) return existing;
+        }
+        return placeholder;
+    }
+
+    private CompiledPlaceholder compile(String params) {
         String[] args = params.split("_", 4);
-        if (args.length < 1) return "Invalid Placeholder";
+        if (args.length < 1) return error("Invalid Placeholder");
 
         final boolean save = args[args.length - 1].toLowerCase().equals("cache");
         if (save) args = Arrays.copyOf(args, args.length - 1);
+        if (args.length < 1) return error("Invalid Placeholder");
 
-        final QPlayer qPlayer = plugin.getPlayerManager().getPlayer(p.getUniqueId());
-        if (qPlayer == null) return Messages.PLACEHOLDERAPI_DATA_NOT_LOADED.getMessageLegacyColor();
-        String split = args[args.length - 1];
+        final String split = args[args.length - 1];
 
-        String result;
         if (!args[0].contains(":") && !args[0].equalsIgnoreCase("tracked")) {
-            if (args.length > 1 && split.equals(args[1])) split = ",";
+            final String separator = (args.length > 1 && split.equals(args[1])) ? "," : split;
+            final String[] finalArgs = args;
 
             switch (args[0].toLowerCase()) {
                 case "all":
                 case "a":
+                    // the quest list only changes on reload, which discards all compiled placeholders
                     final List<Quest> listAll = new ArrayList<>(plugin.getQuestManager().getQuestMap().values());
-                    result = (args.length == 1 ? String.valueOf(listAll.size()) : parseList(listAll, args[1], split));
-                    break;
+                    final String all = (args.length == 1 ? String.valueOf(listAll.size()) : parseList(listAll, args[1], separator));
+                    return compiled(qPlayer -> all, save);
                 case "completed":
                 case "c":
-                    final List<Quest> listCompleted = qPlayer.getQuestProgressFile().getAllQuestsFromProgress(QuestProgressFile.QuestsProgressFilter.COMPLETED);
-                    listCompleted.removeIf(quest -> !quest.doesCountTowardsCompleted());
-                    result = (args.length == 1 ? String.valueOf(listCompleted.size()) : parseList(listCompleted, args[1], split));
-                    break;
+                    if (args.length == 1) {
+                        return compiled(qPlayer -> String.valueOf(qPlayer.getQuestProgressFile().getStatistics().getCompletedCount()), save);
+                    }
+                    return compiled(qPlayer -> {
+                        final List<Quest> listCompleted = qPlayer.getQuestProgressFile().getAllQuestsFromProgress(QuestProgressFile.QuestsProgressFilter.COMPLETED);
+                        listCompleted.removeIf(quest -> !quest.doesCountTowardsCompleted());
+                        return parseList(listCompleted, finalArgs[1], separator);
+                    }, save);
                 case "completedbefore":
                 case "cb":
-                    final List<Quest> listCompletedB = qPlayer.getQuestProgressFile().getAllQuestsFromProgress(QuestProgressFile.QuestsProgressFilter.COMPLETED_BEFORE);
-                    listCompletedB.removeIf(quest -> !quest.doesCountTowardsCompleted());
-                    result = (args.length == 1 ? String.valueOf(listCompletedB.size()) : parseList(listCompletedB, args[1], split));
-                    break;
+                    if (args.length == 1) {
+                        return compiled(qPlayer -> String.valueOf(qPlayer.getQuestProgressFile().getStatistics().getCompletedBeforeCount()), save);
+                    }
+                    return compiled(qPlayer -> {
+                        final List<Quest> listCompletedB = qPlayer.getQuestProgressFile().getAllQuestsFromProgress(QuestProgressFile.QuestsProgressFilter.COMPLETED_BEFORE);
+                        listCompletedB.removeIf(quest -> !quest.doesCountTowardsCompleted());
+                        return parseList(listCompletedB, finalArgs[1], separator);
+                    }, save);
                 case "started":
                 case "s":
-                    //TODO cache started quests somewhere, or make a effective started method
-                    final List<Quest> listStarted = qPlayer.getEffectiveStartedQuests();
-                    result = (args.length == 1 ? String.valueOf(listStarted.size()) : parseList(listStarted, args[1], split));
-                    break;
+                    if (args.length == 1) {
+                        return compiled(qPlayer -> String.valueOf(qPlayer.getEffectiveStartedQuestsCount()), save);
+                    }
+                    return compiled(qPlayer -> {
+                        final List<Quest> listStarted = qPlayer.getEffectiveStartedQuests();
+                        return parseList(listStarted, finalArgs[1], separator);
+                    }, save);
                 case "categories":
+                    final String categories;
                     if (args.length == 1) {
-                        result = String.valueOf(plugin.getQuestManager().getCategories().size());
+                        categories = String.valueOf(plugin.getQuestManager().getCategories().size());
                     } else {
                         final List<String> listCategories = new ArrayList<>();
                         switch (args[1].toLowerCase()) {
@@ -123,212 +195,299 @@ public class QuestsPlaceholders extends PlaceholderExpansion implements Cacheabl
                                 plugin.getQuestManager().getCategories().forEach(c -> listCategories.add(c.getId()));
                                 break;
                             default:
-                                return args[0] + "_" + args[1] + " is not a valid placeholder";
+                                return error(args[0] + "_" + args[1] + " is not a valid placeholder");
                         }
-                        result = String.join(split, listCategories);
+                        categories = String.join(separator, listCategories);
                     }
-                    break;
+                    return compiled(qPlayer -> categories, save);
                 default:
-                    return args[0] + " is not a valid placeholder";
+                    return error(args[0] + " is not a valid placeholder");
+            }
+        }
+
+        final String[] key = args[0].split(":");
+        switch (key[0].toLowerCase()) {
+            case "quest":
+            case "q":
+            case "tracked":
+                if (!key[0].equalsIgnoreCase("tracked")) {
+                    if (key.length == 1) return error("Please specify quest name");
+
+                    final Quest quest = plugin.getQuestManager().getQuestById(key[1]);
+                    if (quest == null) return error(key[1] + " is not a quest");
+
+                    final QuestResolver questResolver = compileQuest(args, quest);
+                    return compiled(qPlayer -> questResolver.resolve(qPlayer, quest), save);
+                }
+
+                // the tracked quest differs between players, so it can only be looked up on request
+                final QuestResolver trackedResolver = compileQuest(args, null);
+                return compiled(qPlayer -> {
+                    final String trackedQuestId = qPlayer.getPlayerPreferences().getTrackedQuestId();
+                    final Quest quest = trackedQuestId != null ? plugin.getQuestManager().getQuestById(trackedQuestId) : null;
+                    if (quest == null) return Messages.PLACEHOLDERAPI_NO_TRACKED_QUEST.getMessageLegacyColor();
+
+                    return trackedResolver.resolve(qPlayer, quest);
+                }, save);
+            case "category":
+            case "c":
+                if (!plugin.getQuestsConfig().getBoolean("options.categories-enabled")) return error("Categories Disabled");
+                if (key.length == 1) return error("Please specify category name");
+
+                final Category category = plugin.getQuestManager().getCategoryById(key[1]);
+                if (category == null) return error(key[1] + " is not a category");
+
+                return compileCategory(args, category, split, save);
+            default:
+                return error(args[0] + " is not a valid placeholder");
+        }
+    }
+
+    /**
+     * Compiles the part of a quest placeholder following the quest.
+     *
+     * @param args  the placeholder arguments
+     * @param quest the quest, or null if it is only known on request
+     * @return the resolver
+     */
+    private QuestResolver compileQuest(String[] args, Quest quest) {
+        if (args.length == 1) {
+            if (quest != null) {
+                final String displayName = getQuestDisplayNameStripped(quest);
+                return (qPlayer, q) -> displayName;
+            }
+            return (qPlayer, q) -> getQuestDisplayNameStripped(q);
+        }
+
+        switch (args[1].toLowerCase()) {
+            case "started", "s" -> {
+                return (qPlayer, q) -> {
+                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                    return ((questProgress != null && questProgress.isStarted()) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
+                };
             }
-        } else {
-            final String[] key = args[0].split(":");
-            switch (key[0].toLowerCase()) {
-                case "quest":
-                case "q":
-                case "tracked":
-                    if (!key[0].equalsIgnoreCase("tracked") && key.length == 1) return "Please specify quest name";
-
-                    final Quest quest;
-                    if (!key[0].equalsIgnoreCase("tracked")) {
-                        quest = plugin.getQuestManager().getQuestById(key[1]);
-                        if (quest == null) return key[1] + " is not a quest";
+            case "starteddate", "sd" -> {
+                final DateFormatter dateFormat = compileDateFormat(args);
+                if (dateFormat == null) return constant(getDatePattern(args) + " is not a valid date format");
+
+                return (qPlayer, q) -> {
+                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                    if (questProgress != null && questProgress.isStarted()) {
+                        return dateFormat.format(questProgress.getStartedDate());
                     } else {
-                        if (qPlayer.getPlayerPreferences().getTrackedQuestId() == null ||
-                                plugin.getQuestManager().getQuestById(qPlayer.getPlayerPreferences().getTrackedQuestId()) == null) {
-                            return Messages.PLACEHOLDERAPI_NO_TRACKED_QUEST.getMessageLegacyColor();
-                        }
-                        quest = plugin.getQuestManager().getQuestById(qPlayer.getPlayerPreferences().getTrackedQuestId());
+                        return "Never";
                     }
+                };
+            }
+            case "completed", "c" -> {
+                return (qPlayer, q) -> {
+                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                    return ((questProgress != null && questProgress.isCompleted()) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
+                };
+            }
+            case "completedbefore", "cb" -> {
+                return (qPlayer, q) -> {
+                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                    return ((questProgress != null && questProgress.isCompletedBefore()) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
+                };
+            }
+            case "completiondate", "cd" -> {
+                final DateFormatter dateFormat = compileDateFormat(args);
+                if (dateFormat == null) return constant(getDatePattern(args) + " is not a valid date format");
 
-                    if (args.length == 1) {
-                        result = getQuestDisplayNameStripped(quest);
+                return (qPlayer, q) -> {
+                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                    if (questProgress != null && questProgress.isCompleted()) {
+                        return dateFormat.format(questProgress.getCompletionDate());
                     } else {
-                        switch (args[1].toLowerCase()) {
-                            case "started", "s" -> {
-                                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                result = ((questProgress != null && questProgress.isStarted()) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
-                            }
-                            case "starteddate", "sd" -> {
-                                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                if (questProgress != null && questProgress.isStarted()) {
-                                    result = parseDate(args, questProgress.getStartedDate());
-                                } else {
-                                    result = "Never";
-                                }
-                            }
-                            case "completed", "c" -> {
-                                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                result = ((questProgress != null && questProgress.isCompleted()) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
-                            }
-                            case "completedbefore", "cb" -> {
-                                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                result = ((questProgress != null && questProgress.isCompletedBefore()) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
-                            }
-                            case "completiondate", "cd" -> {
-                                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                if (questProgress != null && questProgress.isCompleted()) {
-                                    result = parseDate(args, questProgress.getCompletionDate());
-                                } else {
-                                    result = "Never";
-                                }
-                            }
-                            case "cooldown" -> {
-                                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                if (questProgress != null && questProgress.isCompleted()) {
-                                    final long questCooldown = qPlayer.getQuestProgressFile().getCooldownFor(quest);
-                                    if (questCooldown > 0) {
-                                        final long questCooldownMillis = TimeUnit.SECONDS.convert(questCooldown, TimeUnit.MILLISECONDS);
-                                        result = FormatUtils.time(questCooldownMillis);
-                                    } else {
-                                        // TODO handle it in a more proper way after storage rework
-                                        result = Messages.PLACEHOLDERAPI_NO_COOLDOWN.getMessage();
-                                    }
-                                } else {
-                                    result = "0";
-                                }
-                            }
-                            case "timeleft" -> {
-                                if (qPlayer.hasStartedQuest(quest)) {
-                                    long timeLeft = qPlayer.getQuestProgressFile().getTimeRemainingFor(quest);
-                                    result = timeLeft != -1 ? FormatUtils.time(TimeUnit.SECONDS.convert(timeLeft, TimeUnit.MILLISECONDS)) : Messages.PLACEHOLDERAPI_NO_TIME_LIMIT.getMessage();
-                                } else {
-                                    result = "0";
-                                }
-                            }
-                            case "canaccept" ->
-                                    result = (qPlayer.canStartQuest(quest) == QuestStartResult.QUEST_SUCCESS ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
-                            case "meetsrequirements" ->
-                                    result = (qPlayer.getQuestProgressFile().hasMetRequirements(quest) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
-                            default -> {
-                                if (!args[1].contains(":"))
-                                    return args[0] + "_" + args[1] + " is not a valid placeholder";
-
-                                final String[] t = args[1].split(":");
-                                if (t[0].equalsIgnoreCase("task") || t[0].equalsIgnoreCase("t")) {
-                                    if (t.length == 1) return "Please specify task name";
-
-                                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-
-                                    if (args.length == 2) {
-                                        result = t[1];
-                                    } else {
-                                        switch (args[2].toLowerCase()) {
-                                            case "progress":
-                                            case "p":
-                                                final Object progress = questProgress != null ? questProgress.getTaskProgress(t[1]).getProgress() : null;
-                                                result = (progress == null ? "0" : String.valueOf(progress));
-                                                break;
-                                            case "completed":
-                                            case "c":
-                                                final boolean completed = questProgress != null && questProgress.getTaskProgress(t[1]).isCompleted();
-                                                result = String.valueOf(completed ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
-                                                break;
-                                            case "goal":
-                                            case "g":
-                                                final Task task = quest.getTaskById(t[1]);
-                                                result = (task != null ? String.valueOf(plugin.getTaskTypeManager().getTaskType(task.getType()).getGoal(task)) : "0");
-                                                break;
-                                            default:
-                                                return args[0] + "_" + args[1] + "_" + args[2] + " is not a valid placeholder";
-                                        }
-                                    }
-                                } else if (t[0].equalsIgnoreCase("placeholder") || t[0].equalsIgnoreCase("p")) {
-                                    if (t.length == 1) return "Please specify placeholder name";
-
-                                    String placeholder = quest.getPlaceholders().get(t[1]);
-                                    if (placeholder == null) {
-                                        return t[1] + " is not a valid placeholder within quest " + quest.getId();
-                                    }
-
-                                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
-                                    assert questProgress != null;
-
-                                    placeholder = QItemStack.processPlaceholders(plugin, Chat.legacyColor(placeholder), questProgress);
-                                    return placeholder;
-                                } else {
-                                    return args[0] + "_" + args[1] + " is not a valid placeholder";
-                                }
-                            }
+                        return "Never";
+                    }
+                };
+            }
+            case "cooldown" -> {
+                return (qPlayer, q) -> {
+                    QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                    if (questProgress != null && questProgress.isCompleted()) {
+                        final long questCooldown = qPlayer.getQuestProgressFile().getCooldownFor(q);
+                        if (questCooldown > 0) {
+                            final long questCooldownMillis = TimeUnit.SECONDS.convert(questCooldown, TimeUnit.MILLISECONDS);
+                            return FormatUtils.time(questCooldownMillis);
+                        } else {
+                            // TODO handle it in a more proper way after storage rework
+                            return Messages.PLACEHOLDERAPI_NO_COOLDOWN.getMessage();
                         }
+                    } else {
+                        return "0";
                     }
-                    break;
-                case "category":
-                case "c":
-                    if (!plugin.getQuestsConfig().getBoolean("options.categories-enabled")) return "Categories Disabled";
-                    if (key.length == 1) return "Please specify category name";
+                };
+            }
+            case "timeleft" -> {
+                return (qPlayer, q) -> {
+                    if (qPlayer.hasStartedQuest(q)) {
+                        long timeLeft = qPlayer.getQuestProgressFile().getTimeRemainingFor(q);
+                        return timeLeft != -1 ? FormatUtils.time(TimeUnit.SECONDS.convert(timeLeft, TimeUnit.MILLISECONDS)) : Messages.PLACEHOLDERAPI_NO_TIME_LIMIT.getMessage();
+                    } else {
+                        return "0";
+                    }
+                };
+            }
+            case "canaccept" -> {
+                return (qPlayer, q) -> (qPlayer.canStartQuest(q) == QuestStartResult.QUEST_SUCCESS ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
+            }
+            case "meetsrequirements" -> {
+                return (qPlayer, q) -> (qPlayer.getQuestProgressFile().hasMetRequirements(q) ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
+            }
+            default -> {
+                if (!args[1].contains(":"))
+                    return constant(args[0] + "_" + args[1] + " is not a valid placeholder");
 
-                    final Category category = plugin.getQuestManager().getCategoryById(key[1]);
-                    if (category == null) return key[1] + " is not a category";
+                final String[] t = args[1].split(":");
+                if (t[0].equalsIgnoreCase("task") || t[0].equalsIgnoreCase("t")) {
+                    if (t.length == 1) return constant("Please specify task name");
 
-                    if (args.length == 1) {
-                        ItemStack itemStack = plugin.getQItemStackRegistry().getCategoryItemStack(category);
-                        result = Chat.legacyStrip(itemStack.getItemMeta().getDisplayName());
-                    } else {
-                        if (args.length > 2 && split.equals(args[2])) split = ",";
-                        switch (args[1].toLowerCase()) {
-                            case "all":
-                            case "a":
-                                final List<Quest> listAll = getCategoryQuests(qPlayer, category, QuestProgressFile.QuestsProgressFilter.ALL);
-                                result = (args.length == 2 ? String.valueOf(listAll.size()) : parseList(listAll, args[2], split));
-                                break;
-                            case "completed":
-                            case "c":
-                                final List<Quest> listCompleted = getCategoryQuests(qPlayer, category, QuestProgressFile.QuestsProgressFilter.COMPLETED);
-                                result = (args.length == 2 ? String.valueOf(listCompleted.size()) : parseList(listCompleted, args[2], split));
-                                break;
-                            case "completedbefore":
-                            case "cb":
-                                final List<Quest> listCompletedB = getCategoryQuests(qPlayer, category, QuestProgressFile.QuestsProgressFilter.COMPLETED_BEFORE);
-                                result = (args.length == 2 ? String.valueOf(listCompletedB.size()) : parseList(listCompletedB, args[2], split));
-                                break;
-                            case "started":
-                            case "s":
-                                final List<Quest> listStarted = getCategoryQuests(qPlayer, category, QuestProgressFile.QuestsProgressFilter.STARTED);
-                                result = (args.length == 2 ? String.valueOf(listStarted.size()) : parseList(listStarted, args[2], split));
-                                break;
-                            default:
-                                return args[0] + "_" + args[1] + " is not a valid placeholder";
+                    if (args.length == 2) {
+                        return constant(t[1]);
+                    }
+
+                    switch (args[2].toLowerCase()) {
+                        case "progress":
+                        case "p":
+                            return (qPlayer, q) -> {
+                                final QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                                final Object progress = questProgress != null ? questProgress.getTaskProgress(t[1]).getProgress() : null;
+                                return (progress == null ? "0" : String.valueOf(progress));
+                            };
+                        case "completed":
+                        case "c":
+                            return (qPlayer, q) -> {
+                                final QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(q);
+                                final boolean completed = questProgress != null && questProgress.getTaskProgress(t[1]).isCompleted();
+                                return String.valueOf(completed ? Messages.PLACEHOLDERAPI_TRUE.getMessageLegacyColor() : Messages.PLACEHOLDERAPI_FALSE.getMessageLegacyColor());
+                            };
+                        case "goal":
+                        case "g":
+                            // goals are a part of the task config, so they only change on reload
+                            if (quest != null) {
+                                final String goal = getTaskGoal(quest, t[1]);
+                                return (qPlayer, q) -> goal;
+                            }
+                            return (qPlayer, q) -> getTaskGoal(q, t[1]);
+                        default:
+                            return constant(args[0] + "_" + args[1] + "_" + args[2] + " is not a valid placeholder");
+                    }
+                } else if (t[0].equalsIgnoreCase("placeholder") || t[0].equalsIgnoreCase("p")) {
+                    if (t.length == 1) return constant("Please specify placeholder name");
+
+                    if (quest != null) {
+                        final PlaceholderTemplate placeholder = QuestPlaceholderTemplates.of(plugin, quest).getPlaceholder(t[1]);
+                        if (placeholder == null) {
+                            return constant(t[1] + " is not a valid placeholder within quest " + quest.getId());
                         }
+
+                        return (qPlayer, q) -> placeholder.render(plugin, q, qPlayer.getQuestProgressFile().getQuestProgressOrNull(q), null);
                     }
-                    break;
-                default:
-                    return args[0] + " is not a valid placeholder";
+
+                    return (qPlayer, q) -> {
+                        final PlaceholderTemplate placeholder = QuestPlaceholderTemplates.of(plugin, q).getPlaceholder(t[1]);
+                        if (placeholder == null) {
+                            return t[1] + " is not a valid placeholder within quest " + q.getId();
+                        }
+
+                        return placeholder.render(plugin, q, qPlayer.getQuestProgressFile().getQuestProgressOrNull(q), null);
+                    };
+                } else {
+                    return constant(args[0] + "_" + args[1] + " is not a valid placeholder");
+                }
             }
         }
-        return (save ? cache(p.getName(), params, result) : result);
     }
 
-    private String cache(String player, String params, String result) {
-        if (!cache.containsKey(player) || !cache.get(player).containsKey(params)) {
-            final Map<String, String> map = new HashMap<>();
-            map.put(params, result);
-            cache.put(player, map);
-            plugin.getScheduler().runTaskLaterAsynchronously(() -> cache.get(player).remove(params), plugin.getConfig().getInt("options.placeholder-cache-time", 10) * 20L);
+    private CompiledPlaceholder compileCategory(String[] args, Category category, String split, boolean save) {
+        if (args.length == 1) {
+            ItemStack itemStack = plugin.getQItemStackRegistry().getCategoryItemStack(category);
+            final String displayName = Chat.legacyStrip(itemStack.getItemMeta().getDisplayName());
+            return compiled(qPlayer -> displayName, save);
         }
-        return result;
+
+        final String separator = (args.length > 2 && split.equals(args[2])) ? "," : split;
+
+        final QuestProgressFile.QuestsProgressFilter filter;
+        switch (args[1].toLowerCase()) {
+            case "all":
+            case "a":
+                filter = QuestProgressFile.QuestsProgressFilter.ALL;
+                break;
+            case "completed":
+            case "c":
+                filter = QuestProgressFile.QuestsProgressFilter.COMPLETED;
+                break;
+            case "completedbefore":
+            case "cb":
+                filter = QuestProgressFile.QuestsProgressFilter.COMPLETED_BEFORE;
+                break;
+            case "started":
+            case "s":
+                filter = QuestProgressFile.QuestsProgressFilter.STARTED;
+                break;
+            default:
+                return error(args[0] + "_" + args[1] + " is not a valid placeholder");
+        }
+
+        // bind the quests of the category now instead of looking each of them up by id on every request
+        final List<Quest> categoryQuests = new ArrayList<>();
+        for (String questId : category.getRegisteredQuestIds()) {
+            Quest quest = plugin.getQuestManager().getQuestById(questId);
+            if (quest != null) categoryQuests.add(quest);
+        }
+
+        if (args.length == 2) {
+            final String categoryId = category.getId();
+            return switch (filter) {
+                case STARTED -> compiled(qPlayer -> String.valueOf(qPlayer.getQuestProgressFile().getStatistics().getStartedCount(categoryId)), save);
+                case COMPLETED -> compiled(qPlayer -> String.valueOf(qPlayer.getQuestProgressFile().getStatistics().getCompletedCount(categoryId)), save);
+                case COMPLETED_BEFORE -> compiled(qPlayer -> String.valueOf(qPlayer.getQuestProgressFile().getStatistics().getCompletedBeforeCount(categoryId)), save);
+                default -> {
+                    final String count = String.valueOf(categoryQuests.size());
+                    yield compiled(qPlayer -> count, save);
+                }
+            };
+        }
+
+        return compiled(qPlayer -> parseList(filterQuests(qPlayer, categoryQuests, filter), args[2], separator), save);
+    }
+
+    private CompiledPlaceholder compiled(Resolver resolver, boolean save) {
+        return new CompiledPlaceholder(resolver, save ? cacheTimeNanos : timeToLiveNanos);
     }
 
-    private String parseDate(String[] args, Long date) {
-        final String format = (args[args.length - 1].equals(args[1]) ? "dd/MM/yyyy" : args[args.length - 1]);
-        SimpleDateFormat sdf;
-        if (formats.containsKey(format)) {
-            sdf = formats.get(format);
-        } else {
-            sdf = new SimpleDateFormat(format);
-            formats.put(format, sdf);
+    private static CompiledPlaceholder error(String message) {
+        return new CompiledPlaceholder(qPlayer -> message, 0L);
+    }
+
+    private static QuestResolver constant(String value) {
+        return (qPlayer, quest) -> value;
+    }
+
+    private static String getDatePattern(String[] args) {
+        return (args[args.length - 1].equals(args[1]) ? "dd/MM/yyyy" : args[args.length - 1]);
+    }
+
+    private static DateFormatter compileDateFormat(String[] args) {
+        final String pattern = getDatePattern(args);
+        try {
+            new SimpleDateFormat(pattern);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        return sdf.format(date);
+        return new DateFormatter(pattern);
+    }
+
+    private String getTaskGoal(Quest quest, String taskId) {
+        final Task task = quest.getTaskById(taskId);
+        if (task == null) return "0";
+
+        final TaskType taskType = plugin.getTaskTypeManager().getTaskType(task.getType());
+        return (taskType != null ? String.valueOf(taskType.getGoal(task)) : "0");
     }
 
     private String parseList(List<Quest> list, String type, String separator) {
@@ -354,34 +513,58 @@ public class QuestsPlaceholders extends PlaceholderExpansion implements Cacheabl
         return null;
     }
 
-    private List<Quest> getCategoryQuests(QPlayer questP, Category category, QuestProgressFile.QuestsProgressFilter filter) {
-        final List<Quest> categoryQuests = new ArrayList<>();
-        category.getRegisteredQuestIds().forEach(q -> {
-            Quest quest = plugin.getQuestManager().getQuestById(q);
-            if (quest != null) {
-                switch (filter) {
-                    case STARTED -> {
-                        QuestProgress qp = questP.getQuestProgressFile().getQuestProgressOrNull(quest);
-                        if (qp != null && qp.isStarted()) {
-                            categoryQuests.add(quest);
-                        }
-                    }
-                    case COMPLETED -> {
-                        QuestProgress qp = questP.getQuestProgressFile().getQuestProgressOrNull(quest);
-                        if (qp != null && qp.isCompleted()) {
-                            categoryQuests.add(quest);
-                        }
-                    }
-                    case COMPLETED_BEFORE -> {
-                        QuestProgress qp = questP.getQuestProgressFile().getQuestProgressOrNull(quest);
-                        if (qp != null && qp.isCompletedBefore()) {
-                            categoryQuests.add(quest);
-                        }
-                    }
-                    default -> categoryQuests.add(quest);
-                }
-            }
-        });
-        return categoryQuests;
+    private List<Quest> filterQuests(QPlayer questP, List<Quest> quests, QuestProgressFile.QuestsProgressFilter filter) {
+        if (filter == QuestProgressFile.QuestsProgressFilter.ALL) return quests;
+
+        final List<Quest> filteredQuests = new ArrayList<>();
+        for (Quest quest : quests) {
+            QuestProgress qp = questP.getQuestProgressFile().getQuestProgressOrNull(quest);
+            if (qp == null) continue;
+
+            final boolean matches = switch (filter) {
+                case STARTED -> qp.isStarted();
+                case COMPLETED -> qp.isCompleted();
+                case COMPLETED_BEFORE -> qp.isCompletedBefore();
+                default -> true;
+            };
+            if (matches) filteredQuests.add(quest);
+        }
+        return filteredQuests;
+    }
+
+    @FunctionalInterface
+    private interface Resolver {
+        String resolve(QPlayer qPlayer);
+    }
+
+    @FunctionalInterface
+    private interface QuestResolver {
+        String resolve(QPlayer qPlayer, Quest quest);
+    }
+
+    /**
+     * Placeholder parameters parsed once, with everything not depending on the player already bound.
+     *
+     * @param resolver        resolves the value for a player
+     * @param timeToLiveNanos how long a resolved value may be cached, or 0 if it should not be cached at all
+     */
+    private record CompiledPlaceholder(Resolver resolver, long timeToLiveNanos) {
+    }
+
+    /**
+     * {@link SimpleDateFormat} is not thread-safe and placeholders may be requested from any thread, so every thread
+     * gets its own instance.
+     */
+    private static final class DateFormatter {
+
+        private final ThreadLocal<SimpleDateFormat> format;
+
+        private DateFormatter(String pattern) {
+            this.format = ThreadLocal.withInitial(() -> new SimpleDateFormat(pattern));
+        }
+
+        private String format(long date) {
+            return format.get().format(date);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.leonardobishop.quests.bukkit.item;
 
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
 public class ParsedQuestItem extends QuestItem {
@@ -20,4 +21,9 @@ public class ParsedQuestItem extends QuestItem {
     public boolean compareItemStack(ItemStack other, boolean exactMatch) {
         return exactMatch ? other.isSimilar(itemStack) : other.getType() == itemStack.getType();
     }
+
+    @Override
+    public Material getMatchingMaterial() {
+        return itemStack.getType();
+    }
 }
@@ -1,6 +1,8 @@
 package com.leonardobishop.quests.bukkit.item;
 
+import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a single quest item.
@@ -30,4 +32,14 @@ public abstract class QuestItem {
     public abstract ItemStack getItemStack();
 
     public abstract boolean compareItemStack(ItemStack other, boolean exactMatch);
+
+    /**
+     * Returns the material every item stack matching this quest item has, so that item stacks of other materials can
+     * be skipped without comparing them.
+     *
+     * @return the material, or null if item stacks of any material may match
+     */
+    public @Nullable Material getMatchingMaterial() {
+        return null;
+    }
 }
@@ -17,6 +17,9 @@ public class PlayerLeaveListener implements Listener {
 
     @EventHandler
     public void onEvent(PlayerQuitEvent event) {
+        plugin.getMenuController().getQuestItemCache().invalidate(event.getPlayer().getUniqueId());
+        plugin.getTaskProgressFeedback().discard(event.getPlayer().getUniqueId());
+        plugin.getBossBarHandle().removePlayer(event.getPlayer());
         QPlayer qPlayer = plugin.getPlayerManager().getPlayer(event.getPlayer().getUniqueId());
         if (qPlayer == null) return;
         Player player = event.getPlayer();
@@ -0,0 +1,50 @@
+package com.leonardobishop.quests.bukkit.listener;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.UUID;
+
+/**
+ * Discards whatever the quest controller has derived from the permissions of a player whenever they may have changed.
+ * Permission plugins resend the command tree to a player after recalculating their permissions, which is the closest
+ * thing to a permission change event there is.
+ */
+public class PlayerPermissionListener implements Listener {
+
+    private final BukkitQuestsPlugin plugin;
+
+    public PlayerPermissionListener(BukkitQuestsPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerCommandSend(PlayerCommandSendEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    private void invalidate(UUID playerUUID) {
+        plugin.getPlayerManager().getActiveQuestController().invalidateCaches(playerUUID);
+    }
+}
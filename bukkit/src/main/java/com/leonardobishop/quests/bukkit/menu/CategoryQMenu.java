@@ -11,7 +11,6 @@ import com.leonardobishop.quests.common.quest.Quest;
 import org.bukkit.Bukkit;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -24,6 +23,7 @@ public class CategoryQMenu extends PaginatedQMenu {
                 plugin.getQuestsConfig().getBoolean("options.trim-gui-size.quests-category-menu"), 54, plugin);
 
         BukkitQuestsConfig config = (BukkitQuestsConfig) plugin.getQuestsConfig();
+        QuestMenuOrder questMenuOrder = plugin.getMenuController().getQuestMenuOrder();
 
         List<MenuElement> categoryMenuElements = new ArrayList<>();
         for (Category category : plugin.getQuestManager().getCategories()) {
@@ -36,14 +36,7 @@ public class CategoryQMenu extends PaginatedQMenu {
                     continue;
                 }
             }
-            List<Quest> quests = new ArrayList<>();
-            for (String questid : category.getRegisteredQuestIds()) {
-                Quest quest = plugin.getQuestManager().getQuestById(questid);
-                if (quest != null) {
-                    quests.add(quest);
-                }
-            }
-            Collections.sort(quests);
+            List<Quest> quests = questMenuOrder.getSortedQuests(category);
             QuestQMenu questQMenu = new QuestQMenu(plugin, owner, quests, category, this);
             MenuElement menuElement = new CategoryMenuElement(plugin, owner.getPlayerUUID(), category, questQMenu);
             categoryMenuElements.add(menuElement);
@@ -18,7 +18,9 @@ import java.util.UUID;
 public class MenuController implements Listener {
 
     private final HashMap<UUID, QMenu> tracker = new HashMap<>();
+    private final QuestItemCache questItemCache = new QuestItemCache();
     private final BukkitQuestsPlugin plugin;
+    private volatile QuestMenuOrder questMenuOrder;
 
     public MenuController(BukkitQuestsPlugin plugin) {
         this.plugin = plugin;
@@ -40,6 +42,31 @@ public class MenuController implements Listener {
         tracker.put(player.getUniqueId(), qMenu);
     }
 
+    public QuestItemCache getQuestItemCache() {
+        return questItemCache;
+    }
+
+    /**
+     * Get the order quests are listed in menus. May be called from any thread.
+     *
+     * @return the menu order of the currently registered quests
+     */
+    public QuestMenuOrder getQuestMenuOrder() {
+        QuestMenuOrder questMenuOrder = this.questMenuOrder;
+        if (questMenuOrder == null) {
+            questMenuOrder = QuestMenuOrder.build(plugin.getQuestManager());
+            this.questMenuOrder = questMenuOrder;
+        }
+        return questMenuOrder;
+    }
+
+    /**
+     * Recompute the order quests are listed in menus. Should be called whenever quests are reloaded.
+     */
+    public void updateQuestMenuOrder() {
+        this.questMenuOrder = QuestMenuOrder.build(plugin.getQuestManager());
+    }
+
     @EventHandler
     private void onClose(InventoryCloseEvent event) {
         tracker.remove(event.getPlayer().getUniqueId());
@@ -67,8 +94,11 @@ public class MenuController implements Listener {
             }
             SoundUtils.playSoundForPlayer(player, plugin.getQuestsConfig().getString("options.sounds.gui.interact"));
             if (result == ClickResult.REFRESH_PANE) {
-                player.openInventory(qMenu.draw());
-                tracker.put(player.getUniqueId(), qMenu);
+                // only replace changed items if possible, reopening the inventory redraws everything
+                if (!qMenu.refresh(event.getView().getTopInventory())) {
+                    player.openInventory(qMenu.draw());
+                    tracker.put(player.getUniqueId(), qMenu);
+                }
             } else if (result == ClickResult.CLOSE_MENU) {
                 player.closeInventory();
             }
@@ -20,6 +20,7 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Objects;
 
 public abstract class PaginatedQMenu extends QMenu {
 
@@ -194,9 +195,6 @@ public abstract class PaginatedQMenu extends QMenu {
 
     @Override
     public Inventory draw() {
-        int pageMin = pageSize * (currentPage - 1);
-        int pageMax = pageSize * currentPage;
-
         BukkitQuestsConfig config = (BukkitQuestsConfig) plugin.getQuestsConfig();
 
         if (config.getBoolean("options.gui-use-placeholderapi")) {
@@ -204,32 +202,63 @@ public abstract class PaginatedQMenu extends QMenu {
             title = plugin.getPlaceholderAPIProcessor().apply(player, title);
         }
 
-        Inventory inventory = Bukkit.createInventory(null, 54, title);
+        ItemStack[] items = new ItemStack[54];
+        int inventorySize = drawPage(items);
+
+        Inventory inventory = Bukkit.createInventory(null, inventorySize, title);
+        for (int slot = 0; slot < inventorySize; slot++) {
+            if (items[slot] != null) {
+                inventory.setItem(slot, items[slot]);
+            }
+        }
+
+        return inventory;
+    }
+
+    @Override
+    boolean refresh(Inventory inventory) {
+        ItemStack[] items = new ItemStack[54];
+        int inventorySize = drawPage(items);
+
+        // the size of a trimmed page may change, which requires a new inventory
+        if (inventorySize != inventory.getSize()) {
+            return false;
+        }
+
+        for (int slot = 0; slot < inventorySize; slot++) {
+            if (!Objects.equals(inventory.getItem(slot), items[slot])) {
+                inventory.setItem(slot, items[slot]);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Draw the items of the current page.
+     *
+     * @param items array of 54 items to draw into
+     * @return the size of the inventory the page needs
+     */
+    private int drawPage(ItemStack[] items) {
+        int pageMin = pageSize * (currentPage - 1);
+        int pageMax = pageSize * currentPage;
 
         int highestOnPage = 0;
         for (int pointer = pageMin; pointer < pageMax; pointer++) {
-            if (menuElements.containsKey(pointer)) {
-                inventory.setItem(pointer - ((currentPage - 1) * pageSize), menuElements.get(pointer).asItemStack());
+            MenuElement menuElement = menuElements.get(pointer);
+            if (menuElement != null) {
+                items[pointer - pageMin] = menuElement.asItemStack();
                 if (pointer + 1 > highestOnPage) highestOnPage = pointer + 1;
             }
         }
 
         if (trim && currentPage == 1) {
             int inventorySize = highestOnPage + (9 - highestOnPage % 9) * Math.min(1, highestOnPage % 9);
-            inventorySize = inventorySize <= 0 ? 9 : inventorySize;
-            if (inventorySize == 54) {
-                return inventory;
-            }
-
-            Inventory trimmedInventory = Bukkit.createInventory(null, inventorySize, title);
-
-            for (int slot = 0; slot < trimmedInventory.getSize(); slot++) {
-                trimmedInventory.setItem(slot, inventory.getItem(slot));
-            }
-            return trimmedInventory;
+            return inventorySize <= 0 ? 9 : inventorySize;
         }
 
-        return inventory;
+        return 54;
     }
 
     @Override
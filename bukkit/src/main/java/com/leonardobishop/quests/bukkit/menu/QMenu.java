@@ -25,4 +25,14 @@ public abstract class QMenu {
 
     abstract Inventory draw();
 
+    /**
+     * Redraw the menu into the inventory it has been drawn into before, only replacing the items which have changed.
+     *
+     * @param inventory the open inventory
+     * @return whether the inventory could be refreshed, otherwise the menu has to be drawn again
+     */
+    boolean refresh(Inventory inventory) {
+        return false;
+    }
+
 }
@@ -0,0 +1,83 @@
+package com.leonardobishop.quests.bukkit.menu;
+
+import com.leonardobishop.quests.common.quest.Quest;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Per-player cache of rendered quest items. Each item is stored along with a fingerprint of the state it has been
+ * rendered from, and is only rendered again once the fingerprint changes. Only accessed from the main thread.
+ */
+public class QuestItemCache {
+
+    private final Map<UUID, Map<Quest, Entry>> cache = new HashMap<>();
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Gets the cached item for a quest, or renders and caches it if the fingerprint does not match.
+     *
+     * @param playerUUID  the player the item is rendered for
+     * @param quest       the quest the item represents
+     * @param fingerprint the state the item is rendered from, compared with {@link Object#equals(Object)}
+     * @param renderer    the function rendering the item
+     * @return the item, which must not be modified
+     */
+    public @NotNull ItemStack get(@NotNull UUID playerUUID, @NotNull Quest quest, @NotNull Object fingerprint, @NotNull Supplier<ItemStack> renderer) {
+        Map<Quest, Entry> playerCache = cache.computeIfAbsent(playerUUID, k -> new HashMap<>());
+
+        Entry entry = playerCache.get(quest);
+        if (entry != null && entry.fingerprint().equals(fingerprint)) {
+            hitCount++;
+            return entry.itemStack();
+        }
+
+        missCount++;
+        ItemStack itemStack = renderer.get();
+        playerCache.put(quest, new Entry(fingerprint, itemStack));
+        return itemStack;
+    }
+
+    /**
+     * Removes all cached items of a player.
+     *
+     * @param playerUUID the player
+     */
+    public void invalidate(@NotNull UUID playerUUID) {
+        cache.remove(playerUUID);
+    }
+
+    /**
+     * Removes all cached items. Should be called whenever quests are reloaded.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public int getPlayerCount() {
+        return cache.size();
+    }
+
+    public int getItemCount() {
+        int count = 0;
+        for (Map<Quest, Entry> playerCache : cache.values()) {
+            count += playerCache.size();
+        }
+        return count;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    private record Entry(Object fingerprint, ItemStack itemStack) { }
+}
@@ -0,0 +1,113 @@
+package com.leonardobishop.quests.bukkit.menu;
+
+import com.leonardobishop.quests.common.quest.Category;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.QuestManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The order quests are listed in menus, computed once when quests are loaded instead of every time a menu is opened.
+ */
+public final class QuestMenuOrder {
+
+    private final List<Quest> sortedQuests;
+    private final List<Quest> weightedQuests;
+    private final Map<String, List<Quest>> sortedCategoryQuests;
+
+    private QuestMenuOrder(List<Quest> sortedQuests, List<Quest> weightedQuests, Map<String, List<Quest>> sortedCategoryQuests) {
+        this.sortedQuests = sortedQuests;
+        this.weightedQuests = weightedQuests;
+        this.sortedCategoryQuests = sortedCategoryQuests;
+    }
+
+    /**
+     * Compute the menu order of all quests registered with a quest manager.
+     *
+     * @param questManager the quest manager
+     * @return the computed order
+     */
+    public static @NotNull QuestMenuOrder build(@NotNull QuestManager questManager) {
+        Collection<Quest> quests = questManager.getQuestMap().values();
+        List<Category> categories = questManager.getCategories();
+
+        Map<String, Quest> questsById = new HashMap<>();
+        for (Quest quest : quests) {
+            questsById.put(quest.getId(), quest);
+        }
+
+        List<Quest> sortedQuests = new ArrayList<>(quests);
+        Collections.sort(sortedQuests);
+
+        // the weighted sort order places quests after all quests of the preceding categories
+        Map<String, Integer> categoryOffsets = new HashMap<>();
+        int offset = 0;
+        for (Category category : categories) {
+            categoryOffsets.putIfAbsent(category.getId(), offset);
+            offset += category.getRegisteredQuestIds().size();
+        }
+
+        List<QuestSortWrapper> wrappers = new ArrayList<>();
+        for (Quest quest : quests) {
+            int weightedSortOrder;
+            if (quest.getCategoryId() == null) {
+                weightedSortOrder = quest.getSortOrder();
+            } else {
+                Integer categoryOffset = categoryOffsets.get(quest.getCategoryId());
+                weightedSortOrder = categoryOffset != null ? categoryOffset + quest.getSortOrder() : 0;
+            }
+            wrappers.add(new QuestSortWrapper(quest, weightedSortOrder));
+        }
+        Collections.sort(wrappers);
+
+        List<Quest> weightedQuests = new ArrayList<>(wrappers.size());
+        for (QuestSortWrapper wrapper : wrappers) {
+            weightedQuests.add(wrapper.getQuest());
+        }
+
+        Map<String, List<Quest>> sortedCategoryQuests = new HashMap<>();
+        for (Category category : categories) {
+            List<Quest> categoryQuests = new ArrayList<>();
+            for (String questId : category.getRegisteredQuestIds()) {
+                Quest quest = questsById.get(questId);
+                if (quest != null) {
+                    categoryQuests.add(quest);
+                }
+            }
+            Collections.sort(categoryQuests);
+            sortedCategoryQuests.putIfAbsent(category.getId(), Collections.unmodifiableList(categoryQuests));
+        }
+
+        return new QuestMenuOrder(Collections.unmodifiableList(sortedQuests), Collections.unmodifiableList(weightedQuests),
+                sortedCategoryQuests);
+    }
+
+    /**
+     * @return all quests sorted by their sort order
+     */
+    public @NotNull List<Quest> getSortedQuests() {
+        return sortedQuests;
+    }
+
+    /**
+     * @return all quests sorted by their category and then their sort order
+     */
+    public @NotNull List<Quest> getWeightedQuests() {
+        return weightedQuests;
+    }
+
+    /**
+     * @param category the category
+     * @return the quests of the category sorted by their sort order
+     */
+    public @NotNull List<Quest> getSortedQuests(@NotNull Category category) {
+        List<Quest> quests = sortedCategoryQuests.get(category.getId());
+        return quests != null ? quests : Collections.emptyList();
+    }
+}
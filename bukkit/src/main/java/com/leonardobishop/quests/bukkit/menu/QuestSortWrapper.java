@@ -9,6 +9,10 @@ public class QuestSortWrapper implements Comparable<QuestSortWrapper> {
     private int weightedSortOrder;
     private final Quest quest;
 
+    /**
+     * @deprecated the weighted sort order of all quests is precomputed by {@link QuestMenuOrder}
+     */
+    @Deprecated
     public QuestSortWrapper(Quests plugin, Quest quest) {
         this.quest = quest;
         if (quest.getCategoryId() == null) {
@@ -19,7 +23,6 @@ public class QuestSortWrapper implements Comparable<QuestSortWrapper> {
         if (c != null) {
             int index = plugin.getQuestManager().getCategories().indexOf(c);
             int amountBelow = 0;
-            //TODO precalculate
             for (int i = index; i > 0; i--) {
                 Category below = plugin.getQuestManager().getCategories().get(i - 1);
                 amountBelow += below.getRegisteredQuestIds().size();
@@ -28,6 +31,11 @@ public class QuestSortWrapper implements Comparable<QuestSortWrapper> {
         }
     }
 
+    public QuestSortWrapper(Quest quest, int weightedSortOrder) {
+        this.quest = quest;
+        this.weightedSortOrder = weightedSortOrder;
+    }
+
     public int getWeightedSortOrder() {
         return weightedSortOrder;
     }
@@ -22,15 +22,24 @@ public final class StartedQMenu extends PaginatedQMenu {
 
         final List<MenuElement> elements = new ArrayList<>();
 
+        // stop looking as soon as all started quests have been found, if the controller can tell how many there are
+        int remaining = owner.getQuestController().getEffectiveStartedQuestCount(owner);
+
         for (final Quest quest : quests) {
-            if (quest.isHidden()) {
-                continue;
+            if (remaining == 0) {
+                break;
             }
 
             if (!owner.hasStartedQuest(quest)) {
                 continue;
             }
 
+            remaining--;
+
+            if (quest.isHidden()) {
+                continue;
+            }
+
             elements.add(new QuestMenuElement(plugin, quest, this));
         }
 
@@ -13,6 +13,7 @@ import com.leonardobishop.quests.bukkit.util.chat.Chat;
 import com.leonardobishop.quests.common.enums.QuestStartResult;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
 import com.leonardobishop.quests.common.quest.Quest;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
@@ -68,9 +69,28 @@ public class QuestMenuElement extends MenuElement {
 
     @Override
     public ItemStack asItemStack() {
-        QuestProgress questProgress = owner.getQuestProgressFile().getQuestProgress(quest);
+        QuestProgressFile questProgressFile = owner.getQuestProgressFile();
+        QuestProgress questProgress = questProgressFile.getQuestProgressView(quest);
         QuestStartResult status = owner.canStartQuest(quest);
-        long cooldown = owner.getQuestProgressFile().getCooldownFor(quest);
+        long cooldown = questProgressFile.getCooldownFor(quest);
+
+        // anything displayed which depends on the current time may change every second
+        boolean timeDependent = (questProgress.isStarted() && quest.isTimeLimitEnabled())
+                || config.getBoolean("options.gui-use-placeholderapi");
+        RenderState renderState = new RenderState(
+                status,
+                questProgressFile.getStateVersion(),
+                questProgress.getModificationCount(),
+                TimeUnit.SECONDS.convert(cooldown, TimeUnit.MILLISECONDS),
+                timeDependent ? TimeUnit.SECONDS.convert(System.currentTimeMillis(), TimeUnit.MILLISECONDS) : 0L,
+                quest.getId().equals(owner.getPlayerPreferences().getTrackedQuestId())
+        );
+
+        return plugin.getMenuController().getQuestItemCache().get(owner.getPlayerUUID(), quest, renderState,
+                () -> render(questProgress, status, cooldown));
+    }
+
+    private ItemStack render(QuestProgress questProgress, QuestStartResult status, long cooldown) {
         QItemStack qItemStack = plugin.getQItemStackRegistry().getQuestItemStack(quest);
 
         Map<String, String> placeholders = new HashMap<>();
@@ -80,8 +100,8 @@ public class QuestMenuElement extends MenuElement {
             for (String requirement : quest.getRequirements()) {
                 Quest requirementQuest = plugin.getQuestManager().getQuestById(requirement);
                 if (requirementQuest == null) continue;
-                if (!owner.getQuestProgressFile().hasQuestProgress(requirementQuest) ||
-                        !owner.getQuestProgressFile().getQuestProgress(requirementQuest).isCompletedBefore()) {
+                QuestProgress requirementQuestProgress = owner.getQuestProgressFile().getQuestProgressOrNull(requirementQuest);
+                if (requirementQuestProgress == null || !requirementQuestProgress.isCompletedBefore()) {
                     quests.add(Chat.legacyStrip(plugin.getQItemStackRegistry().getQuestItemStack(requirementQuest).getName()));
                 }
             }
@@ -182,4 +202,7 @@ public class QuestMenuElement extends MenuElement {
 
         return ClickResult.DO_NOTHING;
     }
+
+    private record RenderState(QuestStartResult status, int stateVersion, int modificationCount, long cooldownSeconds,
+                               long timeSeconds, boolean tracked) { }
 }
@@ -4,13 +4,12 @@ import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import com.leonardobishop.quests.bukkit.util.FormatUtils;
 import com.leonardobishop.quests.bukkit.util.Messages;
 import com.leonardobishop.quests.bukkit.util.chat.Chat;
+import com.leonardobishop.quests.bukkit.util.placeholder.PlaceholderTemplate;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
 import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
 import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Quest;
-import com.leonardobishop.quests.common.quest.Task;
-import com.leonardobishop.quests.common.tasktype.TaskType;
 import org.bukkit.Bukkit;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
@@ -18,12 +17,10 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class QItemStack {
@@ -39,6 +36,14 @@ public class QItemStack {
     private final List<String> globalLoreAppendTracked;
     private ItemStack startingItemStack;
 
+    private Quest compiledQuest;
+    private List<PlaceholderTemplate> loreNormalTemplates;
+    private List<PlaceholderTemplate> loreStartedTemplates;
+    private List<PlaceholderTemplate> globalLoreAppendNormalTemplates;
+    private List<PlaceholderTemplate> globalLoreAppendNotStartedTemplates;
+    private List<PlaceholderTemplate> globalLoreAppendStartedTemplates;
+    private List<PlaceholderTemplate> globalLoreAppendTrackedTemplates;
+
     public QItemStack(BukkitQuestsPlugin plugin, String name, List<String> loreNormal, List<String> loreStarted, ItemStack startingItemStack) {
         this.plugin = plugin;
         this.name = name;
@@ -66,6 +71,7 @@ public class QItemStack {
 
     public void setLoreNormal(List<String> loreNormal) {
         this.loreNormal = loreNormal;
+        this.compiledQuest = null;
     }
 
     public List<String> getLoreStarted() {
@@ -74,6 +80,7 @@ public class QItemStack {
 
     public void setLoreStarted(List<String> loreStarted) {
         this.loreStarted = loreStarted;
+        this.compiledQuest = null;
     }
 
     public ItemStack getStartingItemStack() {
@@ -84,29 +91,62 @@ public class QItemStack {
         this.startingItemStack = startingItemStack;
     }
 
+    /**
+     * Compiles the lore lines of this item for the quest it is displayed for, so that they do not have to be
+     * parsed every time the item is built. Changing the lore discards the compiled lines.
+     *
+     * @param quest the quest, with all of its tasks registered
+     */
+    public void compileTemplates(Quest quest) {
+        loreNormalTemplates = compileTemplates(quest, loreNormal);
+        loreStartedTemplates = compileTemplates(quest, loreStarted);
+        globalLoreAppendNormalTemplates = compileTemplates(quest, globalLoreAppendNormal);
+        globalLoreAppendNotStartedTemplates = compileTemplates(quest, globalLoreAppendNotStarted);
+        globalLoreAppendStartedTemplates = compileTemplates(quest, globalLoreAppendStarted);
+        globalLoreAppendTrackedTemplates = compileTemplates(quest, globalLoreAppendTracked);
+        compiledQuest = quest;
+    }
+
+    private List<PlaceholderTemplate> compileTemplates(Quest quest, List<String> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<PlaceholderTemplate> templates = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            // lines have been coloured when loaded
+            templates.add(PlaceholderTemplate.compile(plugin, quest, line, false, true));
+        }
+        return templates;
+    }
+
     @SuppressWarnings("deprecation")
     public ItemStack toItemStack(Quest quest, QPlayer qPlayer, QuestProgress questProgress) {
+        if (compiledQuest != quest) {
+            compileTemplates(quest);
+        }
+
         ItemStack is = new ItemStack(startingItemStack);
         ItemMeta ism = is.getItemMeta();
         ism.setDisplayName(name);
         List<String> formattedLore = new ArrayList<>();
-        List<String> tempLore = new ArrayList<>();
+        List<PlaceholderTemplate> tempLore = new ArrayList<>();
 
         if (!plugin.getQuestsConfig().getBoolean("options.global-task-configuration-override") || globalLoreAppendNormal.isEmpty()) {
-            tempLore.addAll(loreNormal);
+            tempLore.addAll(loreNormalTemplates);
         }
-        tempLore.addAll(globalLoreAppendNormal);
+        tempLore.addAll(globalLoreAppendNormalTemplates);
 
         Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
         if (qPlayer.hasStartedQuest(quest)) {
             boolean tracked = quest.getId().equals(qPlayer.getPlayerPreferences().getTrackedQuestId());
             if (!plugin.getQuestsConfig().getBoolean("options.global-task-configuration-override")|| globalLoreAppendStarted.isEmpty()) {
-                tempLore.addAll(loreStarted);
+                tempLore.addAll(loreStartedTemplates);
             }
             if (tracked) {
-                tempLore.addAll(globalLoreAppendTracked);
+                tempLore.addAll(globalLoreAppendTrackedTemplates);
             } else {
-                tempLore.addAll(globalLoreAppendStarted);
+                tempLore.addAll(globalLoreAppendStartedTemplates);
             }
             ism.addEnchant(Enchantment.KNOCKBACK, 1, true);
             try {
@@ -114,15 +154,15 @@ public class QItemStack {
                 ism.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
             } catch (Exception ignored) { }
         } else {
-            tempLore.addAll(globalLoreAppendNotStarted);
+            tempLore.addAll(globalLoreAppendNotStartedTemplates);
         }
         if (plugin.getQuestsConfig().getBoolean("options.gui-use-placeholderapi")) {
             ism.setDisplayName(plugin.getPlaceholderAPIProcessor().apply(player, ism.getDisplayName()));
         }
         if (questProgress != null) {
-            for (String s : tempLore) {
-                s = processPlaceholders(plugin, s, questProgress);
-                s = processTimeLeft(s, quest, qPlayer.getQuestProgressFile());
+            QuestProgressFile questProgressFile = qPlayer.getQuestProgressFile();
+            for (PlaceholderTemplate template : tempLore) {
+                String s = template.render(plugin, quest, questProgressFile, questProgress, null);
                 if (plugin.getQuestsConfig().getBoolean("options.gui-use-placeholderapi")) {
                     s = plugin.getPlaceholderAPIProcessor().apply(player, s);
                 }
@@ -141,82 +181,12 @@ public class QItemStack {
     }
 
     public static String processPlaceholders(BukkitQuestsPlugin plugin, String s, QuestProgress questProgress, TaskProgress taskProgress) {
-        Matcher matcher = TASK_PLACEHOLDER_PATTERN.matcher(s);
-
-        while (matcher.find()) {
-            TaskProgress matchedTaskProgress;
-
-            String taskIdPart = matcher.group(1);
-            if (taskProgress != null && taskIdPart.equals("this")) {
-                matchedTaskProgress = taskProgress;
-            } else {
-                matchedTaskProgress = questProgress.getTaskProgressOrNull(taskIdPart);
-            }
-
-            if (matchedTaskProgress == null) {
-                continue;
-            }
-
-            String placeholderPart = matcher.group(2);
-            String replacement;
-
-            switch (placeholderPart) {
-                // formatted progress placeholders
-                case "progress" -> {
-                    Object progress = matchedTaskProgress.getProgress();
-                    if (progress instanceof Float || progress instanceof Double || progress instanceof BigDecimal) {
-                        replacement = FormatUtils.floating((Number) progress);
-                    } else if (progress instanceof Integer || progress instanceof Long || progress instanceof BigInteger) {
-                        replacement = FormatUtils.integral((Number) progress);
-                    } else if (progress != null) {
-                        replacement = String.valueOf(progress);
-                    } else {
-                        replacement = String.valueOf(0);
-                    }
-                }
-
-                // goal placeholders
-                case "goal" -> {
-                    Quest quest = plugin.getQuestManager().getQuestById(questProgress.getQuestId());
-                    Task task = quest != null ? quest.getTaskById(matchedTaskProgress.getTaskId()) : null;
-                    TaskType taskType = task != null ? plugin.getTaskTypeManager().getTaskType(task.getType()) : null;
-                    Object goal = taskType != null ? taskType.getGoal(task) : null;
-                    if (goal instanceof Float || goal instanceof Double || goal instanceof BigDecimal) {
-                        replacement = FormatUtils.floating((Number) goal);
-                    } else if (goal instanceof Integer || goal instanceof Long || goal instanceof BigInteger) {
-                        replacement = FormatUtils.integral((Number) goal);
-                    } else if (goal != null) {
-                        replacement = String.valueOf(goal);
-                    } else {
-                        replacement = String.valueOf(0);
-                    }
-                }
-
-                // completion placeholders
-                case "complete" -> {
-                    boolean completed = matchedTaskProgress.isCompleted();
-                    if (completed) {
-                        replacement = Messages.UI_PLACEHOLDERS_TRUE.getMessageLegacyColor();
-                    } else {
-                        replacement = Messages.UI_PLACEHOLDERS_FALSE.getMessageLegacyColor();
-                    }
-                }
-
-                // may be particularly useful when using PAPI placeholders in boss bars
-                case "id" -> replacement = matchedTaskProgress.getTaskId();
-
-                // set it to null so we can check if there is need to update the matcher
-                default -> replacement = null;
-            }
-
-            // update the matcher only if something needs to be replaced
-            if (replacement != null) {
-                s = s.substring(0, matcher.start()) + replacement + s.substring(matcher.end());
-                matcher = TASK_PLACEHOLDER_PATTERN.matcher(s);
-            }
+        Quest quest = plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+        if (quest == null) {
+            return s;
         }
 
-        return s;
+        return PlaceholderTemplate.compile(plugin, quest, s, false, false).render(plugin, quest, questProgress, taskProgress);
     }
 
     public static String processTimeLeft(String s, Quest quest, QuestProgressFile questProgressFile) {
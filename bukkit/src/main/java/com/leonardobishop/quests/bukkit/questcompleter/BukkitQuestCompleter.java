@@ -13,105 +13,182 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.UUID;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes queued completion checks within a time budget per run. Each quest progress and quest progress file is
+ * queued at most once, no matter how many times it has been queued before being processed. Time-limited quests are
+ * kept in a queue ordered by their deadline, so they are expired as soon as their time is up without having to scan
+ * the progress of every player.
+ */
 //TODO move complete effects here ?
 public class BukkitQuestCompleter implements QuestCompleter, Runnable {
 
-    private final LinkedList<QuestProgress> completionQueue = new LinkedList<>();
-    private final LinkedList<QuestProgressFile> fullCheckQueue = new LinkedList<>();
-    private final LinkedList<UUID> expiredCheckQueue = new LinkedList<>();
+    // values are the System.nanoTime() the entry has been queued at
+    private final LinkedHashMap<QuestProgress, Long> completionQueue = new LinkedHashMap<>();
+    private final LinkedHashMap<QuestProgressFile, Long> fullCheckQueue = new LinkedHashMap<>();
+    private final PriorityQueue<ExpiryCheck> expiryQueue = new PriorityQueue<>();
+    private final Map<ExpiryKey, Long> expiryDeadlines = new HashMap<>();
     private final BukkitQuestsPlugin plugin;
 
+    private volatile long timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private long processedCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+    private int lastRunProcessedCount;
+    private long lastRunNanos;
+
     public BukkitQuestCompleter(BukkitQuestsPlugin plugin) {
         this.plugin = plugin;
     }
 
+    /**
+     * Set how much time a single run may spend processing queued checks. At least one check is processed every run,
+     * regardless of the budget.
+     *
+     * @param timeBudgetNanos the time budget in nanoseconds
+     */
+    public void setTimeBudget(long timeBudgetNanos) {
+        this.timeBudgetNanos = Math.max(0L, timeBudgetNanos);
+    }
+
     @Override
     public void run() {
-        this.processExpiredCheckQueue();
-        this.processCompletionQueue();
-        this.processFullCheckQueue();
-    }
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetNanos;
+        int processed = 0;
 
-    private void checkExpiredQuests(QPlayer qPlayer) {
-        QuestProgressFile questProgressFile = qPlayer.getQuestProgressFile();
-        for (QuestProgress questProgress : questProgressFile.getAllQuestProgress()) {
-            if (!questProgress.isStarted()) {
-                continue;
+        do {
+            if (!this.processExpiryQueue() && !this.processCompletionQueue() && !this.processFullCheckQueue()) {
+                break;
             }
+            processed++;
+        } while (System.nanoTime() < deadline);
 
-            Quest quest = plugin.getQuestManager().getQuestById(questProgress.getQuestId());
-            if (quest == null) {
-                continue;
-            }
+        this.lastRunProcessedCount = processed;
+        this.lastRunNanos = System.nanoTime() - start;
+    }
 
-            if (questProgressFile.getTimeRemainingFor(quest) == 0) {
-                qPlayer.expireQuest(quest);
+    /**
+     * Process the expiry check with the earliest deadline, if it is due.
+     *
+     * @return whether an expiry check has been processed
+     */
+    private boolean processExpiryQueue() {
+        ExpiryKey key;
+        synchronized (this) {
+            ExpiryCheck expiryCheck = expiryQueue.peek();
+            if (expiryCheck == null || expiryCheck.deadline() > System.currentTimeMillis()) {
+                return false;
             }
-        }
-    }
 
-    private void processExpiredCheckQueue() {
-        UUID who = expiredCheckQueue.poll();
-        if (who == null) {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                expiredCheckQueue.add(player.getUniqueId());
+            expiryQueue.poll();
+
+            // the quest has been rescheduled since, so this check is stale
+            Long scheduledDeadline = expiryDeadlines.get(expiryCheck.key());
+            if (scheduledDeadline == null || scheduledDeadline != expiryCheck.deadline()) {
+                return true;
             }
-            return;
+
+            expiryDeadlines.remove(expiryCheck.key());
+            key = expiryCheck.key();
         }
 
-        Player player = Bukkit.getPlayer(who);
-        if (player == null || !player.isOnline()) return;
+        // players are checked again once they join
+        Player player = Bukkit.getPlayer(key.playerUUID());
+        if (player == null || !player.isOnline()) return true;
 
         QPlayer qPlayer = plugin.getPlayerManager().getPlayer(player.getUniqueId());
-        if (qPlayer == null) return;
+        if (qPlayer == null) return true;
+
+        Quest quest = plugin.getQuestManager().getQuestById(key.questId());
+        if (quest == null) return true;
 
-        checkExpiredQuests(qPlayer);
+        checkExpired(qPlayer, quest);
+        return true;
     }
 
-    private void processCompletionQueue() {
-        QuestProgress questProgress = completionQueue.poll();
-        if (questProgress == null) return;
+    /**
+     * Process the next queued quest progress.
+     *
+     * @return whether a quest progress has been processed
+     */
+    private boolean processCompletionQueue() {
+        QuestProgress questProgress;
+        synchronized (this) {
+            Iterator<Map.Entry<QuestProgress, Long>> iterator = completionQueue.entrySet().iterator();
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            Map.Entry<QuestProgress, Long> entry = iterator.next();
+            iterator.remove();
+            questProgress = entry.getKey();
+            recordLatency(entry.getValue());
+        }
 
         Player player = Bukkit.getPlayer(questProgress.getPlayerUUID());
         if (player != null && player.isOnline()) {
             QPlayer qPlayer = plugin.getPlayerManager().getPlayer(player.getUniqueId());
-            if (qPlayer == null) return;
+            if (qPlayer == null) return true;
 
             plugin.getQuestsLogger().debug("Processing player (singular: " + questProgress.getQuestId() + ") " + qPlayer.getPlayerUUID());
 
-            checkExpiredQuests(qPlayer);
-
             Quest quest = plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+            if (quest == null) return true;
 
-            if (!qPlayer.hasStartedQuest(quest)) return;
+            if (checkExpired(qPlayer, quest)) return true;
+
+            if (!qPlayer.hasStartedQuest(quest)) return true;
 
             if (checkComplete(quest, questProgress)) {
                 qPlayer.completeQuest(quest);
             }
         }
+
+        return true;
     }
 
-    private void processFullCheckQueue() {
-        QuestProgressFile questProgressFile = fullCheckQueue.poll();
-        if (questProgressFile == null) return;
+    /**
+     * Process the next queued quest progress file.
+     *
+     * @return whether a quest progress file has been processed
+     */
+    private boolean processFullCheckQueue() {
+        QuestProgressFile questProgressFile;
+        synchronized (this) {
+            Iterator<Map.Entry<QuestProgressFile, Long>> iterator = fullCheckQueue.entrySet().iterator();
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            Map.Entry<QuestProgressFile, Long> entry = iterator.next();
+            iterator.remove();
+            questProgressFile = entry.getKey();
+            recordLatency(entry.getValue());
+        }
 
         Player player = Bukkit.getPlayer(questProgressFile.getPlayerUUID());
         if (player != null && player.isOnline()) {
             QPlayer qPlayer = plugin.getPlayerManager().getPlayer(player.getUniqueId());
-            if (qPlayer == null) return;
+            if (qPlayer == null) return true;
             plugin.getQuestsLogger().debug("Processing player (full check) " + qPlayer.getPlayerUUID());
 
-            checkExpiredQuests(qPlayer);
-
-            for (QuestProgress questProgress : questProgressFile.getAllQuestProgress()) {
+            // copied as expiring or completing quests may add quest progress
+            for (QuestProgress questProgress : new ArrayList<>(questProgressFile.getAllQuestProgress())) {
                 Quest quest = plugin.getQuestManager().getQuestById(questProgress.getQuestId());
                 if (quest == null) continue;
+                if (checkExpired(qPlayer, quest)) continue;
                 if (!qPlayer.hasStartedQuest(quest)) continue;
 
                 if (checkComplete(quest, questProgress)) {
@@ -119,13 +196,33 @@ public class BukkitQuestCompleter implements QuestCompleter, Runnable {
                 }
             }
         }
+
+        return true;
+    }
+
+    /**
+     * Expire a quest if its time is up, otherwise schedule an expiry check for when it will be.
+     *
+     * @return whether the quest has been expired
+     */
+    private boolean checkExpired(QPlayer qPlayer, Quest quest) {
+        long timeRemaining = qPlayer.getQuestProgressFile().getTimeRemainingFor(quest);
+        if (timeRemaining == 0) {
+            qPlayer.expireQuest(quest);
+            return true;
+        }
+
+        if (timeRemaining > 0) {
+            scheduleExpiryCheck(new ExpiryKey(qPlayer.getPlayerUUID(), quest.getId()), System.currentTimeMillis() + timeRemaining);
+        }
+        return false;
     }
 
     private boolean checkComplete(Quest quest, QuestProgress questProgress) {
         boolean complete = true;
         for (Task task : quest.getTasks()) {
             TaskProgress taskProgress;
-            if ((taskProgress = questProgress.getTaskProgress(task.getId())) == null || !taskProgress.isCompleted()) {
+            if ((taskProgress = questProgress.getTaskProgressOrNull(task)) == null || !taskProgress.isCompleted()) {
                 complete = false;
                 break;
             }
@@ -134,29 +231,99 @@ public class BukkitQuestCompleter implements QuestCompleter, Runnable {
         return complete;
     }
 
+    private synchronized void scheduleExpiryCheck(ExpiryKey key, long deadline) {
+        Long scheduledDeadline = expiryDeadlines.put(key, deadline);
+        if (scheduledDeadline == null || scheduledDeadline != deadline) {
+            expiryQueue.add(new ExpiryCheck(deadline, key));
+        }
+    }
+
+    private void recordLatency(long queuedAt) {
+        long latency = System.nanoTime() - queuedAt;
+        processedCount++;
+        totalLatencyNanos += latency;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+    }
+
     @Override
-    public void queueSingular(@NotNull QuestProgress questProgress) {
+    public synchronized void queueSingular(@NotNull QuestProgress questProgress) {
         Objects.requireNonNull(questProgress, "questProgress cannot be null");
 
-        completionQueue.add(questProgress);
+        completionQueue.putIfAbsent(questProgress, System.nanoTime());
     }
 
     @Override
-    public void queueFullCheck(@NotNull QuestProgressFile questProgressFile) {
+    public synchronized void queueFullCheck(@NotNull QuestProgressFile questProgressFile) {
         Objects.requireNonNull(questProgressFile, "questProgressFile cannot be null");
 
-        fullCheckQueue.add(questProgressFile);
+        fullCheckQueue.putIfAbsent(questProgressFile, System.nanoTime());
+    }
+
+    @Override
+    public void queueExpiryCheck(@NotNull QuestProgress questProgress) {
+        Objects.requireNonNull(questProgress, "questProgress cannot be null");
+
+        Quest quest = plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+        if (quest == null || !quest.isTimeLimitEnabled() || !questProgress.isStarted() || questProgress.getStartedDate() == 0L) {
+            return;
+        }
+
+        long deadline = questProgress.getStartedDate() + TimeUnit.MILLISECONDS.convert(quest.getTimeLimit(), TimeUnit.MINUTES);
+        scheduleExpiryCheck(new ExpiryKey(questProgress.getPlayerUUID(), quest.getId()), deadline);
+    }
+
+    public synchronized List<QuestProgress> getCompletionQueue() {
+        return new ArrayList<>(completionQueue.keySet());
+    }
+
+    public synchronized List<QuestProgressFile> getFullCheckQueue() {
+        return new ArrayList<>(fullCheckQueue.keySet());
+    }
+
+    public synchronized List<UUID> getExpiryCheckQueue() {
+        List<UUID> players = new ArrayList<>(expiryDeadlines.size());
+        for (ExpiryKey key : expiryDeadlines.keySet()) {
+            players.add(key.playerUUID());
+        }
+        return players;
+    }
+
+    public synchronized long getProcessedCount() {
+        return processedCount;
     }
 
-    public List<QuestProgress> getCompletionQueue() {
-        return Collections.unmodifiableList(completionQueue);
+    /**
+     * @return the average time between queueing and processing a check, in nanoseconds
+     */
+    public synchronized long getAverageLatency() {
+        return processedCount == 0 ? 0 : totalLatencyNanos / processedCount;
     }
 
-    public List<QuestProgressFile> getFullCheckQueue() {
-        return Collections.unmodifiableList(fullCheckQueue);
+    /**
+     * @return the longest time between queueing and processing a check, in nanoseconds
+     */
+    public synchronized long getMaxLatency() {
+        return maxLatencyNanos;
     }
 
-    public List<UUID> getExpiredCheckQueue() {
-        return Collections.unmodifiableList(expiredCheckQueue);
+    public int getLastRunProcessedCount() {
+        return lastRunProcessedCount;
+    }
+
+    /**
+     * @return how long the last run took, in nanoseconds
+     */
+    public long getLastRunTime() {
+        return lastRunNanos;
+    }
+
+    private record ExpiryKey(UUID playerUUID, String questId) { }
+
+    private record ExpiryCheck(long deadline, ExpiryKey key) implements Comparable<ExpiryCheck> {
+
+        @Override
+        public int compareTo(ExpiryCheck other) {
+            return Long.compare(deadline, other.deadline);
+        }
     }
 }
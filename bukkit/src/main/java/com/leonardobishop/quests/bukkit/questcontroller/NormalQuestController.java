@@ -31,12 +31,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.UUID;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public class NormalQuestController implements QuestController {
@@ -44,20 +44,27 @@ public class NormalQuestController implements QuestController {
     private final BukkitQuestsPlugin plugin;
     private final BukkitQuestsConfig config;
 
-    private final List<Quest> autoStartQuestCache;
     private final Map<Quest, VaultReward> vaultRewardCache;
+    private final Map<UUID, PlayerState> playerStates;
+    private final long eligibilityCacheTimeMillis;
+
+    private volatile List<Quest> autoStartQuestCache;
 
     public NormalQuestController(BukkitQuestsPlugin plugin) {
         this.plugin = plugin;
         this.config = (BukkitQuestsConfig) plugin.getQuestsConfig();
+        this.autoStartQuestCache = this.findAutoStartQuests();
+        this.vaultRewardCache = new WeakHashMap<>();
+        this.playerStates = new ConcurrentHashMap<>();
+        this.eligibilityCacheTimeMillis = this.config.getInt("options.performance-tweaking.quest-eligibility-cache-time", 100) * 50L;
+    }
 
-        List<Quest> autoStartQuestCache = new ArrayList<>();
+    private List<Quest> findAutoStartQuests() {
+        List<Quest> autoStartQuests = new ArrayList<>();
         for (Quest quest : plugin.getQuestManager().getQuestMap().values()) {
-            if (quest.isAutoStartEnabled()) autoStartQuestCache.add(quest);
+            if (quest.isAutoStartEnabled()) autoStartQuests.add(quest);
         }
-        this.autoStartQuestCache = autoStartQuestCache;
-
-        this.vaultRewardCache = new WeakHashMap<>();
+        return autoStartQuests;
     }
 
     @Override
@@ -123,6 +130,10 @@ public class NormalQuestController implements QuestController {
                 qPlayer.trackQuest(quest);
             }
             questProgress.setCompleted(false);
+            qPlayer.getActiveTaskIndex().addQuest(quest, questProgress);
+            if (quest.isTimeLimitEnabled()) {
+                plugin.getQuestCompleter().queueExpiryCheck(questProgress);
+            }
             if (player != null) {
                 QItemStack qItemStack = plugin.getQItemStackRegistry().getQuestItemStack(quest);
                 String displayName = qItemStack.getName();
@@ -160,6 +171,24 @@ public class NormalQuestController implements QuestController {
 
     @Override
     public @NotNull QuestStartResult canPlayerStartQuest(final @NotNull QPlayer qPlayer, final @NotNull Quest quest) {
+        final PlayerState playerState = this.getPlayerState(qPlayer);
+
+        final QuestStartResult cachedResult = playerState.startResults.get(quest);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final QuestStartResult result = this.computeStartResult(qPlayer, quest, playerState, true);
+
+        // the cooldown runs out with time rather than with a state change
+        if (result != QuestStartResult.QUEST_COOLDOWN) {
+            playerState.startResults.put(quest, result);
+        }
+
+        return result;
+    }
+
+    private @NotNull QuestStartResult computeStartResult(final @NotNull QPlayer qPlayer, final @NotNull Quest quest, final @NotNull PlayerState playerState, final boolean checkLimit) {
         final QuestProgressFile questProgressFile = qPlayer.getQuestProgressFile();
         final QuestProgress questProgress = questProgressFile.getQuestProgressOrNull(quest);
 
@@ -210,15 +239,8 @@ public class NormalQuestController implements QuestController {
             return QuestStartResult.QUEST_ALREADY_STARTED;
         }
 
-        if (quest.doesCountTowardsLimit()) {
-            final Set<Quest> startedQuests = this.getStartedQuestsForPlayer(qPlayer);
-            int questLimitCount = 0;
-
-            for (final Quest startedQuest : startedQuests) {
-                if (startedQuest.doesCountTowardsLimit()) {
-                    questLimitCount++;
-                }
-            }
+        if (checkLimit && quest.doesCountTowardsLimit()) {
+            final int questLimitCount = this.getStartedQuestCountTowardsLimit(qPlayer, playerState);
 
             if (questLimitCount >= this.config.getQuestLimit(player)) {
                 return QuestStartResult.QUEST_LIMIT_REACHED;
@@ -241,9 +263,11 @@ public class NormalQuestController implements QuestController {
             taskProgress.setCompleted(false);
             taskProgress.setProgress(null);
         }
+        boolean completedBefore = questProgress.isCompletedBefore();
         questProgress.setCompleted(true);
         questProgress.setCompletedBefore(true);
         questProgress.setCompletionDate(System.currentTimeMillis());
+        qPlayer.getActiveTaskIndex().removeQuest(quest);
         Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
         if (player != null) {
             QItemStack qItemStack = plugin.getQItemStackRegistry().getQuestItemStack(quest);
@@ -277,6 +301,18 @@ public class NormalQuestController implements QuestController {
                 Chat.send(player, this.plugin.applyPlayerAndPAPI(BukkitQuestsPlugin.PAPIType.QUESTS, player, s), true);
             }
             SoundUtils.playSoundForPlayer(player, plugin.getQuestsConfig().getString("options.sounds.quest-complete"));
+            if (!completedBefore) {
+                // only the quests requiring this one need to be checked
+                for (Quest unlockedQuest : qPlayer.getQuestProgressFile().getRequirementProgress().getQuestsUnlockedBy(quest)) {
+                    if (!this.isUnlockVisible(qPlayer, unlockedQuest)) {
+                        continue;
+                    }
+
+                    QItemStack unlockedQItemStack = plugin.getQItemStackRegistry().getQuestItemStack(unlockedQuest);
+                    String unlockedDisplayName = unlockedQItemStack.getName();
+                    Messages.QUEST_UNLOCK.send(player, "{quest}", Chat.legacyStrip(unlockedDisplayName), "{questcolored}", unlockedDisplayName);
+                }
+            }
         }
         if (this.config.getBoolean("options.allow-quest-track") && this.config.getBoolean("options.quest-autotrack")) {
             this.trackNextQuest(qPlayer, quest);
@@ -284,6 +320,34 @@ public class NormalQuestController implements QuestController {
         return true;
     }
 
+    /**
+     * Checks whether a player should be told that a quest has been unlocked, which is not the case if they cannot see
+     * or start it anyway, or have already completed it.
+     */
+    private boolean isUnlockVisible(QPlayer qPlayer, Quest quest) {
+        if (quest.isHidden()) {
+            return false;
+        }
+
+        String categoryId = quest.getCategoryId();
+        if (categoryId != null) {
+            Category category = this.plugin.getQuestManager().getCategoryById(categoryId);
+            if (category != null && category.isHidden()) {
+                return false;
+            }
+        }
+
+        QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressOrNull(quest);
+        if (questProgress != null && questProgress.isCompletedBefore()) {
+            return false;
+        }
+
+        QuestStartResult result = this.canPlayerStartQuest(qPlayer, quest);
+        return result != QuestStartResult.QUEST_NO_PERMISSION
+                && result != QuestStartResult.NO_PERMISSION_FOR_CATEGORY
+                && result != QuestStartResult.QUEST_ALREADY_COMPLETED;
+    }
+
     @Override
     public boolean hasPlayerStartedQuest(QPlayer qPlayer, Quest quest) {
         return quest.isAutoStartEnabled() || config.getBoolean("options.quest-autostart")
@@ -291,18 +355,86 @@ public class NormalQuestController implements QuestController {
                 : qPlayer.getQuestProgressFile().hasQuestStarted(quest);
     }
 
-    private void resetQuest(QuestProgress questProgress) {
+    @Override
+    public int getEffectiveStartedQuestCount(final @NotNull QPlayer qPlayer) {
+        final PlayerState playerState = this.getPlayerState(qPlayer);
+
+        int count = playerState.effectiveStartedCount;
+        if (count != -1) {
+            return count;
+        }
+
+        if (config.getBoolean("options.quest-autostart")) {
+            // every quest may be started automatically
+            count = 0;
+            for (Quest quest : plugin.getQuestManager().getQuestMap().values()) {
+                if (hasPlayerStartedQuest(qPlayer, quest)) {
+                    count++;
+                }
+            }
+        } else {
+            final QuestProgressFile questProgressFile = qPlayer.getQuestProgressFile();
+            count = questProgressFile.getStatistics().getStartedCount();
+
+            // autostart quests are started regardless of their progress
+            for (Quest quest : autoStartQuestCache) {
+                if (questProgressFile.hasQuestStarted(quest)) {
+                    count--;
+                }
+
+                if (hasPlayerStartedQuest(qPlayer, quest)) {
+                    count++;
+                }
+            }
+        }
+
+        playerState.effectiveStartedCount = count;
+        return count;
+    }
+
+    @Override
+    public void invalidateCaches() {
+        this.autoStartQuestCache = this.findAutoStartQuests();
+        this.playerStates.clear();
+    }
+
+    @Override
+    public void invalidateCaches(final @NotNull UUID playerUUID) {
+        this.playerStates.remove(playerUUID);
+    }
+
+    /**
+     * Gets the cached state of a player, or a new empty one if the quest state of the player has changed since it
+     * has been created or it has become too old. The latter makes sure changes of anything not observable by the
+     * controller, such as permissions changed without any event, are eventually picked up.
+     */
+    private @NotNull PlayerState getPlayerState(final @NotNull QPlayer qPlayer) {
+        final int stateVersion = qPlayer.getQuestProgressFile().getStateVersion();
+        final long now = System.currentTimeMillis();
+
+        final PlayerState playerState = this.playerStates.get(qPlayer.getPlayerUUID());
+        if (playerState != null && playerState.stateVersion == stateVersion && now - playerState.createdAt < this.eligibilityCacheTimeMillis) {
+            return playerState;
+        }
+
+        final PlayerState newPlayerState = new PlayerState(stateVersion, now);
+        this.playerStates.put(qPlayer.getPlayerUUID(), newPlayerState);
+        return newPlayerState;
+    }
+
+    private void resetQuest(QPlayer qPlayer, Quest quest, QuestProgress questProgress) {
         questProgress.setStarted(false);
         questProgress.setStartedDate(System.currentTimeMillis());
         for (TaskProgress taskProgress : questProgress.getTaskProgresses()) {
             taskProgress.setCompleted(false);
             taskProgress.setProgress(null);
         }
+        qPlayer.getActiveTaskIndex().removeQuest(quest);
     }
 
     @Override
     public boolean cancelQuestForPlayer(QPlayer qPlayer, Quest quest) {
-        QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgress(quest);
+        QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressView(quest);
         Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
         if (!questProgress.isStarted()) {
             if (player != null) {
@@ -314,7 +446,7 @@ public class NormalQuestController implements QuestController {
             Chat.send(player, this.plugin.applyPlayerAndPAPI(BukkitQuestsPlugin.PAPIType.QUESTS, player, Messages.QUEST_CANCEL_NOTCANCELLABLE.getMessage()), true);
             return false;
         }
-        resetQuest(questProgress);
+        resetQuest(qPlayer, quest, questProgress);
         if (player != null) {
             QItemStack qItemStack = plugin.getQItemStackRegistry().getQuestItemStack(quest);
             String displayName = qItemStack.getName();
@@ -343,12 +475,12 @@ public class NormalQuestController implements QuestController {
 
     @Override
     public boolean expireQuestForPlayer(QPlayer qPlayer, Quest quest) {
-        QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgress(quest);
+        QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgressView(quest);
         Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
         if (!questProgress.isStarted()) {
             return false;
         }
-        resetQuest(questProgress);
+        resetQuest(qPlayer, quest, questProgress);
         if (player != null) {
             QItemStack qItemStack = plugin.getQItemStackRegistry().getQuestItemStack(quest);
             String displayName = qItemStack.getName();
@@ -421,25 +553,30 @@ public class NormalQuestController implements QuestController {
         Chat.send(player, this.plugin.applyPlayerAndPAPI(BukkitQuestsPlugin.PAPIType.QUESTS, player, Messages.QUEST_TRACK.getMessage().replace("{questcolored}", displayName).replace("{quest}", displayNameStripped)), true);
     }
 
-    private Set<Quest> getStartedQuestsForPlayer(QPlayer qPlayer) {
-        Set<Quest> startedQuests = new HashSet<>();
-        if (config.getBoolean("options.quest-autostart")) {
-            for (Quest quest : plugin.getQuestManager().getQuestMap().values()) {
-                QuestStartResult response = canPlayerStartQuest(qPlayer, quest);
-                if (response == QuestStartResult.QUEST_SUCCESS || response == QuestStartResult.QUEST_ALREADY_STARTED) {
-                    startedQuests.add(quest);
-                }
+    private int getStartedQuestCountTowardsLimit(QPlayer qPlayer, PlayerState playerState) {
+        int count = playerState.startedTowardsLimitCount;
+        if (count != -1) {
+            return count;
+        }
+
+        final QuestProgressFile questProgressFile = qPlayer.getQuestProgressFile();
+        count = questProgressFile.getStatistics().getStartedTowardsLimitCount();
+
+        for (Quest quest : autoStartQuestCache) {
+            // manually started ones have been already counted
+            if (!quest.doesCountTowardsLimit() || questProgressFile.hasQuestStarted(quest)) {
+                continue;
             }
-        } else {
-            startedQuests.addAll(qPlayer.getQuestProgressFile().getStartedQuests());
-            for (Quest quest : autoStartQuestCache) {
-                QuestStartResult response = canPlayerStartQuest(qPlayer, quest);
-                if (response == QuestStartResult.QUEST_SUCCESS || response == QuestStartResult.QUEST_ALREADY_STARTED) {
-                    startedQuests.add(quest);
-                }
+
+            // ignore the limit here, otherwise autostart quests counting towards it would keep checking each other
+            QuestStartResult response = computeStartResult(qPlayer, quest, playerState, false);
+            if (response == QuestStartResult.QUEST_SUCCESS || response == QuestStartResult.QUEST_ALREADY_STARTED) {
+                count++;
             }
         }
-        return startedQuests;
+
+        playerState.startedTowardsLimitCount = count;
+        return count;
     }
 
     private void trackNextQuest(final @NotNull QPlayer qPlayer, final @Nullable Quest previousQuest) {
@@ -469,4 +606,25 @@ public class NormalQuestController implements QuestController {
             qPlayer.trackQuest(nextQuest);
         }
     }
+
+    /**
+     * Start results and counts of a player derived from a specific state version of their quest progress file.
+     */
+    private static final class PlayerState {
+
+        private final int stateVersion;
+        private final long createdAt;
+        private final Map<Quest, QuestStartResult> startResults;
+
+        private volatile int startedTowardsLimitCount;
+        private volatile int effectiveStartedCount;
+
+        private PlayerState(int stateVersion, long createdAt) {
+            this.stateVersion = stateVersion;
+            this.createdAt = createdAt;
+            this.startResults = new ConcurrentHashMap<>();
+            this.startedTowardsLimitCount = -1;
+            this.effectiveStartedCount = -1;
+        }
+    }
 }
@@ -9,7 +9,6 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 public final class QuestsAutoSaveRunnable extends WrappedRunnable {
 
@@ -91,21 +90,17 @@ public final class QuestsAutoSaveRunnable extends WrappedRunnable {
                     + "options.performance-tweaking.quest-autosave-interval setting.");
         }
 
-        // force save leftovers
+        // force save leftovers, there is no need to wait for them as the save
+        // queue coalesces them with any save scheduled by the next autosave
         for (int i = 0; i < size; i++) {
             final UUID uniqueId = this.saveDeque.removeFirst();
-
-            // joining is evil, but we can assume now that all was saved properly
-            // which makes us able to just continue and schedule another autosave
-            this.save(uniqueId).join();
+            this.save(uniqueId);
         }
     }
 
-    private @NotNull CompletableFuture<Void> save(final @NotNull UUID uniqueId) {
+    private void save(final @NotNull UUID uniqueId) {
         if (this.plugin.getServer().getPlayer(uniqueId) != null) {
-            return this.plugin.getPlayerManager().savePlayer(uniqueId);
-        } else {
-            return CompletableFuture.completedFuture(null);
+            this.plugin.getPlayerManager().savePlayer(uniqueId);
         }
     }
 
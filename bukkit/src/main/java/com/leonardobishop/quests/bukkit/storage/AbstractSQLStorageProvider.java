@@ -0,0 +1,716 @@
+package com.leonardobishop.quests.bukkit.storage;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.common.player.QPlayerData;
+import com.leonardobishop.quests.common.player.QPlayerPreferences;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
+import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.Task;
+import com.leonardobishop.quests.common.storage.StorageProvider;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Base of the storage providers backed by a relational database. It owns the table schema, the schema migrations,
+ * the batched upserts and the streamed bulk loads, while the implementations provide the data sources and the
+ * statements which differ between the SQL dialects.
+ */
+public abstract class AbstractSQLStorageProvider implements StorageProvider {
+
+    // Table creation SQL
+    private static final String CREATE_TABLE_QUEST_PROGRESS =
+            "CREATE TABLE IF NOT EXISTS `{prefix}quest_progress` (" +
+                    " `uuid`              VARCHAR(36)  NOT NULL," +
+                    " `quest_id`          VARCHAR(50)  NOT NULL," +
+                    " `started`           BOOL         NOT NULL," +
+                    " `started_date`      BIGINT       NOT NULL," +
+                    " `completed`         BOOL         NOT NULL," +
+                    " `completed_before`  BOOL         NOT NULL," +
+                    " `completion_date`   BIGINT       NOT NULL," +
+                    " PRIMARY KEY (`uuid`, `quest_id`));";
+    private static final String CREATE_TABLE_TASK_PROGRESS =
+            "CREATE TABLE IF NOT EXISTS `{prefix}task_progress` (" +
+                    " `uuid`       VARCHAR(36)  NOT NULL," +
+                    " `quest_id`   VARCHAR(50)  NOT NULL," +
+                    " `task_id`    VARCHAR(50)  NOT NULL," +
+                    " `completed`  BOOL         NOT NULL," +
+                    " `progress`   VARCHAR(64)  NULL," +
+                    " `data_type`  VARCHAR(10)  NULL," +
+                    " PRIMARY KEY (`uuid`, `quest_id`, `task_id`));";
+    private static final String CREATE_TABLE_PLAYER_PREFERENCES =
+            "CREATE TABLE IF NOT EXISTS `{prefix}player_preferences` (" +
+                    " `uuid`           CHAR(36)      NOT NULL," +
+                    " `preference_id`  VARCHAR(255)  NOT NULL," +
+                    " `value`          VARCHAR(64)   NULL," +
+                    " `data_type`      VARCHAR(10)   NULL," +
+                    " PRIMARY KEY (`uuid`, `preference_id`));";
+    private static final String CREATE_TABLE_DATABASE_INFORMATION =
+            "CREATE TABLE IF NOT EXISTS `{prefix}database_information` (" +
+                    " `key`    VARCHAR(255)  NOT NULL," +
+                    " `value`  VARCHAR(255)  NOT NULL," +
+                    " PRIMARY KEY (`key`));";
+
+    // Selection SQL
+    private static final String SELECT_PLAYER_QUEST_PROGRESS =
+            "SELECT quest_id, started, started_date, completed, completed_before, completion_date FROM `{prefix}quest_progress` WHERE uuid = ?;";
+    private static final String SELECT_PLAYER_TASK_PROGRESS =
+            "SELECT quest_id, task_id, completed, progress, data_type FROM `{prefix}task_progress` WHERE uuid = ?;";
+    private static final String SELECT_ALL_QUEST_PROGRESS =
+            "SELECT uuid, quest_id, started, started_date, completed, completed_before, completion_date FROM `{prefix}quest_progress` ORDER BY uuid;";
+    private static final String SELECT_ALL_TASK_PROGRESS =
+            "SELECT uuid, quest_id, task_id, completed, progress, data_type FROM `{prefix}task_progress` ORDER BY uuid;";
+
+    protected final BukkitQuestsPlugin plugin;
+    protected final ConfigurationSection config;
+
+    private HikariDataSource writeDataSource;
+    private HikariDataSource readDataSource;
+    private Function<String, String> prefixer;
+    private boolean validateQuests;
+    private int batchChunkSize;
+    private int fetchSize;
+    private boolean fault;
+
+    protected AbstractSQLStorageProvider(final @NotNull BukkitQuestsPlugin plugin, final @Nullable ConfigurationSection config) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.config = Objects.requireNonNullElseGet(config, YamlConfiguration::new);
+        this.fault = true;
+    }
+
+    /**
+     * Creates the data source used for every write to the database.
+     *
+     * @return the data source
+     * @throws IOException if the data source cannot be created
+     */
+    protected abstract @NotNull HikariDataSource createWriteDataSource() throws IOException;
+
+    /**
+     * Creates the data source used for every read from the database. By default, reads share the write data source.
+     *
+     * @param writeDataSource the data source used for writes
+     * @return the data source
+     * @throws IOException if the data source cannot be created
+     */
+    protected @NotNull HikariDataSource createReadDataSource(final @NotNull HikariDataSource writeDataSource) throws IOException {
+        return writeDataSource;
+    }
+
+    /**
+     * @return the quest progress upsert statement, binding the inserted values followed by the updated values
+     */
+    protected abstract @NotNull String getUpsertQuestProgressSql();
+
+    /**
+     * @return the task progress upsert statement, binding the inserted values followed by the updated values
+     */
+    protected abstract @NotNull String getUpsertTaskProgressSql();
+
+    /**
+     * @return the database information upsert statement, binding the key, the inserted value and the updated value
+     */
+    protected abstract @NotNull String getUpsertDatabaseInformationSql();
+
+    /**
+     * @return the query returning a row only if the quest progress table has the {@code started_date} column
+     */
+    protected abstract @NotNull String getStartedDateColumnSql();
+
+    /**
+     * @return the fetch size used by the bulk loads when none is configured
+     */
+    protected abstract int getDefaultFetchSize();
+
+    /**
+     * Applies the connection pool timeouts and the custom data source properties configured for the provider.
+     *
+     * @param hikariConfig the hikari config
+     */
+    protected void applyConnectionPoolSettings(final @NotNull HikariConfig hikariConfig) {
+        // set pool timeouts related properties
+        final long connectionTimeoutMs = this.config.getLong("connection-pool-settings.connection-timeout", 5000L);
+        final long idleTimeoutMs = this.config.getLong("connection-pool-settings.idle-timeout", 600000L);
+        final long keepaliveTimeMs = this.config.getLong("connection-pool-settings.keepalive-time", 0L);
+        final long maxLifetimeMs = this.config.getLong("connection-pool-settings.maximum-lifetime", 1800000L);
+        hikariConfig.setConnectionTimeout(connectionTimeoutMs);
+        hikariConfig.setIdleTimeout(idleTimeoutMs);
+        hikariConfig.setKeepaliveTime(keepaliveTimeMs);
+        hikariConfig.setMaxLifetime(maxLifetimeMs);
+
+        // Add additional custom data source properties
+        final ConfigurationSection propertiesSection = this.config.getConfigurationSection("connection-pool-settings.data-source-properties");
+        if (propertiesSection != null) {
+            final Set<String> properties = propertiesSection.getKeys(false);
+
+            for (final String propertyName : properties) {
+                final Object propertyValue = propertiesSection.get(propertyName);
+                hikariConfig.addDataSourceProperty(propertyName, propertyValue);
+            }
+        }
+    }
+
+    @Override
+    public final void init() throws IOException {
+        // set table prefixer
+        final String prefix = this.config.getString("table-prefix", "quests_");
+        this.prefixer = s -> s.replace("{prefix}", prefix);
+
+        // set whether quests ids should be validated
+        this.validateQuests = this.plugin.getConfig().getBoolean("options.verify-quest-exists-on-load", true);
+
+        // set bulk operation related properties
+        this.batchChunkSize = Math.max(1, this.config.getInt("bulk-operation-settings.batch-chunk-size", 500));
+        this.fetchSize = this.config.getInt("bulk-operation-settings.fetch-size", this.getDefaultFetchSize());
+
+        // initialize data sources
+        this.writeDataSource = this.createWriteDataSource();
+        this.readDataSource = this.createReadDataSource(this.writeDataSource);
+
+        // create and upgrade default tables
+        try (final Connection conn = this.writeDataSource.getConnection()) {
+            try (final Statement stmt = conn.createStatement()) {
+                this.plugin.getQuestsLogger().debug("Creating default tables.");
+
+                stmt.addBatch(this.prefixer.apply(CREATE_TABLE_QUEST_PROGRESS));
+                stmt.addBatch(this.prefixer.apply(CREATE_TABLE_TASK_PROGRESS));
+                stmt.addBatch(this.prefixer.apply(CREATE_TABLE_PLAYER_PREFERENCES));
+                stmt.addBatch(this.prefixer.apply(CREATE_TABLE_DATABASE_INFORMATION));
+
+                stmt.executeBatch();
+            }
+
+            final DatabaseMigrator migrator = new DatabaseMigrator(this, this.plugin, this.prefixer, conn);
+            final int currentSchemaVersion = migrator.getCurrentSchemaVersion();
+
+            // upgrade the table only if current schema version is lower than the latest
+            if (currentSchemaVersion < DatabaseMigrator.LATEST_SCHEMA_VERSION) {
+                this.plugin.getLogger().info("Automatically upgrading database schema from version " + currentSchemaVersion + " to " + DatabaseMigrator.LATEST_SCHEMA_VERSION + ".");
+                migrator.upgrade(currentSchemaVersion);
+            }
+        } catch (final SQLException e) {
+            throw new IOException("Failed to create or upgrade default tables", e);
+        }
+
+        this.fault = false;
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.readDataSource != null && this.readDataSource != this.writeDataSource) {
+            this.readDataSource.close();
+        }
+
+        if (this.writeDataSource != null) {
+            this.writeDataSource.close();
+        }
+    }
+
+    @Override
+    public @Nullable QPlayerData loadPlayerData(final @NotNull UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid cannot be null");
+
+        if (this.fault) {
+            return null;
+        }
+
+        final String uuidString = uuid.toString();
+        final QuestProgressFile questProgressFile = new QuestProgressFile(this.plugin, uuid);
+
+        try (final Connection conn = this.readDataSource.getConnection()) {
+            this.plugin.getQuestsLogger().debug("Querying player data for " + uuidString + ".");
+
+            final Map<String, QuestProgress> questProgressMap = new HashMap<>();
+
+            try (final PreparedStatement stmt = conn.prepareStatement(this.prefixer.apply(SELECT_PLAYER_QUEST_PROGRESS))) {
+                stmt.setString(1, uuidString);
+
+                try (final ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        final QuestProgress questProgress = this.readQuestProgress(rs, 0, uuid);
+
+                        if (questProgress != null) {
+                            questProgressMap.put(questProgress.getQuestId(), questProgress);
+                        }
+                    }
+                }
+            }
+
+            try (final PreparedStatement stmt = conn.prepareStatement(this.prefixer.apply(SELECT_PLAYER_TASK_PROGRESS))) {
+                stmt.setString(1, uuidString);
+
+                try (final ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        this.readTaskProgress(rs, 0, uuid, uuidString, questProgressMap);
+                    }
+                }
+            }
+
+            final Collection<QuestProgress> allQuestProgress = questProgressMap.values();
+
+            for (final QuestProgress questProgress : allQuestProgress) {
+                questProgressFile.addQuestProgress(questProgress);
+            }
+        } catch (final SQLException e) {
+            this.plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + uuidString + ".", e);
+            return null;
+        }
+
+        return new QPlayerData(uuid, new QPlayerPreferences(null), questProgressFile); // TODO player preferences
+    }
+
+    private @Nullable QuestProgress readQuestProgress(final @NotNull ResultSet rs, final int offset, final @NotNull UUID uuid) throws SQLException {
+        final String questId = rs.getString(offset + 1);
+
+        if (this.validateQuests) {
+            final Quest quest = this.plugin.getQuestManager().getQuestById(questId);
+
+            if (quest == null) {
+                return null;
+            }
+        }
+
+        final boolean started = rs.getBoolean(offset + 2);
+        final long startedDate = rs.getLong(offset + 3);
+        final boolean completed = rs.getBoolean(offset + 4);
+        final boolean completedBefore = rs.getBoolean(offset + 5);
+        final long completionDate = rs.getLong(offset + 6);
+
+        return new QuestProgress(this.plugin, questId, uuid, started, startedDate, completed, completedBefore, completionDate);
+    }
+
+    private void readTaskProgress(final @NotNull ResultSet rs, final int offset, final @NotNull UUID uuid, final @NotNull String uuidString, final @NotNull Map<String, QuestProgress> questProgressMap) throws SQLException {
+        final String questId = rs.getString(offset + 1);
+
+        final QuestProgress questProgress = questProgressMap.get(questId);
+        if (questProgress == null) {
+            return;
+        }
+
+        final String taskId = rs.getString(offset + 2);
+
+        if (this.validateQuests) {
+            final Quest quest = this.plugin.getQuestManager().getQuestById(questId);
+            if (quest == null) {
+                return;
+            }
+
+            final Task task = quest.getTaskById(taskId);
+            if (task == null) {
+                return;
+            }
+        }
+
+        final boolean completed = rs.getBoolean(offset + 3);
+        final String progressString = rs.getString(offset + 4);
+        final String dataTypeString = rs.getString(offset + 5);
+
+        // maybe make an enum and use Enum#valueOf & then make a switch for enum instead?
+        // not sure about performance impact, probably just a small gain - need to benchmark it
+        final Object progress;
+        try {
+            progress = switch (dataTypeString) {
+                case null -> null;
+                case "int" -> Integer.parseInt(progressString);
+                case "float" -> Float.parseFloat(progressString);
+                case "long" -> Long.parseLong(progressString);
+                case "double" -> Double.parseDouble(progressString);
+                case "BigInteger" -> new BigInteger(progressString);
+                case "BigDecimal" -> new BigDecimal(progressString);
+                default -> throw new IllegalArgumentException("Unexpected data type: '" + dataTypeString + "'");
+            };
+        } catch (final NumberFormatException e) {
+            this.plugin.getLogger().log(Level.WARNING, "Cannot retrieve progress for task '" + taskId
+                    + "' in quest '" + questId + "' for player " + uuidString + " since progress string '"
+                    + progressString + "' is malformed!", e);
+            return;
+        } catch (final IllegalArgumentException e) {
+            this.plugin.getLogger().log(Level.WARNING, "Cannot retrieve progress for task '" + taskId
+                    + "' in quest '" + questId + "' for player " + uuidString + " since data type string '"
+                    + dataTypeString + "' is unknown!", e);
+            return;
+        }
+
+        final TaskProgress taskProgress = new TaskProgress(questProgress, taskId, uuid, progress, completed);
+        questProgress.addTaskProgress(taskProgress);
+    }
+
+    @Override
+    public boolean savePlayerData(final @NotNull QPlayerData playerData) {
+        Objects.requireNonNull(playerData, "playerData cannot be null");
+
+        return this.savePlayerData(List.of(playerData), false, playerData.playerUUID().toString());
+    }
+
+    @Override
+    public boolean savePlayerDataDelta(final @NotNull QPlayerData deltaPlayerData) {
+        Objects.requireNonNull(deltaPlayerData, "deltaPlayerData cannot be null");
+
+        return this.savePlayerData(List.of(deltaPlayerData), true, deltaPlayerData.playerUUID().toString());
+    }
+
+    @Override
+    public boolean saveAllPlayerData(final @NotNull List<QPlayerData> allPlayerData) {
+        Objects.requireNonNull(allPlayerData, "allPlayerData cannot be null");
+
+        return this.savePlayerData(allPlayerData, false, allPlayerData.size() + " players");
+    }
+
+    @Override
+    public boolean saveAllPlayerDataDelta(final @NotNull List<QPlayerData> allDeltaPlayerData) {
+        Objects.requireNonNull(allDeltaPlayerData, "allDeltaPlayerData cannot be null");
+
+        return this.savePlayerData(allDeltaPlayerData, true, allDeltaPlayerData.size() + " players");
+    }
+
+    private boolean savePlayerData(final @NotNull List<QPlayerData> allPlayerData, final boolean delta, final @NotNull String subject) {
+        if (this.fault) {
+            return false;
+        }
+
+        if (allPlayerData.isEmpty()) {
+            return true;
+        }
+
+        try (final Connection connection = this.writeDataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (final PreparedStatement questStmt = connection.prepareStatement(this.prefixer.apply(this.getUpsertQuestProgressSql()));
+                 final PreparedStatement taskStmt = connection.prepareStatement(this.prefixer.apply(this.getUpsertTaskProgressSql()))) {
+
+                this.plugin.getQuestsLogger().debug("Saving player data for " + subject + ".");
+
+                int batchedPlayers = 0;
+
+                for (final QPlayerData playerData : allPlayerData) {
+                    this.addPlayerDataBatch(questStmt, taskStmt, playerData, delta);
+
+                    // execute in chunks so the batches do not grow unbounded
+                    if (++batchedPlayers % this.batchChunkSize == 0) {
+                        questStmt.executeBatch();
+                        taskStmt.executeBatch();
+                    }
+                }
+
+                questStmt.executeBatch();
+                taskStmt.executeBatch();
+
+                connection.commit();
+                return true;
+            } catch (final SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException e) {
+            this.plugin.getLogger().log(Level.SEVERE, "Failed to save player data for " + subject + ".", e);
+            return false;
+        }
+    }
+
+    private void addPlayerDataBatch(final @NotNull PreparedStatement questStmt, final @NotNull PreparedStatement taskStmt, final @NotNull QPlayerData playerData, final boolean delta) throws SQLException {
+        final String uuidString = playerData.playerUUID().toString(); // call it only once
+        final QuestProgressFile questProgressFile = playerData.questProgressFile();
+
+        for (final QuestProgress questProgress : questProgressFile.getAllQuestProgress()) {
+            // every quest progress in a delta has been modified
+            if (!delta && !questProgress.isModified()) {
+                continue;
+            }
+
+            final String questId = questProgress.getQuestId();
+
+            questStmt.setString(1, uuidString);
+            questStmt.setString(2, questId);
+            questStmt.setBoolean(3, questProgress.isStarted());
+            questStmt.setLong(4, questProgress.getStartedDate());
+            questStmt.setBoolean(5, questProgress.isCompleted());
+            questStmt.setBoolean(6, questProgress.isCompletedBefore());
+            questStmt.setLong(7, questProgress.getCompletionDate());
+            questStmt.setBoolean(8, questProgress.isStarted());
+            questStmt.setLong(9, questProgress.getStartedDate());
+            questStmt.setBoolean(10, questProgress.isCompleted());
+            questStmt.setBoolean(11, questProgress.isCompletedBefore());
+            questStmt.setLong(12, questProgress.getCompletionDate());
+            questStmt.addBatch();
+
+            for (final TaskProgress taskProgress : questProgress.getTaskProgresses()) {
+                final String taskId = taskProgress.getTaskId();
+
+                final String progressString;
+                final String dataTypeString;
+
+                switch (taskProgress.getProgressType()) {
+                    case NONE -> {
+                        progressString = null;
+                        dataTypeString = null;
+                    }
+                    case INTEGER -> {
+                        progressString = Integer.toString(taskProgress.getIntegerProgress());
+                        dataTypeString = "int";
+                    }
+                    case LONG -> {
+                        progressString = Long.toString(taskProgress.getLongProgress());
+                        dataTypeString = "long";
+                    }
+                    case FLOAT -> {
+                        progressString = Float.toString((float) taskProgress.getDecimalProgress());
+                        dataTypeString = "float";
+                    }
+                    case DOUBLE -> {
+                        progressString = Double.toString(taskProgress.getDecimalProgress());
+                        dataTypeString = "double";
+                    }
+                    default -> {
+                        final Object progress = taskProgress.getProgress();
+
+                        switch (progress) {
+                            case BigInteger bi -> {
+                                progressString = bi.toString();
+                                dataTypeString = "BigInteger";
+                            }
+                            case BigDecimal bd -> {
+                                progressString = bd.toString();
+                                dataTypeString = "BigDecimal";
+                            }
+                            case null, default -> {
+                                this.plugin.getLogger().warning("Cannot retrieve progress for task '" + taskId
+                                        + "' in quest '" + questId + "' for player " + uuidString + " since a valid encoder for '"
+                                        + (progress != null ? progress.getClass().getName() : null) + "' class has not been found!");
+                                continue;
+                            }
+                        }
+                    }
+                }
+
+                taskStmt.setString(1, uuidString);
+                taskStmt.setString(2, questId);
+                taskStmt.setString(3, taskId);
+                taskStmt.setBoolean(4, taskProgress.isCompleted());
+                taskStmt.setString(5, progressString);
+                taskStmt.setString(6, dataTypeString);
+                taskStmt.setBoolean(7, taskProgress.isCompleted());
+                taskStmt.setString(8, progressString);
+                taskStmt.setString(9, dataTypeString);
+                taskStmt.addBatch();
+            }
+        }
+    }
+
+    @Override
+    public @NotNull List<QPlayerData> loadAllPlayerData() {
+        if (this.fault) {
+            return Collections.emptyList();
+        }
+
+        // rows are ordered by uuid, so consecutive rows of the same player skip the map lookup
+        final Map<String, PlayerRows> playerRowsMap = new LinkedHashMap<>();
+
+        try (final Connection conn = this.readDataSource.getConnection()) {
+            this.plugin.getQuestsLogger().debug("Querying all player data.");
+
+            try (final PreparedStatement stmt = this.prepareStreamingStatement(conn, SELECT_ALL_QUEST_PROGRESS);
+                 final ResultSet rs = stmt.executeQuery()) {
+                PlayerRows playerRows = null;
+
+                while (rs.next()) {
+                    // Get it by index to speed up it a little bit
+                    final String uuidString = rs.getString(1);
+
+                    if (playerRows == null || !playerRows.uuidString.equals(uuidString)) {
+                        playerRows = playerRowsMap.get(uuidString);
+
+                        if (playerRows == null) {
+                            final UUID uuid;
+                            try {
+                                uuid = UUID.fromString(uuidString);
+                            } catch (final IllegalArgumentException e) {
+                                this.plugin.getLogger().log(Level.SEVERE, "Failed to parse player UUID: '" + uuidString + "'.", e);
+                                continue;
+                            }
+
+                            playerRows = new PlayerRows(uuid, uuidString);
+                            playerRowsMap.put(uuidString, playerRows);
+                        }
+                    }
+
+                    final QuestProgress questProgress = this.readQuestProgress(rs, 1, playerRows.uuid);
+
+                    if (questProgress != null) {
+                        playerRows.questProgressMap.put(questProgress.getQuestId(), questProgress);
+                    }
+                }
+            }
+
+            // a streaming result set must be closed before another statement can be executed
+            try (final PreparedStatement stmt = this.prepareStreamingStatement(conn, SELECT_ALL_TASK_PROGRESS);
+                 final ResultSet rs = stmt.executeQuery()) {
+                PlayerRows playerRows = null;
+
+                while (rs.next()) {
+                    final String uuidString = rs.getString(1);
+
+                    if (playerRows == null || !playerRows.uuidString.equals(uuidString)) {
+                        playerRows = playerRowsMap.get(uuidString);
+
+                        // task progress without any quest progress would be ignored anyway
+                        if (playerRows == null) {
+                            continue;
+                        }
+                    }
+
+                    this.readTaskProgress(rs, 1, playerRows.uuid, uuidString, playerRows.questProgressMap);
+                }
+            }
+        } catch (final SQLException e) {
+            this.plugin.getLogger().log(Level.SEVERE, "Failed to load all player data.", e);
+            return Collections.emptyList();
+        }
+
+        final List<QPlayerData> allPlayerData = new ArrayList<>(playerRowsMap.size());
+
+        for (final PlayerRows playerRows : playerRowsMap.values()) {
+            final QuestProgressFile questProgressFile = new QuestProgressFile(this.plugin, playerRows.uuid);
+
+            for (final QuestProgress questProgress : playerRows.questProgressMap.values()) {
+                questProgressFile.addQuestProgress(questProgress);
+            }
+
+            allPlayerData.add(new QPlayerData(playerRows.uuid, new QPlayerPreferences(null), questProgressFile)); // TODO player preferences
+        }
+
+        return allPlayerData;
+    }
+
+    private @NotNull PreparedStatement prepareStreamingStatement(final @NotNull Connection conn, final @NotNull String sql) throws SQLException {
+        final PreparedStatement stmt = conn.prepareStatement(this.prefixer.apply(sql), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(this.fetchSize);
+        return stmt;
+    }
+
+    private static final class PlayerRows {
+
+        private final UUID uuid;
+        private final String uuidString;
+        private final Map<String, QuestProgress> questProgressMap;
+
+        private PlayerRows(final @NotNull UUID uuid, final @NotNull String uuidString) {
+            this.uuid = uuid;
+            this.uuidString = uuidString;
+            this.questProgressMap = new HashMap<>();
+        }
+    }
+
+    private record DatabaseMigrator(@NotNull AbstractSQLStorageProvider provider, @NotNull BukkitQuestsPlugin plugin, @NotNull Function<String, String> prefixer, @NotNull Connection conn) {
+
+        private static final String SELECT_SCHEMA_VERSION =
+                "SELECT value FROM `{prefix}database_information` WHERE `key` LIKE 'schema_version';";
+
+        private static final int LATEST_SCHEMA_VERSION = 2;
+        private static final Map<Integer, String> MIGRATION_STATEMENTS = new HashMap<>() {{
+            this.put(1, "ALTER TABLE `{prefix}quest_progress` ADD COLUMN `started_date` BIGINT NOT NULL AFTER `started`;");
+        }};
+
+        private DatabaseMigrator(final @NotNull AbstractSQLStorageProvider provider, final @NotNull BukkitQuestsPlugin plugin, final @NotNull Function<String, String> prefixer, final @NotNull Connection conn) {
+            this.provider = Objects.requireNonNull(provider, "provider cannot be null");
+            this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+            this.prefixer = Objects.requireNonNull(prefixer, "prefixer cannot be null");
+            this.conn = Objects.requireNonNull(conn, "conn cannot be null");
+        }
+
+        public int getInitialSchemaVersion() throws SQLException {
+            this.plugin.getQuestsLogger().debug("Getting initial schema version for new database.");
+
+            try (final Statement stmt = this.conn.createStatement();
+                 final ResultSet rs = stmt.executeQuery(this.prefixer.apply(this.provider.getStartedDateColumnSql()))) {
+
+                if (rs.next()) {
+                    return LATEST_SCHEMA_VERSION;
+                } else {
+                    return 1;
+                }
+            }
+        }
+
+        public int getCurrentSchemaVersion() throws SQLException {
+            this.plugin.getQuestsLogger().debug("Getting current schema version.");
+
+            try (final Statement stmt = this.conn.createStatement();
+                 final ResultSet rs = stmt.executeQuery(this.prefixer.apply(SELECT_SCHEMA_VERSION))) {
+
+                if (rs.next()) {
+                    final int version = Integer.parseUnsignedInt(rs.getString(1));
+                    this.plugin.getQuestsLogger().debug("Current schema version: " + version + ".");
+                    return version;
+                }
+
+                final int version = this.getInitialSchemaVersion();
+                this.updateSchemaVersion(version);
+
+                return version;
+            }
+        }
+
+        public void updateSchemaVersion(final int updatedSchemaVersion) throws SQLException {
+            this.plugin.getQuestsLogger().debug("Updating schema version to " + updatedSchemaVersion + ".");
+
+            try (final PreparedStatement stmt = this.conn.prepareStatement(this.prefixer.apply(this.provider.getUpsertDatabaseInformationSql()))) {
+                stmt.setString(1, "schema_version");
+                stmt.setString(2, Integer.toString(updatedSchemaVersion));
+                stmt.setString(3, Integer.toString(updatedSchemaVersion));
+
+                stmt.executeUpdate();
+            }
+        }
+
+        public void upgrade(final int initialSchemaVersion) throws SQLException {
+            this.plugin.getQuestsLogger().debug("Starting upgrade from version " + initialSchemaVersion + " to " + LATEST_SCHEMA_VERSION + ".");
+
+            for (int i = initialSchemaVersion; i < LATEST_SCHEMA_VERSION; i++) {
+                final String statementString = this.prefixer.apply(MIGRATION_STATEMENTS.get(i));
+                this.plugin.getQuestsLogger().debug("Running migration statement: " + statementString + ".");
+
+                try (final Statement stmt = this.conn.createStatement()) {
+                    stmt.execute(statementString);
+                } catch (final SQLException e) {
+                    this.plugin.getLogger().severe("Failed to run migration statement (" + i + " -> " + (i + 1) + "): " + statementString + ".");
+                    this.plugin.getLogger().severe("Quests will attempt to save current migration progress to prevent database corruption, but may not be able to do so.");
+                    this.updateSchemaVersion(i);
+
+                    // we still want it to throw and prevent further plugin loading
+                    throw e;
+                }
+            }
+
+            this.updateSchemaVersion(LATEST_SCHEMA_VERSION);
+        }
+    }
+}
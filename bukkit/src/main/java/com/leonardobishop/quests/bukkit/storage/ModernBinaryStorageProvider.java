@@ -0,0 +1,662 @@
+package com.leonardobishop.quests.bukkit.storage;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.common.player.QPlayerData;
+import com.leonardobishop.quests.common.player.QPlayerPreferences;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
+import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.Task;
+import com.leonardobishop.quests.common.storage.StorageProvider;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * Storage provider keeping an append-only binary log per player.
+ *
+ * <p>
+ * A player data file starts with a header, followed by frames. Each frame is prefixed with its length, followed by
+ * its payload and a CRC32 checksum of the payload. The payload starts with a dictionary of the quest and task ids
+ * used within the frame, followed by the full state of every quest progress saved within the frame, referencing
+ * the ids by their dictionary index. Saving a player only appends a new frame with the modified quest progress, and
+ * a later frame always overrides the state of a quest progress stored in an earlier one.
+ * </p>
+ *
+ * <p>
+ * Frames which have been torn by a crash fail the length or checksum verification and are discarded along with
+ * anything after them. Once a file has accumulated too many frames, it is compacted into a single frame, which is
+ * written to a temporary file first and then atomically moved over the original file.
+ * </p>
+ */
+public final class ModernBinaryStorageProvider implements StorageProvider {
+
+    private static final String FILE_EXTENSION = ".qpd";
+    private static final String TEMP_FILE_EXTENSION = ".qpd.tmp";
+
+    private static final int MAGIC = 0x51504431; // QPD1
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES;
+    private static final int FRAME_OVERHEAD = Integer.BYTES + Integer.BYTES;
+
+    private static final int FLAG_STARTED = 1;
+    private static final int FLAG_COMPLETED = 1 << 1;
+    private static final int FLAG_COMPLETED_BEFORE = 1 << 2;
+    private static final int FLAG_TASK_COMPLETED = 1 << 7;
+
+    private static final int PROGRESS_NONE = 0;
+    private static final int PROGRESS_INT = 1;
+    private static final int PROGRESS_LONG = 2;
+    private static final int PROGRESS_FLOAT = 3;
+    private static final int PROGRESS_DOUBLE = 4;
+    private static final int PROGRESS_BIG_INTEGER = 5;
+    private static final int PROGRESS_BIG_DECIMAL = 6;
+
+    // players share a fixed number of locks, so none have to be created or removed per player
+    private static final int LOCK_STRIPES = 64;
+
+    private final BukkitQuestsPlugin plugin;
+    private final ConfigurationSection config;
+    private final Path dataDirectory;
+    private final ReentrantLock[] locks;
+    private final Map<UUID, FileState> fileStateMap;
+
+    private boolean validateQuests;
+    private int compactionThreshold;
+    private boolean syncWrites;
+
+    public ModernBinaryStorageProvider(final @NotNull BukkitQuestsPlugin plugin, final @Nullable ConfigurationSection config) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.config = Objects.requireNonNullElseGet(config, YamlConfiguration::new);
+        this.dataDirectory = plugin.getDataFolder().toPath().resolve("playerdata-binary");
+        this.locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+        this.fileStateMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "binary";
+    }
+
+    @Override
+    public void init() throws IOException {
+        Files.createDirectories(this.dataDirectory);
+
+        this.validateQuests = this.plugin.getConfig().getBoolean("options.verify-quest-exists-on-load", true);
+        this.compactionThreshold = Math.max(1, this.config.getInt("compaction-threshold", 32));
+        this.syncWrites = this.config.getBoolean("sync-writes", true);
+    }
+
+    @Override
+    public void shutdown() {
+        this.fileStateMap.clear();
+    }
+
+    @Override
+    public void unloadPlayerData(final @NotNull UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid cannot be null");
+
+        final ReentrantLock lock = this.lock(uuid);
+
+        try {
+            this.fileStateMap.remove(uuid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable QPlayerData loadPlayerData(final @NotNull UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid cannot be null");
+
+        final String uuidString = uuid.toString();
+        final QuestProgressFile questProgressFile = new QuestProgressFile(this.plugin, uuid);
+        final Path dataFile = this.dataDirectory.resolve(uuidString + FILE_EXTENSION);
+
+        final ReentrantLock lock = this.lock(uuid);
+
+        try {
+            if (Files.isRegularFile(dataFile)) {
+                this.plugin.getQuestsLogger().debug("Player " + uuidString + " has a valid quest progress file.");
+
+                final Map<String, QuestRecord> questRecords = new LinkedHashMap<>();
+                FileState fileState = this.readFile(dataFile, uuidString, questRecords);
+
+                if (fileState.frameCount > this.compactionThreshold) {
+                    fileState = this.compact(dataFile, uuidString, questRecords.values());
+                }
+
+                this.fileStateMap.put(uuid, fileState);
+
+                for (final QuestRecord questRecord : questRecords.values()) {
+                    final QuestProgress questProgress = this.toQuestProgress(uuid, questRecord);
+
+                    if (questProgress != null) {
+                        questProgressFile.addQuestProgress(questProgress);
+                    }
+                }
+            } else {
+                this.plugin.getQuestsLogger().debug("Player " + uuidString + " does not have a quest progress file.");
+            }
+
+            return new QPlayerData(uuid, new QPlayerPreferences(null), questProgressFile); // TODO player preferences
+        } catch (final IOException e) {
+            this.plugin.getLogger().log(Level.SEVERE, "Failed to read player data file for " + uuidString + ".", e);
+            this.fileStateMap.remove(uuid);
+        } finally {
+            lock.unlock();
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean savePlayerData(final @NotNull QPlayerData playerData) {
+        Objects.requireNonNull(playerData, "playerData cannot be null");
+
+        return this.savePlayerData(playerData, false);
+    }
+
+    @Override
+    public boolean savePlayerDataDelta(final @NotNull QPlayerData deltaPlayerData) {
+        Objects.requireNonNull(deltaPlayerData, "deltaPlayerData cannot be null");
+
+        return this.savePlayerData(deltaPlayerData, true);
+    }
+
+    private boolean savePlayerData(final @NotNull QPlayerData playerData, final boolean delta) {
+        final UUID uuid = playerData.playerUUID();
+        final String uuidString = uuid.toString();
+
+        final List<QuestRecord> questRecords = new ArrayList<>();
+
+        for (final QuestProgress questProgress : playerData.questProgressFile().getAllQuestProgress()) {
+            // every quest progress in a delta has been modified
+            if (!delta && !questProgress.isModified()) {
+                continue;
+            }
+
+            questRecords.add(this.toQuestRecord(uuidString, questProgress));
+        }
+
+        if (questRecords.isEmpty()) {
+            return true;
+        }
+
+        final Path dataFile = this.dataDirectory.resolve(uuidString + FILE_EXTENSION);
+        final ReentrantLock lock = this.lock(uuid);
+
+        try {
+            final byte[] frame = this.encodeFrame(questRecords);
+
+            FileState fileState = this.fileStateMap.get(uuid);
+            if (fileState == null) {
+                // the file has not been read yet, so we need to know where the last valid frame ends
+                fileState = Files.isRegularFile(dataFile)
+                        ? this.readFile(dataFile, uuidString, new LinkedHashMap<>())
+                        : new FileState(0L, 0);
+            }
+
+            this.plugin.getQuestsLogger().debug("Appending " + questRecords.size() + " quest progress entries to player data file for " + uuidString + ".");
+
+            try (final FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                if (fileState.validLength == 0L) {
+                    final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).put(FORMAT_VERSION).flip();
+                    ModernBinaryStorageProvider.writeFully(channel, header, 0L);
+                    fileState.validLength = HEADER_LENGTH;
+                }
+
+                // discard anything after the last valid frame, such as a torn frame
+                channel.truncate(fileState.validLength);
+                ModernBinaryStorageProvider.writeFully(channel, ByteBuffer.wrap(frame), fileState.validLength);
+
+                if (this.syncWrites) {
+                    channel.force(false);
+                }
+            }
+
+            fileState.validLength += frame.length;
+            fileState.frameCount++;
+
+            if (fileState.frameCount > this.compactionThreshold) {
+                final Map<String, QuestRecord> allQuestRecords = new LinkedHashMap<>();
+                this.readFile(dataFile, uuidString, allQuestRecords);
+                fileState = this.compact(dataFile, uuidString, allQuestRecords.values());
+            }
+
+            this.fileStateMap.put(uuid, fileState);
+            return true;
+        } catch (final IOException e) {
+            this.plugin.getLogger().log(Level.SEVERE, "Failed to write player data file for " + uuidString + ".", e);
+
+            // the file will be verified again before the next write
+            this.fileStateMap.remove(uuid);
+        } finally {
+            lock.unlock();
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull List<QPlayerData> loadAllPlayerData() {
+        final List<QPlayerData> allPlayerData = new ArrayList<>();
+
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.dataDirectory, "*" + FILE_EXTENSION)) {
+            for (final Path path : stream) {
+                final String fileName = path.getFileName().toString();
+                final String uuidString = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+
+                final UUID uuid;
+                try {
+                    uuid = UUID.fromString(uuidString);
+                } catch (final IllegalArgumentException e) {
+                    this.plugin.getLogger().log(Level.SEVERE, "Failed to parse player UUID: '" + uuidString + "'.", e);
+                    continue;
+                }
+
+                final QPlayerData playerData = this.loadPlayerData(uuid);
+                if (playerData != null) {
+                    allPlayerData.add(playerData);
+                }
+            }
+        } catch (final IOException e) {
+            this.plugin.getLogger().log(Level.SEVERE, "Failed to list the player data files", e);
+        }
+
+        return allPlayerData;
+    }
+
+    @Override
+    public boolean isSimilar(final @NotNull StorageProvider otherProvider) {
+        return otherProvider instanceof ModernBinaryStorageProvider;
+    }
+
+    private @NotNull ReentrantLock lock(final @NotNull UUID uuid) {
+        final ReentrantLock lock = this.locks[uuid.hashCode() & (LOCK_STRIPES - 1)];
+        lock.lock();
+        return lock;
+    }
+
+    // Reading
+
+    private @NotNull FileState readFile(final @NotNull Path dataFile, final @NotNull String uuidString, final @NotNull Map<String, QuestRecord> questRecords) throws IOException {
+        final byte[] bytes = Files.readAllBytes(dataFile);
+
+        if (bytes.length < HEADER_LENGTH) {
+            // crashed before the header could be written
+            return new FileState(0L, 0);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt() != MAGIC || buffer.get() != FORMAT_VERSION) {
+            throw new IOException("Unknown player data file format");
+        }
+
+        final CRC32 crc = new CRC32();
+        int frameCount = 0;
+
+        while (buffer.remaining() >= FRAME_OVERHEAD) {
+            final int frameStart = buffer.position();
+            final int payloadLength = buffer.getInt();
+
+            if (payloadLength < 0 || payloadLength > buffer.remaining() - Integer.BYTES) {
+                break;
+            }
+
+            crc.reset();
+            crc.update(bytes, frameStart + Integer.BYTES, payloadLength);
+
+            final int checksum = buffer.getInt(frameStart + Integer.BYTES + payloadLength);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            try {
+                this.decodeFrame(buffer.slice(frameStart + Integer.BYTES, payloadLength), questRecords);
+            } catch (final RuntimeException e) {
+                // the checksum matched, so the frame has been written like that
+                throw new IOException("Malformed frame at offset " + frameStart, e);
+            }
+
+            buffer.position(frameStart + FRAME_OVERHEAD + payloadLength);
+            frameCount++;
+        }
+
+        if (buffer.hasRemaining()) {
+            this.plugin.getLogger().warning("Player data file for " + uuidString + " has a damaged tail of " + buffer.remaining() + " bytes, "
+                    + "probably due to a crash during a save. It will be discarded on next save.");
+        }
+
+        return new FileState(buffer.position(), frameCount);
+    }
+
+    private void decodeFrame(final @NotNull ByteBuffer payload, final @NotNull Map<String, QuestRecord> questRecords) {
+        final int dictionarySize = ModernBinaryStorageProvider.readVarInt(payload);
+        final String[] dictionary = new String[dictionarySize];
+
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary[i] = ModernBinaryStorageProvider.readString(payload);
+        }
+
+        final int questCount = ModernBinaryStorageProvider.readVarInt(payload);
+
+        for (int i = 0; i < questCount; i++) {
+            final String questId = dictionary[ModernBinaryStorageProvider.readVarInt(payload)];
+            final int flags = payload.get();
+            final long startedDate = payload.getLong();
+            final long completionDate = payload.getLong();
+
+            final int taskCount = ModernBinaryStorageProvider.readVarInt(payload);
+            final List<TaskRecord> taskRecords = new ArrayList<>(taskCount);
+
+            for (int j = 0; j < taskCount; j++) {
+                final String taskId = dictionary[ModernBinaryStorageProvider.readVarInt(payload)];
+                final int taskFlags = payload.get() & 0xFF;
+
+                final Object progress = switch (taskFlags & ~FLAG_TASK_COMPLETED) {
+                    case PROGRESS_NONE -> null;
+                    case PROGRESS_INT -> payload.getInt();
+                    case PROGRESS_LONG -> payload.getLong();
+                    case PROGRESS_FLOAT -> payload.getFloat();
+                    case PROGRESS_DOUBLE -> payload.getDouble();
+                    case PROGRESS_BIG_INTEGER -> new BigInteger(ModernBinaryStorageProvider.readBytes(payload));
+                    case PROGRESS_BIG_DECIMAL -> {
+                        final int scale = payload.getInt();
+                        yield new BigDecimal(new BigInteger(ModernBinaryStorageProvider.readBytes(payload)), scale);
+                    }
+                    default -> throw new IllegalArgumentException("Unexpected progress type: " + (taskFlags & ~FLAG_TASK_COMPLETED));
+                };
+
+                taskRecords.add(new TaskRecord(taskId, (taskFlags & FLAG_TASK_COMPLETED) != 0, progress));
+            }
+
+            final QuestRecord questRecord = new QuestRecord(questId, (flags & FLAG_STARTED) != 0, startedDate,
+                    (flags & FLAG_COMPLETED) != 0, (flags & FLAG_COMPLETED_BEFORE) != 0, completionDate, taskRecords);
+
+            questRecords.put(questId, questRecord);
+        }
+    }
+
+    private @Nullable QuestProgress toQuestProgress(final @NotNull UUID uuid, final @NotNull QuestRecord questRecord) {
+        final Quest quest;
+
+        if (this.validateQuests) {
+            quest = this.plugin.getQuestManager().getQuestById(questRecord.questId);
+
+            if (quest == null) {
+                return null;
+            }
+        } else {
+            quest = null;
+        }
+
+        final QuestProgress questProgress = new QuestProgress(this.plugin, questRecord.questId, uuid, questRecord.started,
+                questRecord.startedDate, questRecord.completed, questRecord.completedBefore, questRecord.completionDate);
+
+        for (final TaskRecord taskRecord : questRecord.tasks) {
+            // quest is not null only if this.validateQuests is true
+            if (quest != null) {
+                final Task task = quest.getTaskById(taskRecord.taskId);
+
+                if (task == null) {
+                    continue;
+                }
+            }
+
+            final TaskProgress taskProgress = new TaskProgress(questProgress, taskRecord.taskId, uuid, taskRecord.progress, taskRecord.completed);
+            questProgress.addTaskProgress(taskProgress);
+        }
+
+        return questProgress;
+    }
+
+    // Writing
+
+    private @NotNull QuestRecord toQuestRecord(final @NotNull String uuidString, final @NotNull QuestProgress questProgress) {
+        final String questId = questProgress.getQuestId();
+        final List<TaskRecord> taskRecords = new ArrayList<>();
+
+        for (final TaskProgress taskProgress : questProgress.getTaskProgresses()) {
+            final Object progress = taskProgress.getProgress();
+
+            if (!ModernBinaryStorageProvider.isEncodable(progress)) {
+                this.plugin.getLogger().warning("Cannot retrieve progress for task '" + taskProgress.getTaskId()
+                        + "' in quest '" + questId + "' for player " + uuidString + " since a valid encoder for '"
+                        + progress.getClass().getName() + "' class has not been found!");
+                continue;
+            }
+
+            taskRecords.add(new TaskRecord(taskProgress.getTaskId(), taskProgress.isCompleted(), progress));
+        }
+
+        return new QuestRecord(questId, questProgress.isStarted(), questProgress.getStartedDate(), questProgress.isCompleted(),
+                questProgress.isCompletedBefore(), questProgress.getCompletionDate(), taskRecords);
+    }
+
+    private byte @NotNull [] encodeFrame(final @NotNull Collection<QuestRecord> questRecords) throws IOException {
+        // intern the ids so each of them is written only once per frame
+        final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        for (final QuestRecord questRecord : questRecords) {
+            dictionary.putIfAbsent(questRecord.questId, dictionary.size());
+
+            for (final TaskRecord taskRecord : questRecord.tasks) {
+                dictionary.putIfAbsent(taskRecord.taskId, dictionary.size());
+            }
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        // placeholder for the payload length
+        out.writeInt(0);
+
+        ModernBinaryStorageProvider.writeVarInt(out, dictionary.size());
+        for (final String id : dictionary.keySet()) {
+            ModernBinaryStorageProvider.writeString(out, id);
+        }
+
+        ModernBinaryStorageProvider.writeVarInt(out, questRecords.size());
+        for (final QuestRecord questRecord : questRecords) {
+            int flags = 0;
+            if (questRecord.started) flags |= FLAG_STARTED;
+            if (questRecord.completed) flags |= FLAG_COMPLETED;
+            if (questRecord.completedBefore) flags |= FLAG_COMPLETED_BEFORE;
+
+            ModernBinaryStorageProvider.writeVarInt(out, dictionary.get(questRecord.questId));
+            out.writeByte(flags);
+            out.writeLong(questRecord.startedDate);
+            out.writeLong(questRecord.completionDate);
+
+            ModernBinaryStorageProvider.writeVarInt(out, questRecord.tasks.size());
+            for (final TaskRecord taskRecord : questRecord.tasks) {
+                ModernBinaryStorageProvider.writeVarInt(out, dictionary.get(taskRecord.taskId));
+
+                final int completedFlag = taskRecord.completed ? FLAG_TASK_COMPLETED : 0;
+
+                switch (taskRecord.progress) {
+                    case null -> out.writeByte(PROGRESS_NONE | completedFlag);
+                    case Integer i -> {
+                        out.writeByte(PROGRESS_INT | completedFlag);
+                        out.writeInt(i);
+                    }
+                    case Long l -> {
+                        out.writeByte(PROGRESS_LONG | completedFlag);
+                        out.writeLong(l);
+                    }
+                    case Float f -> {
+                        out.writeByte(PROGRESS_FLOAT | completedFlag);
+                        out.writeFloat(f);
+                    }
+                    case Double d -> {
+                        out.writeByte(PROGRESS_DOUBLE | completedFlag);
+                        out.writeDouble(d);
+                    }
+                    case BigInteger bi -> {
+                        out.writeByte(PROGRESS_BIG_INTEGER | completedFlag);
+                        ModernBinaryStorageProvider.writeBytes(out, bi.toByteArray());
+                    }
+                    case BigDecimal bd -> {
+                        out.writeByte(PROGRESS_BIG_DECIMAL | completedFlag);
+                        out.writeInt(bd.scale());
+                        ModernBinaryStorageProvider.writeBytes(out, bd.unscaledValue().toByteArray());
+                    }
+                    default -> throw new IllegalStateException("progress type has not been filtered out");
+                }
+            }
+        }
+
+        // checksum placeholder
+        out.writeInt(0);
+        out.flush();
+
+        final byte[] frame = bytes.toByteArray();
+        final int payloadLength = frame.length - FRAME_OVERHEAD;
+
+        final CRC32 crc = new CRC32();
+        crc.update(frame, Integer.BYTES, payloadLength);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(frame);
+        buffer.putInt(0, payloadLength);
+        buffer.putInt(Integer.BYTES + payloadLength, (int) crc.getValue());
+
+        return frame;
+    }
+
+    private @NotNull FileState compact(final @NotNull Path dataFile, final @NotNull String uuidString, final @NotNull Collection<QuestRecord> questRecords) throws IOException {
+        this.plugin.getQuestsLogger().debug("Compacting player data file for " + uuidString + ".");
+
+        final byte[] frame = this.encodeFrame(questRecords);
+        final Path tempFile = this.dataDirectory.resolve(uuidString + TEMP_FILE_EXTENSION);
+
+        try (final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).put(FORMAT_VERSION).flip();
+            ModernBinaryStorageProvider.writeFully(channel, header, 0L);
+            ModernBinaryStorageProvider.writeFully(channel, ByteBuffer.wrap(frame), HEADER_LENGTH);
+
+            // the compacted file must be durable before it replaces the original one
+            channel.force(false);
+        }
+
+        Files.move(tempFile, dataFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new FileState(HEADER_LENGTH + frame.length, 1);
+    }
+
+    // Encoding helpers
+
+    private static boolean isEncodable(final @Nullable Object progress) {
+        return progress == null
+                || progress instanceof Integer
+                || progress instanceof Long
+                || progress instanceof Float
+                || progress instanceof Double
+                || progress instanceof BigInteger
+                || progress instanceof BigDecimal;
+    }
+
+    private static void writeFully(final @NotNull FileChannel channel, final @NotNull ByteBuffer buffer, final long position) throws IOException {
+        long currentPosition = position;
+
+        while (buffer.hasRemaining()) {
+            currentPosition += channel.write(buffer, currentPosition);
+        }
+    }
+
+    private static void writeVarInt(final @NotNull DataOutputStream out, final int value) throws IOException {
+        int remaining = value;
+
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(final @NotNull ByteBuffer buffer) {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("VarInt is too big");
+    }
+
+    private static void writeBytes(final @NotNull DataOutputStream out, final byte @NotNull [] bytes) throws IOException {
+        ModernBinaryStorageProvider.writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte @NotNull [] readBytes(final @NotNull ByteBuffer buffer) {
+        final int length = ModernBinaryStorageProvider.readVarInt(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeString(final @NotNull DataOutputStream out, final @NotNull String string) throws IOException {
+        ModernBinaryStorageProvider.writeBytes(out, string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static @NotNull String readString(final @NotNull ByteBuffer buffer) {
+        return new String(ModernBinaryStorageProvider.readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static final class FileState {
+
+        private long validLength;
+        private int frameCount;
+
+        private FileState(final long validLength, final int frameCount) {
+            this.validLength = validLength;
+            this.frameCount = frameCount;
+        }
+    }
+
+    private record QuestRecord(@NotNull String questId, boolean started, long startedDate, boolean completed, boolean completedBefore, long completionDate, @NotNull List<TaskRecord> tasks) {
+    }
+
+    private record TaskRecord(@NotNull String taskId, boolean completed, @Nullable Object progress) {
+    }
+}
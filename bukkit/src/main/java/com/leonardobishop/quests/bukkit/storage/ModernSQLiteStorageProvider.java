@@ -0,0 +1,123 @@
+package com.leonardobishop.quests.bukkit.storage;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.common.storage.StorageProvider;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Embedded database storage provider. The database file is opened in WAL mode, so the pooled reader connections
+ * never block the single writer connection, which serialises every write without waiting on the database lock.
+ */
+public final class ModernSQLiteStorageProvider extends AbstractSQLStorageProvider {
+
+    // Insertion SQL
+    private static final String INSERT_PLAYER_QUEST_PROGRESS =
+            "INSERT INTO `{prefix}quest_progress` (uuid, quest_id, started, started_date, completed, completed_before, completion_date) VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (uuid, quest_id) DO UPDATE SET started = ?, started_date = ?, completed = ?, completed_before = ?, completion_date = ?";
+    private static final String INSERT_PLAYER_TASK_PROGRESS =
+            "INSERT INTO `{prefix}task_progress` (uuid, quest_id, task_id, completed, progress, data_type) VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (uuid, quest_id, task_id) DO UPDATE SET completed = ?, progress = ?, data_type = ?";
+    private static final String UPDATE_DATABASE_INFORMATION =
+            "INSERT INTO `{prefix}database_information` (`key`, `value`) VALUES (?, ?) ON CONFLICT (`key`) DO UPDATE SET `value` = ?;";
+
+    // Migration SQL
+    private static final String GET_STARTED_DATE_COLUMN =
+            "SELECT name FROM pragma_table_info('{prefix}quest_progress') WHERE name = 'started_date';";
+
+    private final File databaseFile;
+
+    public ModernSQLiteStorageProvider(final @NotNull BukkitQuestsPlugin plugin, final @Nullable ConfigurationSection config) {
+        super(plugin, config);
+        this.databaseFile = new File(plugin.getDataFolder(), this.config.getString("file", "playerdata.db"));
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "sqlite";
+    }
+
+    @Override
+    protected @NotNull HikariDataSource createWriteDataSource() throws IOException {
+        final File parentFile = this.databaseFile.getParentFile();
+        if (parentFile != null && !parentFile.isDirectory() && !parentFile.mkdirs()) {
+            throw new IOException("Failed to create database directory " + parentFile.getPath());
+        }
+
+        // a single connection makes every write wait for the previous one instead of failing with SQLITE_BUSY
+        final HikariConfig hikariConfig = this.createHikariConfig("quests-sqlite-writer");
+        hikariConfig.setMinimumIdle(1);
+        hikariConfig.setMaximumPoolSize(1);
+
+        return new HikariDataSource(hikariConfig);
+    }
+
+    @Override
+    protected @NotNull HikariDataSource createReadDataSource(final @NotNull HikariDataSource writeDataSource) {
+        final int readerPoolSize = Math.max(1, this.config.getInt("reader-pool-size", 4));
+
+        final HikariConfig hikariConfig = this.createHikariConfig("quests-sqlite-reader");
+        hikariConfig.setMinimumIdle(readerPoolSize);
+        hikariConfig.setMaximumPoolSize(readerPoolSize);
+
+        return new HikariDataSource(hikariConfig);
+    }
+
+    private @NotNull HikariConfig createHikariConfig(final @NotNull String poolName) {
+        final HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setJdbcUrl("jdbc:sqlite:" + this.databaseFile.getAbsolutePath());
+
+        // readers only see committed data in WAL mode, and NORMAL sync is durable for it except on power loss
+        hikariConfig.addDataSourceProperty("journal_mode", "WAL");
+        hikariConfig.addDataSourceProperty("synchronous", this.config.getString("synchronous", "NORMAL"));
+        hikariConfig.addDataSourceProperty("busy_timeout", this.config.getInt("busy-timeout", 5000));
+
+        // set pool timeouts and custom data source properties
+        this.applyConnectionPoolSettings(hikariConfig);
+
+        return hikariConfig;
+    }
+
+    @Override
+    protected @NotNull String getUpsertQuestProgressSql() {
+        return INSERT_PLAYER_QUEST_PROGRESS;
+    }
+
+    @Override
+    protected @NotNull String getUpsertTaskProgressSql() {
+        return INSERT_PLAYER_TASK_PROGRESS;
+    }
+
+    @Override
+    protected @NotNull String getUpsertDatabaseInformationSql() {
+        return UPDATE_DATABASE_INFORMATION;
+    }
+
+    @Override
+    protected @NotNull String getStartedDateColumnSql() {
+        return GET_STARTED_DATE_COLUMN;
+    }
+
+    @Override
+    protected int getDefaultFetchSize() {
+        // the driver steps through the rows on demand regardless of the fetch size
+        return 0;
+    }
+
+    @Override
+    public boolean isSimilar(final @NotNull StorageProvider otherProvider) {
+        Objects.requireNonNull(otherProvider, "otherProvider cannot be null");
+
+        if (!(otherProvider instanceof final ModernSQLiteStorageProvider sqliteProvider)) {
+            return false;
+        }
+
+        return this.databaseFile.getAbsoluteFile().equals(sqliteProvider.databaseFile.getAbsoluteFile());
+    }
+}
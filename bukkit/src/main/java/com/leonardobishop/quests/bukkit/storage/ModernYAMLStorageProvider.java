@@ -163,6 +163,17 @@ public final class ModernYAMLStorageProvider implements StorageProvider {
     public boolean savePlayerData(final @NotNull QPlayerData playerData) {
         Objects.requireNonNull(playerData, "playerData cannot be null");
 
+        return this.savePlayerData(playerData, false);
+    }
+
+    @Override
+    public boolean savePlayerDataDelta(final @NotNull QPlayerData deltaPlayerData) {
+        Objects.requireNonNull(deltaPlayerData, "deltaPlayerData cannot be null");
+
+        return this.savePlayerData(deltaPlayerData, true);
+    }
+
+    private boolean savePlayerData(final @NotNull QPlayerData playerData, final boolean delta) {
         final UUID uuid = playerData.playerUUID();
         final String uuidString = uuid.toString();
         final QuestProgressFile questProgressFile = playerData.questProgressFile();
@@ -181,7 +192,8 @@ public final class ModernYAMLStorageProvider implements StorageProvider {
             }
 
             for (final QuestProgress questProgress : questProgressFile.getAllQuestProgress()) {
-                if (!questProgress.isModified()) {
+                // every quest progress in a delta has been modified
+                if (!delta && !questProgress.isModified()) {
                     continue;
                 }
 
@@ -1,11 +1,14 @@
 package com.leonardobishop.quests.bukkit.tasktype;
 
+import com.leonardobishop.quests.common.player.QPlayerPreferences;
+import com.leonardobishop.quests.common.quest.Task;
 import com.leonardobishop.quests.common.tasktype.TaskType;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public abstract class BukkitTaskType extends TaskType implements Listener {
 
@@ -23,7 +26,116 @@ public abstract class BukkitTaskType extends TaskType implements Listener {
         super(type);
     }
 
+    /**
+     * Checks whether debug messages for a quest may be shown to anyone. Call sites building expensive debug
+     * messages may use this to skip the work entirely.
+     *
+     * @param questId the quest id
+     * @return whether debugging is enabled for the quest
+     */
+    public final boolean isDebugEnabled(final @NotNull String questId) {
+        return QPlayerPreferences.isDebugEnabled(questId);
+    }
+
     public final void debug(final @NotNull String message, final @NotNull String questId, final @NotNull String taskId, final @NotNull UUID player) {
-        this.taskTypeManager.sendDebug(message, this.type, questId, taskId, player);
+        if (QPlayerPreferences.isDebugEnabled(questId)) {
+            this.taskTypeManager.sendDebug(message, this.type, questId, taskId, player);
+        }
+    }
+
+    /**
+     * Sends a debug message which is only built if debugging is enabled for the quest.
+     *
+     * @param messageSupplier the supplier of the debug message
+     * @param questId         the quest id
+     * @param taskId          the task id
+     * @param player          the associated player
+     */
+    public final void debug(final @NotNull Supplier<String> messageSupplier, final @NotNull String questId, final @NotNull String taskId, final @NotNull UUID player) {
+        if (QPlayerPreferences.isDebugEnabled(questId)) {
+            this.taskTypeManager.sendDebug(messageSupplier.get(), this.type, questId, taskId, player);
+        }
+    }
+
+    /**
+     * Sends a debug message in which each {@code {}} of the template is replaced with the string value of the
+     * respective argument. The message is only built if debugging is enabled for the quest.
+     *
+     * @param template the debug message template
+     * @param questId  the quest id
+     * @param taskId   the task id
+     * @param player   the associated player
+     * @param arg      the argument
+     */
+    public final void debug(final @NotNull String template, final @NotNull String questId, final @NotNull String taskId, final @NotNull UUID player, final @Nullable Object arg) {
+        if (QPlayerPreferences.isDebugEnabled(questId)) {
+            this.taskTypeManager.sendDebug(formatDebug(template, arg), this.type, questId, taskId, player);
+        }
+    }
+
+    /**
+     * Sends a debug message in which each {@code {}} of the template is replaced with the string value of the
+     * respective argument. The message is only built if debugging is enabled for the quest.
+     *
+     * @param template the debug message template
+     * @param questId  the quest id
+     * @param taskId   the task id
+     * @param player   the associated player
+     * @param arg1     the first argument
+     * @param arg2     the second argument
+     */
+    public final void debug(final @NotNull String template, final @NotNull String questId, final @NotNull String taskId, final @NotNull UUID player, final @Nullable Object arg1, final @Nullable Object arg2) {
+        if (QPlayerPreferences.isDebugEnabled(questId)) {
+            this.taskTypeManager.sendDebug(formatDebug(template, arg1, arg2), this.type, questId, taskId, player);
+        }
+    }
+
+    private static @NotNull String formatDebug(final @NotNull String template, final @Nullable Object @NotNull ... args) {
+        final StringBuilder builder = new StringBuilder(template.length() + 16 * args.length);
+
+        int start = 0;
+        for (final Object arg : args) {
+            final int index = template.indexOf("{}", start);
+            if (index == -1) {
+                break;
+            }
+
+            builder.append(template, start, index).append(arg);
+            start = index + 2;
+        }
+
+        return builder.append(template, start, template.length()).toString();
+    }
+
+    /**
+     * Compiles the configuration of a task into an immutable object consumed by the event handlers of this task
+     * type, so they do not have to parse the raw config values on every event. Called once for each task of this
+     * type when quests are loaded, after the config has been validated.
+     *
+     * @param task the task to compile
+     * @return the compiled config, or null if this task type does not compile its tasks
+     */
+    public @Nullable Object compileTask(final @NotNull Task task) {
+        return null;
+    }
+
+    /**
+     * Gets the compiled config of a task, compiling it if it has not been compiled at load time.
+     *
+     * @param task the task
+     * @return the compiled config
+     * @param <C> the type of compiled config this task type produces
+     */
+    @SuppressWarnings("unchecked")
+    protected final <C> @NotNull C getCompiledTask(final @NotNull Task task) {
+        Object compiledConfig = task.getCompiledConfig();
+        if (compiledConfig == null) {
+            compiledConfig = this.compileTask(task);
+            if (compiledConfig == null) {
+                throw new IllegalStateException("task type " + this.type + " does not compile its tasks");
+            }
+            task.setCompiledConfig(compiledConfig);
+        }
+        return (C) compiledConfig;
     }
 }
@@ -12,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * The Bukkit task type manager stores all registered Bukkit-specific task types and registers individual quests to each task type.
@@ -80,6 +81,10 @@ public final class BukkitTaskTypeManager extends TaskTypeManager {
      */
     @Override
     public void sendDebug(final @NotNull String message, final @NotNull String taskType, final @NotNull String questId, final @NotNull String taskId, final @NotNull UUID associatedPlayer) {
+        if (!QPlayerPreferences.isDebugEnabled(questId)) {
+            return;
+        }
+
         String chatHeader = null;
 
         for (final QPlayer qPlayer : QPlayerPreferences.getDebuggers()) {
@@ -113,4 +118,20 @@ public final class BukkitTaskTypeManager extends TaskTypeManager {
             }
         }
     }
+
+    /**
+     * Sends a debug message to players based on their debug preferences. The message is only built
+     * if debugging is enabled for the quest.
+     *
+     * @param messageSupplier the supplier of the debug message
+     * @param taskType the type of task
+     * @param questId the quest ID
+     * @param taskId the task ID
+     * @param associatedPlayer the UUID of the associated player
+     */
+    public void sendDebug(final @NotNull Supplier<String> messageSupplier, final @NotNull String taskType, final @NotNull String questId, final @NotNull String taskId, final @NotNull UUID associatedPlayer) {
+        if (QPlayerPreferences.isDebugEnabled(questId)) {
+            this.sendDebug(messageSupplier.get(), taskType, questId, taskId, associatedPlayer);
+        }
+    }
 }
@@ -0,0 +1,285 @@
+package com.leonardobishop.quests.bukkit.tasktype;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.bukkit.scheduler.folia.FoliaServerScheduler;
+import com.leonardobishop.quests.bukkit.util.TaskUtils;
+import com.leonardobishop.quests.common.player.QPlayer;
+import com.leonardobishop.quests.common.quest.Task;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Polls online players for task types which cannot be driven by events. Instead of handling every player on a single
+ * tick, the players of each registered task type are spread evenly across its period, and all task types share a
+ * time budget per tick. Players with no applicable tasks of a task type are skipped.
+ * <p>
+ * On Folia, players are owned by their region rather than the global region the poller ticks on, so each poll is
+ * dispatched to the thread owning the player and the time budget only bounds how many are dispatched per tick.
+ */
+public final class TaskTypePoller implements Listener {
+
+    private final BukkitQuestsPlugin plugin;
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    private volatile long timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(1);
+    private int firstRegistration;
+
+    private final AtomicLong polledCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong budgetExceededCount = new AtomicLong();
+
+    public TaskTypePoller(BukkitQuestsPlugin plugin) {
+        this.plugin = plugin;
+        plugin.getScheduler().runTaskTimer(this::tick, 1L, 1L);
+    }
+
+    /**
+     * Set how much time a single tick may spend polling players. At least one player is polled every tick, regardless
+     * of the budget, and players who did not fit are polled on the next tick.
+     *
+     * @param timeBudgetNanos the time budget in nanoseconds
+     */
+    public void setTimeBudget(long timeBudgetNanos) {
+        this.timeBudgetNanos = Math.max(0L, timeBudgetNanos);
+    }
+
+    /**
+     * Register a task type to be polled, replacing any previous registration of the same task type.
+     *
+     * @param taskType the task type
+     * @param period   how many ticks it should take to poll every online player once
+     * @param handler  the function polling a single player
+     */
+    public void register(@NotNull BukkitTaskType taskType, long period, @NotNull PollHandler handler) {
+        registrations.put(taskType.getType(), new Registration(taskType, (int) Math.max(1L, period), handler));
+    }
+
+    /**
+     * Stop polling a task type.
+     *
+     * @param taskType the task type
+     */
+    public void unregister(@NotNull BukkitTaskType taskType) {
+        registrations.remove(taskType.getType());
+    }
+
+    /**
+     * Check whether a task polled for a player should be evaluated again, and if so remember that it has been.
+     *
+     * @param taskType     the task type of the task
+     * @param player       the player
+     * @param task         the task
+     * @param refreshTicks the minimum number of ticks between evaluations
+     * @return whether the task should be evaluated
+     */
+    public boolean isRefreshDue(@NotNull BukkitTaskType taskType, @NotNull Player player, @NotNull Task task, int refreshTicks) {
+        Registration registration = registrations.get(taskType.getType());
+        if (registration == null) {
+            return true;
+        }
+
+        int currentTick = Bukkit.getCurrentTick();
+        Map<Task, Integer> lastRefreshTicks = registration.lastRefreshTicks.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>());
+        Integer lastRefreshTick = lastRefreshTicks.get(task);
+        if (lastRefreshTick != null && currentTick - lastRefreshTick < refreshTicks) {
+            return false;
+        }
+
+        lastRefreshTicks.put(task, currentTick);
+        return true;
+    }
+
+    /**
+     * Run an evaluation for a player, optionally off the thread owning the player. The returned future is always
+     * completed on the thread owning the player, so task progress can be updated safely when it completes. Only
+     * evaluations which are known to be thread-safe should be run asynchronously.
+     *
+     * @param player     the player
+     * @param evaluation the evaluation
+     * @param async      whether to run the evaluation off the thread owning the player
+     * @return the result
+     */
+    public <T> @NotNull CompletableFuture<T> evaluate(@NotNull Player player, @NotNull Supplier<T> evaluation, boolean async) {
+        if (!async) {
+            return CompletableFuture.completedFuture(evaluation.get());
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        plugin.getScheduler().runTaskAsynchronously(() -> {
+            T evaluated = evaluation.get();
+            plugin.getScheduler().runTaskAtEntity(player, () -> future.complete(evaluated));
+        });
+
+        return future;
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        for (Registration registration : registrations.values()) {
+            registration.lastRefreshTicks.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    private void tick() {
+        List<Registration> registrations = new ArrayList<>(this.registrations.values());
+        if (registrations.isEmpty()) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        boolean polled = false;
+
+        // start with a different task type every tick, so none of them is starved when the budget is exceeded
+        int size = registrations.size();
+        firstRegistration = (firstRegistration + 1) % size;
+
+        for (int i = 0; i < size; i++) {
+            Registration registration = registrations.get((firstRegistration + i) % size);
+            registration.refill();
+
+            for (int j = 0; j < registration.playersPerTick && !registration.queue.isEmpty(); j++) {
+                if (polled && System.nanoTime() >= deadline) {
+                    budgetExceededCount.incrementAndGet();
+                    return;
+                }
+
+                Player player = Bukkit.getPlayer(registration.queue.poll());
+                if (player == null || player.hasMetadata("NPC")) {
+                    continue;
+                }
+
+                if (FoliaServerScheduler.FOLIA) {
+                    plugin.getScheduler().runTaskAtEntity(player, () -> poll(registration, player));
+                    polled = true;
+                } else {
+                    polled |= poll(registration, player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Poll a player for a task type. Must be called from the thread owning the player.
+     *
+     * @return whether the player has been polled
+     */
+    private boolean poll(Registration registration, Player player) {
+        if (!player.isOnline()) {
+            return false;
+        }
+
+        QPlayer qPlayer = plugin.getPlayerManager().getPlayer(player.getUniqueId());
+        if (qPlayer == null || !TaskUtils.hasApplicableTasks(qPlayer, registration.taskType)) {
+            skippedCount.incrementAndGet();
+            return false;
+        }
+
+        try {
+            registration.handler.poll(player, qPlayer);
+        } catch (Exception e) {
+            plugin.getQuestsLogger().severe("Could not poll task type " + registration.taskType.getType() + " for player " + player.getUniqueId());
+            e.printStackTrace();
+        }
+        polledCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * @return the registered task types and the number of players each still has to poll in its current period
+     */
+    public @NotNull Map<String, Integer> getPendingPlayerCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, Registration> entry : registrations.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().queue.size());
+        }
+        return counts;
+    }
+
+    /**
+     * @return the number of players which have been polled
+     */
+    public long getPolledCount() {
+        return polledCount.get();
+    }
+
+    /**
+     * @return the number of players which have been skipped as they had no applicable tasks
+     */
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * @return the number of ticks which ran out of time before polling every player due
+     */
+    public long getBudgetExceededCount() {
+        return budgetExceededCount.get();
+    }
+
+    @FunctionalInterface
+    public interface PollHandler {
+
+        /**
+         * Poll the applicable tasks of a player. Called from the thread owning the player.
+         *
+         * @param player  the player
+         * @param qPlayer the quest player
+         */
+        void poll(@NotNull Player player, @NotNull QPlayer qPlayer);
+    }
+
+    private static final class Registration {
+
+        private final BukkitTaskType taskType;
+        private final int period;
+        private final PollHandler handler;
+        private final Deque<UUID> queue = new ArrayDeque<>();
+        private final Map<UUID, Map<Task, Integer>> lastRefreshTicks = new ConcurrentHashMap<>();
+        private int ticksUntilRefill;
+        private int playersPerTick;
+
+        private Registration(BukkitTaskType taskType, int period, PollHandler handler) {
+            this.taskType = taskType;
+            this.period = period;
+            this.handler = handler;
+        }
+
+        /**
+         * Queue every online player once a period has passed and the previous players have all been polled.
+         */
+        private void refill() {
+            if (ticksUntilRefill > 0) {
+                ticksUntilRefill--;
+            }
+
+            if (ticksUntilRefill > 0 || !queue.isEmpty()) {
+                return;
+            }
+
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                queue.add(player.getUniqueId());
+            }
+
+            ticksUntilRefill = period;
+            playersPerTick = Math.max(1, (queue.size() + period - 1) / period);
+        }
+    }
+}
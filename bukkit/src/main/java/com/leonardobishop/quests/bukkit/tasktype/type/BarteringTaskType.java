@@ -106,7 +106,7 @@ public final class BarteringTaskType extends BukkitTaskType {
             final Task task = pendingTask.task();
             final TaskProgress taskProgress = pendingTask.taskProgress();
 
-            this.debug("Player completed a bartering interaction from " + inputAmount + " x " + input.getType() + " to " + outputAmount + " x " + output.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            this.debug(() -> "Player completed a bartering interaction from " + inputAmount + " x " + input.getType() + " to " + outputAmount + " x " + output.getType(), quest.getId(), task.getId(), player.getUniqueId());
 
             if (task.hasConfigKey("input")) {
                 QuestItem qi;
@@ -150,7 +150,7 @@ public final class BarteringTaskType extends BukkitTaskType {
             };
 
             final int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, itemAmount);
-            this.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            this.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             final int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
@@ -77,7 +77,7 @@ public final class BlockItemdroppingTaskType extends BukkitTaskType {
                     continue;
                 }
 
-                super.debug("Specific item is required; dropped item is of type '" + item.getType() + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific item is required; dropped item is of type '{}'", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 QuestItem qi;
                 if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
@@ -101,7 +101,7 @@ public final class BlockItemdroppingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
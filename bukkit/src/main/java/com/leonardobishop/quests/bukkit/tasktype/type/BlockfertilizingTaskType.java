@@ -47,7 +47,7 @@ public final class BlockfertilizingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player fertilized a block, current block is " + block.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player fertilized a block, current block is {}", quest.getId(), task.getId(), player.getUniqueId(), block.getType());
 
             if (!TaskUtils.matchBlock(this, pendingTask, block, player.getUniqueId())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -55,7 +55,7 @@ public final class BlockfertilizingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
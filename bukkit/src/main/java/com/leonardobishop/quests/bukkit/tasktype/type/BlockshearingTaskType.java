@@ -46,7 +46,7 @@ public final class BlockshearingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player sheared a block, current block is " + block.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player sheared a block, current block is {}", quest.getId(), task.getId(), player.getUniqueId(), block.getType());
 
             if (!TaskUtils.matchBlock(this, pendingTask, block, player.getUniqueId())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -54,7 +54,7 @@ public final class BlockshearingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
@@ -108,7 +108,7 @@ public final class BreedingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, eventAmount);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
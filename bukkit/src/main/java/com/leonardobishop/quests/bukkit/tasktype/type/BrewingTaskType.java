@@ -105,7 +105,7 @@ public final class BrewingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player brewed " + eventAmount + " potions" + (ingredient != null ? " using " + ingredient.getType() : ""), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player brewed {} potions using {}", quest.getId(), task.getId(), player.getUniqueId(), eventAmount, ingredient != null ? ingredient.getType() : null);
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(ingredient, exactMatch)) {
@@ -115,13 +115,13 @@ public final class BrewingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, eventAmount);
-            super.debug("Updating task progress (now " + (progress + eventAmount) + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress + eventAmount);
 
             int amount = (int) task.getConfigValue("amount");
 
-            if ((int) taskProgress.getProgress() >= amount) {
+            if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(amount);
+                taskProgress.setIntegerProgress(amount);
                 taskProgress.setCompleted(true);
             }
 
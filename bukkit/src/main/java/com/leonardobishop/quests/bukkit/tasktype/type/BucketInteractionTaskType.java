@@ -58,7 +58,7 @@ public abstract class BucketInteractionTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player interacted with bucket of type " + item.getType(), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player interacted with bucket of type {}", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(item, exactMatch)) {
@@ -68,7 +68,7 @@ public abstract class BucketInteractionTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
@@ -4,6 +4,7 @@ import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskType;
 import com.leonardobishop.quests.bukkit.util.TaskUtils;
 import com.leonardobishop.quests.bukkit.util.constraint.TaskConstraintSet;
+import com.leonardobishop.quests.bukkit.util.matcher.StringMatcher;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Quest;
@@ -12,6 +13,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.jetbrains.annotations.NotNull;
 
 public final class CommandTaskType extends BukkitTaskType {
 
@@ -26,6 +28,14 @@ public final class CommandTaskType extends BukkitTaskType {
         super.addConfigValidator(TaskUtils.useEnumConfigValidator(this, TaskUtils.StringMatchMode.class, "command-match-mode"));
     }
 
+    @Override
+    public @NotNull Object compileTask(@NotNull Task task) {
+        return new CompiledCommandTask(
+                StringMatcher.compile(task, "command", "commands", "command-match-mode"),
+                TaskUtils.getConfigBoolean(task, "ignore-case")
+        );
+    }
+
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerCommandPreprocess(PlayerCommandPreprocessEvent event) {
         Player player = event.getPlayer();
@@ -47,12 +57,11 @@ public final class CommandTaskType extends BukkitTaskType {
             Quest quest = pendingTask.quest();
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
+            CompiledCommandTask compiledTask = super.getCompiledTask(task);
 
-            super.debug("Player sent command '/" + message + "'", quest.getId(), task.getId(), player.getUniqueId());
-
-            boolean ignoreCase = TaskUtils.getConfigBoolean(task, "ignore-case");
+            super.debug("Player sent command '/{}'", quest.getId(), task.getId(), player.getUniqueId(), message);
 
-            if (!TaskUtils.matchString(this, pendingTask, message, player.getUniqueId(), "command", "commands", false, "command-match-mode", ignoreCase)) {
+            if (!TaskUtils.matchString(this, pendingTask, message, player.getUniqueId(), compiledTask.commands(), false, compiledTask.ignoreCase())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
@@ -61,4 +70,7 @@ public final class CommandTaskType extends BukkitTaskType {
             taskProgress.setCompleted(true);
         }
     }
+
+    private record CompiledCommandTask(@NotNull StringMatcher commands, boolean ignoreCase) {
+    }
 }
@@ -90,7 +90,7 @@ public final class ConsumeTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player consumed item of type " + item.getType(), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player consumed item of type {}", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(item, exactMatch)) {
@@ -100,7 +100,7 @@ public final class ConsumeTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
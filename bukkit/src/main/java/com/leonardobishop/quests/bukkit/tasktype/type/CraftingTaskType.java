@@ -94,7 +94,7 @@ public final class CraftingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player crafted " + eventAmount + " of " + item.getType(), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player crafted {} of {}", quest.getId(), task.getId(), player.getUniqueId(), eventAmount, item.getType());
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(item, exactMatch)) {
@@ -104,13 +104,13 @@ public final class CraftingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, eventAmount);
-            super.debug("Updating task progress (now " + (progress + eventAmount) + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress + eventAmount);
 
             int amount = (int) task.getConfigValue("amount");
 
-            if ((int) taskProgress.getProgress() >= amount) {
+            if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(amount);
+                taskProgress.setIntegerProgress(amount);
                 taskProgress.setCompleted(true);
             }
 
@@ -72,7 +72,7 @@ public final class DealDamageTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player damaged " + entity.getType() + " for " + damage, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player damaged {} for {}", quest.getId(), task.getId(), player.getUniqueId(), entity.getType(), damage);
 
             boolean allowOnlyCreatures = TaskUtils.getConfigBoolean(task, "allow-only-creatures", true);
 
@@ -93,7 +93,7 @@ public final class DealDamageTaskType extends BukkitTaskType {
                     continue;
                 }
 
-                super.debug("Specific item is required; player held item is of type '" + item.getType() + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific item is required; player held item is of type '{}'", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 QuestItem qi;
                 if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
@@ -114,8 +114,8 @@ public final class DealDamageTaskType extends BukkitTaskType {
             int amount = (int) task.getConfigValue("amount");
             double progress = Math.min(amount, TaskUtils.getDecimalTaskProgress(taskProgress) + damage);
 
-            taskProgress.setProgress(progress);
-            super.debug("Updating task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            taskProgress.setDecimalProgress(progress);
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
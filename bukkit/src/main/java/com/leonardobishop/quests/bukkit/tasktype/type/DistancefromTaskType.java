@@ -74,7 +74,7 @@ public final class DistancefromTaskType extends BukkitTaskType {
             String worldString = (String) task.getConfigValue("world");
             World world = Bukkit.getWorld(worldString);
             if (!player.getWorld().equals(world)) {
-                super.debug("World " + worldString + " does not exist or isn't the player world, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("World {} does not exist or isn't the player world, continuing...", quest.getId(), task.getId(), player.getUniqueId(), worldString);
                 continue;
             }
 
@@ -86,7 +86,7 @@ public final class DistancefromTaskType extends BukkitTaskType {
 
             double playerDistanceSquared = distanceSquarred(player, x, y, z);
 
-            super.debug("Player is " + playerDistanceSquared + "m squared away", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player is {}m squared away", quest.getId(), task.getId(), player.getUniqueId(), playerDistanceSquared);
 
             if (playerDistanceSquared > distanceSquared) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
@@ -42,16 +42,16 @@ public final class ExpEarnTaskType extends BukkitTaskType {
 
             int amountEarned = e.getAmount();
 
-            super.debug("Player earned " + amountEarned + " XP", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player earned {} XP", quest.getId(), task.getId(), player.getUniqueId(), amountEarned);
 
             int expNeeded = (int) task.getConfigValue("amount");
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, amountEarned);
-            super.debug("Updating task progress (now " + (progress) + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             if (progress >= expNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(expNeeded);
+                taskProgress.setIntegerProgress(expNeeded);
                 taskProgress.setCompleted(true);
             }
 
@@ -123,7 +123,7 @@ public final class FarmingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player farmed a crop " + block.getType() + " (mode = " + mode + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player farmed a crop {} (mode = {})", quest.getId(), task.getId(), player.getUniqueId(), block.getType(), mode);
 
             Object requiredModeObject = task.getConfigValue("mode");
 
@@ -163,7 +163,7 @@ public final class FarmingTaskType extends BukkitTaskType {
 
             Runnable increment = () -> {
                 int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-                super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
                 int amount = (int) task.getConfigValue("amount");
                 if (progress >= amount) {
@@ -191,7 +191,7 @@ public final class FarmingTaskType extends BukkitTaskType {
                             increment.run();
                         }
                     }).exceptionally(throwable -> {
-                        super.debug("CoreProtect lookup failed: " + throwable.getMessage(), quest.getId(), task.getId(), player.getUniqueId());
+                        super.debug("CoreProtect lookup failed: {}", quest.getId(), task.getId(), player.getUniqueId(), throwable.getMessage());
                         throwable.printStackTrace();
                         return null;
                     });
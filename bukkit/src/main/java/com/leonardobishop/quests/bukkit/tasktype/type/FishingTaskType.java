@@ -77,7 +77,7 @@ public final class FishingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player fished item of type " + item.getType(), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player fished item of type {}", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(item, exactMatch)) {
@@ -87,7 +87,7 @@ public final class FishingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
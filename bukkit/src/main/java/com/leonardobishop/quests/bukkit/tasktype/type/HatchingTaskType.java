@@ -56,7 +56,7 @@ public final class HatchingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player hatched " + hatchingType, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player hatched {}", quest.getId(), task.getId(), player.getUniqueId(), hatchingType);
 
             if (!TaskUtils.matchEntity(this, pendingTask, hatchingType, player.getUniqueId())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -64,7 +64,7 @@ public final class HatchingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, numHatches);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
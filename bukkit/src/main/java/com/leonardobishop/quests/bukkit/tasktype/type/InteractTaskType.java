@@ -71,7 +71,7 @@ public final class InteractTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player interacted with " + action + " using " + hand + " resulting in block " + useInteractedBlock + " and item " + useItemInHand, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug(() -> "Player interacted with " + action + " using " + hand + " resulting in block " + useInteractedBlock + " and item " + useItemInHand, quest.getId(), task.getId(), player.getUniqueId());
 
             // keep ignoreCancelled default behaviour
             boolean effectivelyCancelled = useInteractedBlock == Event.Result.DENY &&
@@ -115,7 +115,7 @@ public final class InteractTaskType extends BukkitTaskType {
                     continue;
                 }
 
-                super.debug("Specific item is required; player held item is of type '" + item.getType() + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific item is required; player held item is of type '{}'", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 QuestItem qi;
                 if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
@@ -134,7 +134,7 @@ public final class InteractTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
@@ -12,6 +12,7 @@ import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.Task;
 import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -22,14 +23,29 @@ import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.event.player.PlayerPickupItemEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class InventoryTaskType extends BukkitTaskType {
 
+    private static final int INVENTORY_SIZE = 36;
+
     private final BukkitQuestsPlugin plugin;
     private final Table<String, String, QuestItem> fixedQuestItemCache = HashBasedTable.create();
 
+    // players whose inventory has changed and who already have a check scheduled
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+
+    // checks run on the thread owning the player, which may differ between players
+    private final ThreadLocal<ScanBuffer> scanBuffer = ThreadLocal.withInitial(ScanBuffer::new);
+
     public InventoryTaskType(BukkitQuestsPlugin plugin) {
         super("inventory", TaskUtils.TASK_ATTRIBUTION_STRING, "Obtain a set of items.");
         this.plugin = plugin;
@@ -85,6 +101,11 @@ public final class InventoryTaskType extends BukkitTaskType {
         checkInventory(event.getPlayer(), 1L);
     }
 
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        dirtyPlayers.remove(event.getPlayer().getUniqueId());
+    }
+
     private final class BucketEntityListener implements Listener {
         @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
         public void onBucketEntity(org.bukkit.event.player.PlayerBucketEntityEvent event) {
@@ -98,9 +119,18 @@ public final class InventoryTaskType extends BukkitTaskType {
         checkInventory(player, delay);
     }
 
+    /**
+     * Mark the inventory of a player as changed. However many times this is called, the inventory is only checked
+     * once, after the delay has passed.
+     */
     private void checkInventory(Player player, long delay) {
         if (player == null || player.hasMetadata("NPC") || !player.isOnline()) return;
-        plugin.getScheduler().runTaskLaterAtLocation(player.getLocation(), () -> checkInventory(player), delay);
+        if (!dirtyPlayers.add(player.getUniqueId())) return;
+
+        plugin.getScheduler().runTaskLaterAtEntity(player, () -> {
+            dirtyPlayers.remove(player.getUniqueId());
+            checkInventory(player);
+        }, delay);
     }
 
     private void checkInventory(Player player) {
@@ -113,15 +143,13 @@ public final class InventoryTaskType extends BukkitTaskType {
             return;
         }
 
+        List<InventoryTask> tasks = new ArrayList<>();
         for (TaskUtils.PendingTask pendingTask : TaskUtils.getApplicableTasks(player, qPlayer, this, TaskConstraintSet.ALL)) {
             Quest quest = pendingTask.quest();
             Task task = pendingTask.task();
-            TaskProgress taskProgress = pendingTask.taskProgress();
 
             super.debug("Inventory check triggered", quest.getId(), task.getId(), player.getUniqueId());
 
-            boolean allowPartial = TaskUtils.getConfigBoolean(task, "allow-partial-completion");
-
             QuestItem qi;
             if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
                 QuestItem fetchedItem = TaskUtils.getConfigQuestItem(task, "item", "data");
@@ -130,14 +158,35 @@ public final class InventoryTaskType extends BukkitTaskType {
             }
 
             boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
-            int[] amountPerSlot = TaskUtils.getAmountsPerSlot(player, qi, exactMatch);
-            super.debug("Player has " + amountPerSlot[36] + " of the required item", quest.getId(), task.getId(), player.getUniqueId());
+            tasks.add(new InventoryTask(pendingTask, qi, qi.getMatchingMaterial(), exactMatch));
+        }
+
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        ScanBuffer buffer = scanBuffer.get();
+        buffer.ensureCapacity(tasks.size());
+        countItems(player, tasks, 0, buffer);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            InventoryTask inventoryTask = tasks.get(i);
+            TaskUtils.PendingTask pendingTask = inventoryTask.pendingTask();
+            Quest quest = pendingTask.quest();
+            Task task = pendingTask.task();
+            TaskProgress taskProgress = pendingTask.taskProgress();
+
+            boolean allowPartial = TaskUtils.getConfigBoolean(task, "allow-partial-completion");
+
+            int[] amountPerSlot = buffer.amountsPerSlot[i];
+            super.debug("Player has {} of the required item", quest.getId(), task.getId(), player.getUniqueId(), amountPerSlot[INVENTORY_SIZE]);
 
             int amount = (int) task.getConfigValue("amount");
+            boolean removed = false;
 
             if (allowPartial) {
                 int progress = TaskUtils.getIntegerTaskProgress(taskProgress);
-                int total = Math.min(amountPerSlot[36], amount - progress);
+                int total = Math.min(amountPerSlot[INVENTORY_SIZE], amount - progress);
 
                 if (total == 0) {
                     continue;
@@ -146,18 +195,19 @@ public final class InventoryTaskType extends BukkitTaskType {
                 // We must ALWAYS remove items if partial completion is allowed
                 // https://github.com/LMBishop/Quests/issues/375
                 TaskUtils.removeItemsInSlots(player, amountPerSlot, total);
-                super.debug("Removing " + total + " items from inventory", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Removing {} items from inventory", quest.getId(), task.getId(), player.getUniqueId(), total);
+                removed = true;
 
                 progress += total;
-                taskProgress.setProgress(progress);
-                super.debug("Updating task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+                taskProgress.setIntegerProgress(progress);
+                super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
                 if (progress >= amount) {
                     taskProgress.setCompleted(true);
                     super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
                 }
             } else {
-                int progress = Math.min(amountPerSlot[36], amount);
+                int progress = Math.min(amountPerSlot[INVENTORY_SIZE], amount);
                 int oldProgress = TaskUtils.getIntegerTaskProgress(taskProgress);
 
                 if (progress == oldProgress) {
@@ -167,8 +217,8 @@ public final class InventoryTaskType extends BukkitTaskType {
                     continue;
                 }
 
-                taskProgress.setProgress(progress);
-                super.debug("Updating task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+                taskProgress.setIntegerProgress(progress);
+                super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
                 if (progress >= amount) {
                     taskProgress.setCompleted(true);
@@ -179,11 +229,80 @@ public final class InventoryTaskType extends BukkitTaskType {
                     if (remove) {
                         TaskUtils.removeItemsInSlots(player, amountPerSlot, progress);
                         super.debug("Removing items from inventory", quest.getId(), task.getId(), player.getUniqueId());
+                        removed = true;
                     }
                 }
             }
 
             TaskUtils.sendTrackAdvancement(player, quest, task, pendingTask, amount);
+
+            // the counts of the remaining tasks no longer reflect the inventory
+            if (removed) {
+                countItems(player, tasks, i + 1, buffer);
+            }
+        }
+    }
+
+    /**
+     * Count the matching items of tasks in a single pass over the inventory. For each task from the given index, the
+     * amount in every slot is stored in the buffer, followed by the total.
+     */
+    private static void countItems(Player player, List<InventoryTask> tasks, int fromIndex, ScanBuffer buffer) {
+        for (int i = fromIndex; i < tasks.size(); i++) {
+            Arrays.fill(buffer.amountsPerSlot[i], 0);
+        }
+
+        // getStorageContents does not exist on 1.8, the first slots of the contents are the storage slots on every version
+        ItemStack[] contents = player.getInventory().getContents();
+        for (int slot = 0; slot < INVENTORY_SIZE && slot < contents.length; slot++) {
+            ItemStack itemStack = contents[slot];
+            if (itemStack == null || itemStack.getType() == Material.AIR) {
+                continue;
+            }
+
+            Material material = itemStack.getType();
+            int itemAmount = itemStack.getAmount();
+
+            for (int i = fromIndex; i < tasks.size(); i++) {
+                InventoryTask inventoryTask = tasks.get(i);
+
+                Material matchingMaterial = inventoryTask.matchingMaterial();
+                if (matchingMaterial != null && matchingMaterial != material) {
+                    continue;
+                }
+
+                if (!inventoryTask.questItem().compareItemStack(itemStack, inventoryTask.exactMatch())) {
+                    continue;
+                }
+
+                int[] amountPerSlot = buffer.amountsPerSlot[i];
+                amountPerSlot[slot] = itemAmount;
+                amountPerSlot[INVENTORY_SIZE] += itemAmount;
+            }
+        }
+    }
+
+    private record InventoryTask(TaskUtils.PendingTask pendingTask, QuestItem questItem, Material matchingMaterial,
+                                 boolean exactMatch) { }
+
+    /**
+     * Per-thread arrays reused between checks, each holding the amount of matching items per slot of a task followed
+     * by their total.
+     */
+    private static final class ScanBuffer {
+
+        private int[][] amountsPerSlot = new int[0][];
+
+        private void ensureCapacity(int tasks) {
+            if (amountsPerSlot.length >= tasks) {
+                return;
+            }
+
+            int size = amountsPerSlot.length;
+            amountsPerSlot = Arrays.copyOf(amountsPerSlot, Math.max(tasks, size * 2));
+            for (int i = size; i < amountsPerSlot.length; i++) {
+                amountsPerSlot[i] = new int[INVENTORY_SIZE + 1];
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -66,7 +66,7 @@ public final class MilkingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player milked " + entity.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player milked {}", quest.getId(), task.getId(), player.getUniqueId(), entity.getType());
 
             if (!TaskUtils.matchEntity(this, pendingTask, entity, player.getUniqueId())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -79,7 +79,7 @@ public final class MilkingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
@@ -9,6 +9,7 @@ import com.leonardobishop.quests.bukkit.item.QuestItem;
 import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskType;
 import com.leonardobishop.quests.bukkit.util.TaskUtils;
 import com.leonardobishop.quests.bukkit.util.constraint.TaskConstraintSet;
+import com.leonardobishop.quests.bukkit.util.matcher.BlockMatcher;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Quest;
@@ -21,6 +22,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
 
 public final class MiningTaskType extends BukkitTaskType {
 
@@ -49,6 +51,22 @@ public final class MiningTaskType extends BukkitTaskType {
         fixedQuestItemCache.clear();
     }
 
+    @Override
+    public @NotNull Object compileTask(@NotNull Task task) {
+        return new CompiledMiningTask(
+                BlockMatcher.compile(task, "block", "blocks"),
+                task.getConfigValue("amount") instanceof Integer amount ? amount : 0,
+                task.hasConfigKey("item"),
+                TaskUtils.getConfigBoolean(task, "exact-match", true),
+                TaskUtils.getConfigBoolean(task, "allow-silk-touch", true),
+                TaskUtils.getConfigBoolean(task, "check-playerblocktracker"),
+                TaskUtils.getConfigBoolean(task, "check-coreprotect"),
+                task.getConfigValue("check-coreprotect-time") instanceof Integer coreProtectTime ? coreProtectTime : 3600,
+                TaskUtils.getConfigBoolean(task, "reverse-if-placed"),
+                TaskUtils.getConfigBoolean(task, "allow-negative-progress", true)
+        );
+    }
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
@@ -69,29 +87,29 @@ public final class MiningTaskType extends BukkitTaskType {
             Quest quest = pendingTask.quest();
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
+            CompiledMiningTask compiledTask = super.getCompiledTask(task);
 
-            super.debug("Player mined block " + block.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player mined block {}", quest.getId(), task.getId(), player.getUniqueId(), block.getType());
 
-            boolean allowSilkTouch = TaskUtils.getConfigBoolean(task, "allow-silk-touch", true);
-            if (!allowSilkTouch && silkTouchPresent) {
+            if (!compiledTask.allowSilkTouch() && silkTouchPresent) {
                 super.debug("allow-silk-touch is enabled, continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
             super.debug("allow-silk-touch is disabled, checking block", quest.getId(), task.getId(), player.getUniqueId());
 
-            if (!TaskUtils.matchBlock(this, pendingTask, block, player.getUniqueId())) {
+            if (!TaskUtils.matchBlock(this, pendingTask, block, player.getUniqueId(), compiledTask.blocks())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
-            if (task.hasConfigKey("item")) {
+            if (compiledTask.itemRequired()) {
                 if (item == null) {
                     super.debug("Specific item is required, player has no item in hand; continuing...", quest.getId(), task.getId(), player.getUniqueId());
                     continue;
                 }
 
-                super.debug("Specific item is required; player held item is of type '" + item.getType() + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific item is required; player held item is of type '{}'", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 QuestItem qi;
                 if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
@@ -100,8 +118,7 @@ public final class MiningTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
-                if (!qi.compareItemStack(item, exactMatch)) {
+                if (!qi.compareItemStack(item, compiledTask.exactMatch())) {
                     super.debug("Item does not match required item, continuing...", quest.getId(), task.getId(), player.getUniqueId());
                     continue;
                 } else {
@@ -109,9 +126,7 @@ public final class MiningTaskType extends BukkitTaskType {
                 }
             }
 
-            boolean playerBlockTrackerEnabled = TaskUtils.getConfigBoolean(task, "check-playerblocktracker");
-
-            if (playerBlockTrackerEnabled) {
+            if (compiledTask.checkPlayerBlockTracker()) {
                 AbstractPlayerBlockTrackerHook playerBlockTrackerHook = plugin.getPlayerBlockTrackerHook();
                 if (playerBlockTrackerHook != null) {
                     super.debug("Running PlayerBlockTracker lookup", quest.getId(), task.getId(), player.getUniqueId());
@@ -131,9 +146,9 @@ public final class MiningTaskType extends BukkitTaskType {
 
             Runnable increment = () -> {
                 int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-                super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
-                int amount = (int) task.getConfigValue("amount");
+                int amount = compiledTask.amount();
                 if (progress >= amount) {
                     super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
                     taskProgress.setCompleted(true);
@@ -142,16 +157,13 @@ public final class MiningTaskType extends BukkitTaskType {
                 TaskUtils.sendTrackAdvancement(player, quest, task, pendingTask, amount);
             };
 
-            boolean coreProtectEnabled = TaskUtils.getConfigBoolean(task, "check-coreprotect");
-            int coreProtectTime = (int) task.getConfigValue("check-coreprotect-time", 3600);
-
-            if (coreProtectEnabled) {
+            if (compiledTask.checkCoreProtect()) {
                 AbstractCoreProtectHook coreProtectHook = plugin.getCoreProtectHook();
                 if (coreProtectHook != null) {
                     super.debug("Running CoreProtect lookup (may take a while)", quest.getId(), task.getId(), player.getUniqueId());
 
                     // Run CoreProtect lookup
-                    plugin.getCoreProtectHook().checkBlock(block, coreProtectTime).thenAccept(result -> {
+                    plugin.getCoreProtectHook().checkBlock(block, compiledTask.coreProtectTime()).thenAccept(result -> {
                         if (result) {
                             super.debug("CoreProtect lookup indicates this is a player placed block, continuing...", quest.getId(), task.getId(), player.getUniqueId());
                         } else {
@@ -159,7 +171,7 @@ public final class MiningTaskType extends BukkitTaskType {
                             increment.run();
                         }
                     }).exceptionally(throwable -> {
-                        super.debug("CoreProtect lookup failed: " + throwable.getMessage(), quest.getId(), task.getId(), player.getUniqueId());
+                        super.debug("CoreProtect lookup failed: {}", quest.getId(), task.getId(), player.getUniqueId(), throwable.getMessage());
                         throwable.printStackTrace();
                         return null;
                     });
@@ -194,33 +206,36 @@ public final class MiningTaskType extends BukkitTaskType {
             Quest quest = pendingTask.quest();
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
+            CompiledMiningTask compiledTask = super.getCompiledTask(task);
 
-            super.debug("Player placed block " + block.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player placed block {}", quest.getId(), task.getId(), player.getUniqueId(), block.getType());
 
-            boolean reverseIfPlaced = TaskUtils.getConfigBoolean(task, "reverse-if-placed");
-            if (!reverseIfPlaced) {
+            if (!compiledTask.reverseIfPlaced()) {
                 continue;
             }
 
             super.debug("reverse-if-placed is enabled, checking block", quest.getId(), task.getId(), player.getUniqueId());
 
-            if (!TaskUtils.matchBlock(this, pendingTask, block, player.getUniqueId())) {
+            if (!TaskUtils.matchBlock(this, pendingTask, block, player.getUniqueId(), compiledTask.blocks())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
-            boolean allowNegativeProgress = TaskUtils.getConfigBoolean(task, "allow-negative-progress", true);
             int currentProgress = TaskUtils.getIntegerTaskProgress(taskProgress);
-            if (currentProgress <= 0 && !allowNegativeProgress) {
+            if (currentProgress <= 0 && !compiledTask.allowNegativeProgress()) {
                 super.debug("Task progress is already at zero and negative progress is disabled, skipping decrement", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
             int progress = TaskUtils.decrementIntegerTaskProgress(taskProgress);
-            super.debug("Decrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Decrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
-            int amount = (int) task.getConfigValue("amount");
-            TaskUtils.sendTrackAdvancement(player, quest, task, pendingTask, amount);
+            TaskUtils.sendTrackAdvancement(player, quest, task, pendingTask, compiledTask.amount());
         }
     }
+
+    private record CompiledMiningTask(@NotNull BlockMatcher blocks, int amount, boolean itemRequired, boolean exactMatch,
+                                      boolean allowSilkTouch, boolean checkPlayerBlockTracker, boolean checkCoreProtect,
+                                      int coreProtectTime, boolean reverseIfPlaced, boolean allowNegativeProgress) {
+    }
 }
@@ -7,21 +7,27 @@ import com.leonardobishop.quests.bukkit.item.QuestItem;
 import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskType;
 import com.leonardobishop.quests.bukkit.util.TaskUtils;
 import com.leonardobishop.quests.bukkit.util.constraint.TaskConstraintSet;
+import com.leonardobishop.quests.bukkit.util.matcher.EnumMatcher;
+import com.leonardobishop.quests.bukkit.util.matcher.StringMatcher;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.Task;
 import org.bukkit.entity.Animals;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Monster;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.CreatureSpawnEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class MobkillingTaskType extends BukkitTaskType {
 
@@ -59,6 +65,21 @@ public final class MobkillingTaskType extends BukkitTaskType {
         fixedQuestItemCache.clear();
     }
 
+    @Override
+    public @NotNull Object compileTask(@NotNull Task task) {
+        Boolean hostile = task.getConfigValue("hostile") instanceof Boolean configHostile ? configHostile : null;
+
+        return new CompiledMobkillingTask(
+                EnumMatcher.compile(EntityType.class, task, "mob", "mobs"),
+                EnumMatcher.compile(CreatureSpawnEvent.SpawnReason.class, task, "spawn-reason", "spawn-reasons"),
+                StringMatcher.compile(task, "name", "names", "name-match-mode"),
+                hostile,
+                task.getConfigValue("amount") instanceof Integer amount ? amount : 0,
+                task.hasConfigKey("item"),
+                TaskUtils.getConfigBoolean(task, "exact-match", true)
+        );
+    }
+
     private final class EntityDeathListener implements Listener {
         @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
         public void onEntityDeath(EntityDeathEvent event) {
@@ -106,12 +127,12 @@ public final class MobkillingTaskType extends BukkitTaskType {
             Quest quest = pendingTask.quest();
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
+            CompiledMobkillingTask compiledTask = super.getCompiledTask(task);
 
-            super.debug("Player killed " + entity.getType(), quest.getId(), task.getId(), player.getUniqueId());
-
-            if (task.hasConfigKey("hostile")) {
-                boolean hostile = TaskUtils.getConfigBoolean(task, "hostile");
+            super.debug("Player killed {}", quest.getId(), task.getId(), player.getUniqueId(), entity.getType());
 
+            Boolean hostile = compiledTask.hostile();
+            if (hostile != null) {
                 if (!hostile && !(entity instanceof Animals)) {
                     super.debug("Mob must be passive, but is hostile, continuing...", quest.getId(), task.getId(), player.getUniqueId());
                     continue;
@@ -121,29 +142,29 @@ public final class MobkillingTaskType extends BukkitTaskType {
                 }
             }
 
-            if (!TaskUtils.matchEntity(this, pendingTask, entity, player.getUniqueId())) {
+            if (!TaskUtils.matchEntity(this, pendingTask, entity.getType(), player.getUniqueId(), compiledTask.mobs())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
-            if (!TaskUtils.matchSpawnReason(this, pendingTask, entity, player.getUniqueId())) {
+            if (!TaskUtils.matchSpawnReason(this, pendingTask, entity, player.getUniqueId(), compiledTask.spawnReasons())) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
-            if (!TaskUtils.matchString(this, pendingTask, customName, player.getUniqueId(), "name", "names", true, "name-match-mode", false)) {
+            if (!TaskUtils.matchString(this, pendingTask, customName, player.getUniqueId(), compiledTask.names(), true, false)) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
-            if (task.hasConfigKey("item")) {
+            if (compiledTask.itemRequired()) {
                 ItemStack item = plugin.getVersionSpecificHandler().getItemInMainHand(player);
                 if (item == null) {
                     super.debug("Specific item is required, player has no item in hand; continuing...", quest.getId(), task.getId(), player.getUniqueId());
                     continue;
                 }
 
-                super.debug("Specific item is required; player held item is of type '" + item.getType() + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific item is required; player held item is of type '{}'", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 QuestItem qi;
                 if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
@@ -152,8 +173,7 @@ public final class MobkillingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
-                if (!qi.compareItemStack(item, exactMatch)) {
+                if (!qi.compareItemStack(item, compiledTask.exactMatch())) {
                     super.debug("Item does not match required item, continuing...", quest.getId(), task.getId(), player.getUniqueId());
                     continue;
                 } else {
@@ -162,9 +182,9 @@ public final class MobkillingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, eventAmount);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
-            int amount = (int) task.getConfigValue("amount");
+            int amount = compiledTask.amount();
 
             if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
@@ -174,4 +194,8 @@ public final class MobkillingTaskType extends BukkitTaskType {
             TaskUtils.sendTrackAdvancement(player, quest, task, pendingTask, amount);
         }
     }
+
+    private record CompiledMobkillingTask(@NotNull EnumMatcher<EntityType> mobs, @NotNull EnumMatcher<CreatureSpawnEvent.SpawnReason> spawnReasons,
+                                          @NotNull StringMatcher names, @Nullable Boolean hostile, int amount, boolean itemRequired, boolean exactMatch) {
+    }
 }
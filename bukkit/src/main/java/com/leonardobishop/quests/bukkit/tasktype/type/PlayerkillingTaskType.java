@@ -49,7 +49,7 @@ public final class PlayerkillingTaskType extends BukkitTaskType {
             int playerKillsNeeded = (int) task.getConfigValue("amount");
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), killer.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), killer.getUniqueId(), progress);
 
             if (progress >= playerKillsNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), killer.getUniqueId());
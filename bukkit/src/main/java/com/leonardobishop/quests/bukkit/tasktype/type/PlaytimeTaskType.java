@@ -14,11 +14,28 @@ import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.Task;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.jspecify.annotations.NonNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class PlaytimeTaskType extends BukkitTaskType {
 
+    // how many ticks it takes to visit every online player once
+    private static final int SWEEP_PERIOD = 1200;
+    private static final long MINUTE_MILLIS = 60_000L;
+    // how long the playtime left over from a session is kept for once the player has quit
+    private static final long OFFLINE_RETENTION_MILLIS = 10 * MINUTE_MILLIS;
+
     private final BukkitQuestsPlugin plugin;
+    private final Map<UUID, PlaytimeClock> clocks = new ConcurrentHashMap<>();
     private WrappedTask poll;
 
     public PlaytimeTaskType(BukkitQuestsPlugin plugin) {
@@ -36,21 +53,146 @@ public final class PlaytimeTaskType extends BukkitTaskType {
             return;
         }
 
+        // players who were online before the plugin has been enabled
+        long now = System.currentTimeMillis();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.start(player, now);
+        }
+
         this.poll = new WrappedRunnable() {
+            private final Deque<UUID> sweepQueue = new ArrayDeque<>();
+            private int ticksUntilRefill;
+            private int playersPerTick;
+
             @Override
             public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    handle(player);
+                long now = System.currentTimeMillis();
+
+                // spread the players over the sweep period instead of handling all of them at once
+                if (this.ticksUntilRefill > 0) {
+                    this.ticksUntilRefill--;
+                }
+
+                if (this.ticksUntilRefill == 0 && this.sweepQueue.isEmpty()) {
+                    prune(now);
+
+                    for (Player player : Bukkit.getOnlinePlayers()) {
+                        this.sweepQueue.add(player.getUniqueId());
+                    }
+                    this.ticksUntilRefill = SWEEP_PERIOD;
+                    this.playersPerTick = Math.max(1, (this.sweepQueue.size() + SWEEP_PERIOD - 1) / SWEEP_PERIOD);
+                }
+
+                for (int i = 0; i < this.playersPerTick && !this.sweepQueue.isEmpty(); i++) {
+                    Player player = Bukkit.getPlayer(this.sweepQueue.poll());
+                    if (player != null) {
+                        handle(player, now);
+                    }
+                }
+            }
+        }.runTaskTimer(plugin.getScheduler(), 1L, 1L);
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        this.start(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    // before the player is unloaded
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        long now = System.currentTimeMillis();
+        this.handle(player, now);
+
+        // keep the clock only if there is playtime left over to carry over to the next session
+        this.clocks.computeIfPresent(player.getUniqueId(), (uuid, clock) -> {
+            synchronized (clock) {
+                if (clock.totalMillis == 0L && clock.activeMillis == 0L) {
+                    return null;
+                }
+
+                clock.checkpoint = -1L;
+                clock.offlineSince = now;
+                return clock;
+            }
+        });
+    }
+
+    /**
+     * Remove the clocks of players who have been offline for longer than the retention period, dropping the playtime
+     * they had left over.
+     */
+    private void prune(long now) {
+        for (UUID uuid : this.clocks.keySet()) {
+            this.clocks.computeIfPresent(uuid, (k, clock) -> {
+                synchronized (clock) {
+                    return clock.checkpoint == -1L && now - clock.offlineSince > OFFLINE_RETENTION_MILLIS ? null : clock;
                 }
+            });
+        }
+    }
+
+    private void start(Player player, long now) {
+        if (player.hasMetadata("NPC")) {
+            return;
+        }
+
+        // started atomically, so the clock cannot be pruned in between
+        this.clocks.compute(player.getUniqueId(), (uuid, clock) -> {
+            if (clock == null) {
+                clock = new PlaytimeClock();
             }
-        }.runTaskTimer(plugin.getScheduler(), 1200L, 1200L);
+
+            synchronized (clock) {
+                clock.checkpoint = now;
+                clock.afk = false;
+            }
+            return clock;
+        });
     }
 
-    private void handle(Player player) {
+    /**
+     * Accrue the playtime of a player since the previous checkpoint. The time is counted towards the tasks in whole
+     * minutes, with the remainder carried over to the next checkpoint, even if the player rejoins in between.
+     */
+    private void handle(Player player, long now) {
         if (player.hasMetadata("NPC")) {
             return;
         }
 
+        PlaytimeClock clock = this.clocks.get(player.getUniqueId());
+        if (clock == null) {
+            return;
+        }
+
+        int totalMinutes;
+        int activeMinutes;
+        synchronized (clock) {
+            if (clock.checkpoint == -1L) {
+                return;
+            }
+
+            long elapsed = Math.max(0L, now - clock.checkpoint);
+            clock.checkpoint = now;
+            clock.totalMillis += elapsed;
+
+            // the afk state is only known at checkpoints, so it is assumed to apply until the next one
+            if (!clock.afk) {
+                clock.activeMillis += elapsed;
+            }
+            clock.afk = this.isAfk(player);
+
+            totalMinutes = (int) (clock.totalMillis / MINUTE_MILLIS);
+            activeMinutes = (int) (clock.activeMillis / MINUTE_MILLIS);
+            clock.totalMillis -= totalMinutes * MINUTE_MILLIS;
+            clock.activeMillis -= activeMinutes * MINUTE_MILLIS;
+        }
+
+        if (totalMinutes == 0 && activeMinutes == 0) {
+            return;
+        }
+
         QPlayer qPlayer = plugin.getPlayerManager().getPlayer(player.getUniqueId());
         if (qPlayer == null) {
             return;
@@ -61,34 +203,28 @@ public final class PlaytimeTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Polling playtime for player", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Accruing playtime for player", quest.getId(), task.getId(), player.getUniqueId());
 
             boolean ignoreAfk = TaskUtils.getConfigBoolean(task, "ignore-afk", false);
+            int accruedMinutes = totalMinutes;
 
             if (ignoreAfk) {
-                super.debug("ignore-afk is enabled, checking hooks...", quest.getId(), task.getId(), player.getUniqueId());
-
-                AbstractCMIHook cmiHook = plugin.getCMIHook();
-                if (cmiHook != null && cmiHook.isAfk(player)) {
-                    super.debug("CMI reports player as afk, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                if (plugin.getCMIHook() == null && plugin.getEssentialsHook() == null) {
+                    super.debug("ignore-afk is enabled, but no hooks found, continuing...", quest.getId(), task.getId(), player.getUniqueId());
                     continue;
                 }
 
-                AbstractEssentialsHook essentialsHook = plugin.getEssentialsHook();
-                if (essentialsHook != null && essentialsHook.isAfk(player)) {
-                    super.debug("Essentials reports player as afk, continuing...", quest.getId(), task.getId(), player.getUniqueId());
-                    continue;
-                }
+                accruedMinutes = activeMinutes;
+                super.debug("ignore-afk is enabled, counting only time not spent afk", quest.getId(), task.getId(), player.getUniqueId());
+            }
 
-                if (cmiHook == null && essentialsHook == null) {
-                    super.debug("ignore-afk is enabled, but no hooks found, continuing...", quest.getId(), task.getId(), player.getUniqueId());
-                    continue;
-                }
+            if (accruedMinutes == 0) {
+                continue;
             }
 
             int minutes = (int) task.getConfigValue("minutes");
-            int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, accruedMinutes);
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             if (progress >= minutes) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
@@ -99,6 +235,16 @@ public final class PlaytimeTaskType extends BukkitTaskType {
         }
     }
 
+    private boolean isAfk(Player player) {
+        AbstractCMIHook cmiHook = plugin.getCMIHook();
+        if (cmiHook != null && cmiHook.isAfk(player)) {
+            return true;
+        }
+
+        AbstractEssentialsHook essentialsHook = plugin.getEssentialsHook();
+        return essentialsHook != null && essentialsHook.isAfk(player);
+    }
+
     @Override
     public void onDisable() {
 //        if (this.poll != null) {
@@ -110,4 +256,14 @@ public final class PlaytimeTaskType extends BukkitTaskType {
     public @NonNull Object getGoal(final @NonNull Task task) {
         return task.getConfigValue("minutes", "-");
     }
+
+    private static final class PlaytimeClock {
+
+        // -1 while the player is offline
+        private long checkpoint = -1L;
+        private long offlineSince;
+        private boolean afk;
+        private long totalMillis;
+        private long activeMillis;
+    }
 }
@@ -51,14 +51,14 @@ public final class ProjectilelaunchingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player launched a projectile, current entity is " + projectile.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player launched a projectile, current entity is {}", quest.getId(), task.getId(), player.getUniqueId(), projectile.getType());
             if (!TaskUtils.matchEntity(this, pendingTask, projectile, player.getUniqueId(), "projectile", "projectiles")) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
                 continue;
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
@@ -50,7 +50,7 @@ public final class ResurrectingTaskType extends BukkitTaskType {
             super.debug("Player resurrected", quest.getId(), task.getId(), player.getUniqueId());
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
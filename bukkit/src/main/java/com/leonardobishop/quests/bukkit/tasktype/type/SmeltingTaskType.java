@@ -103,11 +103,11 @@ public final class SmeltingTaskType extends BukkitTaskType {
 
             String mode = (String) task.getConfigValue("mode");
             if (mode != null && !inventoryTypeName.equals(mode)) {
-                super.debug("Specific mode is required, but the actual mode '" + inventoryType + "' does not match, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific mode is required, but the actual mode '{}' does not match, continuing...", quest.getId(), task.getId(), player.getUniqueId(), inventoryType);
                 continue;
             }
 
-            super.debug("Player smelted " + eventAmount + " of " + item.getType(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player smelted {} of {}", quest.getId(), task.getId(), player.getUniqueId(), eventAmount, item.getType());
 
             if (task.hasConfigKey("item")) {
                 QuestItem qi;
@@ -125,13 +125,13 @@ public final class SmeltingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, eventAmount);
-            super.debug("Updating task progress (now " + (progress + eventAmount) + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress + eventAmount);
 
             int amount = (int) task.getConfigValue("amount");
 
-            if ((int) taskProgress.getProgress() >= amount) {
+            if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(amount);
+                taskProgress.setIntegerProgress(amount);
                 taskProgress.setCompleted(true);
             }
 
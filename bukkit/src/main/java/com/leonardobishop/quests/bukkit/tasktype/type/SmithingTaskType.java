@@ -97,7 +97,7 @@ public final class SmithingTaskType extends BukkitTaskType {
                 String mode = (String) task.getConfigValue("mode");
 
                 if (!recipeType.equals(mode) && !"any".equals(mode)) {
-                    super.debug("Specific mode is required, but the actual mode '" + recipeType + "' does not match, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                    super.debug("Specific mode is required, but the actual mode '{}' does not match, continuing...", quest.getId(), task.getId(), player.getUniqueId(), recipeType);
                     continue;
                 }
             }
@@ -110,7 +110,7 @@ public final class SmithingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player smithed " + eventAmount + " of " + item.getType(), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player smithed {} of {}", quest.getId(), task.getId(), player.getUniqueId(), eventAmount, item.getType());
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(item, exactMatch)) {
@@ -120,13 +120,13 @@ public final class SmithingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, eventAmount);
-            super.debug("Updating task progress (now " + (progress + eventAmount) + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress + eventAmount);
 
             int amount = (int) task.getConfigValue("amount");
 
-            if ((int) taskProgress.getProgress() >= amount) {
+            if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(amount);
+                taskProgress.setIntegerProgress(amount);
                 taskProgress.setCompleted(true);
             }
 
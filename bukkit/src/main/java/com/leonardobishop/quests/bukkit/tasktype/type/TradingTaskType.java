@@ -118,7 +118,7 @@ public final class TradingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Player traded " + resultAmount + " items of type " + result.getType(), quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Player traded {} items of type {}", quest.getId(), task.getId(), player.getUniqueId(), resultAmount, result.getType());
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
                 if (!qi.compareItemStack(result, exactMatch)) {
@@ -135,7 +135,11 @@ public final class TradingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("First ingredient was " + (firstIngredient != null ? (firstIngredient.getAmount() + " of type " + firstIngredient.getType()) : null), quest.getId(), task.getId(), player.getUniqueId());
+                if (firstIngredient != null) {
+                    super.debug("First ingredient was {} of type {}", quest.getId(), task.getId(), player.getUniqueId(), firstIngredient.getAmount(), firstIngredient.getType());
+                } else {
+                    super.debug("First ingredient was null", quest.getId(), task.getId(), player.getUniqueId());
+                }
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "first-ingredient-exact-match", true);
                 if (firstIngredient == null || !qi.compareItemStack(firstIngredient, exactMatch)) {
@@ -152,7 +156,11 @@ public final class TradingTaskType extends BukkitTaskType {
                     qi = fetchedItem;
                 }
 
-                super.debug("Second ingredient was " + (secondIngredient != null ? (secondIngredient.getAmount() + " of type " + secondIngredient.getType()) : null), quest.getId(), task.getId(), player.getUniqueId());
+                if (secondIngredient != null) {
+                    super.debug("Second ingredient was {} of type {}", quest.getId(), task.getId(), player.getUniqueId(), secondIngredient.getAmount(), secondIngredient.getType());
+                } else {
+                    super.debug("Second ingredient was null", quest.getId(), task.getId(), player.getUniqueId());
+                }
 
                 boolean exactMatch = TaskUtils.getConfigBoolean(task, "second-ingredient-exact-match", true);
                 if (secondIngredient == null || !qi.compareItemStack(secondIngredient, exactMatch)) {
@@ -175,7 +183,7 @@ public final class TradingTaskType extends BukkitTaskType {
             };
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress, itemAmount);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
@@ -39,16 +39,16 @@ public final class ASkyBlockLevelTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player island level updated to " + event.getLongLevel(), quest.getId(), task.getId(), event.getPlayer());
+            super.debug("Player island level updated to {}", quest.getId(), task.getId(), event.getPlayer(), event.getLongLevel());
 
             long islandLevelNeeded = (long) (int) task.getConfigValue("level");
 
-            taskProgress.setProgress(event.getLongLevel());
-            super.debug("Updating task progress (now " + event.getLongLevel() + ")", quest.getId(), task.getId(), event.getPlayer());
+            taskProgress.setLongProgress(event.getLongLevel());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), event.getPlayer(), event.getLongLevel());
 
-            if ((int) taskProgress.getProgress() >= islandLevelNeeded) {
+            if (taskProgress.getLongProgress() >= islandLevelNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(islandLevelNeeded);
+                taskProgress.setLongProgress(islandLevelNeeded);
                 taskProgress.setCompleted(true);
             }
 
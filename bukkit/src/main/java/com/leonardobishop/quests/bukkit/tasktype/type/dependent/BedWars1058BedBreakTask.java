@@ -45,7 +45,7 @@ public final class BedWars1058BedBreakTask extends BukkitTaskType {
             super.debug("Player broke a bed in BedWars", quest.getId(), task.getId(), player.getUniqueId());
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
@@ -50,7 +50,7 @@ public final class BedWars1058FinalKillTask extends BukkitTaskType {
             super.debug("Player got a final kill", quest.getId(), task.getId(), killer.getUniqueId());
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), killer.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), killer.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
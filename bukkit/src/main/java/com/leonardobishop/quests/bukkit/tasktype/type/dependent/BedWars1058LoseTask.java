@@ -60,7 +60,7 @@ public final class BedWars1058LoseTask extends BukkitTaskType {
             super.debug("Player lost a BedWars game", quest.getId(), task.getId(), loser.getUniqueId());
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), loser.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), loser.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
@@ -60,7 +60,7 @@ public final class BedWars1058WinTask extends BukkitTaskType {
             super.debug("Player won a BedWars game", quest.getId(), task.getId(), winner.getUniqueId());
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), winner.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), winner.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
             if (progress >= amount) {
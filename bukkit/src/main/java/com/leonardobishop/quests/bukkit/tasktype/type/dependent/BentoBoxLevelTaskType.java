@@ -60,14 +60,14 @@ public final class BentoBoxLevelTaskType extends BukkitTaskType {
             final Task task = pendingTask.task();
             final TaskProgress taskProgress = pendingTask.taskProgress();
 
-            this.debug("Player island level updated to " + level, quest.getId(), task.getId(), player.getUniqueId());
+            this.debug("Player island level updated to {}", quest.getId(), task.getId(), player.getUniqueId(), level);
 
             //noinspection DataFlowIssue // TODO quest data rework
             final long levelNeeded = (long) task.getConfigValue("level");
 
             final long clampedLevel = Math.max(level, levelNeeded);
-            taskProgress.setProgress(clampedLevel);
-            this.debug("Updating task progress (now " + clampedLevel + ")", quest.getId(), task.getId(), player.getUniqueId());
+            taskProgress.setLongProgress(clampedLevel);
+            this.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), clampedLevel);
 
             if (level >= levelNeeded) {
                 this.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
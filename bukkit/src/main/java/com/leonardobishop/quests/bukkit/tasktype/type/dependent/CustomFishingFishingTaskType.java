@@ -63,7 +63,7 @@ public final class CustomFishingFishingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player caught loot id " + id + " groups " + groupsAsString, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player caught loot id {} groups {}", quest.getId(), task.getId(), player.getUniqueId(), id, groupsAsString);
 
             if (!TaskUtils.matchString(this, pendingTask, id, player.getUniqueId(), "loot", "loots", false, "loot-match-mode", false)) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -76,7 +76,7 @@ public final class CustomFishingFishingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
@@ -75,7 +75,7 @@ public abstract class DeliverTaskType<T> extends BukkitTaskType {
             List<T> configNPCId = getNPCId(task);
             if (configNPCId != null) {
                 if (!configNPCId.contains(npcId)) {
-                    super.debug("NPC id " + npcId + " does not match required id, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                    super.debug("NPC id {} does not match required id, continuing...", quest.getId(), task.getId(), player.getUniqueId(), npcId);
                     continue;
                 }
             } else {
@@ -92,7 +92,7 @@ public abstract class DeliverTaskType<T> extends BukkitTaskType {
                     }
 
                     if (!configNPCName.equals(npcName)) {
-                        super.debug("NPC name " + npcName + " does not match required name, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                        super.debug("NPC name {} does not match required name, continuing...", quest.getId(), task.getId(), player.getUniqueId(), npcName);
                         continue;
                     }
                 }
@@ -109,7 +109,7 @@ public abstract class DeliverTaskType<T> extends BukkitTaskType {
 
             boolean exactMatch = TaskUtils.getConfigBoolean(task, "exact-match", true);
             int[] amountPerSlot = TaskUtils.getAmountsPerSlot(player, qi, exactMatch);
-            super.debug("Player has " + amountPerSlot[36] + " of the required item", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player has {} of the required item", quest.getId(), task.getId(), player.getUniqueId(), amountPerSlot[36]);
 
             int amount = (int) task.getConfigValue("amount");
 
@@ -124,11 +124,11 @@ public abstract class DeliverTaskType<T> extends BukkitTaskType {
                 // We must ALWAYS remove items if partial completion is allowed
                 // https://github.com/LMBishop/Quests/issues/375
                 TaskUtils.removeItemsInSlots(player, amountPerSlot, total);
-                super.debug("Removing " + total + " items from inventory", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Removing {} items from inventory", quest.getId(), task.getId(), player.getUniqueId(), total);
 
                 progress += total;
-                taskProgress.setProgress(progress);
-                super.debug("Updating task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+                taskProgress.setIntegerProgress(progress);
+                super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
                 if (progress >= amount) {
                     taskProgress.setCompleted(true);
@@ -136,8 +136,8 @@ public abstract class DeliverTaskType<T> extends BukkitTaskType {
                 }
             } else {
                 int progress = Math.min(amountPerSlot[36], amount);
-                taskProgress.setProgress(progress);
-                super.debug("Updating task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+                taskProgress.setIntegerProgress(progress);
+                super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
                 if (progress >= amount) {
                     taskProgress.setCompleted(true);
@@ -54,10 +54,10 @@ public final class EssentialsBalanceTaskType extends BukkitTaskType {
         TaskProgress taskProgress = questProgress.getTaskProgress(task.getId());
 
         BigDecimal balance = ess.getUser(player).getMoney();
-        super.debug("Player balance updated to " + balance, quest.getId(), task.getId(), player.getUniqueId());
+        super.debug("Player balance updated to {}", quest.getId(), task.getId(), player.getUniqueId(), balance);
 
         taskProgress.setProgress(balance);
-        super.debug("Updating task progress (now " + balance + ")", quest.getId(), task.getId(), player.getUniqueId());
+        super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), balance);
 
         int earningsNeeded = (int) task.getConfigValue("amount");
         BigDecimal amount = BigDecimal.valueOf(earningsNeeded);
@@ -85,10 +85,10 @@ public final class EssentialsBalanceTaskType extends BukkitTaskType {
             TaskProgress taskProgress = pendingTask.taskProgress();
 
             BigDecimal balance = event.getNewBalance();
-            super.debug("Player balance updated to " + balance, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player balance updated to {}", quest.getId(), task.getId(), player.getUniqueId(), balance);
 
             taskProgress.setProgress(balance);
-            super.debug("Updating task progress (now " + balance + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), balance);
 
             int earningsNeeded = (int) task.getConfigValue("amount");
             BigDecimal amount = BigDecimal.valueOf(earningsNeeded);
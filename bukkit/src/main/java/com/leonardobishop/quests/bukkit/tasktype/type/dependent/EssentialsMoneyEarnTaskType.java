@@ -44,7 +44,7 @@ public final class EssentialsMoneyEarnTaskType extends BukkitTaskType {
             TaskProgress taskProgress = pendingTask.taskProgress();
 
             BigDecimal balance = event.getNewBalance();
-            super.debug("Player balance updated to " + balance, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player balance updated to {}", quest.getId(), task.getId(), player.getUniqueId(), balance);
 
             Object progress = taskProgress.getProgress();
             BigDecimal current;
@@ -61,7 +61,7 @@ public final class EssentialsMoneyEarnTaskType extends BukkitTaskType {
             BigDecimal newProgress = current.add(difference);
 
             taskProgress.setProgress(newProgress);
-            super.debug("Updating task progress (now " + newProgress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), newProgress);
 
             int earningsNeeded = (int) task.getConfigValue("amount");
             BigDecimal amount = BigDecimal.valueOf(earningsNeeded);
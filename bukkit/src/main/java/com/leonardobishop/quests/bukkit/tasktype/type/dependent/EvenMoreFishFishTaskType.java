@@ -43,7 +43,7 @@ public abstract class EvenMoreFishFishTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            this.debug("Player caught fish " + fishName + " of rarity " + rarityName, quest.getId(), task.getId(), player.getUniqueId());
+            this.debug("Player caught fish {} of rarity {}", quest.getId(), task.getId(), player.getUniqueId(), fishName, rarityName);
 
             if (!TaskUtils.matchString(this, pendingTask, fishName, player.getUniqueId(), "fish", "fishes", false, "fish-match-mode", false)) {
                 this.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -56,7 +56,7 @@ public abstract class EvenMoreFishFishTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            this.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            this.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
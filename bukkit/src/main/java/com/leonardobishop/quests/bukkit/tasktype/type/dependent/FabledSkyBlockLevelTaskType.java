@@ -113,15 +113,15 @@ public final class FabledSkyBlockLevelTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player island level updated to " + level, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player island level updated to {}", quest.getId(), task.getId(), player.getUniqueId(), level);
 
-            taskProgress.setProgress(level);
-            super.debug("Updating task progress (now " + level + ")", quest.getId(), task.getId(), player.getUniqueId());
+            taskProgress.setLongProgress(level);
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), level);
 
             int islandLevelNeeded = (int) task.getConfigValue("level");
             if (level >= islandLevelNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(islandLevelNeeded);
+                taskProgress.setIntegerProgress(islandLevelNeeded);
                 taskProgress.setCompleted(true);
             }
 
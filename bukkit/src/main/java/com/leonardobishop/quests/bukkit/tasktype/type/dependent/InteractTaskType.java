@@ -50,7 +50,7 @@ public abstract class InteractTaskType<T> extends BukkitTaskType {
             List<T> configNPCId = getNPCId(task);
             if (configNPCId != null) {
                 if (!configNPCId.contains(npcId)) {
-                    super.debug("NPC id " + npcId + " does not match required id, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                    super.debug("NPC id {} does not match required id, continuing...", quest.getId(), task.getId(), player.getUniqueId(), npcId);
                     continue;
                 }
             } else {
@@ -67,7 +67,7 @@ public abstract class InteractTaskType<T> extends BukkitTaskType {
                     }
 
                     if (!configNPCName.equals(npcName)) {
-                        super.debug("NPC name " + npcName + " does not match required name, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                        super.debug("NPC name {} does not match required name, continuing...", quest.getId(), task.getId(), player.getUniqueId(), npcName);
                         continue;
                     }
                 }
@@ -57,14 +57,14 @@ public final class IridiumSkyblockValueTaskType extends BukkitTaskType {
 
                 int islandValueNeeded = (int) task.getConfigValue("value");
 
-                super.debug("Player island level updated to " + event.getIslandWorth(), quest.getId(), task.getId(), uuid);
+                super.debug("Player island level updated to {}", quest.getId(), task.getId(), uuid, event.getIslandWorth());
 
                 taskProgress.setProgress(event.getIslandWorth());
-                super.debug("Updating task progress (now " + event.getIslandWorth() + ")", quest.getId(), task.getId(), uuid);
+                super.debug("Updating task progress (now {})", quest.getId(), task.getId(), uuid, event.getIslandWorth());
 
                 if (((double) taskProgress.getProgress()) >= islandValueNeeded) {
                     super.debug("Marking task as complete", quest.getId(), task.getId(), uuid);
-                    taskProgress.setProgress(islandValueNeeded);
+                    taskProgress.setIntegerProgress(islandValueNeeded);
                     taskProgress.setCompleted(true);
                 }
                 TaskUtils.sendTrackAdvancement(player, quest, task, pendingTask, islandValueNeeded);
@@ -127,7 +127,7 @@ public final class MythicMobsDealDamageTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player damaged " + mobName + " for " + damage, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player damaged {} for {}", quest.getId(), task.getId(), player.getUniqueId(), mobName, damage);
 
             if (!TaskUtils.matchString(this, pendingTask, mobName, player.getUniqueId(), "name", "names", false, "name-match-mode", false)) {
                 super.debug("Continuing...", quest.getId(), task.getId(), player.getUniqueId());
@@ -153,7 +153,7 @@ public final class MythicMobsDealDamageTaskType extends BukkitTaskType {
                     continue;
                 }
 
-                super.debug("Specific item is required; player held item is of type '" + item.getType() + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Specific item is required; player held item is of type '{}'", quest.getId(), task.getId(), player.getUniqueId(), item.getType());
 
                 QuestItem qi;
                 if ((qi = fixedQuestItemCache.get(quest.getId(), task.getId())) == null) {
@@ -174,8 +174,8 @@ public final class MythicMobsDealDamageTaskType extends BukkitTaskType {
             int amount = (int) task.getConfigValue("amount");
             double progress = Math.min(amount, TaskUtils.getDecimalTaskProgress(taskProgress) + damage);
 
-            taskProgress.setProgress(progress);
-            super.debug("Updating task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            taskProgress.setDecimalProgress(progress);
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             if (progress >= amount) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
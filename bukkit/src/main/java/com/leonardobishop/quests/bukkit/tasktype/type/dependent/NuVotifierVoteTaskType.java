@@ -49,7 +49,7 @@ public final class NuVotifierVoteTaskType extends BukkitTaskType {
             int votesNeeded = (int) task.getConfigValue("amount");
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             if (progress >= votesNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
@@ -45,7 +45,7 @@ public final class PinataPartyHitTaskType extends BukkitTaskType {
             super.debug("Player hit pinata", quest.getId(), task.getId(), player.getUniqueId());
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
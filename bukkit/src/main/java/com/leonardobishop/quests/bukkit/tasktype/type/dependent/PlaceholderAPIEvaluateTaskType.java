@@ -1,8 +1,6 @@
 package com.leonardobishop.quests.bukkit.tasktype.type.dependent;
 
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
-import com.leonardobishop.quests.bukkit.scheduler.WrappedRunnable;
-import com.leonardobishop.quests.bukkit.scheduler.WrappedTask;
 import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskType;
 import com.leonardobishop.quests.bukkit.util.TaskUtils;
 import com.leonardobishop.quests.bukkit.util.constraint.TaskConstraintSet;
@@ -12,19 +10,15 @@ import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import com.leonardobishop.quests.common.quest.Quest;
 import com.leonardobishop.quests.common.quest.Task;
 import me.clip.placeholderapi.PlaceholderAPI;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.NonNull;
 
 import java.util.Arrays;
-import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 
 public final class PlaceholderAPIEvaluateTaskType extends BukkitTaskType {
 
     private final BukkitQuestsPlugin plugin;
-    private final WeakHashMap<Player, WeakHashMap<Task, Integer>> refreshTicksMap = new WeakHashMap<>();
-    private WrappedTask poll;
 
     public PlaceholderAPIEvaluateTaskType(BukkitQuestsPlugin plugin) {
         super("placeholderapi_evaluate", TaskUtils.TASK_ATTRIBUTION_STRING, "Evaluate the result of a placeholder");
@@ -60,26 +54,10 @@ public final class PlaceholderAPIEvaluateTaskType extends BukkitTaskType {
     @Override
     public void onReady() {
         int refreshTicks = plugin.getConfig().getInt("options.placeholderapi-global-refresh-ticks", 30);
-        this.poll = new WrappedRunnable() {
-            @Override
-            public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    handle(player);
-                }
-            }
-        }.runTaskTimer(plugin.getScheduler(), refreshTicks, refreshTicks);
+        plugin.getTaskTypePoller().register(this, refreshTicks, this::handle);
     }
 
-    private void handle(Player player) {
-        if (player.hasMetadata("NPC")) {
-            return;
-        }
-
-        QPlayer qPlayer = plugin.getPlayerManager().getPlayer(player.getUniqueId());
-        if (qPlayer == null) {
-            return;
-        }
-
+    private void handle(Player player, QPlayer qPlayer) {
         for (TaskUtils.PendingTask pendingTask : TaskUtils.getApplicableTasks(player, qPlayer, this, TaskConstraintSet.ALL)) {
             Quest quest = pendingTask.quest();
             Task task = pendingTask.task();
@@ -88,22 +66,9 @@ public final class PlaceholderAPIEvaluateTaskType extends BukkitTaskType {
             super.debug("Polling PAPI for player", quest.getId(), task.getId(), player.getUniqueId());
 
             Integer refreshTicks = (Integer) task.getConfigValue("refresh-ticks");
-            if (refreshTicks != null) {
-                int currentTick = Bukkit.getCurrentTick();
-
-                WeakHashMap<Task, Integer> playerRefreshTicksMap = refreshTicksMap.computeIfAbsent(player, k -> new WeakHashMap<>());
-                Integer lastRefreshTicks = playerRefreshTicksMap.get(task);
-
-                if (lastRefreshTicks != null) {
-                    int ticksSinceLastRefresh = currentTick - lastRefreshTicks;
-
-                    if (ticksSinceLastRefresh < refreshTicks) {
-                        super.debug("Ticks since last refresh are lower than specified, continuing...", quest.getId(), task.getId(), player.getUniqueId());
-                        continue;
-                    }
-                }
-
-                playerRefreshTicksMap.put(task, currentTick);
+            if (refreshTicks != null && !plugin.getTaskTypePoller().isRefreshDue(this, player, task, refreshTicks)) {
+                super.debug("Ticks since last refresh are lower than specified, continuing...", quest.getId(), task.getId(), player.getUniqueId());
+                continue;
             }
 
             String placeholder = (String) task.getConfigValue("placeholder");
@@ -129,13 +94,13 @@ public final class PlaceholderAPIEvaluateTaskType extends BukkitTaskType {
                 operator = null;
             }
 
-            super.debug("Operator = " + operator, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Operator = {}", quest.getId(), task.getId(), player.getUniqueId(), operator);
 
             boolean async = TaskUtils.getConfigBoolean(task, "async", false);
-            CompletableFuture<String> future = evaluate(player, placeholder, async);
+            CompletableFuture<String> future = plugin.getTaskTypePoller().evaluate(player, () -> PlaceholderAPI.setPlaceholders(player, placeholder), async);
 
             future.thenAccept(evaluatedString -> {
-                super.debug("Evaluation = '" + evaluatedString + "'", quest.getId(), task.getId(), player.getUniqueId());
+                super.debug("Evaluation = '{}'", quest.getId(), task.getId(), player.getUniqueId(), evaluatedString);
 
                 if (operator != null) {
                     double evaluates;
@@ -171,27 +136,9 @@ public final class PlaceholderAPIEvaluateTaskType extends BukkitTaskType {
         }
     }
 
-    private CompletableFuture<String> evaluate(Player player, String placeholder, boolean async) {
-        if (!async) {
-            String evaluated = PlaceholderAPI.setPlaceholders(player, placeholder);
-            return CompletableFuture.completedFuture(evaluated);
-        }
-
-        CompletableFuture<String> future = new CompletableFuture<>();
-
-        plugin.getScheduler().runTaskAsynchronously(() -> {
-            String evaluated = PlaceholderAPI.setPlaceholders(player, placeholder);
-            plugin.getScheduler().runTaskAtEntity(player, () -> future.complete(evaluated));
-        });
-
-        return future;
-    }
-
     @Override
     public void onDisable() {
-        if (this.poll != null) {
-            this.poll.cancel();
-        }
+        plugin.getTaskTypePoller().unregister(this);
     }
 
     private enum Operator {
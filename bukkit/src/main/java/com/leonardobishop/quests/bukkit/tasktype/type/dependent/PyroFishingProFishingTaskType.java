@@ -98,7 +98,7 @@ public final class PyroFishingProFishingTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player fished item with fish number " + fishNumber + " of tier " + tier, quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player fished item with fish number {} of tier {}", quest.getId(), task.getId(), player.getUniqueId(), fishNumber, tier);
 
             Integer requiredFishNumber = (Integer) task.getConfigValue("fish-number");
             if (requiredFishNumber != null && requiredFishNumber != fishNumber) {
@@ -113,7 +113,7 @@ public final class PyroFishingProFishingTaskType extends BukkitTaskType {
             }
 
             int progress = TaskUtils.incrementIntegerTaskProgress(taskProgress);
-            super.debug("Incrementing task progress (now " + progress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Incrementing task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), progress);
 
             int amount = (int) task.getConfigValue("amount");
 
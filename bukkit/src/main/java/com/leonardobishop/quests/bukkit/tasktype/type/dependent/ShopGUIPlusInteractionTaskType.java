@@ -93,7 +93,7 @@ public abstract class ShopGUIPlusInteractionTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player traded item (shop = " + shopId + ", item id = " + itemId + ", action = " + result.getShopAction().toString() + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug(() -> "Player traded item (shop = " + shopId + ", item id = " + itemId + ", action = " + result.getShopAction() + ")", quest.getId(), task.getId(), player.getUniqueId());
 
             String taskShopId = (String) task.getConfigValue("shop-id");
             if (taskShopId == null || !taskShopId.equals(shopId)) {
@@ -111,13 +111,13 @@ public abstract class ShopGUIPlusInteractionTaskType extends BukkitTaskType {
 
             int progress = TaskUtils.getIntegerTaskProgress(taskProgress);
             int newProgress = progress + amountBought;
-            taskProgress.setProgress(newProgress);
+            taskProgress.setIntegerProgress(newProgress);
 
-            super.debug("Updating task progress (now " + newProgress + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), newProgress);
 
             if (newProgress >= amountNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(amountNeeded);
+                taskProgress.setIntegerProgress(amountNeeded);
                 taskProgress.setCompleted(true);
             }
 
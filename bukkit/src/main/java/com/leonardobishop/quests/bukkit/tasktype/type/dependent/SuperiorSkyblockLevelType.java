@@ -52,8 +52,8 @@ public final class SuperiorSkyblockLevelType extends BukkitTaskType {
                 double islandLevelNeeded = Double.parseDouble(String.valueOf(task.getConfigValue("level")));
                 BigDecimal bd = new BigDecimal(islandLevelNeeded);
 
-                taskProgress.setProgress(event.getNewLevel().doubleValue());
-                super.debug("Updating task progress (now " + event.getNewLevel().doubleValue() + ")", quest.getId(), task.getId(), player.getUniqueId());
+                taskProgress.setDecimalProgress(event.getNewLevel().doubleValue());
+                super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), event.getNewLevel().doubleValue());
 
                 if (event.getNewLevel().compareTo(bd) > 0) {
                     super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
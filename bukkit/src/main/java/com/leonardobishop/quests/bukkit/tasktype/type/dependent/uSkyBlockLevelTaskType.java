@@ -38,16 +38,16 @@ public final class uSkyBlockLevelTaskType extends BukkitTaskType {
             Task task = pendingTask.task();
             TaskProgress taskProgress = pendingTask.taskProgress();
 
-            super.debug("Player island level updated to " + event.getScore().getScore(), quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Player island level updated to {}", quest.getId(), task.getId(), player.getUniqueId(), event.getScore().getScore());
 
             long islandLevelNeeded = (long) (int) task.getConfigValue("level");
 
             taskProgress.setProgress(event.getScore().getScore());
-            super.debug("Updating task progress (now " + event.getScore().getScore() + ")", quest.getId(), task.getId(), player.getUniqueId());
+            super.debug("Updating task progress (now {})", quest.getId(), task.getId(), player.getUniqueId(), event.getScore().getScore());
 
             if (event.getScore().getScore() >= islandLevelNeeded) {
                 super.debug("Marking task as complete", quest.getId(), task.getId(), player.getUniqueId());
-                taskProgress.setProgress(islandLevelNeeded);
+                taskProgress.setLongProgress(islandLevelNeeded);
                 taskProgress.setCompleted(true);
             }
 
@@ -2,8 +2,12 @@ package com.leonardobishop.quests.bukkit.util;
 
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import com.leonardobishop.quests.common.config.QuestsConfig;
+import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
@@ -44,6 +48,34 @@ public final class FormatUtils {
         return integralFormat.format(integral);
     }
 
+    public static String floating(final double floating) {
+        return floatingFormat.format(floating);
+    }
+
+    public static String integral(final long integral) {
+        return integralFormat.format(integral);
+    }
+
+    /**
+     * Formats the progress of a task according to its type.
+     *
+     * @param taskProgress the task progress
+     * @return the formatted progress, or null if there is no progress
+     */
+    public static @Nullable String progress(final TaskProgress taskProgress) {
+        return switch (taskProgress.getProgressType()) {
+            case NONE -> null;
+            case INTEGER, LONG -> integral(taskProgress.getLongProgress());
+            case FLOAT, DOUBLE -> floating(taskProgress.getDecimalProgress());
+            case OBJECT -> switch (taskProgress.getProgress()) {
+                case final BigDecimal bigDecimal -> floating(bigDecimal);
+                case final BigInteger bigInteger -> integral(bigInteger);
+                case final Object progress -> String.valueOf(progress);
+                case null -> null;
+            };
+        };
+    }
+
     // Probably can be somehow cleaned
     public static String time(long seconds) {
         String messageString = Messages.TIME_FORMAT.getMessageLegacyColor();
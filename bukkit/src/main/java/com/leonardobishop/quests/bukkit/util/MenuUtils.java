@@ -3,8 +3,8 @@ package com.leonardobishop.quests.bukkit.util;
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import com.leonardobishop.quests.bukkit.config.BukkitQuestsConfig;
 import com.leonardobishop.quests.bukkit.menu.CategoryQMenu;
+import com.leonardobishop.quests.bukkit.menu.QMenu;
 import com.leonardobishop.quests.bukkit.menu.QuestQMenu;
-import com.leonardobishop.quests.bukkit.menu.QuestSortWrapper;
 import com.leonardobishop.quests.bukkit.menu.StartedQMenu;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.quest.Category;
@@ -22,7 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 public class MenuUtils {
 
@@ -65,22 +65,11 @@ public class MenuUtils {
      * @param qPlayer player
      */
     public static void openMainMenu(BukkitQuestsPlugin plugin, QPlayer qPlayer) {
-        Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
-        if (player == null) {
-            return;
-        }
-
         if (plugin.getQuestsConfig().getBoolean("options.categories-enabled")) {
-            CategoryQMenu categoryQMenu = new CategoryQMenu(plugin, qPlayer);
-            plugin.getMenuController().openMenu(player, categoryQMenu);
+            openMenu(plugin, qPlayer, () -> new CategoryQMenu(plugin, qPlayer));
         } else {
-            List<Quest> quests = new ArrayList<>();
-            for (Map.Entry<String, Quest> entry : plugin.getQuestManager().getQuestMap().entrySet()) {
-                quests.add(entry.getValue());
-            }
-            Collections.sort(quests);
-            QuestQMenu questQMenu = new QuestQMenu(plugin, qPlayer, quests, null, null);
-            plugin.getMenuController().openMenu(player, questQMenu);
+            List<Quest> quests = plugin.getMenuController().getQuestMenuOrder().getSortedQuests();
+            openMenu(plugin, qPlayer, () -> new QuestQMenu(plugin, qPlayer, quests, null, null));
         }
 //        } else {
 //            DailyQMenu dailyQMenu = new DailyQMenu(plugin, this);
@@ -90,21 +79,8 @@ public class MenuUtils {
     }
 
     public static void openQuestCategory(BukkitQuestsPlugin plugin, QPlayer qPlayer, Category category, CategoryQMenu superMenu) {
-        Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
-        if (player == null) {
-            return;
-        }
-
-        List<Quest> quests = new ArrayList<>();
-        for (String questid : category.getRegisteredQuestIds()) {
-            Quest quest = plugin.getQuestManager().getQuestById(questid);
-            if (quest != null) {
-                quests.add(quest);
-            }
-        }
-        Collections.sort(quests);
-        QuestQMenu questQMenu = new QuestQMenu(plugin, qPlayer, quests, category, superMenu);
-        plugin.getMenuController().openMenu(player, questQMenu);
+        List<Quest> quests = plugin.getMenuController().getQuestMenuOrder().getSortedQuests(category);
+        openMenu(plugin, qPlayer, () -> new QuestQMenu(plugin, qPlayer, quests, category, superMenu));
     }
 
     /**
@@ -113,20 +89,25 @@ public class MenuUtils {
      * @param qPlayer player
      */
     public static void openStartedQuests(BukkitQuestsPlugin plugin, QPlayer qPlayer) {
+        List<Quest> quests = plugin.getMenuController().getQuestMenuOrder().getWeightedQuests();
+        openMenu(plugin, qPlayer, () -> new StartedQMenu(plugin, qPlayer, quests));
+    }
+
+    /**
+     * Build a menu and open it for the player. Menus read placeholders, configured items and the live quest progress
+     * of the player, so they are built on the calling thread; the order quests are listed in is precomputed by the
+     * {@link com.leonardobishop.quests.bukkit.menu.QuestMenuOrder} when quests are loaded.
+     *
+     * @param qPlayer player
+     * @param builder supplier building the menu
+     */
+    private static void openMenu(BukkitQuestsPlugin plugin, QPlayer qPlayer, Supplier<QMenu> builder) {
         Player player = Bukkit.getPlayer(qPlayer.getPlayerUUID());
         if (player == null) {
             return;
         }
 
-        List<QuestSortWrapper> quests = new ArrayList<>();
-        for (Map.Entry<String, Quest> entry : plugin.getQuestManager().getQuestMap().entrySet()) {
-            quests.add(new QuestSortWrapper(plugin, entry.getValue()));
-        }
-        Collections.sort(quests);
-
-        StartedQMenu startedQMenu = new StartedQMenu(plugin, qPlayer, quests.stream().map(QuestSortWrapper::getQuest).collect(Collectors.toList()));
-
-        plugin.getMenuController().openMenu(player, startedQMenu);
+        plugin.getMenuController().openMenu(player, builder.get());
     }
 
     public static ClickType getClickType(BukkitQuestsConfig config, String path, String def) {
@@ -17,6 +17,7 @@ public enum Messages {
     TIME_FORMAT("messages.time-format", "{hours}h {minutes}m"),
     QUEST_START("messages.quest-start", "&7Quest &c{quest} &7started!"),
     QUEST_COMPLETE("messages.quest-complete", "&7Quest &c{quest} &completed!"),
+    QUEST_UNLOCK("messages.quest-unlock", "&7Quest &c{quest} &7has been unlocked!"),
     QUEST_CANCEL("messages.quest-cancel", "&7Quest &c{quest} &7cancelled!"),
     QUEST_EXPIRE("messages.quest-expire", "&7Quest &c{quest} &7has expired."),
     QUEST_TRACK("messages.quest-track", "&7Tracking quest &c{quest}&7."),
@@ -0,0 +1,243 @@
+package com.leonardobishop.quests.bukkit.util;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.bukkit.util.chat.Chat;
+import com.leonardobishop.quests.bukkit.util.placeholder.PlaceholderTemplate;
+import com.leonardobishop.quests.bukkit.util.placeholder.QuestPlaceholderTemplates;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.Task;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces the progress feedback (action bar and boss bar) sent to players. Task progress may be advanced many times
+ * per tick, so only the latest progress of each quest is recorded, and the feedback is rendered and sent once per
+ * interval from the thread owning the player.
+ */
+public final class TaskProgressFeedback {
+
+    private final BukkitQuestsPlugin plugin;
+    private final Map<UUID, PendingFeedback> pendingFeedback = new ConcurrentHashMap<>();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong suppressedCount = new AtomicLong();
+
+    private volatile Settings settings;
+
+    public TaskProgressFeedback(BukkitQuestsPlugin plugin) {
+        this.plugin = plugin;
+        this.reload();
+    }
+
+    /**
+     * Read the feedback options from the config. Should be called whenever the config is reloaded.
+     */
+    public void reload() {
+        FileConfiguration config = plugin.getConfig();
+        this.settings = new Settings(
+                config.getBoolean("options.actionbar.progress", false),
+                config.getBoolean("options.actionbar.complete", false),
+                config.getBoolean("options.bossbar.progress", false),
+                config.getBoolean("options.bossbar.complete", false),
+                config.getInt("options.bossbar.time", 5),
+                plugin.getQuestsConfig().getBoolean("options.use-progress-as-fallback", true),
+                plugin.getQuestsConfig().getBoolean("options.progress-use-placeholderapi", false),
+                Math.max(1L, config.getLong("options.performance-tweaking.progress-feedback-interval", 1))
+        );
+    }
+
+    /**
+     * Record the progress of a task to be sent to the player with the next feedback. Any feedback recorded earlier
+     * for the same quest which has not been sent yet is replaced.
+     *
+     * @param player        the player
+     * @param quest         the quest the task belongs to
+     * @param task          the task
+     * @param questProgress the quest progress
+     * @param taskProgress  the task progress
+     * @param amount        the amount required to complete the task
+     */
+    public void queue(@NotNull Player player, @NotNull Quest quest, @NotNull Task task, @NotNull QuestProgress questProgress,
+                      @NotNull TaskProgress taskProgress, @NotNull Number amount) {
+        Settings settings = this.settings;
+        boolean completed = taskProgress.isCompleted();
+        if (!settings.useActionBar(completed) && !settings.useBossBar(completed)) {
+            return;
+        }
+
+        Feedback feedback = new Feedback(quest, task, questProgress, taskProgress, amount);
+        PendingFeedback pending = pendingFeedback.compute(player.getUniqueId(), (uuid, current) -> {
+            if (current == null) {
+                current = new PendingFeedback();
+            }
+            if (current.feedback.put(quest, feedback) != null) {
+                suppressedCount.incrementAndGet();
+            }
+            current.latest = feedback;
+            return current;
+        });
+
+        if (pending.scheduled.compareAndSet(false, true)) {
+            plugin.getScheduler().runTaskLaterAtEntity(player, () -> this.flush(player), settings.interval());
+        }
+    }
+
+    /**
+     * Discard any feedback recorded for a player which has not been sent yet.
+     *
+     * @param playerUUID the player
+     */
+    public void discard(@NotNull UUID playerUUID) {
+        pendingFeedback.remove(playerUUID);
+    }
+
+    private void flush(Player player) {
+        PendingFeedback pending = pendingFeedback.remove(player.getUniqueId());
+        if (pending == null || !player.isOnline()) {
+            return;
+        }
+
+        Settings settings = this.settings;
+        for (Feedback feedback : pending.feedback.values()) {
+            boolean completed = feedback.taskProgress().isCompleted();
+
+            // action bars overwrite each other, so only the most recent one would be visible anyway
+            boolean useActionBar = feedback == pending.latest && settings.useActionBar(completed);
+            boolean useBossBar = settings.useBossBar(completed);
+            if (!useActionBar && !useBossBar) {
+                continue;
+            }
+
+            String title = renderTitle(settings, player, feedback);
+            if (title == null) {
+                continue;
+            }
+
+            if (useActionBar) {
+                plugin.getActionBarHandle().sendActionBar(player, title);
+            }
+
+            if (useBossBar) {
+                sendBossBar(settings, player, feedback, title);
+            }
+
+            sentCount.incrementAndGet();
+        }
+    }
+
+    private @Nullable String renderTitle(Settings settings, Player player, Feedback feedback) {
+        Quest quest = feedback.quest();
+        Task task = feedback.task();
+        QuestPlaceholderTemplates templates = QuestPlaceholderTemplates.of(plugin, quest);
+        PlaceholderTemplate titleTemplate;
+
+        titleSearch:
+        {
+            titleTemplate = templates.getProgressPlaceholder(task.getId()); // custom title
+            if (titleTemplate != null) {
+                break titleSearch;
+            }
+
+            titleTemplate = templates.getProgressPlaceholder(task.getType()); // one title for all tasks of the same type
+            if (titleTemplate != null) {
+                break titleSearch;
+            }
+
+            titleTemplate = templates.getProgressPlaceholder("*"); // one title for all tasks
+            if (titleTemplate != null) {
+                break titleSearch;
+            }
+
+            if (!settings.useProgressAsFallback()) {
+                return null;
+            }
+
+            titleTemplate = templates.getPlaceholder("progress"); // fallback title
+            if (titleTemplate != null) {
+                break titleSearch;
+            }
+
+            return null; // no valid title format found
+        }
+
+        // the literal parts of the title have been coloured when compiled
+        String title = titleTemplate.render(plugin, quest, feedback.questProgress(), feedback.taskProgress());
+
+        if (settings.usePlaceholderAPI()) {
+            title = plugin.getPlaceholderAPIProcessor().apply(player, title);
+            title = Chat.legacyColor(title);
+        }
+
+        return title;
+    }
+
+    private void sendBossBar(Settings settings, Player player, Feedback feedback, String title) {
+        TaskProgress taskProgress = feedback.taskProgress();
+        Double bossBarProgress = null;
+
+        if (!taskProgress.isCompleted()) {
+            double progress = taskProgress.getNumericProgress();
+            if (!Double.isNaN(progress)) { // if has value
+                bossBarProgress = progress / feedback.amount().doubleValue(); // calculate progress
+            }
+        }
+
+        String questId = feedback.quest().getId();
+        if (bossBarProgress != null) {
+            float bossBarFloatProgress = (float) Math.min(1.0d, Math.max(0.0d, bossBarProgress));
+            plugin.getBossBarHandle().sendBossBar(player, questId, title, settings.bossBarTime(), bossBarFloatProgress);
+        } else {
+            plugin.getBossBarHandle().sendBossBar(player, questId, title, settings.bossBarTime());
+        }
+    }
+
+    public int getPendingPlayerCount() {
+        return pendingFeedback.size();
+    }
+
+    /**
+     * @return the number of progress updates which have been rendered and sent
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * @return the number of progress updates which have been replaced by a later one before being sent
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.get();
+    }
+
+    private record Settings(boolean actionBarProgress, boolean actionBarComplete, boolean bossBarProgress,
+                            boolean bossBarComplete, int bossBarTime, boolean useProgressAsFallback,
+                            boolean usePlaceholderAPI, long interval) {
+
+        private boolean useActionBar(boolean completed) {
+            return actionBarProgress || (completed && actionBarComplete);
+        }
+
+        private boolean useBossBar(boolean completed) {
+            return bossBarProgress || (completed && bossBarComplete);
+        }
+    }
+
+    private record Feedback(Quest quest, Task task, QuestProgress questProgress, TaskProgress taskProgress, Number amount) { }
+
+    private static final class PendingFeedback {
+
+        private final Map<Quest, Feedback> feedback = new LinkedHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private Feedback latest;
+    }
+}
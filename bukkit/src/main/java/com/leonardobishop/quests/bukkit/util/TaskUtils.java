@@ -3,14 +3,18 @@ package com.leonardobishop.quests.bukkit.util;
 import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
 import com.leonardobishop.quests.bukkit.item.ParsedQuestItem;
 import com.leonardobishop.quests.bukkit.item.QuestItem;
-import com.leonardobishop.quests.bukkit.menu.itemstack.QItemStack;
 import com.leonardobishop.quests.bukkit.tasktype.BukkitTaskType;
 import com.leonardobishop.quests.bukkit.util.chat.Chat;
 import com.leonardobishop.quests.bukkit.util.constraint.TaskConstraint;
 import com.leonardobishop.quests.bukkit.util.constraint.TaskConstraintSet;
 import com.leonardobishop.quests.bukkit.util.lang3.StringUtils;
+import com.leonardobishop.quests.bukkit.util.matcher.BlockMatcher;
+import com.leonardobishop.quests.bukkit.util.matcher.EnumMatcher;
+import com.leonardobishop.quests.bukkit.util.matcher.MatcherCache;
+import com.leonardobishop.quests.bukkit.util.matcher.StringMatcher;
 import com.leonardobishop.quests.common.config.ConfigProblem;
 import com.leonardobishop.quests.common.config.ConfigProblemDescriptions;
+import com.leonardobishop.quests.common.player.ActiveTaskIndex;
 import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
 import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
@@ -140,183 +144,125 @@ public class TaskUtils {
     }
 
     public static double getDecimalTaskProgress(TaskProgress taskProgress) {
-        double progress;
-        if (taskProgress.getProgress() == null || !(taskProgress.getProgress() instanceof Double)) {
-            progress = 0.0;
-        } else {
-            progress = (double) taskProgress.getProgress();
-        }
-        return progress;
+        return taskProgress.getDecimalProgress();
     }
 
     public static int getIntegerTaskProgress(TaskProgress taskProgress) {
-        int progress;
-        if (taskProgress.getProgress() == null || !(taskProgress.getProgress() instanceof Integer)) {
-            progress = 0;
-        } else {
-            progress = (int) taskProgress.getProgress();
-        }
-        return progress;
+        return taskProgress.getIntegerProgress();
     }
 
     public static int incrementIntegerTaskProgress(TaskProgress taskProgress) {
-        int progress = getIntegerTaskProgress(taskProgress);
-        taskProgress.setProgress(++progress);
-        return progress;
+        return taskProgress.incrementIntegerProgress(1);
     }
 
     public static int incrementIntegerTaskProgress(TaskProgress taskProgress, int amount) {
-        int progress = getIntegerTaskProgress(taskProgress) + amount;
-        taskProgress.setProgress(progress);
-        return progress;
+        return taskProgress.incrementIntegerProgress(amount);
     }
 
     public static int decrementIntegerTaskProgress(TaskProgress taskProgress) {
-        int progress = getIntegerTaskProgress(taskProgress);
-        taskProgress.setProgress(--progress);
-        return progress;
+        return taskProgress.incrementIntegerProgress(-1);
     }
 
 	public static void sendTrackAdvancement(Player player, Quest quest, Task task, PendingTask pendingTask, Number amount) {
-        TaskProgress taskProgress = pendingTask.taskProgress();
+        plugin.getTaskProgressFeedback().queue(player, quest, task, pendingTask.questProgress(), pendingTask.taskProgress(), amount);
+    }
 
-        boolean useActionBar = plugin.getConfig().getBoolean("options.actionbar.progress", false)
-                || (taskProgress.isCompleted() && plugin.getConfig().getBoolean("options.actionbar.complete", false));
-        boolean useBossBar = plugin.getConfig().getBoolean("options.bossbar.progress", false)
-                || (taskProgress.isCompleted() && plugin.getConfig().getBoolean("options.bossbar.complete", false));
-        if (!useActionBar && !useBossBar) {
-            return;
+    /**
+     * Checks whether a player may have any applicable tasks of a task type, without collecting them.
+     *
+     * @param qPlayer the player
+     * @param type    the task type
+     * @return false if the player certainly has no applicable tasks
+     */
+    public static boolean hasApplicableTasks(QPlayer qPlayer, TaskType type) {
+        if (plugin.getQuestsConfig().getBoolean("options.quest-autostart")) {
+            return !type.getRegisteredQuests().isEmpty();
         }
 
-        String title;
+        return !type.getRegisteredAutoStartQuests().isEmpty() || !qPlayer.getActiveTaskIndex().getActiveTasks(type.getType()).isEmpty();
+    }
 
-        titleSearch:
-        {
-            title = quest.getProgressPlaceholders().get(task.getId()); // custom title
-            if (title != null) {
-                break titleSearch;
-            }
+    public static List<PendingTask> getApplicableTasks(Player player, QPlayer qPlayer, TaskType type) {
+        return getApplicableTasks(player, qPlayer, type, TaskConstraintSet.NONE);
+    }
 
-            title = quest.getProgressPlaceholders().get(task.getType()); // one title for all tasks of the same type
-            if (title != null) {
-                break titleSearch;
-            }
+    public static List<PendingTask> getApplicableTasks(Player player, QPlayer qPlayer, TaskType type, TaskConstraintSet constraintSet) {
+        List<PendingTask> tasks = new ArrayList<>();
 
-            title = quest.getProgressPlaceholders().get("*"); // one title for all tasks
-            if (title != null) {
-                break titleSearch;
+        if (plugin.getQuestsConfig().getBoolean("options.quest-autostart")) {
+            // every quest may be started implicitly, so the index cannot be used
+            for (Quest quest : type.getRegisteredQuests()) {
+                addStartedQuestTasks(tasks, qPlayer, type, quest);
             }
-
-            boolean useProgressAsFallback = plugin.getQuestsConfig().getBoolean("options.use-progress-as-fallback", true);
-            if (!useProgressAsFallback) {
-                return;
+        } else {
+            for (ActiveTaskIndex.ActiveTask activeTask : qPlayer.getActiveTaskIndex().getActiveTasks(type.getType())) {
+                tasks.add(new PendingTask(activeTask.quest(), activeTask.task(), activeTask.questProgress(), activeTask.taskProgress()));
             }
 
-            title = quest.getPlaceholders().get("progress"); // fallback title
-            if (title != null) {
-                break titleSearch;
+            // autostart quests are not indexed as their state depends on the quest controller
+            for (Quest quest : type.getRegisteredAutoStartQuests()) {
+                addStartedQuestTasks(tasks, qPlayer, type, quest);
             }
-
-            return; // no valid title format found
         }
 
-        QuestProgress questProgress = pendingTask.questProgress();
-        title = QItemStack.processPlaceholders(plugin, title, questProgress, taskProgress);
-
-        boolean usePlaceholderAPI = plugin.getQuestsConfig().getBoolean("options.progress-use-placeholderapi", false);
-        if (usePlaceholderAPI) {
-            title = plugin.getPlaceholderAPIProcessor().apply(player, title);
+        if (!constraintSet.contains(TaskConstraint.WORLD) && !constraintSet.contains(TaskConstraint.BIOME)) {
+            return tasks;
         }
 
-        title = Chat.legacyColor(title);
+        // Cache it as getting it requires some complex math
+        String biomeKey = null;
 
-        if (useActionBar) {
-            sendTrackAdvancementActionBar(player, title);
-        }
+        int size = 0;
+        for (PendingTask pendingTask : tasks) {
+            Task task = pendingTask.task();
 
-        if (useBossBar) {
-            sendTrackAdvancementBossBar(player, quest, task, taskProgress, title, amount);
-        }
-    }
+            if (constraintSet.contains(TaskConstraint.WORLD)) {
+                if (!TaskUtils.validateWorld(player, task)) {
+                    continue;
+                }
+            }
 
-    private static void sendTrackAdvancementActionBar(Player player, String title) {
-        plugin.getActionBarHandle().sendActionBar(player, title);
-    }
+            BIOME_CHECK:
+            if (constraintSet.contains(TaskConstraint.BIOME)) {
+                final Object biomes = task.getConfigValue("biomes");
 
-    private static void sendTrackAdvancementBossBar(Player player, Quest quest, Task task, TaskProgress taskProgress, String title, Number amount) {
-        Double bossBarProgress = null;
+                if (biomes == null) {
+                    break BIOME_CHECK;
+                }
 
-        if (!taskProgress.isCompleted()) {
-            Object progress = taskProgress.getProgress();
-            if (progress instanceof Number number) {
-                bossBarProgress = number.doubleValue();
-            }
+                if (biomeKey == null) {
+                    biomeKey = getBiomeKey(player);
+                }
 
-            if (bossBarProgress != null) { // if has value
-                bossBarProgress /= amount.doubleValue(); // calculate progress
+                if (!TaskUtils.validateBiome(biomeKey, biomes)) {
+                    continue;
+                }
             }
-        }
-
-        int bossBarTime = plugin.getConfig().getInt("options.bossbar.time", 5);
 
-        if (bossBarProgress != null) {
-            float bossBarFloatProgress = (float) Math.min(1.0d, Math.max(0.0d, bossBarProgress));
-            plugin.getBossBarHandle().sendBossBar(player, quest.getId(), title, bossBarTime, bossBarFloatProgress);
-        } else {
-            plugin.getBossBarHandle().sendBossBar(player, quest.getId(), title, bossBarTime);
+            tasks.set(size++, pendingTask);
         }
-    }
 
-    public static List<PendingTask> getApplicableTasks(Player player, QPlayer qPlayer, TaskType type) {
-        return getApplicableTasks(player, qPlayer, type, TaskConstraintSet.NONE);
+        tasks.subList(size, tasks.size()).clear();
+        return tasks;
     }
 
-    public static List<PendingTask> getApplicableTasks(Player player, QPlayer qPlayer, TaskType type, TaskConstraintSet constraintSet) {
-        List<PendingTask> tasks = new ArrayList<>();
-
-        // Cache it as getting it requires some complex math
-        String biomeKey = null;
-
-        for (Quest quest : type.getRegisteredQuests()) {
-            if (qPlayer.hasStartedQuest(quest)) {
-                QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgress(quest);
-
-                for (Task task : quest.getTasksOfType(type.getType())) {
-                    if (constraintSet.contains(TaskConstraint.WORLD)) {
-                        if (!TaskUtils.validateWorld(player, task)) {
-                            continue;
-                        }
-                    }
-
-                    BIOME_CHECK:
-                    if (constraintSet.contains(TaskConstraint.BIOME)) {
-                        final Object biomes = task.getConfigValue("biomes");
-
-                        if (biomes == null) {
-                            break BIOME_CHECK;
-                        }
-
-                        if (biomeKey == null) {
-                            biomeKey = getBiomeKey(player);
-                        }
-
-                        if (!TaskUtils.validateBiome(biomeKey, biomes)) {
-                            continue;
-                        }
-                    }
+    private static void addStartedQuestTasks(List<PendingTask> tasks, QPlayer qPlayer, TaskType type, Quest quest) {
+        if (!qPlayer.hasStartedQuest(quest)) {
+            return;
+        }
 
-                    TaskProgress taskProgress = questProgress.getTaskProgress(task.getId());
+        // task types modify the progress, so it is stored for autostarted quests which have none yet
+        QuestProgress questProgress = qPlayer.getQuestProgressFile().getQuestProgress(quest);
 
-                    if (taskProgress.isCompleted()) {
-                        continue;
-                    }
+        for (Task task : quest.getTasksOfType(type.getType())) {
+            TaskProgress taskProgress = questProgress.getTaskProgress(task);
 
-                    tasks.add(new PendingTask(quest, task, questProgress, taskProgress));
-                }
+            if (taskProgress.isCompleted()) {
+                continue;
             }
-        }
 
-        return tasks;
+            tasks.add(new PendingTask(quest, task, questProgress, taskProgress));
+        }
     }
 
     public record PendingTask(Quest quest, Task task, QuestProgress questProgress, TaskProgress taskProgress) { }
@@ -334,60 +280,51 @@ public class TaskUtils {
     }
 
     public static boolean matchBlock(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @Nullable BlockState state, @NotNull UUID player, @NotNull String stringKey, @NotNull String listKey) {
-        Task task = pendingTask.task;
+        return matchBlock(type, pendingTask, state, player, MatcherCache.getBlockMatcher(pendingTask.task, stringKey, listKey));
+    }
 
-        List<String> checkBlocks = TaskUtils.getConfigStringList(task, task.getConfigValues().containsKey(stringKey) ? stringKey : listKey);
-        if (checkBlocks == null) {
+    public static boolean matchBlock(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @Nullable Block block, @NotNull UUID player, @NotNull BlockMatcher matcher) {
+        if (matcher.isAny()) {
             return true;
-        } else if (checkBlocks.isEmpty()) {
-            return state == null;
         }
 
-        Object configData = task.getConfigValue("data");
+        return matchBlock(type, pendingTask, block != null ? block.getState() : null, player, matcher);
+    }
 
-        Material blockMaterial = state.getType();
-        // do not set block data here as it will initialize Legacy Material Support
-        Byte blockData = null;
-
-        Material material;
-        int comparableData;
-
-        for (String materialName : checkBlocks) {
-            String[] parts = materialName.split(":", 2);
-            if (parts.length == 2) {
-                comparableData = Integer.parseInt(parts[1]);
-            } else if (configData != null) {
-                comparableData = (int) configData;
-            } else {
-                comparableData = 0;
-            }
+    public static boolean matchBlock(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @Nullable BlockState state, @NotNull UUID player, @NotNull BlockMatcher matcher) {
+        if (matcher.isAny()) {
+            return true;
+        } else if (matcher.isEmpty() || state == null) {
+            return state == null;
+        }
 
-            material = Material.getMaterial(parts[0]);
+        Task task = pendingTask.task;
+        Material blockMaterial = state.getType();
 
-            type.debug("Checking against block " + material + ":" + comparableData, pendingTask.quest.getId(), task.getId(), player);
+        type.debug("Checking against blocks {}", pendingTask.quest.getId(), task.getId(), player, matcher);
 
-            if (material == blockMaterial) {
-                if (parts.length == 1 && configData == null) {
-                    type.debug("Block match (modern)", pendingTask.quest.getId(), task.getId(), player);
-                    return true;
-                }
+        if (matcher.matchesAnyData(blockMaterial)) {
+            type.debug("Block match (modern)", pendingTask.quest.getId(), task.getId(), player);
+            return true;
+        }
 
-                // delay legacy material support initialization
-                if (blockData == null) {
-                    blockData = state.getRawData();
-                }
+        int[] dataValues = matcher.getDataValues(blockMaterial);
+        if (dataValues == null) {
+            type.debug("Block mismatch (modern)", pendingTask.quest.getId(), task.getId(), player);
+            return false;
+        }
 
-                if (blockData == comparableData) {
-                    type.debug("Block match (legacy)", pendingTask.quest.getId(), task.getId(), player);
-                    return true;
-                }
+        // do not get block data before here as it will initialize Legacy Material Support
+        byte blockData = state.getRawData();
 
-                type.debug("Block mismatch (legacy)", pendingTask.quest.getId(), task.getId(), player);
-            } else {
-                type.debug("Block mismatch (modern)", pendingTask.quest.getId(), task.getId(), player);
+        for (int comparableData : dataValues) {
+            if (blockData == comparableData) {
+                type.debug("Block match (legacy)", pendingTask.quest.getId(), task.getId(), player);
+                return true;
             }
         }
 
+        type.debug("Block mismatch (legacy)", pendingTask.quest.getId(), task.getId(), player);
         return false;
     }
 
@@ -404,30 +341,22 @@ public class TaskUtils {
     }
 
     public static boolean matchEntity(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @NotNull EntityType entityType, @NotNull UUID player, @NotNull String stringKey, @NotNull String listKey) {
-        Task task = pendingTask.task;
+        return matchEntity(type, pendingTask, entityType, player, MatcherCache.getEnumMatcher(EntityType.class, pendingTask.task, stringKey, listKey));
+    }
 
-        List<String> checkMobs = TaskUtils.getConfigStringList(task, task.getConfigValues().containsKey(stringKey) ? stringKey : listKey);
-        if (checkMobs == null) {
+    public static boolean matchEntity(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @NotNull EntityType entityType, @NotNull UUID player, @NotNull EnumMatcher<EntityType> matcher) {
+        if (matcher.isAny()) {
             return true;
-        } else if (checkMobs.isEmpty()) {
-            return false;
         }
 
-        EntityType mob;
-
-        for (String mobName : checkMobs) {
-            mob = EntityType.valueOf(mobName);
+        type.debug("Checking against mobs {}", pendingTask.quest.getId(), pendingTask.task.getId(), player, matcher);
 
-            type.debug("Checking against mob " + mob, pendingTask.quest.getId(), task.getId(), player);
-
-            if (mob == entityType) {
-                type.debug("Mob match", pendingTask.quest.getId(), task.getId(), player);
-                return true;
-            } else {
-                type.debug("Mob mismatch", pendingTask.quest.getId(), task.getId(), player);
-            }
+        if (matcher.matches(entityType)) {
+            type.debug("Mob match", pendingTask.quest.getId(), pendingTask.task.getId(), player);
+            return true;
         }
 
+        type.debug("Mob mismatch", pendingTask.quest.getId(), pendingTask.task.getId(), player);
         return false;
     }
 
@@ -443,6 +372,15 @@ public class TaskUtils {
 
     public static boolean matchSpawnReason(final @NotNull BukkitTaskType type, final @NotNull PendingTask pendingTask, final @NotNull Entity entity,
                                            final @NotNull UUID player) {
+        return TaskUtils.matchSpawnReason(type, pendingTask, entity, player, MatcherCache.getEnumMatcher(CreatureSpawnEvent.SpawnReason.class, pendingTask.task, "spawn-reason", "spawn-reasons"));
+    }
+
+    public static boolean matchSpawnReason(final @NotNull BukkitTaskType type, final @NotNull PendingTask pendingTask, final @NotNull Entity entity,
+                                           final @NotNull UUID player, final @NotNull EnumMatcher<CreatureSpawnEvent.SpawnReason> matcher) {
+        if (matcher.isAny()) {
+            return true;
+        }
+
         if (TaskUtils.getEntitySpawnReasonMethod == null) {
             type.debug("Spawn reason is specified but the server software doesn't have the method necessary to get it", pendingTask.quest.getId(), pendingTask.task.getId(), player);
 
@@ -458,35 +396,28 @@ public class TaskUtils {
             return false;
         }
 
-        return TaskUtils.matchEnum(CreatureSpawnEvent.SpawnReason.class, type, pendingTask, spawnReason, player, "spawn-reason", "spawn-reasons");
+        return TaskUtils.matchEnum(type, pendingTask, spawnReason, player, matcher);
     }
 
     public static <E extends Enum<E>> boolean matchEnum(final @NotNull Class<E> enumClass, final @NotNull BukkitTaskType type, final @NotNull PendingTask pendingTask,
                                                         final @Nullable E enumValue, final @NotNull UUID player, final @NotNull String stringKey, final @NotNull String listKey) {
-        final Task task = pendingTask.task;
+        return TaskUtils.matchEnum(type, pendingTask, enumValue, player, MatcherCache.getEnumMatcher(enumClass, pendingTask.task, stringKey, listKey));
+    }
 
-        final List<String> checkValueStrings = TaskUtils.getConfigStringList(task, task.getConfigValues().containsKey(stringKey) ? stringKey : listKey);
-        if (checkValueStrings == null) {
+    public static <E extends Enum<E>> boolean matchEnum(final @NotNull BukkitTaskType type, final @NotNull PendingTask pendingTask, final @Nullable E enumValue,
+                                                        final @NotNull UUID player, final @NotNull EnumMatcher<E> matcher) {
+        if (matcher.isAny()) {
             return true;
-        } else if (checkValueStrings.isEmpty()) {
-            return enumValue == null;
         }
 
-        E checkValue;
+        type.debug("Checking against enum values {}", pendingTask.quest.getId(), pendingTask.task.getId(), player, matcher);
 
-        for (final String checkValueString : checkValueStrings) {
-            checkValue = Enum.valueOf(enumClass, checkValueString);
-
-            type.debug("Checking against enum value " + checkValue, pendingTask.quest.getId(), task.getId(), player);
-
-            if (checkValue == enumValue) {
-                type.debug("Enum value match", pendingTask.quest.getId(), task.getId(), player);
-                return true;
-            } else {
-                type.debug("Enum value mismatch", pendingTask.quest.getId(), task.getId(), player);
-            }
+        if (matcher.matches(enumValue)) {
+            type.debug("Enum value match", pendingTask.quest.getId(), pendingTask.task.getId(), player);
+            return true;
         }
 
+        type.debug("Enum value mismatch", pendingTask.quest.getId(), pendingTask.task.getId(), player);
         return false;
     }
 
@@ -517,12 +448,16 @@ public class TaskUtils {
      * @param legacyColor whether {@link Chat#legacyColor(String)} method ought to be used on {@code string} before the comparison
      */
     public static boolean matchString(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @Nullable String string, @NotNull UUID player, @NotNull String stringKey, @NotNull String listKey, boolean legacyColor, @NotNull String matchModeKey, boolean ignoreCase) {
-        Task task = pendingTask.task;
+        return matchString(type, pendingTask, string, player, MatcherCache.getStringMatcher(pendingTask.task, stringKey, listKey, matchModeKey), legacyColor, ignoreCase);
+    }
 
-        List<String> checkNames = TaskUtils.getConfigStringList(task, task.getConfigValues().containsKey(stringKey) ? stringKey : listKey);
-        if (checkNames == null) {
+    /**
+     * @param legacyColor whether {@link Chat#legacyColor(String)} method ought to be used on {@code string} before the comparison
+     */
+    public static boolean matchString(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @Nullable String string, @NotNull UUID player, @NotNull StringMatcher matcher, boolean legacyColor, boolean ignoreCase) {
+        if (matcher.isAny()) {
             return true;
-        } else if (checkNames.isEmpty()) {
+        } else if (matcher.isEmpty()) {
             return string == null;
         }
 
@@ -534,19 +469,13 @@ public class TaskUtils {
             string = Chat.legacyColor(string);
         }
 
-        StringMatchMode matchMode;
-
-        String matchModeString = (String) task.getConfigValue(matchModeKey);
-        if (matchModeString != null) {
-            matchMode = StringMatchMode.valueOf(matchModeString);
-        } else {
-            matchMode = StringMatchMode.EQUALS;
-        }
+        Task task = pendingTask.task;
+        StringMatchMode matchMode = matcher.getMatchMode();
 
-        type.debug("Utilising " + matchMode + " mode for checking", pendingTask.quest.getId(), task.getId(), player);
+        type.debug("Utilising {} mode for checking", pendingTask.quest.getId(), task.getId(), player, matchMode);
 
-        for (String name : checkNames) {
-            type.debug("Checking against name " + string, pendingTask.quest.getId(), task.getId(), player);
+        for (String name : matcher.getStrings()) {
+            type.debug("Checking against name {}", pendingTask.quest.getId(), task.getId(), player, string);
 
             if (matchMode.matches(string, name, ignoreCase)) {
                 type.debug("Name match", pendingTask.quest.getId(), task.getId(), player);
@@ -563,12 +492,16 @@ public class TaskUtils {
      * @param legacyColor whether {@link Chat#legacyColor(String)} method ought to be used on {@code strings} before the comparison
      */
     public static boolean matchAnyString(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @NotNull String @Nullable [] strings, @NotNull UUID player, final @NotNull String stringKey, final @NotNull String listKey, boolean legacyColor, @NotNull String matchModeKey, boolean ignoreCase) {
-        Task task = pendingTask.task;
+        return matchAnyString(type, pendingTask, strings, player, MatcherCache.getStringMatcher(pendingTask.task, stringKey, listKey, matchModeKey), legacyColor, ignoreCase);
+    }
 
-        List<String> checkNames = TaskUtils.getConfigStringList(task, task.getConfigValues().containsKey(stringKey) ? stringKey : listKey);
-        if (checkNames == null) {
+    /**
+     * @param legacyColor whether {@link Chat#legacyColor(String)} method ought to be used on {@code strings} before the comparison
+     */
+    public static boolean matchAnyString(@NotNull BukkitTaskType type, @NotNull PendingTask pendingTask, @NotNull String @Nullable [] strings, @NotNull UUID player, @NotNull StringMatcher matcher, boolean legacyColor, boolean ignoreCase) {
+        if (matcher.isAny()) {
             return true;
-        } else if (checkNames.isEmpty()) {
+        } else if (matcher.isEmpty()) {
             return strings == null || strings.length == 0;
         }
 
@@ -582,19 +515,13 @@ public class TaskUtils {
             }
         }
 
-        StringMatchMode matchMode;
-
-        String matchModeString = (String) task.getConfigValue(matchModeKey);
-        if (matchModeString != null) {
-            matchMode = StringMatchMode.valueOf(matchModeString);
-        } else {
-            matchMode = StringMatchMode.EQUALS;
-        }
+        Task task = pendingTask.task;
+        StringMatchMode matchMode = matcher.getMatchMode();
 
-        type.debug("Utilising " + matchMode + " mode for checking", pendingTask.quest.getId(), task.getId(), player);
+        type.debug("Utilising {} mode for checking", pendingTask.quest.getId(), task.getId(), player, matchMode);
 
-        for (String name : checkNames) {
-            type.debug("Checking against name " + name, pendingTask.quest.getId(), task.getId(), player);
+        for (String name : matcher.getStrings()) {
+            type.debug("Checking against name {}", pendingTask.quest.getId(), task.getId(), player, name);
 
             for (String string : strings) {
                 if (matchMode.matches(string, name, ignoreCase)) {
@@ -0,0 +1,134 @@
+package com.leonardobishop.quests.bukkit.util.matcher;
+
+import com.leonardobishop.quests.bukkit.util.TaskUtils;
+import com.leonardobishop.quests.common.quest.Task;
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-parsed form of a block list config value, in which entries may be suffixed with legacy data values
+ * ({@code MATERIAL:data}) or use the {@code data} config value of the task.
+ */
+public final class BlockMatcher {
+
+    private static final BlockMatcher ANY = new BlockMatcher(false, EnumSet.noneOf(Material.class), new EnumMap<>(Material.class));
+
+    private final boolean empty;
+    private final EnumSet<Material> anyDataMaterials;
+    private final EnumMap<Material, int[]> dataValues;
+
+    private BlockMatcher(final boolean empty, final @NotNull EnumSet<Material> anyDataMaterials, final @NotNull EnumMap<Material, int[]> dataValues) {
+        this.empty = empty;
+        this.anyDataMaterials = anyDataMaterials;
+        this.dataValues = dataValues;
+    }
+
+    /**
+     * Compiles the block list of a task.
+     *
+     * @param task      the task
+     * @param stringKey the key of the single block config value
+     * @param listKey   the key of the block list config value
+     * @return the compiled matcher
+     */
+    public static @NotNull BlockMatcher compile(final @NotNull Task task, final @NotNull String stringKey, final @NotNull String listKey) {
+        final List<String> checkBlocks = TaskUtils.getConfigStringList(task, task.hasConfigKey(stringKey) ? stringKey : listKey);
+        if (checkBlocks == null) {
+            return ANY;
+        }
+
+        final Object configData = task.getConfigValue("data");
+
+        final EnumSet<Material> anyDataMaterials = EnumSet.noneOf(Material.class);
+        final EnumMap<Material, int[]> dataValues = new EnumMap<>(Material.class);
+
+        for (final String materialName : checkBlocks) {
+            final String[] parts = materialName.split(":", 2);
+
+            final Material material = Material.getMaterial(parts[0]);
+            if (material == null) {
+                continue;
+            }
+
+            final int comparableData;
+            if (parts.length == 2) {
+                try {
+                    comparableData = Integer.parseInt(parts[1]);
+                } catch (final NumberFormatException e) {
+                    continue;
+                }
+            } else if (configData instanceof Integer data) {
+                comparableData = data;
+            } else {
+                anyDataMaterials.add(material);
+                continue;
+            }
+
+            dataValues.merge(material, new int[]{comparableData}, (values, value) -> {
+                final int[] merged = Arrays.copyOf(values, values.length + 1);
+                merged[values.length] = value[0];
+                return merged;
+            });
+        }
+
+        return new BlockMatcher(checkBlocks.isEmpty(), anyDataMaterials, dataValues);
+    }
+
+    /**
+     * @return whether the block list is not configured, so any block matches
+     */
+    public boolean isAny() {
+        return this == ANY;
+    }
+
+    /**
+     * @return whether the block list is configured as an empty list, so only the absence of a block matches
+     */
+    public boolean isEmpty() {
+        return this.empty;
+    }
+
+    /**
+     * @param material the material
+     * @return whether the material matches regardless of its data value
+     */
+    public boolean matchesAnyData(final @NotNull Material material) {
+        return this.anyDataMaterials.contains(material);
+    }
+
+    /**
+     * @param material the material
+     * @return the legacy data values the material matches with, or null if it cannot match
+     */
+    public int @Nullable [] getDataValues(final @NotNull Material material) {
+        return this.dataValues.get(material);
+    }
+
+    @Override
+    public String toString() {
+        if (this.isAny()) {
+            return "*";
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (final Material material : this.anyDataMaterials) {
+            builder.append(material).append(", ");
+        }
+        for (final Map.Entry<Material, int[]> entry : this.dataValues.entrySet()) {
+            for (final int data : entry.getValue()) {
+                builder.append(entry.getKey()).append(':').append(data).append(", ");
+            }
+        }
+        if (!builder.isEmpty()) {
+            builder.setLength(builder.length() - 2);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.leonardobishop.quests.bukkit.util.matcher;
+
+import com.leonardobishop.quests.bukkit.util.TaskUtils;
+import com.leonardobishop.quests.common.quest.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Pre-parsed form of an enum value list config value, such as entity types or spawn reasons.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumMatcher<E extends Enum<E>> {
+
+    private final @Nullable EnumSet<E> values;
+    private final boolean empty;
+
+    private EnumMatcher(final @Nullable EnumSet<E> values, final boolean empty) {
+        this.values = values;
+        this.empty = empty;
+    }
+
+    /**
+     * Compiles the enum value list of a task. Values which are not constants of the enum are ignored.
+     *
+     * @param enumClass the enum class
+     * @param task      the task
+     * @param stringKey the key of the single value config value
+     * @param listKey   the key of the value list config value
+     * @return the compiled matcher
+     * @param <E> the enum type
+     */
+    public static <E extends Enum<E>> @NotNull EnumMatcher<E> compile(final @NotNull Class<E> enumClass, final @NotNull Task task, final @NotNull String stringKey, final @NotNull String listKey) {
+        final List<String> checkValueStrings = TaskUtils.getConfigStringList(task, task.hasConfigKey(stringKey) ? stringKey : listKey);
+        if (checkValueStrings == null) {
+            return new EnumMatcher<>(null, false);
+        }
+
+        final EnumSet<E> values = EnumSet.noneOf(enumClass);
+        for (final String checkValueString : checkValueStrings) {
+            try {
+                values.add(Enum.valueOf(enumClass, checkValueString));
+            } catch (final IllegalArgumentException ignored) {
+                // reported by the config validator
+            }
+        }
+
+        return new EnumMatcher<>(values, checkValueStrings.isEmpty());
+    }
+
+    /**
+     * @return whether the value list is not configured, so any value matches
+     */
+    public boolean isAny() {
+        return this.values == null;
+    }
+
+    /**
+     * @param value the value to check, or null if there is none
+     * @return whether the value matches
+     */
+    public boolean matches(final @Nullable E value) {
+        if (this.values == null) {
+            return true;
+        } else if (this.empty) {
+            return value == null;
+        }
+
+        return value != null && this.values.contains(value);
+    }
+
+    @Override
+    public String toString() {
+        return this.values != null ? this.values.toString() : "*";
+    }
+}
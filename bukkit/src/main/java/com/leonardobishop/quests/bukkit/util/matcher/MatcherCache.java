@@ -0,0 +1,50 @@
+package com.leonardobishop.quests.bukkit.util.matcher;
+
+import com.leonardobishop.quests.common.quest.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the matchers compiled by the config key based match methods of
+ * {@link com.leonardobishop.quests.bukkit.util.TaskUtils}, so task types which do not compile their tasks themselves
+ * only parse each config value once instead of on every event. Tasks are replaced when quests are reloaded, so the
+ * cache must be cleared at the same time.
+ */
+public final class MatcherCache {
+
+    private static final Map<Key, Object> CACHE = new ConcurrentHashMap<>();
+
+    private MatcherCache() {
+    }
+
+    public static @NotNull BlockMatcher getBlockMatcher(final @NotNull Task task, final @NotNull String stringKey, final @NotNull String listKey) {
+        return get(new Key(task, BlockMatcher.class, stringKey, listKey, null), () -> BlockMatcher.compile(task, stringKey, listKey));
+    }
+
+    public static <E extends Enum<E>> @NotNull EnumMatcher<E> getEnumMatcher(final @NotNull Class<E> enumClass, final @NotNull Task task, final @NotNull String stringKey, final @NotNull String listKey) {
+        return get(new Key(task, enumClass, stringKey, listKey, null), () -> EnumMatcher.compile(enumClass, task, stringKey, listKey));
+    }
+
+    public static @NotNull StringMatcher getStringMatcher(final @NotNull Task task, final @NotNull String stringKey, final @NotNull String listKey, final @NotNull String matchModeKey) {
+        return get(new Key(task, StringMatcher.class, stringKey, listKey, matchModeKey), () -> StringMatcher.compile(task, stringKey, listKey, matchModeKey));
+    }
+
+    /**
+     * Removes all cached matchers. Should be called whenever quests are reloaded.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> @NotNull T get(final @NotNull Key key, final @NotNull Supplier<T> compiler) {
+        return (T) CACHE.computeIfAbsent(key, k -> compiler.get());
+    }
+
+    // tasks do not override equals, so they are compared by identity
+    private record Key(@NotNull Task task, @NotNull Class<?> type, @NotNull String stringKey, @NotNull String listKey, @Nullable String matchModeKey) { }
+}
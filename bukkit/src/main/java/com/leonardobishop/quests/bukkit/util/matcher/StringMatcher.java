@@ -0,0 +1,75 @@
+package com.leonardobishop.quests.bukkit.util.matcher;
+
+import com.leonardobishop.quests.bukkit.util.TaskUtils;
+import com.leonardobishop.quests.common.quest.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * Pre-parsed form of a string list config value together with its {@link TaskUtils.StringMatchMode}.
+ */
+public final class StringMatcher {
+
+    private final @Nullable @Unmodifiable List<String> strings;
+    private final TaskUtils.StringMatchMode matchMode;
+
+    private StringMatcher(final @Nullable @Unmodifiable List<String> strings, final @NotNull TaskUtils.StringMatchMode matchMode) {
+        this.strings = strings;
+        this.matchMode = matchMode;
+    }
+
+    /**
+     * Compiles the string list of a task.
+     *
+     * @param task         the task
+     * @param stringKey    the key of the single string config value
+     * @param listKey      the key of the string list config value
+     * @param matchModeKey the key of the match mode config value
+     * @return the compiled matcher
+     */
+    public static @NotNull StringMatcher compile(final @NotNull Task task, final @NotNull String stringKey, final @NotNull String listKey, final @NotNull String matchModeKey) {
+        final List<String> strings = TaskUtils.getConfigStringList(task, task.hasConfigKey(stringKey) ? stringKey : listKey);
+
+        TaskUtils.StringMatchMode matchMode = TaskUtils.StringMatchMode.EQUALS;
+        if (task.getConfigValue(matchModeKey) instanceof String matchModeString) {
+            try {
+                matchMode = TaskUtils.StringMatchMode.valueOf(matchModeString);
+            } catch (final IllegalArgumentException ignored) {
+                // reported by the config validator
+            }
+        }
+
+        return new StringMatcher(strings, matchMode);
+    }
+
+    /**
+     * @return whether the string list is not configured, so any string matches
+     */
+    public boolean isAny() {
+        return this.strings == null;
+    }
+
+    /**
+     * @return whether the string list is configured as an empty list, so only the absence of a string matches
+     */
+    public boolean isEmpty() {
+        return this.strings != null && this.strings.isEmpty();
+    }
+
+    /**
+     * @return the configured strings, or an empty list if not configured
+     */
+    public @NotNull @Unmodifiable List<String> getStrings() {
+        return this.strings != null ? this.strings : List.of();
+    }
+
+    /**
+     * @return the match mode
+     */
+    public @NotNull TaskUtils.StringMatchMode getMatchMode() {
+        return this.matchMode;
+    }
+}
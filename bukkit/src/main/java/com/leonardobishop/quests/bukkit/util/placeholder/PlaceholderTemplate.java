@@ -0,0 +1,246 @@
+package com.leonardobishop.quests.bukkit.util.placeholder;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.bukkit.menu.itemstack.QItemStack;
+import com.leonardobishop.quests.bukkit.util.FormatUtils;
+import com.leonardobishop.quests.bukkit.util.Messages;
+import com.leonardobishop.quests.bukkit.util.chat.Chat;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
+import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.Task;
+import com.leonardobishop.quests.common.tasktype.TaskType;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+/**
+ * Pre-compiled form of a string containing task placeholders ({@code {task:progress}}, {@code {task:goal}},
+ * {@code {task:complete}}, {@code {task:id}}) and optionally {@code {timeleft}}. The string is split once into
+ * literal segments and placeholder tokens, so rendering it is a single pass over the segments.
+ */
+@NullMarked
+public final class PlaceholderTemplate {
+
+    private static final String TIME_LEFT_PLACEHOLDER = "{timeleft}";
+    private static final String THIS_TASK_ID = "this";
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final @Nullable String constant;
+    private final Object[] segments;
+
+    private PlaceholderTemplate(final @Nullable String constant, final Object[] segments) {
+        this.constant = constant;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles a string.
+     *
+     * @param plugin   the plugin instance
+     * @param quest    the quest the task placeholders refer to, or null if unknown at this point
+     * @param s        the string to compile
+     * @param color    whether legacy colour codes should be translated in the literal segments
+     * @param timeLeft whether {@code {timeleft}} should be treated as a placeholder
+     * @return the compiled template
+     */
+    public static PlaceholderTemplate compile(final BukkitQuestsPlugin plugin, final @Nullable Quest quest, final String s, final boolean color, final boolean timeLeft) {
+        final List<Object> segments = new ArrayList<>();
+        final Matcher matcher = QItemStack.TASK_PLACEHOLDER_PATTERN.matcher(s);
+
+        int literalStart = 0;
+        while (matcher.find()) {
+            addLiteralSegments(segments, s.substring(literalStart, matcher.start()), color, timeLeft);
+            literalStart = matcher.end();
+
+            final String taskId = matcher.group(1);
+            final TaskPlaceholder.Type type = switch (matcher.group(2)) {
+                case "progress" -> TaskPlaceholder.Type.PROGRESS;
+                case "goal" -> TaskPlaceholder.Type.GOAL;
+                case "complete" -> TaskPlaceholder.Type.COMPLETE;
+                default -> TaskPlaceholder.Type.ID;
+            };
+
+            // goals are a part of the task config, so they can be formatted just once
+            final Task task = quest != null ? quest.getTaskById(taskId) : null;
+            final String goal = type == TaskPlaceholder.Type.GOAL && task != null ? formatGoal(plugin, task) : null;
+
+            segments.add(new TaskPlaceholder(taskId, taskId.equals(THIS_TASK_ID), type, goal, matcher.group()));
+        }
+        addLiteralSegments(segments, s.substring(literalStart), color, timeLeft);
+
+        if (segments.isEmpty()) {
+            return new PlaceholderTemplate("", new Object[0]);
+        } else if (segments.size() == 1 && segments.getFirst() instanceof String literal) {
+            return new PlaceholderTemplate(literal, new Object[0]);
+        }
+
+        return new PlaceholderTemplate(null, segments.toArray());
+    }
+
+    private static void addLiteralSegments(final List<Object> segments, final String literal, final boolean color, final boolean timeLeft) {
+        int start = 0;
+
+        if (timeLeft) {
+            int index;
+            while ((index = literal.indexOf(TIME_LEFT_PLACEHOLDER, start)) != -1) {
+                addLiteralSegment(segments, literal.substring(start, index), color);
+                segments.add(TimeLeftPlaceholder.INSTANCE);
+                start = index + TIME_LEFT_PLACEHOLDER.length();
+            }
+        }
+
+        addLiteralSegment(segments, literal.substring(start), color);
+    }
+
+    private static void addLiteralSegment(final List<Object> segments, final String literal, final boolean color) {
+        if (!literal.isEmpty()) {
+            segments.add(color ? Chat.legacyColor(literal) : literal);
+        }
+    }
+
+    /**
+     * @return whether the template contains no placeholders at all
+     */
+    @Contract(pure = true)
+    public boolean isConstant() {
+        return this.constant != null;
+    }
+
+    /**
+     * Renders the template. Task placeholders referring to a task without progress are left as they are.
+     *
+     * @param plugin        the plugin instance
+     * @param quest         the quest of the quest progress
+     * @param questProgress the quest progress the task placeholders are resolved against
+     * @param taskProgress  the task progress {@code this} task placeholders are resolved against, or null
+     * @return the rendered string
+     */
+    public String render(final BukkitQuestsPlugin plugin, final Quest quest, final @Nullable QuestProgress questProgress, final @Nullable TaskProgress taskProgress) {
+        return this.render(plugin, quest, null, questProgress, taskProgress);
+    }
+
+    /**
+     * Renders the template. Task placeholders referring to a task without progress are left as they are.
+     *
+     * @param plugin            the plugin instance
+     * @param quest             the quest of the quest progress
+     * @param questProgressFile the quest progress file {@code {timeleft}} is resolved against, or null
+     * @param questProgress     the quest progress the task placeholders are resolved against
+     * @param taskProgress      the task progress {@code this} task placeholders are resolved against, or null
+     * @return the rendered string
+     */
+    public String render(final BukkitQuestsPlugin plugin, final Quest quest, final @Nullable QuestProgressFile questProgressFile, final @Nullable QuestProgress questProgress, final @Nullable TaskProgress taskProgress) {
+        if (this.constant != null) {
+            return this.constant;
+        }
+
+        final StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+
+        for (final Object segment : this.segments) {
+            switch (segment) {
+                case String literal -> builder.append(literal);
+                case TaskPlaceholder placeholder -> placeholder.appendTo(builder, plugin, quest, questProgress, taskProgress);
+                case TimeLeftPlaceholder ignored -> builder.append(formatTimeLeft(quest, questProgressFile));
+                default -> throw new IllegalStateException("Unexpected segment: " + segment);
+            }
+        }
+
+        final String rendered = builder.toString();
+
+        // do not keep unusually long strings referenced from every thread that has rendered one
+        if (builder.capacity() > 1024) {
+            BUILDER.remove();
+        }
+
+        return rendered;
+    }
+
+    private static String formatGoal(final BukkitQuestsPlugin plugin, final Task task) {
+        final TaskType taskType = plugin.getTaskTypeManager().getTaskType(task.getType());
+        final Object goal = taskType != null ? taskType.getGoal(task) : null;
+
+        if (goal instanceof Float || goal instanceof Double || goal instanceof BigDecimal) {
+            return FormatUtils.floating((Number) goal);
+        } else if (goal instanceof Integer || goal instanceof Long || goal instanceof BigInteger) {
+            return FormatUtils.integral((Number) goal);
+        } else if (goal != null) {
+            return String.valueOf(goal);
+        } else {
+            return String.valueOf(0);
+        }
+    }
+
+    private static String formatTimeLeft(final Quest quest, final @Nullable QuestProgressFile questProgressFile) {
+        if (!quest.isTimeLimitEnabled()) {
+            return Chat.legacyColor(Messages.UI_PLACEHOLDERS_NO_TIME_LIMIT.getMessageLegacyColor());
+        }
+
+        final long timeRemaining = questProgressFile != null ? questProgressFile.getTimeRemainingFor(quest) : -1L;
+        return FormatUtils.time(TimeUnit.SECONDS.convert(timeRemaining, TimeUnit.MILLISECONDS));
+    }
+
+    private record TaskPlaceholder(String taskId, boolean thisTask, Type type, @Nullable String goal, String raw) {
+
+        private enum Type {
+            PROGRESS,
+            GOAL,
+            COMPLETE,
+            ID
+        }
+
+        private void appendTo(final StringBuilder builder, final BukkitQuestsPlugin plugin, final Quest quest, final @Nullable QuestProgress questProgress, final @Nullable TaskProgress taskProgress) {
+            final TaskProgress matchedTaskProgress;
+            if (this.thisTask && taskProgress != null) {
+                matchedTaskProgress = taskProgress;
+            } else {
+                matchedTaskProgress = questProgress != null ? questProgress.getTaskProgressOrNull(this.taskId) : null;
+            }
+
+            if (matchedTaskProgress == null) {
+                builder.append(this.raw);
+                return;
+            }
+
+            switch (this.type) {
+                // formatted progress placeholders
+                case PROGRESS -> {
+                    final String progress = FormatUtils.progress(matchedTaskProgress);
+                    builder.append(progress != null ? progress : "0");
+                }
+
+                // goal placeholders, only tasks referenced by this are not known at compile time
+                case GOAL -> {
+                    if (this.goal != null) {
+                        builder.append(this.goal);
+                    } else {
+                        final Task task = quest.getTaskById(matchedTaskProgress.getTaskId());
+                        builder.append(task != null ? formatGoal(plugin, task) : "0");
+                    }
+                }
+
+                // completion placeholders
+                case COMPLETE -> builder.append(matchedTaskProgress.isCompleted()
+                        ? Messages.UI_PLACEHOLDERS_TRUE.getMessageLegacyColor()
+                        : Messages.UI_PLACEHOLDERS_FALSE.getMessageLegacyColor());
+
+                // may be particularly useful when using PAPI placeholders in boss bars
+                case ID -> builder.append(matchedTaskProgress.getTaskId());
+            }
+        }
+    }
+
+    private enum TimeLeftPlaceholder {
+        INSTANCE
+    }
+}
@@ -0,0 +1,87 @@
+package com.leonardobishop.quests.bukkit.util.placeholder;
+
+import com.leonardobishop.quests.bukkit.BukkitQuestsPlugin;
+import com.leonardobishop.quests.common.quest.Quest;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-compiled placeholders and progress placeholders of a quest, with legacy colour codes already translated.
+ */
+@NullMarked
+public final class QuestPlaceholderTemplates {
+
+    private final Map<String, PlaceholderTemplate> placeholders;
+    private final Map<String, PlaceholderTemplate> progressPlaceholders;
+
+    private QuestPlaceholderTemplates(final Map<String, PlaceholderTemplate> placeholders, final Map<String, PlaceholderTemplate> progressPlaceholders) {
+        this.placeholders = placeholders;
+        this.progressPlaceholders = progressPlaceholders;
+    }
+
+    /**
+     * Compiles the placeholders of a quest and attaches them to it.
+     *
+     * @param plugin the plugin instance
+     * @param quest  the quest, with all of its tasks registered
+     * @return the compiled placeholders
+     */
+    public static QuestPlaceholderTemplates compile(final BukkitQuestsPlugin plugin, final Quest quest) {
+        final QuestPlaceholderTemplates templates = new QuestPlaceholderTemplates(
+                compile(plugin, quest, quest.getPlaceholders()),
+                compile(plugin, quest, quest.getProgressPlaceholders())
+        );
+
+        quest.setCompiledPlaceholders(templates);
+        return templates;
+    }
+
+    private static Map<String, PlaceholderTemplate> compile(final BukkitQuestsPlugin plugin, final Quest quest, final Map<String, String> placeholders) {
+        final Map<String, PlaceholderTemplate> templates = HashMap.newHashMap(placeholders.size());
+
+        for (final Map.Entry<String, String> entry : placeholders.entrySet()) {
+            final String value = entry.getValue();
+
+            if (value != null) {
+                templates.put(entry.getKey(), PlaceholderTemplate.compile(plugin, quest, value, true, false));
+            }
+        }
+
+        return templates;
+    }
+
+    /**
+     * Gets the compiled placeholders of a quest, compiling them if the quest has not been loaded through the
+     * quests loader.
+     *
+     * @param plugin the plugin instance
+     * @param quest  the quest
+     * @return the compiled placeholders
+     */
+    public static QuestPlaceholderTemplates of(final BukkitQuestsPlugin plugin, final Quest quest) {
+        if (quest.getCompiledPlaceholders() instanceof QuestPlaceholderTemplates templates) {
+            return templates;
+        }
+
+        return compile(plugin, quest);
+    }
+
+    /**
+     * @param id the placeholder id
+     * @return the compiled placeholder, or null if there is no such placeholder
+     */
+    public @Nullable PlaceholderTemplate getPlaceholder(final String id) {
+        return this.placeholders.get(id);
+    }
+
+    /**
+     * @param id the progress placeholder id, which is a task id, a task type or {@code *}
+     * @return the compiled progress placeholder, or null if there is no such progress placeholder
+     */
+    public @Nullable PlaceholderTemplate getProgressPlaceholder(final String id) {
+        return this.progressPlaceholders.get(id);
+    }
+}
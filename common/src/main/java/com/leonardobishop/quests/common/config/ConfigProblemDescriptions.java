@@ -115,6 +115,10 @@ public enum ConfigProblemDescriptions {
                     "This may be the result of a cascading error<br>" +
                     "if '%s' failed to load, or a mis-typed ID."
     ),
+    CIRCULAR_REQUIREMENT("Quest requirements form a cycle: %s",
+            "None of the quests in the cycle can be started<br>" +
+                    "until one of them has been completed: %s"
+    ),
     NOT_ACCEPTED_VALUE("Value '%s' is not in the list of accepted values for task %s", null);
 
     private final String description;
@@ -0,0 +1,239 @@
+package com.leonardobishop.quests.common.player;
+
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
+import com.leonardobishop.quests.common.player.questprogressfile.TaskProgress;
+import com.leonardobishop.quests.common.plugin.Quests;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.Task;
+import com.leonardobishop.quests.common.util.Modern;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an index of task type to the incomplete tasks of all quests a player has manually started, so event
+ * handlers do not have to scan every quest registered to a task type. Quests with autostart enabled are never
+ * indexed as their started state is decided by the quest controller at the time of the check.
+ *
+ * <p>
+ * The index is updated incrementally by the quest controller and {@link TaskProgress#setCompleted(boolean)}.
+ * Any structural change of the underlying {@link QuestProgressFile} causes it to be rebuilt lazily on next access.
+ * </p>
+ *
+ * <p>
+ * The index may be read from any thread. The per-type maps are never modified once published, so a collection
+ * returned by {@link #getActiveTasks(String)} is a consistent snapshot which may be iterated while the index is
+ * updated. Updates are serialised on this object, and the index is only ever rebuilt on a server thread, as that is
+ * the only place the quest progress file may be iterated safely; other threads read the last published index.
+ * </p>
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+public final class ActiveTaskIndex {
+
+    private final Quests plugin;
+    private final QuestProgressFile questProgressFile;
+    private final Map<String, Map<Task, ActiveTask>> tasksByType;
+
+    private volatile boolean valid;
+    private volatile int structureVersion;
+
+    /**
+     * Constructs an ActiveTaskIndex.
+     *
+     * @param plugin            the plugin instance
+     * @param questProgressFile the quest progress file to index
+     */
+    public ActiveTaskIndex(final Quests plugin, final QuestProgressFile questProgressFile) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.questProgressFile = Objects.requireNonNull(questProgressFile, "questProgressFile cannot be null");
+        this.tasksByType = new ConcurrentHashMap<>();
+        this.valid = false;
+    }
+
+    /**
+     * Gets all incomplete tasks of a specific type in manually started quests.
+     *
+     * @param type the task type
+     * @return unmodifiable view of the active tasks
+     */
+    public @UnmodifiableView Collection<ActiveTask> getActiveTasks(final String type) {
+        Objects.requireNonNull(type, "type cannot be null");
+
+        if (!this.isUpToDate() && this.plugin.isPrimaryThread()) {
+            this.ensureValid();
+        }
+
+        final Map<Task, ActiveTask> tasks = this.tasksByType.get(type);
+        return tasks != null ? Collections.unmodifiableCollection(tasks.values()) : Collections.emptyList();
+    }
+
+    /**
+     * Adds all incomplete tasks of a quest to the index.
+     *
+     * @param quest         the quest which has been started
+     * @param questProgress the quest progress of the quest
+     */
+    public synchronized void addQuest(final Quest quest, final QuestProgress questProgress) {
+        Objects.requireNonNull(quest, "quest cannot be null");
+        Objects.requireNonNull(questProgress, "questProgress cannot be null");
+
+        if (!this.isUpToDate() || quest.isAutoStartEnabled()) {
+            return;
+        }
+
+        this.indexQuest(quest, questProgress);
+    }
+
+    /**
+     * Removes all tasks of a quest from the index.
+     *
+     * @param quest the quest which has been completed, cancelled or expired
+     */
+    public synchronized void removeQuest(final Quest quest) {
+        Objects.requireNonNull(quest, "quest cannot be null");
+
+        if (!this.isUpToDate()) {
+            return;
+        }
+
+        for (final Task task : quest.getTasks()) {
+            this.removeTask(task);
+        }
+    }
+
+    /**
+     * Updates the index after a change of the completion state of a task.
+     *
+     * @param questProgress the quest progress the task progress belongs to
+     * @param taskProgress  the task progress which has changed
+     */
+    public synchronized void updateTask(final QuestProgress questProgress, final TaskProgress taskProgress) {
+        Objects.requireNonNull(questProgress, "questProgress cannot be null");
+        Objects.requireNonNull(taskProgress, "taskProgress cannot be null");
+
+        if (!this.isUpToDate()) {
+            return;
+        }
+
+        final Quest quest = this.plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+        if (quest == null || quest.isAutoStartEnabled()) {
+            return;
+        }
+
+        // ignore detached progress objects
+        if (this.questProgressFile.getQuestProgressOrNull(quest) != questProgress) {
+            return;
+        }
+
+        final Task task = quest.getTaskById(taskProgress.getTaskId());
+        if (task == null) {
+            return;
+        }
+
+        if (questProgress.isStarted() && !taskProgress.isCompleted()) {
+            this.putTask(quest, task, questProgress, taskProgress);
+        } else {
+            this.removeTask(task);
+        }
+    }
+
+    /**
+     * Marks the index to be rebuilt on next access. Should be called whenever quests are reloaded.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    @Contract(pure = true)
+    private boolean isUpToDate() {
+        return this.valid && this.structureVersion == this.questProgressFile.getStructureVersion();
+    }
+
+    private synchronized void ensureValid() {
+        if (this.isUpToDate()) {
+            return;
+        }
+
+        final int structureVersion = this.questProgressFile.getStructureVersion();
+        final Map<String, Map<Task, ActiveTask>> tasksByType = new HashMap<>();
+
+        for (final QuestProgress questProgress : this.questProgressFile.getAllQuestProgress()) {
+            if (!questProgress.isStarted()) {
+                continue;
+            }
+
+            final Quest quest = this.plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+            if (quest == null || quest.isAutoStartEnabled()) {
+                continue;
+            }
+
+            for (final Task task : quest.getTasks()) {
+                final TaskProgress taskProgress = questProgress.getTaskProgress(task);
+
+                if (!taskProgress.isCompleted()) {
+                    tasksByType.computeIfAbsent(task.getType(), type -> new LinkedHashMap<>())
+                            .put(task, new ActiveTask(quest, task, questProgress, taskProgress));
+                }
+            }
+        }
+
+        this.tasksByType.keySet().retainAll(tasksByType.keySet());
+        this.tasksByType.putAll(tasksByType);
+
+        this.structureVersion = structureVersion;
+        this.valid = true;
+    }
+
+    private void indexQuest(final Quest quest, final QuestProgress questProgress) {
+        for (final Task task : quest.getTasks()) {
+            final TaskProgress taskProgress = questProgress.getTaskProgress(task);
+
+            if (taskProgress.isCompleted()) {
+                this.removeTask(task);
+            } else {
+                this.putTask(quest, task, questProgress, taskProgress);
+            }
+        }
+    }
+
+    // published maps are replaced rather than modified, so readers never observe a map being modified
+
+    private void putTask(final Quest quest, final Task task, final QuestProgress questProgress, final TaskProgress taskProgress) {
+        final Map<Task, ActiveTask> tasks = this.tasksByType.get(task.getType());
+        final Map<Task, ActiveTask> updatedTasks = tasks != null ? new LinkedHashMap<>(tasks) : new LinkedHashMap<>();
+
+        updatedTasks.put(task, new ActiveTask(quest, task, questProgress, taskProgress));
+        this.tasksByType.put(task.getType(), updatedTasks);
+    }
+
+    private void removeTask(final Task task) {
+        final Map<Task, ActiveTask> tasks = this.tasksByType.get(task.getType());
+
+        if (tasks != null && tasks.containsKey(task)) {
+            final Map<Task, ActiveTask> updatedTasks = new LinkedHashMap<>(tasks);
+            updatedTasks.remove(task);
+            this.tasksByType.put(task.getType(), updatedTasks);
+        }
+    }
+
+    /**
+     * Represents an incomplete task in a started quest.
+     *
+     * @param quest         the quest
+     * @param task          the task
+     * @param questProgress the quest progress
+     * @param taskProgress  the task progress
+     */
+    public record ActiveTask(Quest quest, Task task, QuestProgress questProgress, TaskProgress taskProgress) {
+    }
+}
@@ -24,11 +24,13 @@ public final class QPlayer {
 
     private final Quests plugin;
     private final QPlayerData playerData;
+    private final ActiveTaskIndex activeTaskIndex;
     private QuestController questController;
 
     public QPlayer(final Quests plugin, final QPlayerData playerData, final QuestController questController) {
         this.plugin = plugin;
         this.playerData = playerData;
+        this.activeTaskIndex = new ActiveTaskIndex(plugin, playerData.questProgressFile());
         this.questController = questController;
     }
 
@@ -72,6 +74,16 @@ public final class QPlayer {
         return this.playerData.questProgressFile();
     }
 
+    /**
+     * Get this players associated {@link ActiveTaskIndex}
+     *
+     * @return the active task index
+     */
+    @Contract(pure = true)
+    public ActiveTaskIndex getActiveTaskIndex() {
+        return this.activeTaskIndex;
+    }
+
     /**
      * Check if the player can start a quest.
      * Warning: will fail if the player is not online.
@@ -218,6 +230,11 @@ public final class QPlayer {
      */
     @Contract(pure = true)
     public int getEffectiveStartedQuestsCount() {
+        final int controllerCount = this.questController.getEffectiveStartedQuestCount(this);
+        if (controllerCount != -1) {
+            return controllerCount;
+        }
+
         int count = 0;
 
         final Collection<Quest> quests = this.plugin.getQuestManager()
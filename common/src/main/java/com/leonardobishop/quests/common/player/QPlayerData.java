@@ -29,6 +29,17 @@ public final class QPlayerData {
         this.questProgressFile = new QuestProgressFile(playerData.questProgressFile);
     }
 
+    /**
+     * Creates a data-only clone containing only the quest progress which has been modified since the last delta
+     * has been created. The modified state of the quest progress will be reset.
+     *
+     * @return the delta player data
+     * @see QuestProgressFile#createDelta()
+     */
+    public QPlayerData createDelta() {
+        return new QPlayerData(this.playerUUID, this.playerPreferences, this.questProgressFile.createDelta());
+    }
+
     public UUID playerUUID() {
         return this.playerUUID;
     }
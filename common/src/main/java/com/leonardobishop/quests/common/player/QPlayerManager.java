@@ -1,8 +1,10 @@
 package com.leonardobishop.quests.common.player;
 
+import com.leonardobishop.quests.common.config.QuestsConfig;
 import com.leonardobishop.quests.common.player.questprogressfile.QuestProgressFile;
 import com.leonardobishop.quests.common.plugin.Quests;
 import com.leonardobishop.quests.common.questcontroller.QuestController;
+import com.leonardobishop.quests.common.storage.SaveQueue;
 import com.leonardobishop.quests.common.storage.StorageProvider;
 import com.leonardobishop.quests.common.util.Modern;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -27,6 +29,7 @@ public final class QPlayerManager {
 
     private final Quests plugin;
     private final StorageProvider storageProvider;
+    private final SaveQueue saveQueue;
     private final Map<UUID, QPlayer> qPlayerMap;
     private QuestController activeQuestController;
 
@@ -35,6 +38,12 @@ public final class QPlayerManager {
         this.storageProvider = Objects.requireNonNull(storageProvider, "storageProvider cannot be null");
         this.activeQuestController = Objects.requireNonNull(questController, "questController cannot be null");
         this.qPlayerMap = new ConcurrentHashMap<>();
+
+        final QuestsConfig config = plugin.getQuestsConfig();
+        this.saveQueue = new SaveQueue(plugin, storageProvider,
+                Math.max(0, config.getInt("options.storage.save-queue.threads", 1)),
+                Math.max(1, config.getInt("options.storage.save-queue.capacity", 1024)),
+                Math.max(1, config.getInt("options.storage.save-queue.batch-size", 32)));
     }
 
     /**
@@ -66,7 +75,10 @@ public final class QPlayerManager {
 
         this.plugin.getQuestsLogger().debug("Unloading and saving player " + uuid + "...");
         final CompletableFuture<Void> future = this.savePlayer(uuid);
-        future.thenAccept(unused -> this.qPlayerMap.remove(uuid));
+        future.thenAccept(unused -> {
+            this.qPlayerMap.remove(uuid);
+            this.storageProvider.unloadPlayerData(uuid);
+        });
     }
 
     /**
@@ -88,22 +100,19 @@ public final class QPlayerManager {
     }
 
     /**
-     * Schedules a save for the player with a specified {@link QuestProgressFile}. The modified status of the
-     * specified progress file will be reset.
+     * Schedules a save for the player with a specified {@link QuestProgressFile}. Only the quest progress modified
+     * since the last save is copied and submitted to the {@link SaveQueue}, where it is coalesced with any other
+     * pending save of the player. The modified status of the specified progress file will be reset.
      */
     public CompletableFuture<@Nullable Void> savePlayer(final QPlayerData playerData) {
         Objects.requireNonNull(playerData, "playerData cannot be null");
 
-        final CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
-        final QPlayerData clonedPlayerData = new QPlayerData(playerData);
-        playerData.setModified(false);
-
-        this.plugin.getScheduler().doAsync(() -> {
-            this.save(clonedPlayerData);
-            future.complete(null);
-        });
+        final QPlayerData deltaPlayerData = playerData.createDelta();
+        if (deltaPlayerData.questProgressFile().getQuestProgressMap().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-        return future;
+        return this.saveQueue.submit(deltaPlayerData).thenApply(result -> null);
     }
 
     /**
@@ -128,6 +137,8 @@ public final class QPlayerManager {
      * of the specified progress file is not changed.
      */
     public void savePlayerSync(final QPlayerData playerData) {
+        // pending saves contain older progress and must not overwrite this one
+        this.saveQueue.flush(playerData.playerUUID());
         this.save(playerData);
     }
 
@@ -154,6 +165,7 @@ public final class QPlayerManager {
 
         this.plugin.getQuestsLogger().debug("Dropping player " + uuid + ".");
         this.qPlayerMap.remove(uuid);
+        this.storageProvider.unloadPlayerData(uuid);
     }
 
     /**
@@ -180,6 +192,9 @@ public final class QPlayerManager {
         final CompletableFuture<@Nullable QPlayer> future = new CompletableFuture<>();
 
         this.plugin.getScheduler().doAsync(() -> {
+            // make sure the last save of the player has been written
+            this.saveQueue.flush(uuid);
+
             final QPlayerData playerData = this.storageProvider.loadPlayerData(uuid);
 
             if (playerData == null) {
@@ -207,6 +222,15 @@ public final class QPlayerManager {
         return this.storageProvider;
     }
 
+    /**
+     * Gets the write-behind queue which player saves are submitted to.
+     *
+     * @return {@link SaveQueue}
+     */
+    public SaveQueue getSaveQueue() {
+        return this.saveQueue;
+    }
+
     public QuestController getActiveQuestController() {
         return this.activeQuestController;
     }
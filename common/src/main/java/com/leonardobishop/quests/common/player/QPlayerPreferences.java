@@ -5,6 +5,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -12,6 +13,7 @@ import java.util.WeakHashMap;
 public final class QPlayerPreferences {
 
     private static Set<QPlayer> debuggers = Collections.newSetFromMap(new WeakHashMap<>());
+    private static volatile Set<String> debuggedQuestIds = Set.of();
 
     private final Map<String, DebugType> debug = new HashMap<>();
     private String trackedQuestId;
@@ -55,5 +57,23 @@ public final class QPlayerPreferences {
 
     public static void setDebuggers(final @NotNull Set<QPlayer> debuggers) {
         QPlayerPreferences.debuggers = debuggers;
+
+        final Set<String> debuggedQuestIds = new HashSet<>();
+        for (final QPlayer debugger : debuggers) {
+            debuggedQuestIds.addAll(debugger.getPlayerPreferences().debug.keySet());
+        }
+        QPlayerPreferences.debuggedQuestIds = Set.copyOf(debuggedQuestIds);
+    }
+
+    /**
+     * Checks whether any player is debugging a quest, as of the last call to {@link #setDebuggers(Set)}.
+     * This is safe to call from any thread and costs a single branch when nobody is debugging.
+     *
+     * @param questId the quest id
+     * @return whether debug messages for the quest may be shown to anyone
+     */
+    public static boolean isDebugEnabled(final @NotNull String questId) {
+        final Set<String> debuggedQuestIds = QPlayerPreferences.debuggedQuestIds;
+        return !debuggedQuestIds.isEmpty() && (debuggedQuestIds.contains(questId) || debuggedQuestIds.contains("*"));
     }
 }
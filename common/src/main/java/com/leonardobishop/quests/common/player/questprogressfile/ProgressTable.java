@@ -0,0 +1,277 @@
+package com.leonardobishop.quests.common.player.questprogressfile;
+
+import com.leonardobishop.quests.common.util.Modern;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Stores progress in an array indexed by the ordinals of registered quests, or the slots of the registered tasks of
+ * a quest. Progress of anything which is not registered, such as quests removed from the config, is kept in a map
+ * which is only allocated when needed. A table is built for a single generation of the quest registry and has to be
+ * remapped into a new table once it changes.
+ *
+ * <p>
+ * A table is only modified by the thread owning the player. Other threads may read it, but may see it partially
+ * modified.
+ * </p>
+ *
+ * @param <V> the type of progress
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+final class ProgressTable<V> implements Iterable<V> {
+
+    private final int generation;
+    private final @Nullable Object[] registered;
+    private @Nullable Map<String, V> unregistered;
+    private int size;
+
+    /**
+     * Constructs an empty ProgressTable.
+     *
+     * @param generation the quest registry generation the slots belong to
+     * @param capacity   the number of registered slots
+     */
+    ProgressTable(final int generation, final int capacity) {
+        this.generation = generation;
+        this.registered = new Object[capacity];
+    }
+
+    /**
+     * Copies this table into a new one with the same slots.
+     *
+     * @param copier function copying progress
+     * @return the copied table
+     */
+    @Contract(pure = true)
+    ProgressTable<V> copy(final UnaryOperator<V> copier) {
+        final ProgressTable<V> table = new ProgressTable<>(this.generation, this.registered.length);
+
+        for (int slot = 0; slot < this.registered.length; slot++) {
+            final V value = this.get(slot);
+
+            if (value != null) {
+                table.registered[slot] = copier.apply(value);
+            }
+        }
+
+        if (this.unregistered != null) {
+            table.unregistered = HashMap.newHashMap(this.unregistered.size());
+
+            for (final Map.Entry<String, V> entry : this.unregistered.entrySet()) {
+                table.unregistered.put(entry.getKey(), copier.apply(entry.getValue()));
+            }
+        }
+
+        table.size = this.size;
+        return table;
+    }
+
+    /**
+     * @return the quest registry generation the slots belong to
+     */
+    @Contract(pure = true)
+    int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * @return the number of registered slots
+     */
+    @Contract(pure = true)
+    int getCapacity() {
+        return this.registered.length;
+    }
+
+    /**
+     * @return the number of progress entries
+     */
+    @Contract(pure = true)
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the progress of a registered slot.
+     *
+     * @param slot the slot, which must be within the capacity
+     * @return the progress, or null if there is none
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    @Nullable V get(final int slot) {
+        return (V) this.registered[slot];
+    }
+
+    /**
+     * Gets progress by its id.
+     *
+     * @param id   the id of the progress
+     * @param slot the registered slot of the id in this generation, or -1 if it is not registered
+     * @return the progress, or null if there is none
+     */
+    @Contract(pure = true)
+    @Nullable V get(final String id, final int slot) {
+        if (slot != -1) {
+            return this.get(slot);
+        }
+
+        final Map<String, V> unregistered = this.unregistered;
+        return unregistered != null ? unregistered.get(id) : null;
+    }
+
+    /**
+     * Finds progress by its id without knowing its slot. Used when the table is outdated, but cannot be remapped.
+     *
+     * @param id   the id of the progress
+     * @param idOf function returning the id of progress
+     * @return the progress, or null if there is none
+     */
+    @Contract(pure = true)
+    @Nullable V find(final String id, final Function<V, String> idOf) {
+        for (int slot = 0; slot < this.registered.length; slot++) {
+            final V value = this.get(slot);
+
+            if (value != null && idOf.apply(value).equals(id)) {
+                return value;
+            }
+        }
+
+        return this.get(id, -1);
+    }
+
+    /**
+     * Puts progress into the table.
+     *
+     * @param id    the id of the progress
+     * @param slot  the registered slot of the id in this generation, or -1 if it is not registered
+     * @param value the progress
+     * @return the replaced progress, or null if there was none
+     */
+    @Nullable V put(final String id, final int slot, final V value) {
+        final V previousValue;
+
+        if (slot != -1) {
+            previousValue = this.get(slot);
+            this.registered[slot] = value;
+        } else {
+            if (this.unregistered == null) {
+                this.unregistered = new HashMap<>();
+            }
+
+            previousValue = this.unregistered.put(id, value);
+        }
+
+        if (previousValue == null) {
+            this.size++;
+        }
+
+        return previousValue;
+    }
+
+    /**
+     * Removes progress from the table.
+     *
+     * @param id   the id of the progress
+     * @param slot the registered slot of the id in this generation, or -1 if it is not registered
+     * @return the removed progress, or null if there was none
+     */
+    @Nullable V remove(final String id, final int slot) {
+        final V previousValue;
+
+        if (slot != -1) {
+            previousValue = this.get(slot);
+            this.registered[slot] = null;
+        } else {
+            previousValue = this.unregistered != null ? this.unregistered.remove(id) : null;
+        }
+
+        if (previousValue != null) {
+            this.size--;
+        }
+
+        return previousValue;
+    }
+
+    /**
+     * Iterates over all progress, registered slots first. Removing progress through the iterator is supported.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<>() {
+            private int nextSlot = this.advance(0);
+            private int lastSlot = -1;
+            private boolean lastUnregistered;
+            private @Nullable Iterator<V> unregisteredIterator;
+
+            private int advance(int slot) {
+                while (slot < ProgressTable.this.registered.length && ProgressTable.this.registered[slot] == null) {
+                    slot++;
+                }
+
+                return slot;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (this.nextSlot < ProgressTable.this.registered.length) {
+                    return true;
+                }
+
+                if (this.unregisteredIterator == null) {
+                    final Map<String, V> unregistered = ProgressTable.this.unregistered;
+                    if (unregistered == null) {
+                        return false;
+                    }
+
+                    this.unregisteredIterator = unregistered.values().iterator();
+                }
+
+                return this.unregisteredIterator.hasNext();
+            }
+
+            @Override
+            public V next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                if (this.nextSlot < ProgressTable.this.registered.length) {
+                    this.lastSlot = this.nextSlot;
+                    this.lastUnregistered = false;
+                    this.nextSlot = this.advance(this.nextSlot + 1);
+                    return ProgressTable.this.get(this.lastSlot);
+                }
+
+                this.lastSlot = -1;
+                this.lastUnregistered = true;
+                return this.unregisteredIterator.next();
+            }
+
+            @Override
+            public void remove() {
+                if (this.lastUnregistered && this.unregisteredIterator != null) {
+                    this.unregisteredIterator.remove();
+                    this.lastUnregistered = false;
+                } else if (this.lastSlot != -1 && ProgressTable.this.registered[this.lastSlot] != null) {
+                    ProgressTable.this.registered[this.lastSlot] = null;
+                    this.lastSlot = -1;
+                } else {
+                    throw new IllegalStateException();
+                }
+
+                ProgressTable.this.size--;
+            }
+        };
+    }
+}
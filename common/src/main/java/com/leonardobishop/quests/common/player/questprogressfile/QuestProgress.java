@@ -1,12 +1,18 @@
 package com.leonardobishop.quests.common.player.questprogressfile;
 
+import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.plugin.Quests;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.QuestManager;
+import com.leonardobishop.quests.common.quest.Task;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -17,7 +23,10 @@ public final class QuestProgress {
     private final Quests plugin;
     private final String questId;
     private final UUID playerUUID;
-    private final Map<String, TaskProgress> taskProgressMap;
+    private final boolean unmodifiable;
+    private @Nullable QuestProgressFile questProgressFile;
+    private volatile ProgressTable<TaskProgress> taskProgressTable;
+    private @Nullable Quest registeredQuest;
 
     private boolean started;
     private long startedDate;
@@ -25,6 +34,7 @@ public final class QuestProgress {
     private boolean completedBefore;
     private long completionDate;
     private boolean modified;
+    private int modificationCount;
 
     /**
      * Constructs a QuestProgress.
@@ -40,10 +50,15 @@ public final class QuestProgress {
      * @param modified        whether the object has been modified and needs to be saved
      */
     public QuestProgress(final Quests plugin, final String questId, final UUID playerUUID, final boolean started, final long startedDate, final boolean completed, final boolean completedBefore, final long completionDate, final boolean modified) {
+        this(plugin, questId, playerUUID, started, startedDate, completed, completedBefore, completionDate, modified, false);
+    }
+
+    private QuestProgress(final Quests plugin, final String questId, final UUID playerUUID, final boolean started, final long startedDate, final boolean completed, final boolean completedBefore, final long completionDate, final boolean modified, final boolean unmodifiable) {
         this.plugin = plugin;
         this.questId = questId;
         this.playerUUID = playerUUID;
-        this.taskProgressMap = new HashMap<>();
+        this.unmodifiable = unmodifiable;
+        this.taskProgressTable = new ProgressTable<>(-1, 0);
         this.started = started;
         this.startedDate = startedDate;
         this.completed = completed;
@@ -74,16 +89,15 @@ public final class QuestProgress {
      * @param questProgress the quest progress instance
      */
     public QuestProgress(final QuestProgress questProgress) {
-        final Set<Map.Entry<String, TaskProgress>> progressEntries = questProgress.taskProgressMap.entrySet();
-
         this.plugin = questProgress.plugin;
         this.questId = questProgress.questId;
         this.playerUUID = questProgress.playerUUID;
-        this.taskProgressMap = HashMap.newHashMap(progressEntries.size());
+        this.unmodifiable = false;
 
-        for (final Map.Entry<String, TaskProgress> progressEntry : progressEntries) {
-            this.taskProgressMap.put(progressEntry.getKey(), new TaskProgress(progressEntry.getValue()));
-        }
+        // the registered quest is written before the table is published, so it must be read after it
+        final ProgressTable<TaskProgress> taskProgressTable = questProgress.taskProgressTable;
+        this.registeredQuest = questProgress.registeredQuest;
+        this.taskProgressTable = taskProgressTable.copy(TaskProgress::new);
 
         this.started = questProgress.started;
         this.startedDate = questProgress.startedDate;
@@ -93,6 +107,19 @@ public final class QuestProgress {
         this.modified = questProgress.modified;
     }
 
+    /**
+     * Creates an unmodifiable quest progress in its default state, with no task progress. It stands in for quest
+     * progress which does not exist without having to store a blank one.
+     *
+     * @param plugin     the plugin instance
+     * @param questId    the associated quest ID
+     * @param playerUUID the associated player UUID
+     * @return the default quest progress
+     */
+    static QuestProgress createDefault(final Quests plugin, final String questId, final UUID playerUUID) {
+        return new QuestProgress(plugin, questId, playerUUID, false, 0L, false, false, 0L, false, true);
+    }
+
     /**
      * @return the associated quest ID
      */
@@ -110,11 +137,14 @@ public final class QuestProgress {
     }
 
     /**
+     * Gets a map of task id to task progress. It is a view of the task progress of this quest progress, so modifying
+     * the returned map modifies this quest progress.
+     *
      * @return mutable task progress map
      */
     @Contract(pure = true)
     public Map<String, TaskProgress> getTaskProgressMap() {
-        return this.taskProgressMap;
+        return new TaskProgressMapView();
     }
 
     /**
@@ -122,7 +152,7 @@ public final class QuestProgress {
      */
     @Contract(pure = true)
     public Collection<TaskProgress> getTaskProgresses() {
-        return this.taskProgressMap.values();
+        return this.getTaskProgressMap().values();
     }
 
     /**
@@ -132,11 +162,16 @@ public final class QuestProgress {
      * @return {@link TaskProgress} or a blank generated one if the task does not exist
      */
     public TaskProgress getTaskProgress(final String taskId) {
-        final TaskProgress taskProgress = this.taskProgressMap.get(taskId);
+        final TaskProgress taskProgress = this.getTaskProgressOrNull(taskId);
         if (taskProgress != null) {
             return taskProgress;
         }
 
+        // default quest progress has no task progress, so a detached blank one is returned without storing it
+        if (this.unmodifiable) {
+            return new TaskProgress(null, taskId, this.playerUUID, null, false, false);
+        }
+
         final TaskProgress newTaskProgress = new TaskProgress(this, taskId, this.playerUUID, null, false, false);
         this.addTaskProgress(newTaskProgress);
         return newTaskProgress;
@@ -150,14 +185,119 @@ public final class QuestProgress {
      */
     @Contract(pure = true)
     public @Nullable TaskProgress getTaskProgressOrNull(final String taskId) {
-        return this.taskProgressMap.get(taskId);
+        final ProgressTable<TaskProgress> table = this.getTaskProgressTable(false);
+
+        if (table.getGeneration() == this.plugin.getQuestManager().getGeneration()) {
+            final int slot = getSlot(this.registeredQuest, taskId);
+
+            if (slot < table.getCapacity()) {
+                final TaskProgress taskProgress = table.get(taskId, slot);
+
+                if (taskProgress == null || taskProgress.getTaskId().equals(taskId)) {
+                    return taskProgress;
+                }
+            }
+        }
+
+        return table.find(taskId, TaskProgress::getTaskId);
+    }
+
+    /**
+     * Gets the {@link TaskProgress} for a specified task. Generates a new one if it does not exist.
+     *
+     * @param task the task to get the progress for
+     * @return {@link TaskProgress} or a blank generated one if the task does not exist
+     */
+    public TaskProgress getTaskProgress(final Task task) {
+        final TaskProgress taskProgress = this.getTaskProgressOrNull(task);
+        return taskProgress != null ? taskProgress : this.getTaskProgress(task.getId());
+    }
+
+    /**
+     * Gets the {@link TaskProgress} for a specified task. Returns null if it does not exist. Tasks of the registered
+     * quest are looked up by their slot, anything else falls back to the task ID.
+     *
+     * @param task the task to get the progress for
+     * @return {@link TaskProgress} or null if the task does not exist
+     */
+    @Contract(pure = true)
+    public @Nullable TaskProgress getTaskProgressOrNull(final Task task) {
+        final ProgressTable<TaskProgress> table = this.getTaskProgressTable(false);
+        final Quest registeredQuest = this.registeredQuest;
+        final int slot = task.getSlot();
+
+        if (registeredQuest != null && table.getGeneration() == this.plugin.getQuestManager().getGeneration()
+                && slot >= 0 && slot < table.getCapacity() && registeredQuest.getTaskBySlot(slot) == task) {
+            return table.get(slot);
+        }
+
+        return this.getTaskProgressOrNull(task.getId());
+    }
+
+    /**
+     * Gets the task progress table, remapping it to the task slots of the registered quest if quests have been
+     * registered since it was last built. Only the thread owning the player may remap it, so other threads may get an
+     * outdated table.
+     *
+     * @param owner whether the caller is known to own the player, such as when modifying this quest progress
+     * @return the task progress table
+     */
+    private ProgressTable<TaskProgress> getTaskProgressTable(final boolean owner) {
+        final ProgressTable<TaskProgress> table = this.taskProgressTable;
+        final QuestManager questManager = this.plugin.getQuestManager();
+        final int generation = questManager.getGeneration();
+
+        // lookups in empty tables are free even if they are outdated
+        if (table.getGeneration() == generation || !owner && (table.size() == 0 || !this.plugin.isPrimaryThread())) {
+            return table;
+        }
+
+        final Quest quest = questManager.getQuestById(this.questId);
+        final ProgressTable<TaskProgress> remappedTable = new ProgressTable<>(generation, quest != null ? quest.getTasks().size() : 0);
+
+        for (final TaskProgress taskProgress : table) {
+            remappedTable.put(taskProgress.getTaskId(), getSlot(quest, taskProgress.getTaskId()), taskProgress);
+        }
+
+        this.registeredQuest = quest;
+        this.taskProgressTable = remappedTable;
+        return remappedTable;
+    }
+
+    private static int getSlot(final @Nullable Quest quest, final String taskId) {
+        if (quest == null) {
+            return -1;
+        }
+
+        final Task task = quest.getTaskById(taskId);
+        return task != null ? task.getSlot() : -1;
     }
 
     /**
      * @param taskProgress the task progress to put into the task progress map
      */
     public void addTaskProgress(final TaskProgress taskProgress) {
-        this.taskProgressMap.put(taskProgress.getTaskId(), taskProgress);
+        this.checkModifiable();
+
+        final ProgressTable<TaskProgress> table = this.getTaskProgressTable(true);
+        table.put(taskProgress.getTaskId(), getSlot(this.registeredQuest, taskProgress.getTaskId()), taskProgress);
+
+        if (taskProgress.isModified()) {
+            this.markDirty();
+        }
+    }
+
+    private @Nullable TaskProgress removeTaskProgress(final String taskId) {
+        this.checkModifiable();
+
+        final ProgressTable<TaskProgress> table = this.getTaskProgressTable(true);
+        final TaskProgress taskProgress = table.remove(taskId, getSlot(this.registeredQuest, taskId));
+
+        if (taskProgress != null) {
+            this.modificationCount++;
+        }
+
+        return taskProgress;
     }
 
     /**
@@ -172,8 +312,16 @@ public final class QuestProgress {
      * @param started whether the quest is started
      */
     public void setStarted(final boolean started) {
+        this.checkModifiable();
+
+        final boolean previous = this.started;
         this.started = started;
         this.modified = true;
+        this.markDirty();
+
+        if (previous != started) {
+            this.updateState(previous, this.completed, this.completedBefore);
+        }
     }
 
     /**
@@ -188,8 +336,11 @@ public final class QuestProgress {
      * @param startedDate the date of the last quest start
      */
     public void setStartedDate(final long startedDate) {
+        this.checkModifiable();
+
         this.startedDate = startedDate;
         this.modified = true;
+        this.markDirty();
     }
 
     /**
@@ -204,8 +355,16 @@ public final class QuestProgress {
      * @param completed whether the quest is completed
      */
     public void setCompleted(final boolean completed) {
+        this.checkModifiable();
+
+        final boolean previous = this.completed;
         this.completed = completed;
         this.modified = true;
+        this.markDirty();
+
+        if (previous != completed) {
+            this.updateState(this.started, previous, this.completedBefore);
+        }
     }
 
     /**
@@ -220,8 +379,16 @@ public final class QuestProgress {
      * @param completedBefore whether the quest has been completed before
      */
     public void setCompletedBefore(final boolean completedBefore) {
+        this.checkModifiable();
+
+        final boolean previous = this.completedBefore;
         this.completedBefore = completedBefore;
         this.modified = true;
+        this.markDirty();
+
+        if (previous != completedBefore) {
+            this.updateState(this.started, this.completed, previous);
+        }
     }
 
     /**
@@ -236,8 +403,28 @@ public final class QuestProgress {
      * @param completionDate the date of the last quest completion
      */
     public void setCompletionDate(final long completionDate) {
+        this.checkModifiable();
+
+        final long previous = this.completionDate;
         this.completionDate = completionDate;
         this.modified = true;
+        this.markDirty();
+
+        // it decides the cooldown
+        if (previous != completionDate) {
+            this.updateState(this.started, this.completed, this.completedBefore);
+        }
+    }
+
+    /**
+     * Gets the modification count of this quest progress. It is incremented every time this quest progress or any of
+     * its task progress is modified, allowing anything derived from it to detect when it needs to be rebuilt.
+     *
+     * @return the modification count
+     */
+    @Contract(pure = true)
+    public int getModificationCount() {
+        return this.modificationCount;
     }
 
     /**
@@ -249,7 +436,7 @@ public final class QuestProgress {
             return true;
         }
 
-        for (final TaskProgress taskProgress : this.taskProgressMap.values()) {
+        for (final TaskProgress taskProgress : this.taskProgressTable) {
             if (taskProgress.isModified()) {
                 return true;
             }
@@ -262,11 +449,65 @@ public final class QuestProgress {
      * @param modified whether the object has been modified and needs to be saved
      */
     public void setModified(final boolean modified) {
+        this.checkModifiable();
+
         this.modified = modified;
 
-        for (final TaskProgress taskProgress : this.taskProgressMap.values()) {
+        for (final TaskProgress taskProgress : this.taskProgressTable) {
             taskProgress.setModified(modified);
         }
+
+        if (modified) {
+            this.markDirty();
+        }
+    }
+
+    /**
+     * Sets the quest progress file this quest progress is stored in, or null if it has been detached from it.
+     *
+     * @param questProgressFile the quest progress file
+     */
+    void setQuestProgressFile(final @Nullable QuestProgressFile questProgressFile) {
+        this.questProgressFile = questProgressFile;
+    }
+
+    /**
+     * @return whether this is default quest progress which cannot be modified
+     * @see QuestProgressFile#getQuestProgressView(Quest)
+     */
+    @Contract(pure = true)
+    public boolean isUnmodifiable() {
+        return this.unmodifiable;
+    }
+
+    private void checkModifiable() {
+        if (this.unmodifiable) {
+            throw new UnsupportedOperationException("default quest progress cannot be modified, use QuestProgressFile#getQuestProgress instead");
+        }
+    }
+
+    /**
+     * Registers this quest progress in the dirty set of the quest progress file it is stored in.
+     */
+    void markDirty() {
+        this.modificationCount++;
+
+        if (this.questProgressFile != null) {
+            this.questProgressFile.markDirty(this);
+        }
+    }
+
+    /**
+     * Registers a change of the quest state in the quest progress file this quest progress is stored in.
+     *
+     * @param previousStarted         the previous started flag
+     * @param previousCompleted       the previous completed flag
+     * @param previousCompletedBefore the previous completed before flag
+     */
+    private void updateState(final boolean previousStarted, final boolean previousCompleted, final boolean previousCompletedBefore) {
+        if (this.questProgressFile != null) {
+            this.questProgressFile.updateState(this, previousStarted, previousCompleted, previousCompletedBefore);
+        }
     }
 
     /**
@@ -279,7 +520,7 @@ public final class QuestProgress {
      * - {@link QuestProgress#completed}<br>
      * - {@link QuestProgress#completedBefore}<br>
      * - {@link QuestProgress#completionDate}<br>
-     * - {@link QuestProgress#taskProgressMap}
+     * - {@link QuestProgress#taskProgressTable}
      * </p>
      *
      * @return whether the object has non default values
@@ -290,7 +531,7 @@ public final class QuestProgress {
             return true;
         }
 
-        for (final TaskProgress taskProgress : this.taskProgressMap.values()) {
+        for (final TaskProgress taskProgress : this.taskProgressTable) {
             if (taskProgress.getProgress() != null || taskProgress.isCompleted()) {
                 return true;
             }
@@ -299,6 +540,19 @@ public final class QuestProgress {
         return false;
     }
 
+    /**
+     * Updates the active task index of the associated player after a task completion state change.
+     *
+     * @param taskProgress the task progress which has changed
+     */
+    void updateActiveTaskIndex(final TaskProgress taskProgress) {
+        final QPlayer qPlayer = this.plugin.getPlayerManager().getPlayer(this.playerUUID);
+
+        if (qPlayer != null) {
+            qPlayer.getActiveTaskIndex().updateTask(this, taskProgress);
+        }
+    }
+
     /**
      * Queues the {@link QuestProgress} instance for a completion test.
      */
@@ -306,6 +560,87 @@ public final class QuestProgress {
         this.plugin.getQuestCompleter().queueSingular(this);
     }
 
+    /**
+     * The task progress map as exposed to callers. Writes go through {@link #addTaskProgress(TaskProgress)}, so the
+     * task progress table stays consistent.
+     */
+    private final class TaskProgressMapView extends AbstractMap<String, TaskProgress> {
+
+        @Override
+        public int size() {
+            return QuestProgress.this.taskProgressTable.size();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.get(key) != null;
+        }
+
+        @Override
+        public @Nullable TaskProgress get(final Object key) {
+            return key instanceof String taskId ? QuestProgress.this.getTaskProgressOrNull(taskId) : null;
+        }
+
+        @Override
+        public @Nullable TaskProgress put(final String key, final TaskProgress value) {
+            if (!key.equals(value.getTaskId())) {
+                throw new IllegalArgumentException("key must be the task id of the task progress");
+            }
+
+            final TaskProgress previousValue = this.get(key);
+            QuestProgress.this.addTaskProgress(value);
+            return previousValue;
+        }
+
+        @Override
+        public @Nullable TaskProgress remove(final Object key) {
+            return key instanceof String taskId ? QuestProgress.this.removeTaskProgress(taskId) : null;
+        }
+
+        @Override
+        public Set<Entry<String, TaskProgress>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return QuestProgress.this.taskProgressTable.size();
+                }
+
+                @Override
+                public Iterator<Entry<String, TaskProgress>> iterator() {
+                    final Iterator<TaskProgress> iterator = QuestProgress.this.getTaskProgressTable(false).iterator();
+
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, TaskProgress> next() {
+                            final TaskProgress taskProgress = iterator.next();
+
+                            return new SimpleEntry<>(taskProgress.getTaskId(), taskProgress) {
+                                @Override
+                                public TaskProgress setValue(final TaskProgress value) {
+                                    super.setValue(value);
+                                    return TaskProgressMapView.this.put(taskProgress.getTaskId(), value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            QuestProgress.this.checkModifiable();
+
+                            iterator.remove();
+                            QuestProgress.this.modificationCount++;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
     // DEPRECATED AND FOR REMOVAL
 
     /**
@@ -4,15 +4,20 @@ import com.leonardobishop.quests.common.player.QPlayer;
 import com.leonardobishop.quests.common.player.questprogressfile.filters.QuestProgressFilter;
 import com.leonardobishop.quests.common.plugin.Quests;
 import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.QuestManager;
 import com.leonardobishop.quests.common.quest.Task;
 import com.leonardobishop.quests.common.util.Modern;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,7 +37,13 @@ public final class QuestProgressFile {
 
     private final Quests plugin;
     private final UUID playerUUID;
-    private final Map<String, QuestProgress> questProgressMap;
+    private final Set<String> dirtyQuestIds;
+    private final QuestProgressStatistics statistics;
+    private final QuestRequirementProgress requirementProgress;
+    private volatile ProgressTable<QuestProgress> questProgressTable;
+    private volatile int structureVersion;
+    private int stateVersion;
+    private volatile int modificationCount;
 
     /**
      * Constructs a QuestProgressFile.
@@ -43,7 +54,10 @@ public final class QuestProgressFile {
     public QuestProgressFile(final Quests plugin, final UUID playerUUID) {
         this.plugin = plugin;
         this.playerUUID = playerUUID;
-        this.questProgressMap = HashMap.newHashMap(1024); // reduce collisions
+        this.questProgressTable = new ProgressTable<>(-1, 0); // only quests the player has interacted with are stored
+        this.dirtyQuestIds = new HashSet<>();
+        this.statistics = new QuestProgressStatistics(plugin, this);
+        this.requirementProgress = new QuestRequirementProgress(plugin, this);
     }
 
     /**
@@ -52,15 +66,15 @@ public final class QuestProgressFile {
      * @param questProgressFile the quest progress file instance
      */
     public QuestProgressFile(final QuestProgressFile questProgressFile) {
-        final Set<Map.Entry<String, QuestProgress>> progressEntries = questProgressFile.questProgressMap.entrySet();
-
         this.plugin = questProgressFile.plugin;
         this.playerUUID = questProgressFile.playerUUID;
-        this.questProgressMap = HashMap.newHashMap(progressEntries.size());
+        this.questProgressTable = questProgressFile.questProgressTable.copy(QuestProgress::new);
+        this.dirtyQuestIds = new HashSet<>();
+        this.statistics = new QuestProgressStatistics(this.plugin, this);
+        this.requirementProgress = new QuestRequirementProgress(this.plugin, this);
 
-        for (final Map.Entry<String, QuestProgress> progressEntry : progressEntries) {
-            this.questProgressMap.put(progressEntry.getKey(), new QuestProgress(progressEntry.getValue()));
-        }
+        // the progress has been copied without going through addQuestProgress
+        this.statistics.rebuild();
     }
 
     /**
@@ -71,7 +85,200 @@ public final class QuestProgressFile {
         //if (Options.VERIFY_QUEST_EXISTS_ON_LOAD.getBooleanValue(true) && plugin.getQuestManager().getQuestById(questProgress.getQuestId()) == null) {
         //    return;
         //}
-        this.questProgressMap.put(questProgress.getQuestId(), questProgress);
+        final ProgressTable<QuestProgress> table = this.getQuestProgressTable(true);
+        final String questId = questProgress.getQuestId();
+        final QuestProgress previousQuestProgress = table.put(questId, this.getSlot(questId), questProgress);
+
+        if (previousQuestProgress != null && previousQuestProgress != questProgress) {
+            previousQuestProgress.setQuestProgressFile(null);
+        }
+
+        questProgress.setQuestProgressFile(this);
+
+        if (questProgress.isModified()) {
+            this.dirtyQuestIds.add(questId);
+        }
+
+        this.modificationCount++;
+
+        // count the quest progress as if its flags have just been changed from those of the replaced one
+        if (previousQuestProgress != questProgress) {
+            if (previousQuestProgress != null) {
+                this.statistics.update(questProgress, previousQuestProgress.isStarted(), previousQuestProgress.isCompleted(), previousQuestProgress.isCompletedBefore());
+            } else {
+                this.statistics.update(questProgress, false, false, false);
+            }
+        }
+
+        // adding a blank progress is not a structural change for anything built on top of started quests
+        if (previousQuestProgress != null || questProgress.isStarted()) {
+            this.structureVersion++;
+        } else {
+            // but it may still be completed
+            this.requirementProgress.update(questProgress, false);
+        }
+
+        if (previousQuestProgress != null || questProgress.isStarted() || questProgress.isCompleted() || questProgress.isCompletedBefore()) {
+            this.stateVersion++;
+        }
+    }
+
+    /**
+     * Removes the quest progress of a specified quest ID from this file.
+     *
+     * @param questId the quest ID to remove the progress of
+     * @return the removed {@link QuestProgress} or null if there was none
+     */
+    public @Nullable QuestProgress removeQuestProgress(final String questId) {
+        final ProgressTable<QuestProgress> table = this.getQuestProgressTable(true);
+        final QuestProgress questProgress = table.remove(questId, this.getSlot(questId));
+
+        if (questProgress != null) {
+            this.removed(questProgress);
+        }
+
+        return questProgress;
+    }
+
+    /**
+     * Updates everything derived from the quest progress after a quest progress has been removed from the quest
+     * progress table.
+     *
+     * @param questProgress the removed quest progress
+     */
+    private void removed(final QuestProgress questProgress) {
+        questProgress.setQuestProgressFile(null);
+
+        this.statistics.remove(questProgress);
+        this.dirtyQuestIds.remove(questProgress.getQuestId());
+        this.structureVersion++;
+        this.stateVersion++;
+        this.modificationCount++;
+    }
+
+    /**
+     * Registers a quest progress as modified since the last delta has been created. Detached quest progress
+     * objects are ignored.
+     *
+     * @param questProgress the quest progress which has been modified
+     */
+    void markDirty(final QuestProgress questProgress) {
+        final String questId = questProgress.getQuestId();
+
+        if (this.getQuestProgressOrNull(questId) == questProgress) {
+            this.dirtyQuestIds.add(questId);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Registers a change of the quest state of a quest progress, which is any of its flags or its completion date, and
+     * updates the statistics and requirements. Detached quest progress objects are ignored.
+     *
+     * @param questProgress           the quest progress which has been modified
+     * @param previousStarted         the previous started flag
+     * @param previousCompleted       the previous completed flag
+     * @param previousCompletedBefore the previous completed before flag
+     */
+    void updateState(final QuestProgress questProgress, final boolean previousStarted, final boolean previousCompleted, final boolean previousCompletedBefore) {
+        if (this.getQuestProgressOrNull(questProgress.getQuestId()) == questProgress) {
+            this.stateVersion++;
+            this.statistics.update(questProgress, previousStarted, previousCompleted, previousCompletedBefore);
+            this.requirementProgress.update(questProgress, previousCompletedBefore);
+        }
+    }
+
+    /**
+     * Gets whether any quest progress has been modified since the last delta has been created.
+     *
+     * @return true if there is any modified quest progress
+     */
+    @Contract(pure = true)
+    public boolean isDirty() {
+        return !this.dirtyQuestIds.isEmpty();
+    }
+
+    /**
+     * Creates a data-only clone of only the quest progress which has been modified since the last delta has been
+     * created, and resets the modified state of the quest progress in this file. The returned file is intended to
+     * be handed to {@link com.leonardobishop.quests.common.storage.StorageProvider#savePlayerDataDelta} and should
+     * not be used for anything else, as it is not a complete representation of the player progress.
+     *
+     * @return the delta quest progress file
+     */
+    public QuestProgressFile createDelta() {
+        final QuestProgressFile delta = new QuestProgressFile(this.plugin, this.playerUUID);
+        final ProgressTable<QuestProgress> deltaTable = delta.getQuestProgressTable(true);
+
+        for (final String questId : this.dirtyQuestIds) {
+            final QuestProgress questProgress = this.getQuestProgressOrNull(questId);
+
+            if (questProgress != null) {
+                // the copy is data-only, so it does not go through addQuestProgress
+                deltaTable.put(questId, delta.getSlot(questId), new QuestProgress(questProgress));
+                questProgress.setModified(false);
+            }
+        }
+
+        this.dirtyQuestIds.clear();
+        return delta;
+    }
+
+    /**
+     * Gets the structure version of this file. It is incremented every time a {@link QuestProgress} is replaced
+     * or removed, allowing derived structures to detect when they need to be rebuilt.
+     *
+     * @return the structure version
+     */
+    @Contract(pure = true)
+    public int getStructureVersion() {
+        return this.structureVersion;
+    }
+
+    /**
+     * Gets the state version of this file. It is incremented every time the started, completed or completed before
+     * state or the completion date of any {@link QuestProgress} changes, or quest progress with such a state is
+     * added or removed. Unlike {@link #getModificationCount()}, it is not incremented by task progress, so it is
+     * suitable for caching anything derived from the quest states only, such as whether a quest can be started.
+     *
+     * @return the state version
+     */
+    @Contract(pure = true)
+    public int getStateVersion() {
+        return this.stateVersion;
+    }
+
+    /**
+     * Gets the modification count of this file. It is incremented every time any {@link QuestProgress} or
+     * {@link TaskProgress} in this file changes, so comparing it with an earlier value tells whether anything
+     * derived from the progress may be outdated. Its absolute value has no meaning. It is only incremented on the
+     * thread owning the player, but may be read from any thread, such as when validating cached placeholders.
+     *
+     * @return the modification count
+     */
+    @Contract(pure = true)
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Gets the running counts of started and completed quests in this file.
+     *
+     * @return the quest progress statistics
+     */
+    @Contract(pure = true)
+    public QuestProgressStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Gets the tracked requirements of all quests for this file.
+     *
+     * @return the quest requirement progress
+     */
+    @Contract(pure = true)
+    public QuestRequirementProgress getRequirementProgress() {
+        return this.requirementProgress;
     }
 
     /**
@@ -95,7 +302,7 @@ public final class QuestProgressFile {
     public List<Quest> getAllQuestsFromProgress(final QuestProgressFilter filter) {
         final List<Quest> quests = new ArrayList<>();
 
-        for (final QuestProgress questProgress : this.questProgressMap.values()) {
+        for (final QuestProgress questProgress : this.getQuestProgressTable(false)) {
             final Quest quest = this.getQuestFromProgress(filter, questProgress);
 
             if (quest != null) {
@@ -111,7 +318,7 @@ public final class QuestProgressFile {
      */
     @Contract(pure = true)
     public void getAllQuestsFromProgressConsumer(final QuestProgressFilter filter, final Consumer<Quest> consumer) {
-        for (final QuestProgress questProgress : this.questProgressMap.values()) {
+        for (final QuestProgress questProgress : this.getQuestProgressTable(false)) {
             final Quest quest = this.getQuestFromProgress(filter, questProgress);
 
             if (quest != null) {
@@ -131,7 +338,7 @@ public final class QuestProgressFile {
     public int getAllQuestsFromProgressCount(final QuestProgressFilter filter) {
         int count = 0;
 
-        for (final QuestProgress questProgress : this.questProgressMap.values()) {
+        for (final QuestProgress questProgress : this.getQuestProgressTable(false)) {
             final Quest quest = this.getQuestFromProgress(filter, questProgress);
 
             if (quest != null) {
@@ -163,13 +370,14 @@ public final class QuestProgressFile {
     }
 
     /**
-     * Gets map of quest id to quest progress.
+     * Gets map of quest id to quest progress. It is a view of this file, so modifying the returned map modifies this
+     * file as if {@link #addQuestProgress(QuestProgress)} or {@link #removeQuestProgress(String)} were called.
      *
      * @return {@code Map<String, QuestProgress>} quest progress map
      */
     @Contract(pure = true)
     public Map<String, QuestProgress> getQuestProgressMap() {
-        return this.questProgressMap;
+        return new QuestProgressMapView();
     }
 
     /**
@@ -179,7 +387,7 @@ public final class QuestProgressFile {
      */
     @Contract(pure = true)
     public Collection<QuestProgress> getAllQuestProgress() {
-        return this.questProgressMap.values();
+        return this.getQuestProgressMap().values();
     }
 
     /**
@@ -190,7 +398,7 @@ public final class QuestProgressFile {
      */
     @Contract(pure = true)
     public boolean hasQuestProgress(final Quest quest) {
-        return this.questProgressMap.containsKey(quest.getId());
+        return this.getQuestProgressOrNull(quest) != null;
     }
 
     /**
@@ -259,27 +467,13 @@ public final class QuestProgressFile {
      * @param quest the quest to test for
      * @return true if they can start the quest
      */
-    // TODO possibly move this
     @Contract(pure = true)
     public boolean hasMetRequirements(final Quest quest) {
-        for (final String requiredQuestId : quest.getRequirements()) {
-            final QuestProgress requiredQuestProgress = this.questProgressMap.get(requiredQuestId);
-            if (requiredQuestProgress == null || !requiredQuestProgress.isCompletedBefore()) {
-                // if we decide to change the method return type to states like "DOES_NOT_EXIST"
-                // or "COMPLETED_BEFORE" we will need to change the quest existance check order
-                return false;
-            }
-
-            final Quest requiredQuest = this.plugin.getQuestManager().getQuestById(requiredQuestId);
-            if (requiredQuest == null) {
-                // TODO not sure if we actually need this check however probably
-                //      forcing the server owner to fix the quest options instead
-                //      of just ignoring the fact it's broken is better?
-                return false;
-            }
+        if (quest.getRequirements().isEmpty()) {
+            return true;
         }
 
-        return true;
+        return this.requirementProgress.hasMetRequirements(quest);
     }
 
     /**
@@ -303,7 +497,11 @@ public final class QuestProgressFile {
         }
 
         final QuestProgress questProgress = this.getQuestProgressOrNull(quest);
-        return questProgress != null ? questProgress : this.generateBlankQuestProgress(quest);
+        if (questProgress != null) {
+            return questProgress;
+        }
+
+        return this.generateBlankQuestProgress(quest);
     }
 
     /**
@@ -314,7 +512,87 @@ public final class QuestProgressFile {
      */
     @Contract(pure = true)
     public @Nullable QuestProgress getQuestProgressOrNull(final Quest quest) {
-        return this.questProgressMap.get(quest.getId());
+        final ProgressTable<QuestProgress> table = this.getQuestProgressTable(false);
+        final QuestManager questManager = this.plugin.getQuestManager();
+        final int ordinal = quest.getOrdinal();
+
+        // registered quests are looked up by their ordinal, anything else falls back to the quest ID
+        if (table.getGeneration() == questManager.getGeneration() && ordinal < table.getCapacity()
+                && questManager.getQuestByOrdinal(ordinal) == quest) {
+            return table.get(ordinal);
+        }
+
+        return this.getQuestProgressOrNull(quest.getId());
+    }
+
+    @Contract(pure = true)
+    private @Nullable QuestProgress getQuestProgressOrNull(final String questId) {
+        final ProgressTable<QuestProgress> table = this.getQuestProgressTable(false);
+
+        if (table.getGeneration() == this.plugin.getQuestManager().getGeneration()) {
+            final int slot = this.getSlot(questId);
+
+            if (slot < table.getCapacity()) {
+                final QuestProgress questProgress = table.get(questId, slot);
+
+                if (questProgress == null || questProgress.getQuestId().equals(questId)) {
+                    return questProgress;
+                }
+            }
+        }
+
+        return table.find(questId, QuestProgress::getQuestId);
+    }
+
+    /**
+     * Gets the quest progress table, remapping it to the quest ordinals if quests have been registered since it was
+     * last built. Only the thread owning the player may remap it, so other threads may get an outdated table.
+     *
+     * @param owner whether the caller is known to own the player, such as when modifying this file
+     * @return the quest progress table
+     */
+    private ProgressTable<QuestProgress> getQuestProgressTable(final boolean owner) {
+        final ProgressTable<QuestProgress> table = this.questProgressTable;
+        final QuestManager questManager = this.plugin.getQuestManager();
+        final int generation = questManager.getGeneration();
+
+        // lookups in empty tables are free even if they are outdated
+        if (table.getGeneration() == generation || !owner && (table.size() == 0 || !this.plugin.isPrimaryThread())) {
+            return table;
+        }
+
+        final ProgressTable<QuestProgress> remappedTable = new ProgressTable<>(generation, questManager.getQuestCount());
+
+        for (final QuestProgress questProgress : table) {
+            remappedTable.put(questProgress.getQuestId(), this.getSlot(questProgress.getQuestId()), questProgress);
+        }
+
+        this.questProgressTable = remappedTable;
+        return remappedTable;
+    }
+
+    private int getSlot(final String questId) {
+        final Quest quest = this.plugin.getQuestManager().getQuestById(questId);
+        return quest != null ? quest.getOrdinal() : -1;
+    }
+
+    /**
+     * Gets the {@link QuestProgress} for a specified {@link Quest} for reading only. Unlike
+     * {@link #getQuestProgress(Quest)} no blank quest progress is stored in this file if it does not exist; an
+     * unmodifiable default one with no task progress is returned instead, which is not kept by this file. Anything
+     * modifying the progress must use {@link #getQuestProgress(Quest)}.
+     *
+     * @param quest the quest to get the progress for
+     * @return {@link QuestProgress} or an unmodifiable default one if the quest does not exist
+     */
+    @Contract(pure = true)
+    public QuestProgress getQuestProgressView(final Quest quest) {
+        final QuestProgress questProgress = this.getQuestProgressOrNull(quest);
+        if (questProgress != null) {
+            return questProgress;
+        }
+
+        return QuestProgress.createDefault(this.plugin, quest.getId(), this.playerUUID);
     }
 
     /**
@@ -347,6 +625,12 @@ public final class QuestProgressFile {
      * @return the generated blank {@link QuestProgress}
      */
     public QuestProgress generateBlankQuestProgress(final Quest quest, final boolean modified) {
+        final QuestProgress questProgress = this.createBlankQuestProgress(quest, modified);
+        this.addQuestProgress(questProgress);
+        return questProgress;
+    }
+
+    private QuestProgress createBlankQuestProgress(final Quest quest, final boolean modified) {
         final QuestProgress questProgress = new QuestProgress(this.plugin, quest.getId(), this.playerUUID, false, 0L, false, false, 0L, modified);
 
         for (final Task task : quest.getTasks()) {
@@ -354,7 +638,6 @@ public final class QuestProgressFile {
             questProgress.addTaskProgress(taskProgress);
         }
 
-        this.addQuestProgress(questProgress);
         return questProgress;
     }
 
@@ -362,7 +645,16 @@ public final class QuestProgressFile {
      * Clears quest progress map.
      */
     public void clear() {
-        this.questProgressMap.clear();
+        for (final QuestProgress questProgress : this.questProgressTable) {
+            questProgress.setQuestProgressFile(null);
+        }
+
+        this.questProgressTable = new ProgressTable<>(-1, 0);
+        this.statistics.clear();
+        this.dirtyQuestIds.clear();
+        this.structureVersion++;
+        this.stateVersion++;
+        this.modificationCount++;
     }
 
     /**
@@ -371,7 +663,7 @@ public final class QuestProgressFile {
      * set the modified flag in that case.
      */
     public void reset() {
-        for (final QuestProgress questProgress : this.questProgressMap.values()) {
+        for (final QuestProgress questProgress : this.getQuestProgressTable(true)) {
             if (!questProgress.hasNonDefaultValues()) {
                 continue;
             }
@@ -395,8 +687,8 @@ public final class QuestProgressFile {
         if (!this.plugin.getTaskTypeManager().areRegistrationsOpen()) {
             final List<String> invalidQuestIds = new ArrayList<>();
 
-            for (final Map.Entry<String, QuestProgress> questProgressEntry : this.questProgressMap.entrySet()) {
-                final String questId = questProgressEntry.getKey();
+            for (final QuestProgress questProgress : this.getQuestProgressTable(true)) {
+                final String questId = questProgress.getQuestId();
 
                 final Quest quest = this.plugin.getQuestManager().getQuestById(questId);
                 if (quest == null) {
@@ -406,7 +698,6 @@ public final class QuestProgressFile {
                     continue;
                 }
 
-                final QuestProgress questProgress = questProgressEntry.getValue();
                 final Map<String, TaskProgress> taskProgressMap = questProgress.getTaskProgressMap();
                 final List<String> invalidTaskIds = new ArrayList<>();
 
@@ -424,7 +715,7 @@ public final class QuestProgressFile {
             }
 
             for (final String questId : invalidQuestIds) {
-                this.questProgressMap.remove(questId);
+                this.removeQuestProgress(questId);
             }
         }
     }
@@ -433,9 +724,104 @@ public final class QuestProgressFile {
      * @param modified whether the object has been modified and needs to be saved
      */
     public void setModified(final boolean modified) {
-        for (final QuestProgress questProgress : this.questProgressMap.values()) {
+        for (final QuestProgress questProgress : this.getQuestProgressTable(false)) {
             questProgress.setModified(modified);
         }
+
+        if (!modified) {
+            this.dirtyQuestIds.clear();
+        }
+    }
+
+    /**
+     * The quest progress map as exposed to callers. Writes go through {@link #addQuestProgress(QuestProgress)} and
+     * {@link #removeQuestProgress(String)}, so everything derived from the quest progress stays up-to-date.
+     */
+    private final class QuestProgressMapView extends AbstractMap<String, QuestProgress> {
+
+        @Override
+        public int size() {
+            return QuestProgressFile.this.questProgressTable.size();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.get(key) != null;
+        }
+
+        @Override
+        public @Nullable QuestProgress get(final Object key) {
+            return key instanceof String questId ? QuestProgressFile.this.getQuestProgressOrNull(questId) : null;
+        }
+
+        @Override
+        public @Nullable QuestProgress put(final String key, final QuestProgress value) {
+            if (!key.equals(value.getQuestId())) {
+                throw new IllegalArgumentException("key must be the quest id of the quest progress");
+            }
+
+            final QuestProgress previousValue = this.get(key);
+            QuestProgressFile.this.addQuestProgress(value);
+            return previousValue;
+        }
+
+        @Override
+        public @Nullable QuestProgress remove(final Object key) {
+            return key instanceof String questId ? QuestProgressFile.this.removeQuestProgress(questId) : null;
+        }
+
+        @Override
+        public void clear() {
+            QuestProgressFile.this.clear();
+        }
+
+        @Override
+        public Set<Entry<String, QuestProgress>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return QuestProgressFile.this.questProgressTable.size();
+                }
+
+                @Override
+                public Iterator<Entry<String, QuestProgress>> iterator() {
+                    final Iterator<QuestProgress> iterator = QuestProgressFile.this.getQuestProgressTable(false).iterator();
+
+                    return new Iterator<>() {
+                        private @Nullable QuestProgress lastQuestProgress;
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, QuestProgress> next() {
+                            final QuestProgress questProgress = iterator.next();
+                            this.lastQuestProgress = questProgress;
+
+                            return new SimpleEntry<>(questProgress.getQuestId(), questProgress) {
+                                @Override
+                                public QuestProgress setValue(final QuestProgress value) {
+                                    super.setValue(value);
+                                    return QuestProgressMapView.this.put(questProgress.getQuestId(), value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            iterator.remove();
+
+                            if (this.lastQuestProgress != null) {
+                                QuestProgressFile.this.removed(this.lastQuestProgress);
+                                this.lastQuestProgress = null;
+                            }
+                        }
+                    };
+                }
+            };
+        }
     }
 
     // DEPRECATED AND FOR REMOVAL
@@ -450,7 +836,7 @@ public final class QuestProgressFile {
     public List<Quest> getAllQuestsFromProgress(final QuestsProgressFilter filter) {
         final List<Quest> quests = new ArrayList<>();
 
-        for (final QuestProgress questProgress : this.questProgressMap.values()) {
+        for (final QuestProgress questProgress : this.getQuestProgressTable(false)) {
             final boolean matches = filter.matches(questProgress);
             if (!matches) {
                 continue;
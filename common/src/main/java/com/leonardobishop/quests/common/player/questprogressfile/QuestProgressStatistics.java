@@ -0,0 +1,250 @@
+package com.leonardobishop.quests.common.player.questprogressfile;
+
+import com.leonardobishop.quests.common.plugin.Quests;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.util.Modern;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps running counts of the started, completed and completed before quests of a player, both in total and per
+ * category, so they can be read without iterating over every quest progress. Only quest progress of quests which are
+ * currently registered is counted.
+ *
+ * <p>
+ * The counts are updated incrementally whenever a {@link QuestProgress} flag changes, or quest progress is added to,
+ * replaced in or removed from the underlying {@link QuestProgressFile}, so they are valid from the moment the file is
+ * constructed. They only have to be rebuilt when quests are reloaded, as categories and limits may have changed.
+ * </p>
+ *
+ * <p>
+ * The counts may be read from any thread, such as by PlaceholderAPI. Every update publishes an immutable snapshot of
+ * the counts, which is what readers see.
+ * </p>
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+public final class QuestProgressStatistics {
+
+    private static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, Map.of());
+
+    private final Quests plugin;
+    private final QuestProgressFile questProgressFile;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a QuestProgressStatistics.
+     *
+     * @param plugin            the plugin instance
+     * @param questProgressFile the quest progress file to count
+     */
+    QuestProgressStatistics(final Quests plugin, final QuestProgressFile questProgressFile) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.questProgressFile = Objects.requireNonNull(questProgressFile, "questProgressFile cannot be null");
+        this.snapshot = EMPTY;
+    }
+
+    /**
+     * @return the number of manually started quests
+     */
+    public int getStartedCount() {
+        return this.getSnapshot().startedCount();
+    }
+
+    /**
+     * @return the number of manually started quests which count towards the quest limit
+     */
+    public int getStartedTowardsLimitCount() {
+        return this.getSnapshot().startedTowardsLimitCount();
+    }
+
+    /**
+     * @return the number of completed quests which count towards completed quests
+     */
+    public int getCompletedCount() {
+        return this.getSnapshot().completedCount();
+    }
+
+    /**
+     * @return the number of quests completed before which count towards completed quests
+     */
+    public int getCompletedBeforeCount() {
+        return this.getSnapshot().completedBeforeCount();
+    }
+
+    /**
+     * @param categoryId the category id
+     * @return the number of manually started quests in the category
+     */
+    public int getStartedCount(final String categoryId) {
+        Objects.requireNonNull(categoryId, "categoryId cannot be null");
+
+        final CategoryCounts categoryCounts = this.getSnapshot().categoryCounts().get(categoryId);
+        return categoryCounts != null ? categoryCounts.startedCount() : 0;
+    }
+
+    /**
+     * @param categoryId the category id
+     * @return the number of completed quests in the category, regardless of whether they count towards completed
+     * quests
+     */
+    public int getCompletedCount(final String categoryId) {
+        Objects.requireNonNull(categoryId, "categoryId cannot be null");
+
+        final CategoryCounts categoryCounts = this.getSnapshot().categoryCounts().get(categoryId);
+        return categoryCounts != null ? categoryCounts.completedCount() : 0;
+    }
+
+    /**
+     * @param categoryId the category id
+     * @return the number of quests in the category completed before, regardless of whether they count towards
+     * completed quests
+     */
+    public int getCompletedBeforeCount(final String categoryId) {
+        Objects.requireNonNull(categoryId, "categoryId cannot be null");
+
+        final CategoryCounts categoryCounts = this.getSnapshot().categoryCounts().get(categoryId);
+        return categoryCounts != null ? categoryCounts.completedBeforeCount() : 0;
+    }
+
+    /**
+     * Updates the counts after a change of any flag of a quest progress stored in the quest progress file, or after it
+     * has been stored in place of quest progress with the given flags.
+     *
+     * @param questProgress           the quest progress which has changed
+     * @param previousStarted         the previous started flag
+     * @param previousCompleted       the previous completed flag
+     * @param previousCompletedBefore the previous completed before flag
+     */
+    synchronized void update(final QuestProgress questProgress, final boolean previousStarted, final boolean previousCompleted, final boolean previousCompletedBefore) {
+        final Quest quest = this.plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+        if (quest == null) {
+            return;
+        }
+
+        final Counter counter = new Counter(this.snapshot);
+        counter.count(quest, previousStarted, previousCompleted, previousCompletedBefore, -1);
+        counter.count(quest, questProgress.isStarted(), questProgress.isCompleted(), questProgress.isCompletedBefore(), 1);
+        this.snapshot = counter.toSnapshot();
+    }
+
+    /**
+     * Updates the counts after a quest progress has been removed from the quest progress file.
+     *
+     * @param questProgress the quest progress which has been removed
+     */
+    synchronized void remove(final QuestProgress questProgress) {
+        final Quest quest = this.plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+        if (quest == null) {
+            return;
+        }
+
+        final Counter counter = new Counter(this.snapshot);
+        counter.count(quest, questProgress.isStarted(), questProgress.isCompleted(), questProgress.isCompletedBefore(), -1);
+        this.snapshot = counter.toSnapshot();
+    }
+
+    /**
+     * Resets the counts after all quest progress has been removed from the quest progress file.
+     */
+    void clear() {
+        this.snapshot = EMPTY;
+    }
+
+    /**
+     * Rebuilds the counts from every quest progress in the quest progress file. Should be called whenever quests are
+     * reloaded, from the thread owning the player, or before the file is handed to any other thread.
+     */
+    public synchronized void rebuild() {
+        final Counter counter = new Counter(EMPTY);
+
+        for (final QuestProgress questProgress : this.questProgressFile.getAllQuestProgress()) {
+            final Quest quest = this.plugin.getQuestManager().getQuestById(questProgress.getQuestId());
+            if (quest == null) {
+                continue;
+            }
+
+            counter.count(quest, questProgress.isStarted(), questProgress.isCompleted(), questProgress.isCompletedBefore(), 1);
+        }
+
+        this.snapshot = counter.toSnapshot();
+    }
+
+    private Snapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Immutable counts published to readers.
+     */
+    private record Snapshot(int startedCount, int startedTowardsLimitCount, int completedCount, int completedBeforeCount,
+                            Map<String, CategoryCounts> categoryCounts) {
+    }
+
+    private record CategoryCounts(int startedCount, int completedCount, int completedBeforeCount) {
+    }
+
+    /**
+     * Mutable counts used to derive a new snapshot from a previous one.
+     */
+    private static final class Counter {
+
+        private final Map<String, CategoryCounts> categoryCounts;
+        private int startedCount;
+        private int startedTowardsLimitCount;
+        private int completedCount;
+        private int completedBeforeCount;
+
+        private Counter(final Snapshot snapshot) {
+            this.categoryCounts = new HashMap<>(snapshot.categoryCounts());
+            this.startedCount = snapshot.startedCount();
+            this.startedTowardsLimitCount = snapshot.startedTowardsLimitCount();
+            this.completedCount = snapshot.completedCount();
+            this.completedBeforeCount = snapshot.completedBeforeCount();
+        }
+
+        private void count(final Quest quest, final boolean started, final boolean completed, final boolean completedBefore, final int delta) {
+            if (!started && !completed && !completedBefore) {
+                return;
+            }
+
+            if (started) {
+                this.startedCount += delta;
+
+                if (quest.doesCountTowardsLimit()) {
+                    this.startedTowardsLimitCount += delta;
+                }
+            }
+
+            if (quest.doesCountTowardsCompleted()) {
+                if (completed) {
+                    this.completedCount += delta;
+                }
+
+                if (completedBefore) {
+                    this.completedBeforeCount += delta;
+                }
+            }
+
+            final String categoryId = quest.getCategoryId();
+            if (categoryId != null) {
+                final CategoryCounts categoryCounts = this.categoryCounts.getOrDefault(categoryId, new CategoryCounts(0, 0, 0));
+
+                this.categoryCounts.put(categoryId, new CategoryCounts(
+                        categoryCounts.startedCount() + (started ? delta : 0),
+                        categoryCounts.completedCount() + (completed ? delta : 0),
+                        categoryCounts.completedBeforeCount() + (completedBefore ? delta : 0)
+                ));
+            }
+        }
+
+        private Snapshot toSnapshot() {
+            return new Snapshot(this.startedCount, this.startedTowardsLimitCount, this.completedCount,
+                    this.completedBeforeCount, Map.copyOf(this.categoryCounts));
+        }
+    }
+}
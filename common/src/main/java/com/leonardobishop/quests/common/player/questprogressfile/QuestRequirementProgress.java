@@ -0,0 +1,248 @@
+package com.leonardobishop.quests.common.player.questprogressfile;
+
+import com.leonardobishop.quests.common.plugin.Quests;
+import com.leonardobishop.quests.common.quest.Quest;
+import com.leonardobishop.quests.common.quest.QuestRequirementGraph;
+import com.leonardobishop.quests.common.util.Modern;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps track of which quests of a player have their requirements met, indexed by the current
+ * {@link QuestRequirementGraph}, so checking the requirements of a quest is a single bit test.
+ *
+ * <p>
+ * For every quest the number of its requirements which have not been completed before is stored. It is updated
+ * incrementally whenever the completed before flag of a {@link QuestProgress} changes, by walking only the quests
+ * requiring the changed one. Any structural change of the underlying {@link QuestProgressFile} or a change of the
+ * requirement graph causes it to be rebuilt lazily on next access.
+ * </p>
+ *
+ * <p>
+ * The requirements may be checked from any thread, such as by PlaceholderAPI. Every update publishes an immutable
+ * state, which is what readers see. The state is only ever rebuilt on a server thread, as that is the only place the
+ * quest progress file may be iterated safely; other threads read the last published state as long as it belongs to the
+ * current requirement graph, and check the quest progress file directly otherwise.
+ * </p>
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+public final class QuestRequirementProgress {
+
+    private final Quests plugin;
+    private final QuestProgressFile questProgressFile;
+
+    private volatile @Nullable State state;
+    private volatile boolean valid;
+    private volatile int structureVersion;
+
+    /**
+     * Constructs a QuestRequirementProgress.
+     *
+     * @param plugin            the plugin instance
+     * @param questProgressFile the quest progress file to track
+     */
+    QuestRequirementProgress(final Quests plugin, final QuestProgressFile questProgressFile) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.questProgressFile = Objects.requireNonNull(questProgressFile, "questProgressFile cannot be null");
+        this.valid = false;
+    }
+
+    /**
+     * Checks whether the player has completed all requirements of a quest before. Quests which are not a part of the
+     * current requirement graph are checked against the quest progress file directly.
+     *
+     * @param quest the quest to check
+     * @return whether the requirements are met
+     */
+    public boolean hasMetRequirements(final Quest quest) {
+        Objects.requireNonNull(quest, "quest cannot be null");
+
+        final State state = this.getState();
+        final int index = state != null ? state.graph().getIndex(quest) : -1;
+
+        if (index == -1) {
+            return this.hasMetRequirementsUncached(quest);
+        }
+
+        return state.requirementsMet().get(index);
+    }
+
+    /**
+     * Gets the quests which require a quest and have all of their requirements met. Called right after the quest has
+     * been completed for the first time, these are exactly the quests which have just been unlocked by it.
+     *
+     * @param quest the required quest
+     * @return list of quests unlocked by the quest
+     */
+    public List<Quest> getQuestsUnlockedBy(final Quest quest) {
+        Objects.requireNonNull(quest, "quest cannot be null");
+
+        final State state = this.getState();
+        if (state == null) {
+            return Collections.emptyList();
+        }
+
+        final QuestRequirementGraph graph = state.graph();
+        final int index = graph.getIndex(quest);
+
+        if (index == -1) {
+            return Collections.emptyList();
+        }
+
+        final int[] dependents = graph.getDependents(index);
+        if (dependents.length == 0) {
+            return Collections.emptyList();
+        }
+
+        final List<Quest> unlockedQuests = new ArrayList<>();
+        for (final int dependent : dependents) {
+            if (state.requirementsMet().get(dependent)) {
+                unlockedQuests.add(graph.getQuest(dependent));
+            }
+        }
+
+        return unlockedQuests;
+    }
+
+    /**
+     * Updates the tracked requirements after a change of the completed before flag of a quest progress stored in
+     * the quest progress file.
+     *
+     * @param questProgress           the quest progress which has changed
+     * @param previousCompletedBefore the previous completed before flag
+     */
+    synchronized void update(final QuestProgress questProgress, final boolean previousCompletedBefore) {
+        final boolean completedBefore = questProgress.isCompletedBefore();
+
+        if (completedBefore == previousCompletedBefore || !this.isUpToDate()) {
+            return;
+        }
+
+        final State state = Objects.requireNonNull(this.state);
+        final int index = state.graph().getIndex(questProgress.getQuestId());
+
+        if (index != -1 && state.completedBefore().get(index) != completedBefore) {
+            final State updatedState = state.copy();
+            updatedState.setCompletedBefore(index, completedBefore);
+            this.state = updatedState;
+        }
+    }
+
+    /**
+     * Marks the tracked requirements to be rebuilt on next access. Should be called whenever quests are reloaded.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    @Contract(pure = true)
+    private boolean isUpToDate() {
+        final State state = this.state;
+        return this.valid
+                && state != null
+                && state.graph() == this.plugin.getQuestManager().getRequirementGraph()
+                && this.structureVersion == this.questProgressFile.getStructureVersion();
+    }
+
+    private @Nullable State getState() {
+        if (!this.isUpToDate()) {
+            if (this.plugin.isPrimaryThread()) {
+                this.rebuild();
+            } else {
+                // an outdated state of the current graph is still the best guess available off-thread
+                final State state = this.state;
+                return state != null && state.graph() == this.plugin.getQuestManager().getRequirementGraph() ? state : null;
+            }
+        }
+
+        return this.state;
+    }
+
+    private synchronized void rebuild() {
+        if (this.isUpToDate()) {
+            return;
+        }
+
+        final QuestRequirementGraph graph = this.plugin.getQuestManager().getRequirementGraph();
+        final int structureVersion = this.questProgressFile.getStructureVersion();
+        final int size = graph.size();
+        final State state = new State(graph, new BitSet(size), new BitSet(size), new int[size]);
+
+        for (int i = 0; i < size; i++) {
+            state.missingCounts()[i] = graph.getRequirements(i).length;
+
+            if (state.missingCounts()[i] == 0 && !graph.isUnsatisfiable(i)) {
+                state.requirementsMet().set(i);
+            }
+        }
+
+        for (final QuestProgress questProgress : this.questProgressFile.getAllQuestProgress()) {
+            if (!questProgress.isCompletedBefore()) {
+                continue;
+            }
+
+            final int index = graph.getIndex(questProgress.getQuestId());
+            if (index != -1) {
+                state.setCompletedBefore(index, true);
+            }
+        }
+
+        this.state = state;
+        this.structureVersion = structureVersion;
+        this.valid = true;
+    }
+
+    private boolean hasMetRequirementsUncached(final Quest quest) {
+        for (final String requiredQuestId : quest.getRequirements()) {
+            final Quest requiredQuest = this.plugin.getQuestManager().getQuestById(requiredQuestId);
+            if (requiredQuest == null) {
+                return false;
+            }
+
+            final QuestProgress requiredQuestProgress = this.questProgressFile.getQuestProgressOrNull(requiredQuest);
+            if (requiredQuestProgress == null || !requiredQuestProgress.isCompletedBefore()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The tracked requirements for a requirement graph. Only modified before being published, afterwards it is
+     * replaced by a modified copy instead.
+     *
+     * @param graph           the requirement graph
+     * @param completedBefore the quests completed before
+     * @param requirementsMet the quests with all requirements met
+     * @param missingCounts   the number of requirements not completed before per quest
+     */
+    private record State(QuestRequirementGraph graph, BitSet completedBefore, BitSet requirementsMet, int[] missingCounts) {
+
+        private State copy() {
+            return new State(this.graph, (BitSet) this.completedBefore.clone(), (BitSet) this.requirementsMet.clone(), this.missingCounts.clone());
+        }
+
+        private void setCompletedBefore(final int index, final boolean completedBefore) {
+            if (this.completedBefore.get(index) == completedBefore) {
+                return;
+            }
+
+            this.completedBefore.set(index, completedBefore);
+
+            final int delta = completedBefore ? -1 : 1;
+            for (final int dependent : this.graph.getDependents(index)) {
+                final int missingCount = this.missingCounts[dependent] += delta;
+                this.requirementsMet.set(dependent, missingCount == 0 && !this.graph.isUnsatisfiable(dependent));
+            }
+        }
+    }
+}
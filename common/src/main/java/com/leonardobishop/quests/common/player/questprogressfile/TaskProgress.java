@@ -16,7 +16,10 @@ public final class TaskProgress {
     private final String taskId;
     private final UUID playerUUID;
 
-    private @Nullable Object progress;
+    private ProgressType progressType;
+    private long longProgress;
+    private double doubleProgress;
+    private @Nullable Object objectProgress;
     private boolean completed;
     private boolean modified;
 
@@ -34,7 +37,8 @@ public final class TaskProgress {
         this.questProgress = questProgress;
         this.taskId = taskId;
         this.playerUUID = playerUUID;
-        this.progress = progress;
+        this.progressType = ProgressType.NONE;
+        this.assignProgress(progress);
         this.completed = completed;
         this.modified = modified;
     }
@@ -58,7 +62,15 @@ public final class TaskProgress {
      * @param taskProgress the task progress instance
      */
     public TaskProgress(final TaskProgress taskProgress) {
-        this(null, taskProgress.taskId, taskProgress.playerUUID, taskProgress.progress, taskProgress.completed, taskProgress.modified);
+        this.questProgress = null;
+        this.taskId = taskProgress.taskId;
+        this.playerUUID = taskProgress.playerUUID;
+        this.progressType = taskProgress.progressType;
+        this.longProgress = taskProgress.longProgress;
+        this.doubleProgress = taskProgress.doubleProgress;
+        this.objectProgress = taskProgress.objectProgress;
+        this.completed = taskProgress.completed;
+        this.modified = taskProgress.modified;
     }
 
     /**
@@ -78,23 +90,186 @@ public final class TaskProgress {
     }
 
     /**
+     * Gets the progress as an object. Primitive progress is boxed on every call, so the typed getters
+     * should be preferred where the type of progress is known.
+     *
      * @return the progress object
      */
     @Contract(pure = true)
     public @Nullable Object getProgress() {
-        return this.progress;
+        return switch (this.progressType) {
+            case NONE -> null;
+            case INTEGER -> (int) this.longProgress;
+            case LONG -> this.longProgress;
+            case FLOAT -> (float) this.doubleProgress;
+            case DOUBLE -> this.doubleProgress;
+            case OBJECT -> this.objectProgress;
+        };
     }
 
     /**
+     * Sets the progress from an object. {@link Integer}, {@link Long}, {@link Float} and {@link Double} values
+     * are unboxed into the typed representation, anything else is kept as is.
+     *
      * @param progress the progress object
      */
     public void setProgress(final @Nullable Object progress) {
-        if (Objects.equals(progress, this.progress)) {
+        if (this.assignProgress(progress)) {
+            this.markModified();
+        }
+    }
+
+    /**
+     * @return the type of the progress representation
+     */
+    @Contract(pure = true)
+    public ProgressType getProgressType() {
+        return this.progressType;
+    }
+
+    /**
+     * @return the integer progress, or 0 if the progress is not an integer
+     */
+    @Contract(pure = true)
+    public int getIntegerProgress() {
+        return this.progressType == ProgressType.INTEGER ? (int) this.longProgress : 0;
+    }
+
+    /**
+     * @return the integer or long progress, or 0 if the progress is neither
+     */
+    @Contract(pure = true)
+    public long getLongProgress() {
+        return this.progressType == ProgressType.INTEGER || this.progressType == ProgressType.LONG ? this.longProgress : 0L;
+    }
+
+    /**
+     * @return the float or double progress, or 0 if the progress is neither
+     */
+    @Contract(pure = true)
+    public double getDecimalProgress() {
+        return this.progressType == ProgressType.FLOAT || this.progressType == ProgressType.DOUBLE ? this.doubleProgress : 0.0d;
+    }
+
+    /**
+     * Gets the progress as a double regardless of its type.
+     *
+     * @return the numeric progress, or {@link Double#NaN} if the progress is not numeric
+     */
+    @Contract(pure = true)
+    public double getNumericProgress() {
+        return switch (this.progressType) {
+            case NONE -> Double.NaN;
+            case INTEGER, LONG -> this.longProgress;
+            case FLOAT, DOUBLE -> this.doubleProgress;
+            case OBJECT -> this.objectProgress instanceof final Number number ? number.doubleValue() : Double.NaN;
+        };
+    }
+
+    /**
+     * @param progress the integer progress
+     */
+    public void setIntegerProgress(final int progress) {
+        this.setPrimitiveProgress(ProgressType.INTEGER, progress, 0.0d);
+    }
+
+    /**
+     * @param progress the long progress
+     */
+    public void setLongProgress(final long progress) {
+        this.setPrimitiveProgress(ProgressType.LONG, progress, 0.0d);
+    }
+
+    /**
+     * @param progress the double progress
+     */
+    public void setDecimalProgress(final double progress) {
+        this.setPrimitiveProgress(ProgressType.DOUBLE, 0L, progress);
+    }
+
+    /**
+     * Adds to the integer progress without boxing. Progress which is not an integer is treated as 0.
+     *
+     * @param amount the amount to add, may be negative
+     * @return the new integer progress
+     */
+    public int incrementIntegerProgress(final int amount) {
+        final int progress = this.getIntegerProgress() + amount;
+        this.setIntegerProgress(progress);
+        return progress;
+    }
+
+    /**
+     * Adds to the double progress without boxing. Progress which is not a float or a double is treated as 0.
+     *
+     * @param amount the amount to add, may be negative
+     * @return the new double progress
+     */
+    public double addDecimalProgress(final double amount) {
+        final double progress = this.getDecimalProgress() + amount;
+        this.setDecimalProgress(progress);
+        return progress;
+    }
+
+    private void setPrimitiveProgress(final ProgressType type, final long longProgress, final double doubleProgress) {
+        if (this.progressType == type
+                && this.longProgress == longProgress
+                && Double.doubleToLongBits(this.doubleProgress) == Double.doubleToLongBits(doubleProgress)) {
             return;
         }
 
-        this.progress = progress;
-        this.modified = true;
+        this.progressType = type;
+        this.longProgress = longProgress;
+        this.doubleProgress = doubleProgress;
+        this.objectProgress = null;
+        this.markModified();
+    }
+
+    /**
+     * @return whether the progress has changed
+     */
+    private boolean assignProgress(final @Nullable Object progress) {
+        final ProgressType type;
+        long longProgress = 0L;
+        double doubleProgress = 0.0d;
+        Object objectProgress = null;
+
+        switch (progress) {
+            case null -> type = ProgressType.NONE;
+            case final Integer i -> {
+                type = ProgressType.INTEGER;
+                longProgress = i;
+            }
+            case final Long l -> {
+                type = ProgressType.LONG;
+                longProgress = l;
+            }
+            case final Float f -> {
+                type = ProgressType.FLOAT;
+                doubleProgress = f;
+            }
+            case final Double d -> {
+                type = ProgressType.DOUBLE;
+                doubleProgress = d;
+            }
+            default -> {
+                type = ProgressType.OBJECT;
+                objectProgress = progress;
+            }
+        }
+
+        if (this.progressType == type
+                && this.longProgress == longProgress
+                && Double.doubleToLongBits(this.doubleProgress) == Double.doubleToLongBits(doubleProgress)
+                && Objects.equals(this.objectProgress, objectProgress)) {
+            return false;
+        }
+
+        this.progressType = type;
+        this.longProgress = longProgress;
+        this.doubleProgress = doubleProgress;
+        this.objectProgress = objectProgress;
+        return true;
     }
 
     /**
@@ -120,7 +295,9 @@ public final class TaskProgress {
         }
 
         this.completed = completed;
-        this.modified = true;
+        this.markModified();
+
+        this.questProgress.updateActiveTaskIndex(this);
 
         if (completed) {
             this.questProgress.queueForCompletionTest();
@@ -139,7 +316,32 @@ public final class TaskProgress {
      * @param modified whether the object has been modified and needs to be saved
      */
     public void setModified(final boolean modified) {
-        this.modified = modified;
+        if (modified) {
+            this.markModified();
+        } else {
+            this.modified = false;
+        }
+    }
+
+    private void markModified() {
+        this.modified = true;
+
+        if (this.questProgress != null) {
+            this.questProgress.markDirty();
+        }
+    }
+
+    /**
+     * The type of the progress representation. Integral and floating point progress is stored unboxed,
+     * anything else (such as {@link java.math.BigInteger} or {@link java.math.BigDecimal}) is kept as an object.
+     */
+    public enum ProgressType {
+        NONE,
+        INTEGER,
+        LONG,
+        FLOAT,
+        DOUBLE,
+        OBJECT
     }
 
     // DEPRECATED AND FOR REMOVAL
@@ -14,6 +14,7 @@ import java.util.Objects;
 public class Quest implements Comparable<Quest> {
 
     private final Map<String, Task> tasks = new HashMap<>();
+    private final List<Task> tasksBySlot = new ArrayList<>();
     private final Map<String, List<Task>> tasksByType = new HashMap<>();
     private String id;
     private List<String> rewards;
@@ -40,7 +41,9 @@ public class Quest implements Comparable<Quest> {
     private boolean hidden;
     private Map<String, String> placeholders;
     private Map<String, String> progressPlaceholders;
+    private @Nullable Object compiledPlaceholders;
     private String categoryid;
+    private int ordinal = -1;
 
     private Quest() { }
 
@@ -52,7 +55,14 @@ public class Quest implements Comparable<Quest> {
     public void registerTask(@NotNull Task task) {
         Objects.requireNonNull(task, "task cannot be null");
 
-        tasks.put(task.getId(), task);
+        Task previousTask = tasks.put(task.getId(), task);
+        if (previousTask != null) {
+            task.setSlot(previousTask.getSlot());
+            tasksBySlot.set(previousTask.getSlot(), task);
+        } else {
+            task.setSlot(tasksBySlot.size());
+            tasksBySlot.add(task);
+        }
         tasksByType.compute(task.getType(), (type, list) -> {
             if (list == null) {
                 return new ArrayList<>(Collections.singletonList(task));
@@ -84,6 +94,16 @@ public class Quest implements Comparable<Quest> {
         return tasks.get(id);
     }
 
+    /**
+     * Get a specific task registered to this quest by its slot.
+     *
+     * @param slot task slot
+     * @return {@link Task}, or null if not exists
+     */
+    public @Nullable Task getTaskBySlot(int slot) {
+        return slot >= 0 && slot < tasksBySlot.size() ? tasksBySlot.get(slot) : null;
+    }
+
     /**
      * Get a list of all task of a specific task type.
      *
@@ -164,6 +184,24 @@ public class Quest implements Comparable<Quest> {
         return id;
     }
 
+    /**
+     * Get the dense index of this quest, assigned when it is registered with the {@link QuestManager}.
+     *
+     * @return ordinal, or -1 if the quest has not been registered
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Set the dense index of this quest.
+     *
+     * @param ordinal the ordinal
+     */
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     /**
      * Get the rewards for this quest.
      * The rewards is a list of commands to be executed upon completing the quest.
@@ -301,6 +339,25 @@ public class Quest implements Comparable<Quest> {
         return Collections.unmodifiableMap(progressPlaceholders);
     }
 
+    /**
+     * Get the compiled form of the placeholders and progress placeholders of this quest, as produced by the
+     * platform when quests are loaded.
+     *
+     * @return compiled placeholders, or null if they have not been compiled
+     */
+    public @Nullable Object getCompiledPlaceholders() {
+        return compiledPlaceholders;
+    }
+
+    /**
+     * Set the compiled form of the placeholders and progress placeholders of this quest.
+     *
+     * @param compiledPlaceholders compiled placeholders, or null
+     */
+    public void setCompiledPlaceholders(@Nullable Object compiledPlaceholders) {
+        this.compiledPlaceholders = compiledPlaceholders;
+    }
+
     /**
      * Get the sort order for this quest in the GUI.
      * Numbers closer to Integer.MIN_VALUE have greater priority.
@@ -24,4 +24,13 @@ public interface QuestCompleter {
      */
     void queueFullCheck(@NotNull QuestProgressFile questProgressFile);
 
+    /**
+     * Queue a started quest progress to be checked once the time limit of its quest is up. Does nothing by default,
+     * in which case expired quests are only found by a full check.
+     *
+     * @param questProgress the questprogress to check
+     */
+    default void queueExpiryCheck(@NotNull QuestProgress questProgress) {
+    }
+
 }
@@ -21,7 +21,10 @@ import java.util.Objects;
 public final class QuestManager {
 
     private final Map<String, Quest> questMap;
+    private final List<Quest> questsByOrdinal;
     private final List<Category> categories;
+    private volatile @Nullable QuestRequirementGraph requirementGraph;
+    private volatile int generation;
 
     /**
      * Constructs a QuestManager.
@@ -29,18 +32,32 @@ public final class QuestManager {
     public QuestManager() {
         // Specify expected size as people tend to add horrendous amounts of quests
         this.questMap = LinkedHashMap.newLinkedHashMap(1024);
+        this.questsByOrdinal = new ArrayList<>(1024);
         this.categories = new ArrayList<>();
     }
 
     /**
-     * Register a quest with the quest manager
+     * Register a quest with the quest manager. The quest is assigned the next free ordinal, or the ordinal of the
+     * quest it replaces.
      *
      * @param quest the category to register
      */
     public void registerQuest(final Quest quest) {
         Objects.requireNonNull(quest, "quest cannot be null");
 
-        this.questMap.put(quest.getId(), quest);
+        final Quest previousQuest = this.questMap.put(quest.getId(), quest);
+
+        if (previousQuest != null && previousQuest != quest) {
+            final int ordinal = previousQuest.getOrdinal();
+            quest.setOrdinal(ordinal);
+            this.questsByOrdinal.set(ordinal, quest);
+        } else if (previousQuest == null) {
+            quest.setOrdinal(this.questsByOrdinal.size());
+            this.questsByOrdinal.add(quest);
+        }
+
+        this.requirementGraph = null;
+        this.generation++;
     }
 
     /**
@@ -54,6 +71,36 @@ public final class QuestManager {
         return this.questMap.get(id);
     }
 
+    /**
+     * @param ordinal ordinal to match
+     * @return {@link Quest}, or null
+     */
+    @Contract(pure = true)
+    public @Nullable Quest getQuestByOrdinal(final int ordinal) {
+        return ordinal >= 0 && ordinal < this.questsByOrdinal.size() ? this.questsByOrdinal.get(ordinal) : null;
+    }
+
+    /**
+     * Get the number of quests registered, which is also the upper bound of quest ordinals
+     *
+     * @return number of quests
+     */
+    @Contract(pure = true)
+    public int getQuestCount() {
+        return this.questsByOrdinal.size();
+    }
+
+    /**
+     * Get the generation of the quest registry, which changes whenever quests are registered or cleared. Anything
+     * indexed by quest ordinals has to be remapped when it changes.
+     *
+     * @return the generation
+     */
+    @Contract(pure = true)
+    public int getGeneration() {
+        return this.generation;
+    }
+
     /**
      * Get a map of id-quest of all quests registered
      *
@@ -64,6 +111,23 @@ public final class QuestManager {
         return Collections.unmodifiableMap(this.questMap);
     }
 
+    /**
+     * Get the requirement graph of all quests registered. The graph is built on first access after the registered
+     * quests have changed.
+     *
+     * @return {@link QuestRequirementGraph} of all registered quests
+     */
+    public QuestRequirementGraph getRequirementGraph() {
+        QuestRequirementGraph requirementGraph = this.requirementGraph;
+
+        if (requirementGraph == null) {
+            requirementGraph = QuestRequirementGraph.build(this.questMap.values());
+            this.requirementGraph = requirementGraph;
+        }
+
+        return requirementGraph;
+    }
+
     /**
      * Register a category with the quest manager
      *
@@ -109,7 +173,10 @@ public final class QuestManager {
      */
     public void clear() {
         this.questMap.clear();
+        this.questsByOrdinal.clear();
         this.categories.clear();
+        this.requirementGraph = null;
+        this.generation++;
     }
 
     // DEPRECATED AND FOR REMOVAL
@@ -0,0 +1,262 @@
+package com.leonardobishop.quests.common.quest;
+
+import com.leonardobishop.quests.common.util.Modern;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable graph of the requirements between all registered quests. Every quest is assigned a dense index, so
+ * requirements and their reverse edges (the quests which require a quest) can be stored as int arrays and per-player
+ * state can be kept in bit sets.
+ *
+ * <p>
+ * Requirements referring to quests which are not registered cannot ever be met, so quests having any of them are
+ * marked as unsatisfiable rather than having an edge.
+ * </p>
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+public final class QuestRequirementGraph {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Quest[] quests;
+    private final Map<String, Integer> indexMap;
+    private final int[][] requirements;
+    private final int[][] dependents;
+    private final boolean[] unsatisfiable;
+    private final List<List<Quest>> cycles;
+
+    private QuestRequirementGraph(final Quest[] quests, final Map<String, Integer> indexMap, final int[][] requirements, final int[][] dependents, final boolean[] unsatisfiable, final List<List<Quest>> cycles) {
+        this.quests = quests;
+        this.indexMap = indexMap;
+        this.requirements = requirements;
+        this.dependents = dependents;
+        this.unsatisfiable = unsatisfiable;
+        this.cycles = cycles;
+    }
+
+    /**
+     * Builds the requirement graph of a collection of quests.
+     *
+     * @param quests the quests, usually all quests registered with the quest manager
+     * @return the built graph
+     */
+    public static QuestRequirementGraph build(final Collection<Quest> quests) {
+        Objects.requireNonNull(quests, "quests cannot be null");
+
+        final Quest[] questArray = quests.toArray(new Quest[0]);
+        final int size = questArray.length;
+
+        final Map<String, Integer> indexMap = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            indexMap.put(questArray[i].getId(), i);
+        }
+
+        final int[][] requirements = new int[size][];
+        final boolean[] unsatisfiable = new boolean[size];
+        final int[] dependentCounts = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            final List<String> requirementIds = questArray[i].getRequirements();
+            final int[] questRequirements = new int[requirementIds.size()];
+            int count = 0;
+
+            for (final String requirementId : requirementIds) {
+                final Integer requirementIndex = indexMap.get(requirementId);
+                if (requirementIndex == null) {
+                    unsatisfiable[i] = true;
+                    continue;
+                }
+
+                // duplicated requirements would otherwise be counted twice
+                if (contains(questRequirements, count, requirementIndex)) {
+                    continue;
+                }
+
+                questRequirements[count++] = requirementIndex;
+                dependentCounts[requirementIndex]++;
+            }
+
+            requirements[i] = count == 0 ? EMPTY : count == questRequirements.length ? questRequirements : Arrays.copyOf(questRequirements, count);
+        }
+
+        final int[][] dependents = new int[size][];
+        for (int i = 0; i < size; i++) {
+            dependents[i] = dependentCounts[i] == 0 ? EMPTY : new int[dependentCounts[i]];
+            dependentCounts[i] = 0;
+        }
+
+        for (int i = 0; i < size; i++) {
+            for (final int requirementIndex : requirements[i]) {
+                dependents[requirementIndex][dependentCounts[requirementIndex]++] = i;
+            }
+        }
+
+        final List<List<Quest>> cycles = findCycles(questArray, requirements);
+        return new QuestRequirementGraph(questArray, indexMap, requirements, dependents, unsatisfiable, cycles);
+    }
+
+    private static boolean contains(final int[] array, final int length, final int value) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<List<Quest>> findCycles(final Quest[] quests, final int[][] requirements) {
+        final int size = quests.length;
+
+        // 0 = not visited, 1 = on the current path, 2 = done
+        final byte[] states = new byte[size];
+        final int[] path = new int[size];
+        final int[] edgePositions = new int[size];
+        final List<List<Quest>> cycles = new ArrayList<>();
+
+        for (int root = 0; root < size; root++) {
+            if (states[root] != 0) {
+                continue;
+            }
+
+            // iterative depth-first search, as requirement chains can be arbitrarily long
+            int depth = 0;
+            path[0] = root;
+            edgePositions[0] = 0;
+            states[root] = 1;
+
+            while (depth >= 0) {
+                final int current = path[depth];
+                final int[] currentRequirements = requirements[current];
+
+                if (edgePositions[depth] == currentRequirements.length) {
+                    states[current] = 2;
+                    depth--;
+                    continue;
+                }
+
+                final int next = currentRequirements[edgePositions[depth]++];
+                if (states[next] == 0) {
+                    states[next] = 1;
+                    path[++depth] = next;
+                    edgePositions[depth] = 0;
+                } else if (states[next] == 1) {
+                    final List<Quest> cycle = new ArrayList<>();
+                    for (int i = depth; i >= 0; i--) {
+                        cycle.add(quests[path[i]]);
+                        if (path[i] == next) {
+                            break;
+                        }
+                    }
+
+                    Collections.reverse(cycle);
+                    cycles.add(Collections.unmodifiableList(cycle));
+                }
+            }
+        }
+
+        return Collections.unmodifiableList(cycles);
+    }
+
+    /**
+     * @return the number of quests in the graph
+     */
+    @Contract(pure = true)
+    public int size() {
+        return this.quests.length;
+    }
+
+    /**
+     * @param questId the quest id
+     * @return the index of the quest, or -1 if it is not a part of the graph
+     */
+    @Contract(pure = true)
+    public int getIndex(final String questId) {
+        Objects.requireNonNull(questId, "questId cannot be null");
+
+        final Integer index = this.indexMap.get(questId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @param quest the quest
+     * @return the index of the quest, or -1 if it is not a part of the graph
+     */
+    @Contract(pure = true)
+    public int getIndex(final Quest quest) {
+        Objects.requireNonNull(quest, "quest cannot be null");
+
+        // graphs are built in registration order, so the index usually matches the ordinal
+        final int ordinal = quest.getOrdinal();
+        if (ordinal >= 0 && ordinal < this.quests.length && this.quests[ordinal] == quest) {
+            return ordinal;
+        }
+
+        final int index = this.getIndex(quest.getId());
+        return index != -1 && this.quests[index] == quest ? index : -1;
+    }
+
+    /**
+     * @param index the quest index
+     * @return the quest
+     */
+    @Contract(pure = true)
+    public Quest getQuest(final int index) {
+        return this.quests[index];
+    }
+
+    /**
+     * Gets the indices of the known quests a quest requires. The returned array must not be modified.
+     *
+     * @param index the quest index
+     * @return the requirement indices
+     */
+    @Contract(pure = true)
+    public int[] getRequirements(final int index) {
+        return this.requirements[index];
+    }
+
+    /**
+     * Gets the indices of the quests which require a quest. The returned array must not be modified.
+     *
+     * @param index the quest index
+     * @return the dependent indices
+     */
+    @Contract(pure = true)
+    public int[] getDependents(final int index) {
+        return this.dependents[index];
+    }
+
+    /**
+     * @param index the quest index
+     * @return whether the quest requires any quest which is not registered, so its requirements cannot be met
+     */
+    @Contract(pure = true)
+    public boolean isUnsatisfiable(final int index) {
+        return this.unsatisfiable[index];
+    }
+
+    /**
+     * Gets the requirement cycles found while building the graph. Each cycle is listed in requirement order, so every
+     * quest requires the next one and the last one requires the first one. Quests in a cycle can never be started
+     * unless one of them has been completed before.
+     *
+     * @return immutable list of cycles
+     */
+    @Contract(pure = true)
+    public @Unmodifiable List<List<Quest>> getCycles() {
+        return this.cycles;
+    }
+}
@@ -18,11 +18,14 @@ public final class Task {
     private final String id;
     private final String type;
     private final Map<String, Object> configValues;
+    private @Nullable Object compiledConfig;
+    private int slot;
 
     public Task(final String id, final String type) {
         this.id = id;
         this.type = type;
         this.configValues = new HashMap<>();
+        this.slot = -1;
     }
 
     /**
@@ -33,6 +36,23 @@ public final class Task {
         return this.id;
     }
 
+    /**
+     * Gets the dense index of this task within its quest, assigned when it is registered to the quest.
+     *
+     * @return the slot of the task, or -1 if it has not been registered to a quest
+     */
+    @Contract(pure = true)
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * @param slot the dense index of this task within its quest
+     */
+    void setSlot(final int slot) {
+        this.slot = slot;
+    }
+
     /**
      * @return the configured task type for this task
      */
@@ -102,4 +122,23 @@ public final class Task {
 
         this.configValues.put(key, value);
     }
+
+    /**
+     * Get the compiled form of this tasks configuration, as produced by its task type when quests are loaded
+     *
+     * @return compiled config, or null if the task type does not compile its tasks
+     */
+    @Contract(pure = true)
+    public @Nullable Object getCompiledConfig() {
+        return this.compiledConfig;
+    }
+
+    /**
+     * Set the compiled form of this tasks configuration
+     *
+     * @param compiledConfig compiled config, or null
+     */
+    public void setCompiledConfig(final @Nullable Object compiledConfig) {
+        this.compiledConfig = compiledConfig;
+    }
 }
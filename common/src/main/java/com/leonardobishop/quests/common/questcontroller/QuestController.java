@@ -8,6 +8,8 @@ import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+import java.util.UUID;
+
 /**
  * The quests controller dictates how the plugin should act and acts as a bridge between a player
  * and their progress file, interpreting the progress file and mutating it on certain events.
@@ -25,6 +27,19 @@ public interface QuestController {
     @Contract(pure = true)
     boolean hasPlayerStartedQuest(QPlayer qPlayer, Quest quest);
 
+    /**
+     * Gets the number of quests a player has effectively started, which is the number of registered quests
+     * {@link #hasPlayerStartedQuest(QPlayer, Quest)} returns true for, without testing every quest.
+     *
+     * @param qPlayer the player
+     * @return the number of effectively started quests, or {@code -1} if they cannot be counted without testing
+     * every quest
+     */
+    @Contract(pure = true)
+    default int getEffectiveStartedQuestCount(final QPlayer qPlayer) {
+        return -1;
+    }
+
     QuestStartResult startQuestForPlayer(QPlayer qPlayer, Quest quest);
 
     boolean completeQuestForPlayer(QPlayer qPlayer, Quest quest);
@@ -34,4 +49,20 @@ public interface QuestController {
     boolean expireQuestForPlayer(QPlayer qPlayer, Quest quest);
 
     void trackQuestForPlayer(QPlayer qPlayer, @Nullable Quest quest);
+
+    /**
+     * Discards anything the controller has derived from quests or player state. Should be called whenever quests
+     * are reloaded.
+     */
+    default void invalidateCaches() {
+    }
+
+    /**
+     * Discards anything the controller has derived from the state of a specific player. Should be called whenever
+     * something the controller cannot observe, such as permissions of the player, may have changed.
+     *
+     * @param playerUUID the player UUID
+     */
+    default void invalidateCaches(final UUID playerUUID) {
+    }
 }
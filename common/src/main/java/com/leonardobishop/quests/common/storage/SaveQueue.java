@@ -0,0 +1,478 @@
+package com.leonardobishop.quests.common.storage;
+
+import com.leonardobishop.quests.common.player.QPlayerData;
+import com.leonardobishop.quests.common.player.questprogressfile.QuestProgress;
+import com.leonardobishop.quests.common.plugin.Quests;
+import com.leonardobishop.quests.common.util.Modern;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue of player data deltas waiting to be written by a {@link StorageProvider}.
+ *
+ * <p>
+ * Pending saves are keyed by player UUID, so repeated saves of the same player which happen before the previous
+ * one has been picked up by a writer are coalesced into a single write. Writes happen in batches on a dedicated
+ * executor and never on the thread submitting the save. Saves of the same player are never written concurrently
+ * and are always written in the order they have been submitted.
+ * </p>
+ *
+ * <p>
+ * The queue is bounded by its capacity. Threads other than the primary server thread submitting a save of a new
+ * player while the queue is full are blocked until there is space in the queue, while the primary server thread
+ * is never blocked and the overflow is only recorded in the queue metrics.
+ * </p>
+ */
+@Modern(type = Modern.Type.FULL)
+@NullMarked
+public final class SaveQueue {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final Quests plugin;
+    private final StorageProvider storageProvider;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int capacity;
+    private final int batchSize;
+
+    private final Object lock;
+    private final LinkedHashMap<UUID, PendingSave> pendingSaves;
+    private final Set<UUID> inFlightSaves;
+    private int activeWriters;
+    private boolean shutdown;
+
+    // metrics
+    private int peakPendingCount;
+    private long coalescedCount;
+    private long overflowCount;
+    private long savedCount;
+    private long failedCount;
+    private long batchCount;
+
+    /**
+     * Constructs a SaveQueue.
+     *
+     * @param plugin          the plugin instance
+     * @param storageProvider the storage provider to write the player data with
+     * @param threads         the number of dedicated writer threads, or {@code 0} to write on virtual threads
+     * @param capacity        the number of distinct players which can wait for a save before submitters are blocked
+     * @param batchSize       the maximum number of players written by a writer before it yields
+     */
+    public SaveQueue(final Quests plugin, final StorageProvider storageProvider, final int threads, final int capacity, final int batchSize) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.storageProvider = Objects.requireNonNull(storageProvider, "storageProvider cannot be null");
+
+        if (threads < 0) {
+            throw new IllegalArgumentException("threads cannot be negative");
+        }
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+
+        if (threads == 0) {
+            final ThreadFactory threadFactory = Thread.ofVirtual().name("Quests Save Writer #", 0L).factory();
+            this.executor = Executors.newThreadPerTaskExecutor(threadFactory);
+            this.parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        } else {
+            final ThreadFactory threadFactory = Thread.ofPlatform().name("Quests Save Writer #", 0L).daemon(true).factory();
+            this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+            this.parallelism = threads;
+        }
+
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lock = new Object();
+        this.pendingSaves = new LinkedHashMap<>();
+        this.inFlightSaves = new HashSet<>();
+    }
+
+    /**
+     * Submits a player data delta to be written. If a save of the same player is already pending, the delta
+     * is merged into it and the future of the pending save is returned.
+     *
+     * @param deltaPlayerData the player data delta, as created by {@link QPlayerData#createDelta()}
+     * @return completable future completed once the delta has been written, with whether it has been written successfully
+     */
+    public CompletableFuture<Boolean> submit(final QPlayerData deltaPlayerData) {
+        Objects.requireNonNull(deltaPlayerData, "deltaPlayerData cannot be null");
+
+        final UUID uuid = deltaPlayerData.playerUUID();
+        final @Nullable CompletableFuture<Boolean> future;
+
+        synchronized (this.lock) {
+            PendingSave pendingSave = this.pendingSaves.get(uuid);
+
+            if (pendingSave == null && this.pendingSaves.size() >= this.capacity) {
+                this.overflowCount++;
+
+                if (!this.plugin.isPrimaryThread()) {
+                    this.awaitCapacity();
+
+                    // another save of the player could have been submitted in the meantime
+                    pendingSave = this.pendingSaves.get(uuid);
+                }
+            }
+
+            if (pendingSave != null) {
+                pendingSave.merge(deltaPlayerData);
+                this.coalescedCount++;
+                return pendingSave.future;
+            }
+
+            if (this.shutdown) {
+                future = null;
+            } else {
+                future = new CompletableFuture<>();
+                this.pendingSaves.put(uuid, new PendingSave(deltaPlayerData, future));
+                this.peakPendingCount = Math.max(this.peakPendingCount, this.pendingSaves.size());
+
+                this.startWriters();
+            }
+        }
+
+        if (future == null) {
+            // the queue has been drained already, so the save cannot be deferred anymore
+            return CompletableFuture.completedFuture(this.write(deltaPlayerData));
+        }
+
+        return future;
+    }
+
+    /**
+     * Writes the pending save of a specific player on the calling thread, waiting for the save of the player
+     * to finish first if it is currently being written. Should be called before loading the player data from
+     * the storage provider, so no stale data is loaded.
+     *
+     * @param uuid the uuid of the player
+     */
+    public void flush(final UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid cannot be null");
+
+        final PendingSave pendingSave;
+
+        synchronized (this.lock) {
+            while (this.inFlightSaves.contains(uuid)) {
+                this.awaitLock();
+            }
+
+            pendingSave = this.pendingSaves.remove(uuid);
+            if (pendingSave == null) {
+                return;
+            }
+
+            this.inFlightSaves.add(uuid);
+        }
+
+        this.complete(List.of(pendingSave));
+    }
+
+    /**
+     * Stops accepting deferred saves and writes all pending saves. Once this method returns, every save
+     * submitted before has been written, and any later submitted save is written on the submitting thread.
+     */
+    public void shutdown() {
+        synchronized (this.lock) {
+            this.shutdown = true;
+        }
+
+        this.executor.shutdown();
+
+        try {
+            if (!this.executor.awaitTermination(SaveQueue.SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                this.plugin.getQuestsLogger().warning("Save writers did not finish in " + SaveQueue.SHUTDOWN_TIMEOUT_SECONDS + " seconds, remaining saves will be written on the current thread.");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // write leftovers of writers which have not finished or could not be started
+        final List<PendingSave> leftoverSaves;
+
+        synchronized (this.lock) {
+            leftoverSaves = new ArrayList<>(this.pendingSaves.values());
+            this.pendingSaves.clear();
+            this.lock.notifyAll();
+        }
+
+        this.complete(leftoverSaves);
+    }
+
+    /**
+     * @return the number of players waiting to be written
+     */
+    @Contract(pure = true)
+    public int getPendingCount() {
+        synchronized (this.lock) {
+            return this.pendingSaves.size();
+        }
+    }
+
+    /**
+     * @return the number of players currently being written
+     */
+    @Contract(pure = true)
+    public int getInFlightCount() {
+        synchronized (this.lock) {
+            return this.inFlightSaves.size();
+        }
+    }
+
+    /**
+     * @return the highest number of players that have been waiting to be written at once
+     */
+    @Contract(pure = true)
+    public int getPeakPendingCount() {
+        synchronized (this.lock) {
+            return this.peakPendingCount;
+        }
+    }
+
+    /**
+     * @return the capacity of the queue
+     */
+    @Contract(pure = true)
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return the number of saves which have been merged into an already pending save
+     */
+    @Contract(pure = true)
+    public long getCoalescedCount() {
+        synchronized (this.lock) {
+            return this.coalescedCount;
+        }
+    }
+
+    /**
+     * @return the number of saves which have been submitted while the queue was full
+     */
+    @Contract(pure = true)
+    public long getOverflowCount() {
+        synchronized (this.lock) {
+            return this.overflowCount;
+        }
+    }
+
+    /**
+     * @return the number of player saves which have been written successfully
+     */
+    @Contract(pure = true)
+    public long getSavedCount() {
+        synchronized (this.lock) {
+            return this.savedCount;
+        }
+    }
+
+    /**
+     * @return the number of player saves which have failed to be written
+     */
+    @Contract(pure = true)
+    public long getFailedCount() {
+        synchronized (this.lock) {
+            return this.failedCount;
+        }
+    }
+
+    /**
+     * @return the number of batches written by the writers
+     */
+    @Contract(pure = true)
+    public long getBatchCount() {
+        synchronized (this.lock) {
+            return this.batchCount;
+        }
+    }
+
+    // must hold the lock
+    private void startWriters() {
+        while (this.activeWriters < this.parallelism && this.activeWriters < this.pendingSaves.size()) {
+            try {
+                this.executor.execute(this::runWriter);
+                this.activeWriters++;
+            } catch (final RejectedExecutionException e) {
+                // shutting down, leftovers will be written by shutdown()
+                return;
+            }
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            final List<PendingSave> batch;
+
+            synchronized (this.lock) {
+                batch = this.pollBatch();
+
+                if (batch.isEmpty()) {
+                    this.activeWriters--;
+                    return;
+                }
+
+                this.batchCount++;
+            }
+
+            this.complete(batch);
+        }
+    }
+
+    // must hold the lock
+    private List<PendingSave> pollBatch() {
+        final List<PendingSave> batch = new ArrayList<>(Math.min(this.batchSize, this.pendingSaves.size()));
+        final Iterator<Map.Entry<UUID, PendingSave>> iterator = this.pendingSaves.entrySet().iterator();
+
+        while (iterator.hasNext() && batch.size() < this.batchSize) {
+            final Map.Entry<UUID, PendingSave> entry = iterator.next();
+            final UUID uuid = entry.getKey();
+
+            // keep the order of saves of the same player
+            if (this.inFlightSaves.add(uuid)) {
+                batch.add(entry.getValue());
+                iterator.remove();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            this.lock.notifyAll();
+        }
+
+        return batch;
+    }
+
+    private void complete(final List<PendingSave> batch) {
+        final boolean result = this.write(batch);
+
+        synchronized (this.lock) {
+            for (final PendingSave pendingSave : batch) {
+                this.inFlightSaves.remove(pendingSave.playerData.playerUUID());
+            }
+
+            if (result) {
+                this.savedCount += batch.size();
+            } else {
+                this.failedCount += batch.size();
+            }
+
+            this.lock.notifyAll();
+
+            // pick up saves which have been skipped while these were in flight
+            if (!this.shutdown) {
+                this.startWriters();
+            }
+        }
+
+        for (final PendingSave pendingSave : batch) {
+            pendingSave.future.complete(result);
+        }
+    }
+
+    private boolean write(final List<PendingSave> batch) {
+        if (batch.size() == 1) {
+            return this.write(batch.getFirst().playerData);
+        }
+
+        final List<QPlayerData> allDeltaPlayerData = new ArrayList<>(batch.size());
+        for (final PendingSave pendingSave : batch) {
+            allDeltaPlayerData.add(pendingSave.playerData);
+        }
+
+        this.plugin.getQuestsLogger().debug("Saving " + batch.size() + " players...");
+
+        boolean result;
+        try {
+            result = this.storageProvider.saveAllPlayerDataDelta(allDeltaPlayerData);
+        } catch (final RuntimeException e) {
+            this.plugin.getQuestsLogger().severe("An error occurred while saving " + batch.size() + " players: " + e);
+            result = false;
+        }
+
+        if (result) {
+            this.plugin.getQuestsLogger().debug("Quest progress files saved for " + batch.size() + " players.");
+        } else {
+            this.plugin.getQuestsLogger().severe("Failed to save " + batch.size() + " players!");
+        }
+
+        return result;
+    }
+
+    private boolean write(final QPlayerData deltaPlayerData) {
+        final String uuidString = deltaPlayerData.playerUUID().toString();
+        this.plugin.getQuestsLogger().debug("Saving player " + uuidString + "...");
+
+        boolean result;
+        try {
+            result = this.storageProvider.savePlayerDataDelta(deltaPlayerData);
+        } catch (final RuntimeException e) {
+            this.plugin.getQuestsLogger().severe("An error occurred while saving player " + uuidString + ": " + e);
+            result = false;
+        }
+
+        if (result) {
+            this.plugin.getQuestsLogger().debug("Quest progress file saved for player " + uuidString + ".");
+        } else {
+            this.plugin.getQuestsLogger().severe("Failed to save player " + uuidString + "!");
+        }
+
+        return result;
+    }
+
+    // must hold the lock
+    private void awaitCapacity() {
+        while (!this.shutdown && this.pendingSaves.size() >= this.capacity) {
+            this.awaitLock();
+        }
+    }
+
+    // must hold the lock
+    private void awaitLock() {
+        try {
+            this.lock.wait();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the save queue", e);
+        }
+    }
+
+    private static final class PendingSave {
+
+        private QPlayerData playerData;
+        private final CompletableFuture<Boolean> future;
+
+        private PendingSave(final QPlayerData playerData, final CompletableFuture<Boolean> future) {
+            this.playerData = playerData;
+            this.future = future;
+        }
+
+        private void merge(final QPlayerData newerPlayerData) {
+            final Map<String, QuestProgress> questProgressMap = this.playerData.questProgressFile().getQuestProgressMap();
+            questProgressMap.putAll(newerPlayerData.questProgressFile().getQuestProgressMap());
+
+            // keep the newer preferences
+            this.playerData = new QPlayerData(newerPlayerData.playerUUID(), newerPlayerData.playerPreferences(), this.playerData.questProgressFile());
+        }
+    }
+}
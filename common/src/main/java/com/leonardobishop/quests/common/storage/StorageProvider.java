@@ -35,6 +35,15 @@ public interface StorageProvider {
      */
     void shutdown();
 
+    /**
+     * Releases anything kept by the storage provider for a player whose data has been unloaded. It is called
+     * once the final save of the player has completed.
+     *
+     * @param uuid the unique identifier of the player which has been unloaded
+     */
+    default void unloadPlayerData(final @NotNull UUID uuid) {
+    }
+
     /**
      * Loads the player data associated with the given UUID from the storage.
      *
@@ -51,6 +60,22 @@ public interface StorageProvider {
      */
     boolean savePlayerData(final @NotNull QPlayerData playerData);
 
+    /**
+     * Saves the given player data delta to the storage. The delta contains only the quest progress which
+     * has been modified since the last save, as created by {@link QPlayerData#createDelta()}, so every quest
+     * progress in it is to be written regardless of its modified state. Quest progress absent from the delta
+     * must be left untouched.
+     *
+     * @param deltaPlayerData the {@link QPlayerData} delta object containing the modified player's data to be saved
+     * @return true if the data was successfully saved, false otherwise
+     */
+    default boolean savePlayerDataDelta(final @NotNull QPlayerData deltaPlayerData) {
+        Objects.requireNonNull(deltaPlayerData, "deltaPlayerData cannot be null");
+
+        deltaPlayerData.setModified(true);
+        return this.savePlayerData(deltaPlayerData);
+    }
+
     /**
      * Loads all player data available in the storage.
      *
@@ -80,6 +105,25 @@ public interface StorageProvider {
         return result;
     }
 
+    /**
+     * Saves all provided player data deltas to the storage. See {@link StorageProvider#savePlayerDataDelta(QPlayerData)}
+     * for details on how deltas are to be written.
+     *
+     * @param allDeltaPlayerData a list of {@link QPlayerData} delta objects to be saved
+     * @return true if the data was successfully saved, false otherwise
+     */
+    default boolean saveAllPlayerDataDelta(final @NotNull List<QPlayerData> allDeltaPlayerData) {
+        Objects.requireNonNull(allDeltaPlayerData, "allDeltaPlayerData cannot be null");
+
+        boolean result = true;
+
+        for (final QPlayerData deltaPlayerData : allDeltaPlayerData) {
+            result &= this.savePlayerDataDelta(deltaPlayerData);
+        }
+
+        return result;
+    }
+
     /**
      * Compares this storage provider with another to determine if they are similar.
      * Similarity is determined by effectively pointing to the same data source.
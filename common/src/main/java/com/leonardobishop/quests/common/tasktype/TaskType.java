@@ -33,6 +33,7 @@ public abstract class TaskType {
     private final List<String> aliases;
     private final List<ConfigValidator> configValidators;
     private final List<Quest> quests;
+    private final List<Quest> autoStartQuests;
 
     /**
      * Constructs a new TaskType with the specified parameters.
@@ -52,6 +53,7 @@ public abstract class TaskType {
         this.aliases = List.of(aliases);
         this.configValidators = new ArrayList<>();
         this.quests = new ArrayList<>();
+        this.autoStartQuests = new ArrayList<>();
     }
 
     /**
@@ -145,6 +147,17 @@ public abstract class TaskType {
         return Collections.unmodifiableList(this.quests);
     }
 
+    /**
+     * Returns an unmodifiable list of all registered quests for this task type
+     * which have quest-specific autostart enabled.
+     *
+     * @return an unmodifiable list of registered quests with autostart enabled
+     */
+    @Contract(pure = true)
+    public final @UnmodifiableView List<Quest> getRegisteredAutoStartQuests() {
+        return Collections.unmodifiableList(this.autoStartQuests);
+    }
+
     /**
      * Registers a quest to this task type. This is typically done when
      * all quests are initially loaded.
@@ -156,6 +169,10 @@ public abstract class TaskType {
 
         if (!this.quests.contains(quest)) {
             this.quests.add(quest);
+
+            if (quest.isAutoStartEnabled()) {
+                this.autoStartQuests.add(quest);
+            }
         }
     }
 
@@ -164,6 +181,7 @@ public abstract class TaskType {
      */
     public final void unregisterAll() {
         this.quests.clear();
+        this.autoStartQuests.clear();
     }
 
     /**